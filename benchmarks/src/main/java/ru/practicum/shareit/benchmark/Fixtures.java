@@ -0,0 +1,184 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.dto.BookingShort;
+import ru.practicum.shareit.item.dto.OwnerItemResponseDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemFromItemRequest;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+/**
+ * Данные для бенчмарков, которым не нужна база данных.
+ * Размеры объектов соответствуют типичным ответам сервера: вещь с отзывами, бронирование, запрос с ответами.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class Fixtures {
+    public static final TimeZone TIME_ZONE = TimeZone.getTimeZone("Europe/Moscow");
+
+    private static final ZonedDateTime NOW = ZonedDateTime.parse("2026-10-17T12:00:00+03:00");
+
+    private Fixtures() {
+    }
+
+    /**
+     * Метод создания вещи с владельцем и отзывами.
+     *
+     * @param id       id вещи.
+     * @param comments количество отзывов.
+     * @return {@link Item}
+     */
+    public static Item item(long id, int comments) {
+        var item = Item.builder()
+                .id(id)
+                .name("Дрель " + id)
+                .description("Ударная дрель с набором свёрл, кейс и запасные щётки " + id)
+                .available(true)
+                .owner(user(1L))
+                .build();
+        var list = new ArrayList<Comment>();
+
+        for (long c = 1; c <= comments; c++) {
+            list.add(Comment.builder()
+                    .id(id * 100 + c)
+                    .text("Отличная дрель, справилась с бетонной стеной, рекомендую " + c)
+                    .item(item)
+                    .author(user(100 + c))
+                    .created(NOW.minusDays(c))
+                    .build());
+        }
+        item.setComments(list);
+
+        return item;
+    }
+
+    /**
+     * Метод создания бронирования с вещью и бронирующим.
+     *
+     * @param id id бронирования.
+     * @return {@link Booking}
+     */
+    public static Booking booking(long id) {
+        return Booking.builder()
+                .id(id)
+                .start(NOW.plusDays(id))
+                .end(NOW.plusDays(id + 1))
+                .item(item(id, 0))
+                .booker(user(100 + id))
+                .status(BookingStatus.APPROVED)
+                .build();
+    }
+
+    /**
+     * Метод создания запроса вещи и вещей, предложенных в ответ.
+     *
+     * @param id id запроса.
+     * @return {@link ItemRequest}
+     */
+    public static ItemRequest request(long id) {
+        return ItemRequest.builder()
+                .id(id)
+                .description("Нужна дрель на выходные, чтобы повесить полки " + id)
+                .requestor(user(100 + id))
+                .created(NOW.minusDays(id))
+                .build();
+    }
+
+    /**
+     * Метод создания списка вещей, предложенных в ответ на запрос.
+     *
+     * @param requestId id запроса.
+     * @param size      количество вещей.
+     * @return {@link List} {@link ItemFromItemRequest}
+     */
+    public static List<ItemFromItemRequest> requestItems(long requestId, int size) {
+        var items = new ArrayList<ItemFromItemRequest>();
+
+        for (long i = 1; i <= size; i++) {
+            items.add(new ItemFromItemRequest(i, "Дрель " + i, "Ударная дрель " + i, requestId, true));
+        }
+
+        return items;
+    }
+
+    /**
+     * Метод создания ответа владельцу вещи с последним и следующим бронированием.
+     *
+     * @param id       id вещи.
+     * @param comments количество отзывов.
+     * @return {@link OwnerItemResponseDto}
+     */
+    public static OwnerItemResponseDto ownerItem(long id, int comments) {
+        var item = item(id, comments);
+        return ItemMapper.toOwnerItemResponseDto(item,
+                BookingShort.builder().id(id * 10).bookerId(101L).build(),
+                BookingShort.builder().id(id * 10 + 1).bookerId(102L).build(),
+                item.getComments());
+    }
+
+    /**
+     * Метод создания страницы ответов владельцу вещи.
+     *
+     * @param size     количество вещей.
+     * @param comments количество отзывов каждой вещи.
+     * @return {@link List} {@link OwnerItemResponseDto}
+     */
+    public static List<OwnerItemResponseDto> ownerItems(int size, int comments) {
+        var items = new ArrayList<OwnerItemResponseDto>();
+
+        for (long i = 1; i <= size; i++) {
+            items.add(ownerItem(i, comments));
+        }
+
+        return items;
+    }
+
+    /**
+     * Метод создания списка бронирований.
+     *
+     * @param size количество бронирований.
+     * @return {@link List} {@link Booking}
+     */
+    public static List<Booking> bookings(int size) {
+        var bookings = new ArrayList<Booking>();
+
+        for (long i = 1; i <= size; i++) {
+            bookings.add(booking(i));
+        }
+
+        return bookings;
+    }
+
+    /**
+     * Метод создания списка ответов с бронированиями.
+     *
+     * @param size количество бронирований.
+     * @return {@link List} {@link BookingResponseDto}
+     */
+    public static List<BookingResponseDto> bookingResponses(int size) {
+        return bookings(size).stream()
+                .map(b -> BookingMapper.toBookingResponseDto(b, TIME_ZONE))
+                .collect(Collectors.toList());
+    }
+
+    private static User user(long id) {
+        return User.builder()
+                .id(id)
+                .name("Пользователь " + id)
+                .email("user" + id + "@shareit.ru")
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.item.dto.OwnerItemResponseDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк обработки тела ответа сервера в шлюзе.
+ * <p>
+ * В обычном режиме шлюз разбирает JSON сервера в {@link Object} и заново сериализует его в ответ клиенту,
+ * в режиме shareit-server.client.pass-through передаёт байты тела без разбора.
+ * Модуль шлюза не подключается к бенчмаркам, так как его классы совпадают по именам с классами сервера,
+ * поэтому оба пути воспроизводятся теми же вызовами Jackson, что выполняют конвертеры сообщений Spring.
+ * Результат в микросекундах на тело размером {@code bodyKb}, отсюда оценивается процессорное время на мегабайт.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GatewayBodyBenchmark {
+    @Param({"16", "1024"})
+    public int bodyKb;
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        var itemSize = objectMapper.writeValueAsBytes(Fixtures.ownerItem(1L, 5)).length;
+        var items = new ArrayList<OwnerItemResponseDto>();
+
+        for (long i = 1; i <= bodyKb * 1024L / itemSize + 1; i++) {
+            items.add(Fixtures.ownerItem(i, 5));
+        }
+        body = objectMapper.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] decodeAndEncode() throws IOException {
+        var value = objectMapper.readValue(body, Object.class);
+        var out = new ByteArrayOutputStream(body.length);
+        objectMapper.writeValue(out, value);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] passThrough() {
+        var out = new ByteArrayOutputStream(body.length);
+        out.write(body, 0, body.length);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки массовой вставки вещей и бронирований через репозитории в одной транзакции.
+ * Результат - строк в секунду. При {@code batchSize} 0 каждая вставка уходит в базу отдельным запросом,
+ * как при id из IDENTITY, при 50 Hibernate отправляет вставки пакетами JDBC, а id берёт из блока последовательности.
+ * У H2 в памяти нет сетевых задержек, которые и экономит пакетная вставка, поэтому в профиле test база
+ * запускается TCP-сервером H2 и сервер подключается к ней по сети.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBenchmark {
+    private static final int ROWS = 100;
+
+    @Param({"0", "50"})
+    public int batchSize;
+
+    private Server h2;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transaction;
+    private ItemRepository itemRepository;
+    private BookingRepository bookingRepository;
+    private User owner;
+    private User booker;
+    private Item item;
+    private ZonedDateTime nextStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        var args = new ArrayList<>(List.of("--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize));
+
+        if ("test".equals(System.getProperty("benchmark.profile", "test"))) {
+            h2 = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            args.add("--spring.datasource.url=jdbc:h2:tcp://localhost:" + h2.getPort() + "/mem:insert;DB_CLOSE_DELAY=-1");
+        }
+
+        context = SeededDatabase.startServer(args.toArray(String[]::new));
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        itemRepository = context.getBean(ItemRepository.class);
+        bookingRepository = context.getBean(BookingRepository.class);
+
+        var userRepository = context.getBean(UserRepository.class);
+        owner = userRepository.save(User.builder().name("owner").email("owner@shareit.ru").build());
+        booker = userRepository.save(User.builder().name("booker").email("booker@shareit.ru").build());
+        item = itemRepository.save(Item.builder().name("item").description("description").available(true)
+                .owner(owner).build());
+        nextStart = ZonedDateTime.now().plusDays(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+
+        if (h2 != null) {
+            h2.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Item> insertItems() {
+        var items = new ArrayList<Item>(ROWS);
+
+        for (int i = 0; i < ROWS; i++) {
+            items.add(Item.builder().name("item " + i).description("description " + i).available(true)
+                    .owner(owner).build());
+        }
+
+        return transaction.execute(status -> itemRepository.saveAll(items));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Booking> insertBookings() {
+        var bookings = new ArrayList<Booking>(ROWS);
+
+        for (int i = 0; i < ROWS; i++) {
+            bookings.add(Booking.builder().start(nextStart).end(nextStart.plusMinutes(30)).item(item).booker(booker)
+                    .build());
+            nextStart = nextStart.plusHours(1);
+        }
+
+        return transaction.execute(status -> bookingRepository.saveAll(bookings));
+    }
+}
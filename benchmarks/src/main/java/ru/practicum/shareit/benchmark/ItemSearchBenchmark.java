@@ -0,0 +1,76 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.FullTextItemSearcher;
+import ru.practicum.shareit.item.search.ItemSearcher;
+import ru.practicum.shareit.item.search.LikeItemSearcher;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение поиска вещей подстрокой LIKE и полнотекстовым поиском Postgres на одной заполненной базе
+ * {@link SeededDatabase}. Полнотекстовый поиск работает только на Postgres, поэтому на H2 запускается
+ * с {@code -p searchMode=like}. Замер на миллионе вещей запускается профилем Maven {@code postgres-search}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSearchBenchmark {
+    @Param({"like", "fulltext"})
+    public String searchMode;
+
+    @Param({"дрель"})
+    public String text;
+
+    private ItemSearcher itemSearcher;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase database) throws SQLException {
+        var itemRepository = database.getBean(ItemRepository.class);
+
+        if ("fulltext".equals(searchMode)) {
+            if (!isPostgres(database.getBean(DataSource.class))) {
+                throw new IllegalStateException("Полнотекстовый поиск работает только на Postgres, " +
+                        "на H2 запускайте с -p searchMode=like");
+            }
+            itemSearcher = new FullTextItemSearcher(itemRepository);
+        } else {
+            itemSearcher = new LikeItemSearcher(itemRepository);
+        }
+    }
+
+    @Benchmark
+    public Page<Item> search() {
+        return itemSearcher.search(text, PageRequest.of(0, 20));
+    }
+
+    private static boolean isPostgres(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.OwnerItemResponseDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки {@link ItemService} с расчётом последнего и следующего бронирования.
+ * Получение одной вещи владельцем считает бронирования в памяти, список вещей владельца
+ * получает их одним запросом с оконной функцией.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+    private ItemService itemService;
+    private long ownerId;
+    private long otherUserId;
+    private long itemId;
+    private int pageSize;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase database) {
+        itemService = database.getBean(ItemService.class);
+        ownerId = 1L;
+        otherUserId = database.bookerId(0);
+        itemId = database.itemId(ownerId, 0);
+        pageSize = Math.min(database.itemsPerOwner, 100);
+    }
+
+    @Benchmark
+    public OwnerItemResponseDto getItemByOwner() {
+        return itemService.getItemByItemId(itemId, ownerId);
+    }
+
+    @Benchmark
+    public OwnerItemResponseDto getItemByOtherUser() {
+        return itemService.getItemByItemId(itemId, otherUserId);
+    }
+
+    @Benchmark
+    public List<OwnerItemResponseDto> getAllItemByOwner() {
+        return itemService.getAllItemByUser(ownerId, 0, pageSize);
+    }
+}
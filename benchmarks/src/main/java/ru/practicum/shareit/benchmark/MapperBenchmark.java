@@ -0,0 +1,90 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.BookingShort;
+import ru.practicum.shareit.item.dto.OwnerItemResponseDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemFromItemRequest;
+import ru.practicum.shareit.request.dto.ItemRequestDtoResponse;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки преобразований {@link BookingMapper}, {@link ItemMapper} и {@link ItemRequestMapper}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"10"})
+    public int comments;
+
+    @Param({"100"})
+    public int pageSize;
+
+    private Booking booking;
+    private List<Booking> bookings;
+    private Item item;
+    private List<Comment> itemComments;
+    private BookingShort lastBooking;
+    private BookingShort nextBooking;
+    private ItemRequest request;
+    private List<ItemFromItemRequest> requestItems;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        booking = Fixtures.booking(1L);
+        bookings = Fixtures.bookings(pageSize);
+        item = Fixtures.item(1L, comments);
+        itemComments = item.getComments();
+        lastBooking = BookingMapper.toBookingShort(booking);
+        nextBooking = BookingMapper.toBookingShort(Fixtures.booking(2L));
+        request = Fixtures.request(1L);
+        requestItems = Fixtures.requestItems(1L, 5);
+    }
+
+    @Benchmark
+    public BookingResponseDto toBookingResponseDto() {
+        return BookingMapper.toBookingResponseDto(booking, Fixtures.TIME_ZONE);
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> toBookingResponseDtoList() {
+        return BookingMapper.toBookingResponseDtoList(bookings, Fixtures.TIME_ZONE);
+    }
+
+    @Benchmark
+    public OwnerItemResponseDto toOwnerItemResponseDto() {
+        return ItemMapper.toOwnerItemResponseDto(item, lastBooking, nextBooking, itemComments);
+    }
+
+    @Benchmark
+    public ItemRequestDtoResponse toItemRequestDtoResponse() {
+        return ItemRequestMapper.toItemRequestDtoResponse(request, requestItems);
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.dto.LastNextBooking;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.QBooking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemFromItemRequest;
+import ru.practicum.shareit.request.repository.ItemResponseRepository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Бенчмарки запросов репозиториев на заполненной базе {@link SeededDatabase}. Поиск вещей сравнивается
+ * отдельно в {@link ItemSearchBenchmark}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+    private BookingRepository bookingRepository;
+    private ItemRepository itemRepository;
+    private CommentRepository commentRepository;
+    private ItemResponseRepository itemResponseRepository;
+    private List<Long> ownerItemIds;
+    private List<Long> requestIds;
+    private long bookerId;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase database) {
+        bookingRepository = database.getBean(BookingRepository.class);
+        itemRepository = database.getBean(ItemRepository.class);
+        commentRepository = database.getBean(CommentRepository.class);
+        itemResponseRepository = database.getBean(ItemResponseRepository.class);
+        ownerItemIds = LongStream.range(0, Math.min(database.itemsPerOwner, 100))
+                .mapToObj(i -> database.itemId(1L, (int) i))
+                .collect(Collectors.toList());
+        requestIds = LongStream.rangeClosed(1, Math.min(database.bookers, 100))
+                .boxed()
+                .collect(Collectors.toList());
+        bookerId = database.bookerId(0);
+    }
+
+    @Benchmark
+    public List<LastNextBooking> getLastNextBookings() {
+        return bookingRepository.getLastNextBookings(ownerItemIds, ZonedDateTime.now());
+    }
+
+    @Benchmark
+    public List<Booking> getBookingsByBooker() {
+        return bookingRepository.findAllWithItem(QBooking.booking.booker.id.eq(bookerId), 0, 20);
+    }
+
+    @Benchmark
+    public Page<Item> findAllByOwnerId() {
+        return itemRepository.findAllByOwnerId(1L, PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public List<Comment> findCommentsByItems() {
+        return commentRepository.findAllByItem_IdInOrderByIdAsc(ownerItemIds);
+    }
+
+    @Benchmark
+    public List<ItemFromItemRequest> findItemsByRequestIds() {
+        return itemResponseRepository.findItemsByRequestIds(requestIds);
+    }
+}
@@ -0,0 +1,150 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.dataset.DatasetGenerator;
+import ru.practicum.shareit.dataset.DatasetLoader;
+import ru.practicum.shareit.dataset.DatasetSpec;
+import ru.practicum.shareit.item.search.NGramItemSearcher;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Состояние бенчмарков, которым нужна база данных: контекст сервера без веб-слоя и заполненная база.
+ * <p>
+ * По умолчанию используется H2 из профиля test. Для замеров на Postgres профиль и адрес базы передаются
+ * в форк JMH, например: {@code -jvmArgsAppend "-Dbenchmark.profile=default -DSPRING_DATASOURCE_URL=..."}.
+ * Перед загрузкой таблицы набора очищаются, поэтому база Postgres может остаться от предыдущего запуска.
+ * <p>
+ * Данные строит {@link DatasetGenerator} с фиксированным зерном: {@code owners} владельцев и в среднем
+ * по {@code itemsPerOwner} вещей на владельца, {@code bookers} остальных пользователей, по {@code bookingsPerItem}
+ * непересекающихся бронирований и по {@code commentsPerItem} отзывов на вещь, по запросу на каждого бронирующего.
+ * При {@code zipfExponent} 0 вещи делятся между владельцами поровну, при положительном - по закону Ципфа.
+ * Id владельца {@code o} равен {@code o}, его вещи идут подряд начиная с {@link #itemId(long, int) itemId(o, 0)}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+    private static final long SEED = 42L;
+
+    @Param({"100"})
+    public int owners;
+
+    @Param({"100"})
+    public int itemsPerOwner;
+
+    @Param({"1000"})
+    public int bookers;
+
+    @Param({"20"})
+    public int bookingsPerItem;
+
+    @Param({"2"})
+    public int commentsPerItem;
+
+    @Param({"0"})
+    public double zipfExponent;
+
+    private ConfigurableApplicationContext context;
+    private DatasetGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = startServer();
+
+        seed(context.getBean(DataSource.class));
+        context.getBeansOfType(NGramItemSearcher.class).values().forEach(NGramItemSearcher::rebuild);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Метод запуска контекста сервера без веб-слоя с приглушённым логированием.
+     * Профиль берётся из системного свойства {@code benchmark.profile}, по умолчанию test.
+     *
+     * @param args дополнительные аргументы запуска.
+     * @return {@link ConfigurableApplicationContext}
+     */
+    public static ConfigurableApplicationContext startServer(String... args) {
+        var arguments = new ArrayList<>(List.of("--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                "--logging.level.org.springframework.transaction.interceptor=WARN",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+                "--spring.jpa.properties.hibernate.format_sql=false"));
+        arguments.addAll(List.of(args));
+
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .profiles(System.getProperty("benchmark.profile", "test"))
+                .run(arguments.toArray(String[]::new));
+    }
+
+    /**
+     * Метод получения бина из контекста сервера.
+     *
+     * @param type класс бина.
+     * @param <T>  тип бина.
+     * @return бин.
+     */
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Метод получения id вещи владельца.
+     *
+     * @param ownerId id владельца, начиная с 1.
+     * @param index   номер вещи владельца, начиная с 0.
+     * @return id вещи.
+     */
+    public long itemId(long ownerId, int index) {
+        return generator.firstItemId(ownerId) + index;
+    }
+
+    /**
+     * Метод получения id пользователя без вещей, такие пользователи только бронируют и оставляют запросы.
+     *
+     * @param index номер пользователя, начиная с 0.
+     * @return id пользователя.
+     */
+    public long bookerId(int index) {
+        return owners + index + 1L;
+    }
+
+    private void seed(DataSource dataSource) {
+        var spec = DatasetSpec.builder()
+                .users(owners + bookers)
+                .owners(owners)
+                .items(owners * itemsPerOwner)
+                .zipfExponent(zipfExponent)
+                .bookings((long) owners * itemsPerOwner * bookingsPerItem)
+                .comments((long) owners * itemsPerOwner * commentsPerItem)
+                .requests(bookers)
+                .responsesPerRequest(2)
+                .seed(SEED)
+                .build();
+
+        generator = new DatasetGenerator(spec, LocalDateTime.now());
+        var loader = new DatasetLoader(dataSource);
+        loader.clean();
+        loader.load(generator);
+    }
+}
@@ -0,0 +1,82 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.item.dto.OwnerItemResponseDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки сериализации Jackson ответов {@link OwnerItemResponseDto} и {@link BookingResponseDto}.
+ * {@link ObjectMapper} настраивается так же, как в Spring Boot: даты пишутся строками ISO-8601.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"10"})
+    public int comments;
+
+    @Param({"100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private OwnerItemResponseDto ownerItem;
+    private List<OwnerItemResponseDto> ownerItems;
+    private BookingResponseDto booking;
+    private List<BookingResponseDto> bookings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ownerItem = Fixtures.ownerItem(1L, comments);
+        ownerItems = Fixtures.ownerItems(pageSize, comments);
+        booking = BookingMapper.toBookingResponseDto(Fixtures.booking(1L), Fixtures.TIME_ZONE);
+        bookings = Fixtures.bookingResponses(pageSize);
+    }
+
+    @Benchmark
+    public byte[] ownerItemToJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ownerItem);
+    }
+
+    @Benchmark
+    public byte[] ownerItemsToJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ownerItems);
+    }
+
+    @Benchmark
+    public byte[] bookingToJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(booking);
+    }
+
+    @Benchmark
+    public byte[] bookingsToJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.dataset;
+
+/**
+ * Ошибка загрузки сгенерированных данных в базу.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class DatasetException extends RuntimeException {
+    public DatasetException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
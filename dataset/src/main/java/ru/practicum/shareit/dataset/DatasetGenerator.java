@@ -0,0 +1,342 @@
+package ru.practicum.shareit.dataset;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * Генератор синтетического набора данных ShareIt.
+ * <p>
+ * Строки не накапливаются в памяти, а сразу передаются в {@link DatasetSink} таблица за таблицей.
+ * Идентификаторы назначаются по порядку начиная с 1, поэтому внешние ключи известны без обращения к базе:
+ * владельцы - пользователи с id от 1 до {@code owners}, вещи одного владельца идут подряд,
+ * количество вещей у владельцев убывает по закону Ципфа.
+ * <p>
+ * Бронирования каждой вещи раскладываются по собственным интервалам окна от {@code years} лет назад
+ * до {@code futureDays} дней вперёд пропорционально длине прошлого и будущего и не пересекаются между собой.
+ * Прошедшие бронирования в основном подтверждены, последнее из них подтверждено всегда, будущие ожидают подтверждения
+ * или подтверждены. Отзывы оставляют авторы прошедших подтверждённых бронирований вещи, поэтому отзывов может
+ * получиться меньше заданного, только если у вещи нет прошедших бронирований.
+ * <p>
+ * Случайные значения каждой вещи и каждого запроса получаются из собственного генератора с зерном от id,
+ * поэтому таблицы можно генерировать независимо и результат не зависит от порядка вызовов.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class DatasetGenerator {
+    private static final String[] FIRST_NAMES = {"Александр", "Мария", "Иван", "Анна", "Дмитрий", "Елена",
+            "Сергей", "Ольга", "Никита", "Татьяна"};
+    private static final String[] LAST_NAMES = {"Иванов", "Смирнов", "Кузнецов", "Попов", "Васильев", "Петров",
+            "Соколов", "Михайлов", "Новиков", "Фёдоров"};
+    private static final String[] KINDS = {"дрель", "перфоратор", "велосипед", "палатка", "лестница", "пила",
+            "шуруповёрт", "самокат", "проектор", "котелок", "байдарка", "генератор", "лобзик", "спальник", "мангал"};
+    private static final String[] ADJECTIVES = {"новый", "лёгкий", "мощный", "компактный", "складной",
+            "профессиональный", "детский", "туристический"};
+    private static final String[] REVIEWS = {"Всё отлично, рекомендую", "Вещь в хорошем состоянии",
+            "Владелец быстро ответил, всё работало", "Немного потёртый, но свою задачу выполнил",
+            "Брал на выходные, остался доволен"};
+    private static final long MAX_BOOKING_MINUTES = Duration.ofDays(14).toMinutes();
+    private static final long MAX_REVIEW_DELAY_MINUTES = Duration.ofDays(7).toMinutes();
+    private static final int RESPONSE_ATTEMPTS = 10;
+
+    private static final long REQUESTOR_STREAM = 1;
+    private static final long REQUEST_STREAM = 2;
+    private static final long RESPONSE_STREAM = 3;
+    private static final long BOOKING_STREAM = 4;
+    private static final long COMMENT_STREAM = 5;
+
+    private final DatasetSpec spec;
+    private final LocalDateTime now;
+    private final LocalDateTime historyStart;
+    private final long pastMinutes;
+    private final long futureMinutes;
+
+    /**
+     * itemOffsets[k] - количество вещей у владельцев с id не больше k.
+     */
+    private final long[] itemOffsets;
+
+    /**
+     * @param spec параметры набора данных.
+     * @param now  текущий момент, относительно которого бронирования делятся на прошедшие и будущие.
+     */
+    public DatasetGenerator(DatasetSpec spec, LocalDateTime now) {
+        spec.validate();
+        this.spec = spec;
+        this.now = now.truncatedTo(ChronoUnit.MINUTES);
+        this.historyStart = this.now.minusYears(spec.getYears());
+        this.pastMinutes = Duration.between(historyStart, this.now).toMinutes();
+        this.futureMinutes = Duration.ofDays(spec.getFutureDays()).toMinutes();
+        this.itemOffsets = distributeItems(spec);
+
+        var future = futureBookingsOf(bookingsOf(1));
+        if (bookingsOf(1) - future > pastMinutes / 2 || future > futureMinutes / 2) {
+            throw new IllegalArgumentException("Слишком много бронирований на вещь для окна в " + spec.getYears() + " лет");
+        }
+    }
+
+    /**
+     * Метод генерации всех таблиц.
+     *
+     * @param sink приёмник строк.
+     */
+    public void generate(DatasetSink sink) {
+        try (var writer = sink.open(Table.USERS)) {
+            users(writer);
+        }
+        try (var writer = sink.open(Table.ITEMS)) {
+            items(writer);
+        }
+        try (var writer = sink.open(Table.REQUESTS)) {
+            requests(writer);
+        }
+        try (var writer = sink.open(Table.RESPONSES)) {
+            responses(writer);
+        }
+        try (var writer = sink.open(Table.BOOKINGS)) {
+            bookings(writer);
+        }
+        try (var writer = sink.open(Table.COMMENTS)) {
+            comments(writer);
+        }
+    }
+
+    /**
+     * Метод получения количества вещей владельца.
+     *
+     * @param ownerId id владельца от 1 до {@code owners}.
+     * @return количество вещей.
+     */
+    public int itemCount(long ownerId) {
+        return (int) (itemOffsets[(int) ownerId] - itemOffsets[(int) ownerId - 1]);
+    }
+
+    /**
+     * Метод получения id первой вещи владельца, остальные его вещи идут следом.
+     *
+     * @param ownerId id владельца от 1 до {@code owners}.
+     * @return id вещи.
+     */
+    public long firstItemId(long ownerId) {
+        return itemOffsets[(int) ownerId - 1] + 1;
+    }
+
+    /**
+     * Метод получения владельца вещи.
+     *
+     * @param itemId id вещи.
+     * @return id владельца.
+     */
+    public long ownerOf(long itemId) {
+        var low = 1;
+        var high = spec.getOwners();
+
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+
+            if (itemOffsets[middle] < itemId) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private void users(RowWriter writer) {
+        for (long id = 1; id <= spec.getUsers(); id++) {
+            writer.row(id, FIRST_NAMES[(int) ((id - 1) % FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[(int) ((id - 1) / FIRST_NAMES.length % LAST_NAMES.length)], "user" + id + "@shareit.test");
+        }
+    }
+
+    private void items(RowWriter writer) {
+        var random = new SplittableRandom(spec.getSeed());
+
+        for (long itemId = 1; itemId <= spec.getItems(); itemId++) {
+            var kind = KINDS[random.nextInt(KINDS.length)];
+            var adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
+            writer.row(itemId, adjective + " " + kind, "Сдаю " + kind + ", " + adjective + ", в хорошем состоянии, № " + itemId,
+                    random.nextInt(10) > 0, ownerOf(itemId));
+        }
+    }
+
+    private void requests(RowWriter writer) {
+        for (long id = 1; id <= spec.getRequests(); id++) {
+            var random = random(REQUEST_STREAM, id);
+            writer.row(id, "Нужен " + KINDS[random.nextInt(KINDS.length)] + " на " + (1 + random.nextInt(14)) + " дней",
+                    requestor(id), historyStart.plusMinutes(random.nextLong(pastMinutes)));
+        }
+    }
+
+    private void responses(RowWriter writer) {
+        var responseId = 1L;
+        var chosen = new long[spec.getResponsesPerRequest()];
+
+        for (long requestId = 1; requestId <= spec.getRequests(); requestId++) {
+            var random = random(RESPONSE_STREAM, requestId);
+            var requestor = requestor(requestId);
+            var count = random.nextInt(spec.getResponsesPerRequest() + 1);
+            var found = 0;
+
+            for (int attempt = 0; attempt < count * RESPONSE_ATTEMPTS && found < count; attempt++) {
+                var itemId = 1 + random.nextLong(spec.getItems());
+
+                if (ownerOf(itemId) == requestor || contains(chosen, found, itemId)) {
+                    continue;
+                }
+                chosen[found++] = itemId;
+                writer.row(responseId++, requestId, itemId);
+            }
+        }
+    }
+
+    private void bookings(RowWriter writer) {
+        var bookingId = new long[]{1};
+
+        for (long itemId = 1; itemId <= spec.getItems(); itemId++) {
+            var item = itemId;
+            forEachBooking(itemId, (start, end, bookerId, status) ->
+                    writer.row(bookingId[0]++, start, end, item, bookerId, status));
+        }
+    }
+
+    private void comments(RowWriter writer) {
+        var commentId = 1L;
+        var base = spec.getComments() / spec.getItems();
+        var remainder = spec.getComments() % spec.getItems();
+
+        for (long itemId = 1; itemId <= spec.getItems(); itemId++) {
+            var count = base + (itemId <= remainder ? 1 : 0);
+
+            if (count == 0) {
+                continue;
+            }
+
+            var authors = new long[bookingsOf(itemId)];
+            var ends = new LocalDateTime[authors.length];
+            var past = new int[1];
+            forEachBooking(itemId, (start, end, bookerId, status) -> {
+                if (end.isBefore(now) && "APPROVED".equals(status)) {
+                    authors[past[0]] = bookerId;
+                    ends[past[0]++] = end;
+                }
+            });
+
+            if (past[0] == 0) {
+                continue;
+            }
+
+            var random = random(COMMENT_STREAM, itemId);
+            for (long c = 0; c < count; c++) {
+                var booking = random.nextInt(past[0]);
+                var created = ends[booking].plusMinutes(random.nextLong(MAX_REVIEW_DELAY_MINUTES));
+                writer.row(commentId++, REVIEWS[random.nextInt(REVIEWS.length)], itemId, authors[booking],
+                        created.isAfter(now) ? now : created);
+            }
+        }
+    }
+
+    private void forEachBooking(long itemId, BookingConsumer consumer) {
+        var count = bookingsOf(itemId);
+        var future = futureBookingsOf(count);
+        var random = random(BOOKING_STREAM, itemId);
+        var owner = ownerOf(itemId);
+
+        for (int k = 0; k < count; k++) {
+            var past = k < count - future;
+            var slot = past ? pastMinutes / (count - future) : futureMinutes / future;
+            var slotStart = past ? historyStart.plusMinutes(k * slot) : now.plusMinutes((k - count + future) * slot);
+            var half = Math.max(1, slot / 2);
+            var maxDuration = Math.min(MAX_BOOKING_MINUTES, half);
+            var minDuration = Math.min(60, maxDuration);
+
+            var start = slotStart.plusMinutes(random.nextLong(half));
+            var end = start.plusMinutes(minDuration + random.nextLong(maxDuration - minDuration + 1));
+            var bookerId = 1 + random.nextLong(spec.getUsers() - 1);
+
+            if (bookerId >= owner) {
+                bookerId++;
+            }
+
+            var roll = random.nextInt(10);
+            String status;
+            if (!past) {
+                status = roll < 5 ? "APPROVED" : "WAITING";
+            } else if (roll < 8 || k == count - future - 1) {
+                status = "APPROVED";
+            } else {
+                status = roll == 8 ? "REJECTED" : "CANCELED";
+            }
+
+            consumer.accept(start, end, bookerId, status);
+        }
+    }
+
+    private int futureBookingsOf(int count) {
+        if (count < 2 || futureMinutes == 0) {
+            return 0;
+        }
+
+        return (int) Math.max(1, Math.round((double) count * futureMinutes / (pastMinutes + futureMinutes)));
+    }
+
+    private int bookingsOf(long itemId) {
+        return (int) (spec.getBookings() / spec.getItems() + (itemId <= spec.getBookings() % spec.getItems() ? 1 : 0));
+    }
+
+    private long requestor(long requestId) {
+        return 1 + random(REQUESTOR_STREAM, requestId).nextLong(spec.getUsers());
+    }
+
+    private SplittableRandom random(long stream, long id) {
+        return new SplittableRandom(spec.getSeed() * 0x9E3779B97F4A7C15L + stream * 0xC2B2AE3D27D4EB4FL + id);
+    }
+
+    private static boolean contains(long[] values, int size, long value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static long[] distributeItems(DatasetSpec spec) {
+        var owners = spec.getOwners();
+        var weights = new double[owners + 1];
+        var sum = 0.0;
+
+        for (int k = 1; k <= owners; k++) {
+            weights[k] = 1.0 / Math.pow(k, spec.getZipfExponent());
+            sum += weights[k];
+        }
+
+        var counts = new long[owners + 1];
+        var assigned = 0L;
+        for (int k = 1; k <= owners; k++) {
+            counts[k] = (long) Math.floor(spec.getItems() * weights[k] / sum);
+            assigned += counts[k];
+        }
+
+        for (int k = 1; assigned < spec.getItems(); k++, assigned++) {
+            counts[k]++;
+        }
+
+        var offsets = new long[owners + 1];
+        for (int k = 1; k <= owners; k++) {
+            offsets[k] = offsets[k - 1] + counts[k];
+        }
+
+        return offsets;
+    }
+
+    @FunctionalInterface
+    private interface BookingConsumer {
+        void accept(LocalDateTime start, LocalDateTime end, long bookerId, String status);
+    }
+}
@@ -0,0 +1,164 @@
+package ru.practicum.shareit.dataset;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Загрузчик сгенерированного набора данных в базу со схемой сервера.
+ * <p>
+ * В PostgreSQL строки загружаются командой COPY, в остальные базы - пакетными INSERT. Так как id назначает генератор,
+ * после загрузки последовательности id таблиц переводятся за максимальный id, чтобы приложение могло добавлять
+ * новые строки, а в PostgreSQL дополнительно собирается статистика для планировщика. Hibernate держит в памяти
+ * уже полученные блоки id, поэтому загружать данные нужно до первой вставки через приложение.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DatasetLoader {
+    private static final int BATCH_SIZE = 1_000;
+
+    /**
+     * Шаг последовательностей id в миграции V1__init_schema.sql, равный allocationSize сущностей сервера. Оптимизатор pooled
+     * считает очередное значение последовательности верхней границей блока, поэтому последовательность
+     * переводится на максимальный id плюс шаг, и первый блок приложения начинается сразу за загруженными id.
+     */
+    private static final int ID_ALLOCATION = 50;
+
+    private final DataSource dataSource;
+
+    /**
+     * Метод генерации и загрузки набора данных относительно текущего момента.
+     *
+     * @param spec параметры набора данных.
+     * @return {@link LoadSummary}
+     */
+    public LoadSummary load(DatasetSpec spec) {
+        return load(new DatasetGenerator(spec, LocalDateTime.now()));
+    }
+
+    /**
+     * Метод загрузки набора данных. Таблицы должны существовать и быть пустыми.
+     *
+     * @param generator генератор набора данных.
+     * @return {@link LoadSummary}
+     */
+    public LoadSummary load(DatasetGenerator generator) {
+        var started = System.nanoTime();
+        var rows = new EnumMap<Table, Long>(Table.class);
+
+        try (var connection = dataSource.getConnection()) {
+            var postgres = isPostgres(connection);
+            var autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try {
+                generator.generate(table -> {
+                    log.info("Загрузка таблицы {}", table.getTableName());
+                    var writer = postgres ? new PgCopyWriter(connection, table)
+                            : new JdbcBatchWriter(connection, table, BATCH_SIZE);
+                    return new CountingWriter(writer, count -> rows.put(table, count));
+                });
+            } catch (RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            restartSequences(connection);
+
+            if (postgres) {
+                execute(connection, "analyze");
+            }
+
+            var summary = new LoadSummary(rows, Duration.ofNanos(System.nanoTime() - started), postgres);
+            log.info("{}", summary);
+            return summary;
+        } catch (SQLException e) {
+            throw new DatasetException("Не удалось загрузить набор данных", e);
+        }
+    }
+
+    /**
+     * Метод удаления всех данных из таблиц набора и сброса последовательностей id.
+     */
+    public void clean() {
+        try (var connection = dataSource.getConnection()) {
+            if (isPostgres(connection)) {
+                execute(connection, "truncate " + Arrays.stream(Table.values()).map(Table::getTableName)
+                        .collect(Collectors.joining(", ")) + " cascade");
+            } else {
+                var tables = Table.values();
+                for (int i = tables.length - 1; i >= 0; i--) {
+                    execute(connection, "delete from " + tables[i].getTableName());
+                }
+            }
+
+            restartSequences(connection);
+        } catch (SQLException e) {
+            throw new DatasetException("Не удалось очистить таблицы набора данных", e);
+        }
+    }
+
+    private void restartSequences(Connection connection) throws SQLException {
+        for (var table : Table.values()) {
+            var name = table.getTableName();
+            execute(connection, "alter sequence " + name + "_seq restart with " + (maxId(connection, name) + ID_ALLOCATION));
+        }
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (var statement = connection.createStatement();
+             var result = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    /**
+     * Обёртка, сообщающая количество строк таблицы после её закрытия.
+     */
+    @RequiredArgsConstructor
+    private static class CountingWriter implements RowWriter {
+        private final RowWriter delegate;
+        private final LongConsumer onClose;
+
+        @Override
+        public void row(Object... values) {
+            delegate.row(values);
+        }
+
+        @Override
+        public long count() {
+            return delegate.count();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+            onClose.accept(delegate.count());
+        }
+    }
+}
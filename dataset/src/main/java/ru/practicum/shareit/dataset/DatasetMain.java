@@ -0,0 +1,87 @@
+package ru.practicum.shareit.dataset;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Загрузка синтетического набора данных из командной строки.
+ * <p>
+ * Параметры передаются аргументами вида {@code ключ=значение}: {@code url}, {@code user}, {@code password} -
+ * подключение к базе; {@code schema} - пути к SQL-скриптам через запятую, выполняемым перед загрузкой,
+ * если схему не создал сервер миграциями Flyway; {@code clean=true} - очистить таблицы перед загрузкой;
+ * остальные параметры совпадают с полями {@link DatasetSpec}: {@code users=1000000 owners=100000 items=2000000 ...}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class DatasetMain {
+    public static void main(String[] args) {
+        var parameters = new LinkedHashMap<String, String>();
+
+        for (String arg : args) {
+            var i = arg.indexOf('=');
+
+            if (i < 1) {
+                throw new IllegalArgumentException(String.format("Аргумент %s должен иметь вид ключ=значение", arg));
+            }
+            parameters.put(arg.substring(0, i), arg.substring(i + 1));
+        }
+
+        var dataSource = new DriverManagerDataSource(take(parameters, "url", "jdbc:postgresql://localhost:6541/shareit"),
+                take(parameters, "user", "root"), take(parameters, "password", "root"));
+        var schema = take(parameters, "schema", "");
+        var clean = Boolean.parseBoolean(take(parameters, "clean", "false"));
+        var spec = spec(parameters);
+
+        if (!parameters.isEmpty()) {
+            throw new IllegalArgumentException("Неизвестные параметры: " + parameters.keySet());
+        }
+
+        if (!schema.isBlank()) {
+            try (var connection = dataSource.getConnection()) {
+                for (String script : schema.split(",")) {
+                    ScriptUtils.executeSqlScript(connection, new FileSystemResource(script.trim()));
+                }
+            } catch (SQLException e) {
+                throw new DatasetException("Не удалось выполнить скрипт схемы " + schema, e);
+            }
+        }
+
+        var loader = new DatasetLoader(dataSource);
+        if (clean) {
+            loader.clean();
+        }
+
+        System.out.println(spec);
+        loader.load(spec);
+    }
+
+    private static DatasetSpec spec(Map<String, String> parameters) {
+        var defaults = DatasetSpec.builder().build();
+
+        return DatasetSpec.builder()
+                .users(Integer.parseInt(take(parameters, "users", String.valueOf(defaults.getUsers()))))
+                .owners(Integer.parseInt(take(parameters, "owners", String.valueOf(defaults.getOwners()))))
+                .items(Integer.parseInt(take(parameters, "items", String.valueOf(defaults.getItems()))))
+                .zipfExponent(Double.parseDouble(take(parameters, "zipfExponent", String.valueOf(defaults.getZipfExponent()))))
+                .bookings(Long.parseLong(take(parameters, "bookings", String.valueOf(defaults.getBookings()))))
+                .years(Integer.parseInt(take(parameters, "years", String.valueOf(defaults.getYears()))))
+                .futureDays(Integer.parseInt(take(parameters, "futureDays", String.valueOf(defaults.getFutureDays()))))
+                .comments(Long.parseLong(take(parameters, "comments", String.valueOf(defaults.getComments()))))
+                .requests(Integer.parseInt(take(parameters, "requests", String.valueOf(defaults.getRequests()))))
+                .responsesPerRequest(Integer.parseInt(take(parameters, "responsesPerRequest",
+                        String.valueOf(defaults.getResponsesPerRequest()))))
+                .seed(Long.parseLong(take(parameters, "seed", String.valueOf(defaults.getSeed()))))
+                .build();
+    }
+
+    private static String take(Map<String, String> parameters, String key, String defaultValue) {
+        var value = parameters.remove(key);
+        return value == null ? defaultValue : value;
+    }
+}
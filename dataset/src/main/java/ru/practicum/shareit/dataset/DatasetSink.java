@@ -0,0 +1,19 @@
+package ru.practicum.shareit.dataset;
+
+/**
+ * Приёмник сгенерированных данных. Генератор открывает таблицы по одной в порядке {@link Table}
+ * и закрывает каждую до открытия следующей.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@FunctionalInterface
+public interface DatasetSink {
+    /**
+     * Метод открытия таблицы для записи.
+     *
+     * @param table таблица.
+     * @return {@link RowWriter}
+     */
+    RowWriter open(Table table);
+}
@@ -0,0 +1,119 @@
+package ru.practicum.shareit.dataset;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Параметры генерируемого набора данных. Значения по умолчанию соответствуют базе промышленного масштаба:
+ * миллион пользователей, два миллиона вещей и десять миллионов бронирований.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@Builder(toBuilder = true)
+@ToString
+public class DatasetSpec {
+    /**
+     * Количество пользователей.
+     */
+    @Builder.Default
+    private final int users = 1_000_000;
+
+    /**
+     * Количество владельцев вещей, владельцами становятся пользователи с id от 1 до owners.
+     */
+    @Builder.Default
+    private final int owners = 100_000;
+
+    /**
+     * Количество вещей.
+     */
+    @Builder.Default
+    private final int items = 2_000_000;
+
+    /**
+     * Показатель распределения Ципфа для количества вещей у владельца: владелец с id {@code k} получает долю вещей,
+     * пропорциональную {@code 1 / k^s}. При 0 вещи распределяются поровну.
+     */
+    @Builder.Default
+    private final double zipfExponent = 1.0;
+
+    /**
+     * Количество бронирований, распределяются поровну между вещами.
+     */
+    @Builder.Default
+    private final long bookings = 10_000_000L;
+
+    /**
+     * Глубина истории бронирований в годах.
+     */
+    @Builder.Default
+    private final int years = 3;
+
+    /**
+     * На сколько дней вперёд от текущего момента есть бронирования.
+     */
+    @Builder.Default
+    private final int futureDays = 90;
+
+    /**
+     * Количество отзывов, распределяются поровну между вещами.
+     */
+    @Builder.Default
+    private final long comments = 2_000_000L;
+
+    /**
+     * Количество запросов вещей.
+     */
+    @Builder.Default
+    private final int requests = 200_000;
+
+    /**
+     * Наибольшее количество вещей в ответ на запрос, у каждого запроса от 0 до этого числа ответов.
+     */
+    @Builder.Default
+    private final int responsesPerRequest = 3;
+
+    /**
+     * Зерно генератора случайных чисел, при одинаковых параметрах данные совпадают.
+     */
+    @Builder.Default
+    private final long seed = 42L;
+
+    /**
+     * Метод получения небольшого набора данных для интеграционных тестов.
+     *
+     * @return {@link DatasetSpec}
+     */
+    public static DatasetSpec small() {
+        return DatasetSpec.builder()
+                .users(200)
+                .owners(20)
+                .items(1_000)
+                .bookings(5_000)
+                .comments(1_000)
+                .requests(100)
+                .build();
+    }
+
+    /**
+     * Метод проверки согласованности параметров.
+     *
+     * @throws IllegalArgumentException если параметры не согласованы.
+     */
+    public void validate() {
+        if (users < 2 || owners < 1 || owners > users) {
+            throw new IllegalArgumentException("Должно быть не меньше 2 пользователей и от 1 до users владельцев");
+        }
+
+        if (items < 1 || bookings < 0 || comments < 0 || requests < 0 || responsesPerRequest < 0) {
+            throw new IllegalArgumentException("Количество вещей должно быть больше 0, остальные количества не меньше 0");
+        }
+
+        if (years < 1 || futureDays < 0 || zipfExponent < 0) {
+            throw new IllegalArgumentException("Параметры years, futureDays и zipfExponent должны быть положительными");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+/**
+ * Запись строк таблицы пакетными INSERT через JDBC. Подходит для любой базы, в том числе для H2 в тестах.
+ * Пакет отправляется и фиксируется каждые {@code batchSize} строк, поэтому размер транзакции ограничен.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class JdbcBatchWriter implements RowWriter {
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final Table table;
+    private final int batchSize;
+    private long count;
+
+    public JdbcBatchWriter(Connection connection, Table table, int batchSize) {
+        this.connection = connection;
+        this.table = table;
+        this.batchSize = batchSize;
+
+        try {
+            this.statement = connection.prepareStatement("insert into " + table.getTableName()
+                    + " (" + String.join(", ", table.getColumns()) + ") values ("
+                    + String.join(", ", Collections.nCopies(table.getColumns().size(), "?")) + ")");
+        } catch (SQLException e) {
+            throw new DatasetException("Не удалось подготовить вставку в таблицу " + table.getTableName(), e);
+        }
+    }
+
+    @Override
+    public void row(Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+
+            if (++count % batchSize == 0) {
+                flush();
+            }
+        } catch (SQLException e) {
+            throw new DatasetException("Не удалось вставить строку в таблицу " + table.getTableName() + ": "
+                    + Arrays.stream(values).map(String::valueOf).collect(Collectors.joining(", ")), e);
+        }
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() {
+        try (statement) {
+            flush();
+        } catch (SQLException e) {
+            throw new DatasetException("Не удалось завершить вставку в таблицу " + table.getTableName(), e);
+        }
+    }
+
+    private void flush() throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+    }
+}
@@ -0,0 +1,46 @@
+package ru.practicum.shareit.dataset;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Итог загрузки набора данных.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Value
+public class LoadSummary {
+    /**
+     * Количество загруженных строк по таблицам.
+     */
+    Map<Table, Long> rows;
+
+    /**
+     * Длительность загрузки вместе с переводом последовательностей id и статистики.
+     */
+    Duration elapsed;
+
+    /**
+     * Загружены ли данные командой COPY, иначе пакетными INSERT.
+     */
+    boolean copy;
+
+    /**
+     * Метод получения общего количества строк.
+     *
+     * @return количество строк.
+     */
+    public long total() {
+        return rows.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        var seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        return String.format("Загружено %d строк за %.1f с (%.0f строк/с, %s): %s",
+                total(), seconds, total() / seconds, copy ? "COPY" : "JDBC batch", rows);
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.dataset;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Запись строк таблицы командой PostgreSQL {@code COPY ... FROM STDIN} в формате CSV.
+ * Строки накапливаются в буфере и передаются серверу порциями, COPY выполняется одной командой на таблицу,
+ * что на порядок быстрее пакетных INSERT.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class PgCopyWriter implements RowWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Connection connection;
+    private final Table table;
+    private final CopyIn copy;
+    private final StringBuilder buffer = new StringBuilder(BUFFER_SIZE * 2);
+    private long count;
+
+    public PgCopyWriter(Connection connection, Table table) {
+        this.connection = connection;
+        this.table = table;
+
+        try {
+            this.copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn("COPY " + table.getTableName()
+                    + " (" + String.join(", ", table.getColumns()) + ") FROM STDIN WITH (FORMAT csv)");
+        } catch (SQLException e) {
+            throw new DatasetException("Не удалось начать COPY в таблицу " + table.getTableName(), e);
+        }
+    }
+
+    @Override
+    public void row(Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            append(values[i]);
+        }
+        buffer.append('\n');
+        count++;
+
+        if (buffer.length() >= BUFFER_SIZE) {
+            send();
+        }
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() {
+        send();
+
+        try {
+            copy.endCopy();
+            connection.commit();
+        } catch (SQLException e) {
+            throw new DatasetException("Не удалось завершить COPY в таблицу " + table.getTableName(), e);
+        }
+    }
+
+    private void append(Object value) {
+        if (value == null) {
+            return;
+        }
+
+        if (value instanceof String) {
+            buffer.append('"').append(((String) value).replace("\"", "\"\"")).append('"');
+        } else {
+            buffer.append(value);
+        }
+    }
+
+    private void send() {
+        if (buffer.length() == 0) {
+            return;
+        }
+
+        var bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        buffer.setLength(0);
+
+        try {
+            copy.writeToCopy(bytes, 0, bytes.length);
+        } catch (SQLException e) {
+            throw new DatasetException("Не удалось передать данные COPY в таблицу " + table.getTableName(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.dataset;
+
+/**
+ * Получатель строк одной таблицы.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public interface RowWriter extends AutoCloseable {
+    /**
+     * Метод записи строки.
+     *
+     * @param values значения в порядке {@link Table#getColumns()}.
+     */
+    void row(Object... values);
+
+    /**
+     * Метод получения количества записанных строк.
+     *
+     * @return количество строк.
+     */
+    long count();
+
+    /**
+     * Метод завершения записи таблицы, отправляет оставшиеся строки.
+     */
+    @Override
+    void close();
+}
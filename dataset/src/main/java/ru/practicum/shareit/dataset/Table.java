@@ -0,0 +1,30 @@
+package ru.practicum.shareit.dataset;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Таблицы схемы ShareIt, заполняемые генератором, в порядке загрузки с учётом внешних ключей.
+ * Колонки перечислены в порядке значений строк, которые передаёт {@link DatasetGenerator}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+public enum Table {
+    USERS("users", "id", "name", "email"),
+    ITEMS("items", "id", "name", "description", "is_available", "user_id"),
+    REQUESTS("requests", "id", "description", "user_id", "created"),
+    RESPONSES("responses", "id", "request_id", "item_id"),
+    BOOKINGS("bookings", "id", "start_date", "end_date", "item_id", "user_id", "status"),
+    COMMENTS("comments", "id", "text", "item_id", "user_id", "created");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    Table(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+}
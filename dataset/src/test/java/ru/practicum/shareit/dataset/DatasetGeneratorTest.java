@@ -0,0 +1,186 @@
+package ru.practicum.shareit.dataset;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class DatasetGeneratorTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    @Test
+    void generateCountsTest() {
+        var spec = DatasetSpec.small();
+        var rows = generate(new DatasetGenerator(spec, NOW));
+
+        Assertions.assertEquals(spec.getUsers(), rows.get(Table.USERS).size());
+        Assertions.assertEquals(spec.getItems(), rows.get(Table.ITEMS).size());
+        Assertions.assertEquals(spec.getBookings(), rows.get(Table.BOOKINGS).size());
+        Assertions.assertEquals(spec.getComments(), rows.get(Table.COMMENTS).size());
+        Assertions.assertEquals(spec.getRequests(), rows.get(Table.REQUESTS).size());
+        Assertions.assertTrue(rows.get(Table.RESPONSES).size() <= spec.getRequests() * spec.getResponsesPerRequest());
+
+        for (var table : Table.values()) {
+            var ids = rows.get(table).stream().mapToLong(r -> (Long) r[0]).toArray();
+            for (int i = 0; i < ids.length; i++) {
+                Assertions.assertEquals(i + 1, ids[i]);
+            }
+        }
+    }
+
+    @Test
+    void generateDeterministicTest() {
+        var first = generate(new DatasetGenerator(DatasetSpec.small(), NOW));
+        var second = generate(new DatasetGenerator(DatasetSpec.small(), NOW));
+        var other = generate(new DatasetGenerator(DatasetSpec.small().toBuilder().seed(7).build(), NOW));
+
+        for (var table : Table.values()) {
+            Assertions.assertTrue(Arrays.deepEquals(first.get(table).toArray(), second.get(table).toArray()));
+        }
+        Assertions.assertFalse(Arrays.deepEquals(first.get(Table.BOOKINGS).toArray(), other.get(Table.BOOKINGS).toArray()));
+    }
+
+    @Test
+    void itemsZipfDistributionTest() {
+        var spec = DatasetSpec.small();
+        var generator = new DatasetGenerator(spec, NOW);
+        var items = generate(generator).get(Table.ITEMS);
+
+        var total = 0;
+        for (long owner = 1; owner <= spec.getOwners(); owner++) {
+            total += generator.itemCount(owner);
+            Assertions.assertEquals(owner, generator.ownerOf(generator.firstItemId(owner)));
+            Assertions.assertEquals(owner, items.get((int) generator.firstItemId(owner) - 1)[4]);
+
+            if (owner > 1) {
+                Assertions.assertTrue(generator.itemCount(owner) <= generator.itemCount(owner - 1));
+            }
+        }
+
+        Assertions.assertEquals(spec.getItems(), total);
+        Assertions.assertTrue(generator.itemCount(1) > 5 * generator.itemCount(spec.getOwners()));
+    }
+
+    @Test
+    void itemsUniformDistributionTest() {
+        var generator = new DatasetGenerator(DatasetSpec.small().toBuilder().zipfExponent(0).build(), NOW);
+
+        for (long owner = 1; owner <= 20; owner++) {
+            Assertions.assertEquals(50, generator.itemCount(owner));
+            Assertions.assertEquals((owner - 1) * 50 + 1, generator.firstItemId(owner));
+        }
+    }
+
+    @Test
+    void bookingsConsistencyTest() {
+        var spec = DatasetSpec.small();
+        var generator = new DatasetGenerator(spec, NOW);
+        var byItem = new HashMap<Long, List<Object[]>>();
+        var statuses = new HashSet<Object>();
+
+        for (var booking : generate(generator).get(Table.BOOKINGS)) {
+            var start = (LocalDateTime) booking[1];
+            var end = (LocalDateTime) booking[2];
+            var itemId = (Long) booking[3];
+
+            Assertions.assertTrue(start.isBefore(end));
+            Assertions.assertFalse(start.isBefore(NOW.minusYears(spec.getYears())));
+            Assertions.assertFalse(end.isAfter(NOW.plusDays(spec.getFutureDays())));
+            Assertions.assertNotEquals(generator.ownerOf(itemId), booking[4]);
+
+            if (end.isAfter(NOW)) {
+                Assertions.assertTrue("APPROVED".equals(booking[5]) || "WAITING".equals(booking[5]));
+            }
+
+            statuses.add(booking[5]);
+            byItem.computeIfAbsent(itemId, id -> new ArrayList<>()).add(booking);
+        }
+
+        for (var bookings : byItem.values()) {
+            for (int i = 1; i < bookings.size(); i++) {
+                Assertions.assertTrue(((LocalDateTime) bookings.get(i - 1)[2]).isBefore((LocalDateTime) bookings.get(i)[1]));
+            }
+        }
+
+        Assertions.assertEquals(spec.getItems(), byItem.size());
+        Assertions.assertEquals(4, statuses.size());
+    }
+
+    @Test
+    void commentsAuthorsTest() {
+        var rows = generate(new DatasetGenerator(DatasetSpec.small(), NOW));
+        var bookings = rows.get(Table.BOOKINGS);
+
+        for (var comment : rows.get(Table.COMMENTS)) {
+            var created = (LocalDateTime) comment[4];
+
+            Assertions.assertFalse(created.isAfter(NOW));
+            Assertions.assertTrue(bookings.stream().anyMatch(b -> b[3].equals(comment[2]) && b[4].equals(comment[3])
+                    && "APPROVED".equals(b[5]) && !((LocalDateTime) b[2]).isAfter(created)));
+        }
+    }
+
+    @Test
+    void responsesTest() {
+        var spec = DatasetSpec.small();
+        var generator = new DatasetGenerator(spec, NOW);
+        var rows = generate(generator);
+        var pairs = new HashSet<List<Object>>();
+
+        for (var response : rows.get(Table.RESPONSES)) {
+            var request = rows.get(Table.REQUESTS).get((int) (long) (Long) response[1] - 1);
+
+            Assertions.assertNotEquals(request[2], generator.ownerOf((Long) response[2]));
+            Assertions.assertTrue(pairs.add(List.of(response[1], response[2])));
+        }
+        Assertions.assertFalse(pairs.isEmpty());
+    }
+
+    @Test
+    void validateTest() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new DatasetGenerator(DatasetSpec.small().toBuilder().owners(500).build(), NOW));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new DatasetGenerator(DatasetSpec.small().toBuilder().items(0).build(), NOW));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new DatasetGenerator(DatasetSpec.small().toBuilder().bookings(100_000_000L).items(10).build(), NOW));
+    }
+
+    private static Map<Table, List<Object[]>> generate(DatasetGenerator generator) {
+        var rows = new EnumMap<Table, List<Object[]>>(Table.class);
+
+        generator.generate(table -> {
+            var tableRows = new ArrayList<Object[]>();
+            rows.put(table, tableRows);
+
+            return new RowWriter() {
+                @Override
+                public void row(Object... values) {
+                    tableRows.add(values);
+                }
+
+                @Override
+                public long count() {
+                    return tableRows.size();
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        });
+
+        return rows;
+    }
+}
@@ -6,15 +6,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.Marker;
 import ru.practicum.shareit.booking.client.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingBatchMode;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
 import java.util.TimeZone;
 
 /**
@@ -32,7 +37,7 @@ public class BookingController {
 
     @PostMapping
     @Validated(Marker.OnCreate.class)
-    public ResponseEntity<?> addNewBooking(
+    public Mono<ResponseEntity<Object>> addNewBooking(
             @Valid @RequestBody BookingRequestDto booking,
             @RequestHeader(value = xSharerUserId) Long userId) {
         log.info("POST /bookings, body = {}, header \"{}\" = {}", booking, xSharerUserId, userId);
@@ -40,6 +45,28 @@ public class BookingController {
         return bookingClient.bookItem(userId, booking);
     }
 
+    /**
+     * Метод для эндпоинта POST /bookings/batch пакетное создание бронирований одного пользователя.
+     *
+     * @param bookings {@link List} данные бронирований.
+     * @param mode     {@link BookingBatchMode} режим обработки ошибочных записей.
+     * @param userId   {@link Long} идентификационный номер пользователя букера.
+     * @return {@link ResponseEntity}
+     */
+    @PostMapping("/batch")
+    @Validated(Marker.OnCreate.class)
+    public Mono<ResponseEntity<Object>> addNewBookings(
+            @Valid @RequestBody
+            @NotEmpty(groups = Marker.OnCreate.class, message = "Пакет бронирований не может быть пустым")
+            @Size(max = 100, groups = Marker.OnCreate.class, message = "Пакет не может содержать больше 100 бронирований")
+            List<BookingRequestDto> bookings,
+            @RequestParam(defaultValue = "ALL_OR_NOTHING") BookingBatchMode mode,
+            @RequestHeader(value = xSharerUserId) Long userId) {
+        log.info("POST /bookings/batch?mode={}, body = {}, header \"{}\" = {}", mode, bookings, xSharerUserId, userId);
+
+        return bookingClient.bookItems(userId, bookings, mode);
+    }
+
     /**
      * Метод для эндпоинта PATCH /bookings/{bookingId} подтверждение бронирования пользователем владельцем вещи.
      *
@@ -49,7 +76,7 @@ public class BookingController {
      * @return {@link ResponseEntity}
      */
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<?> bookingConfirmation(
+    public Mono<ResponseEntity<Object>> bookingConfirmation(
             @PathVariable Long bookingId,
             @RequestParam @NotNull Boolean approved,
             @RequestHeader(value = xSharerUserId) Long userId) {
@@ -66,7 +93,7 @@ public class BookingController {
      * @return {@link ResponseEntity}
      */
     @GetMapping("/{bookingId}")
-    public ResponseEntity<?> getBooking(
+    public Mono<ResponseEntity<Object>> getBooking(
             @PathVariable Long bookingId,
             @RequestHeader(value = xSharerUserId) Long userId) {
         log.info("GET /bookings/{} , header \"{}\" = {}", bookingId, xSharerUserId, userId);
@@ -80,10 +107,11 @@ public class BookingController {
      * @param state  {@link BookingState} параметр сортировки.
      * @param userId {@link Long} идентификационный номер пользователя букера вещей.
      * @param size
+     * @param cursor {@link String} позиция для постраничного вывода без OFFSET, при указании параметр from не используется.
      * @return {@link ResponseEntity}
      */
     @GetMapping
-    public ResponseEntity<?> getBookingByUser(
+    public Mono<ResponseEntity<Object>> getBookingByUser(
             @RequestParam(required = false, name = "state", defaultValue = "ALL") BookingState state,
             @RequestHeader(value = xSharerUserId) Long userId,
             @RequestParam(required = false, name = "from", defaultValue = "0")
@@ -92,8 +120,14 @@ public class BookingController {
             @RequestParam(required = false, name = "size", defaultValue = "10")
             @Min(value = 1, message = "Параметр size не может быть меньше 0.")
             @Max(value = 100, message = "Параметр size не может быть больше 100.")
-            Integer size) {
-        log.info("GET /bookings?state={}&from={}&size={} , header \"{}\" = {}", state, from, size, xSharerUserId, userId);
+            Integer size,
+            @RequestParam(required = false, name = "cursor") String cursor) {
+        log.info("GET /bookings?state={}&from={}&size={}&cursor={} , header \"{}\" = {}",
+                state, from, size, cursor, xSharerUserId, userId);
+
+        if (cursor != null) {
+            return bookingClient.getBookingsAfter(userId, state, size, cursor);
+        }
 
         return bookingClient.getBookings(userId, state, from, size);
     }
@@ -104,10 +138,11 @@ public class BookingController {
      * @param state  {@link BookingState} параметр сортировки.
      * @param userId {@link Long} идентификационный номер пользователя владельца вещей.
      * @param size   {@link TimeZone} часовой пояс пользователя.
+     * @param cursor {@link String} позиция для постраничного вывода без OFFSET, при указании параметр from не используется.
      * @return {@link ResponseEntity}
      */
     @GetMapping("/owner")
-    public ResponseEntity<?> getBookingByOwner(
+    public Mono<ResponseEntity<Object>> getBookingByOwner(
             @RequestParam(required = false, name = "state", defaultValue = "ALL") BookingState state,
             @RequestHeader(value = xSharerUserId) Long userId,
             @RequestParam(required = false, name = "from", defaultValue = "0")
@@ -116,8 +151,14 @@ public class BookingController {
             @RequestParam(required = false, name = "size", defaultValue = "10")
             @Min(value = 1, message = "Параметр size не может быть меньше 0.")
             @Max(value = 100, message = "Параметр size не может быть больше 100.")
-            Integer size) {
-        log.info("GET /bookings/owner?state={}&from={}&size={} , header \"{}\" = {}", state, from, size, xSharerUserId, userId);
+            Integer size,
+            @RequestParam(required = false, name = "cursor") String cursor) {
+        log.info("GET /bookings/owner?state={}&from={}&size={}&cursor={} , header \"{}\" = {}",
+                state, from, size, cursor, xSharerUserId, userId);
+
+        if (cursor != null) {
+            return bookingClient.getBookingsOwnerAfter(userId, state, size, cursor);
+        }
 
         return bookingClient.getBookingsOwner(userId, state, from, size);
     }
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking.dto;
+
+/**
+ * Режим пакетного создания бронирований.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public enum BookingBatchMode {
+    /**
+     * Бронирования создаются, только если все записи пакета корректны.
+     */
+    ALL_OR_NOTHING,
+
+    /**
+     * Создаются все корректные записи пакета, ошибочные пропускаются.
+     */
+    BEST_EFFORT
+}
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Реализация интерфейса {@link ServerExchange}, кэширующая ответы сервера на чтение отдельных
+ * вещей, запросов и пользователей, а также списка запросов других пользователей.
+ * Ключ записи включает путь, параметры запроса и заголовок X-Sharer-User-Id.
+ * Устаревшая запись с ETag проверяется на сервере запросом с заголовком If-None-Match.
+ * Запросы на изменение сбрасывают записи ресурса и зависящих от него ресурсов.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@RequiredArgsConstructor
+public class CachingServerExchange implements ServerExchange {
+    private static final Pattern CACHEABLE = Pattern.compile("^/(items|requests|users)/\\d+$|^/requests/all(\\?.*)?$");
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    /**
+     * Ресурсы, ответы которых могут измениться после изменения ресурса-ключа:
+     * в ответах о вещах есть бронирования и отзывы, в ответах о запросах есть вещи,
+     * удаление пользователя удаляет его вещи и запросы.
+     */
+    private static final Map<String, List<String>> DEPENDENT_RESOURCES = Map.of(
+            "/users", List.of("/users", "/items", "/requests"),
+            "/items", List.of("/items", "/requests"),
+            "/requests", List.of("/requests"),
+            "/bookings", List.of("/items")
+    );
+
+    private static final DefaultUriBuilderFactory URI_BUILDER_FACTORY = new DefaultUriBuilderFactory();
+
+    private final ServerExchange delegate;
+    private final ServerResponseCache cache;
+    private final String resource;
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpEntity<?> request,
+                                                 @Nullable Map<String, Object> parameters) {
+        if (method != HttpMethod.GET) {
+            return delegate.exchange(method, path, request, parameters)
+                    .doFinally(signal -> invalidate());
+        }
+
+        var uri = resource + URI_BUILDER_FACTORY.expand(path, parameters != null ? parameters : Map.of());
+
+        if (!CACHEABLE.matcher(uri).matches()) {
+            return delegate.exchange(method, path, request, parameters);
+        }
+
+        var key = uri + "|" + request.getHeaders().getFirst(USER_ID_HEADER);
+        var entry = cache.get(resource, key);
+
+        if (entry != null && entry.isFresh()) {
+            return Mono.just(entry.getResponse());
+        }
+
+        var generation = cache.generation(resource);
+
+        return delegate.exchange(method, path, revalidation(request, entry), parameters)
+                .map(response -> {
+                    if (entry != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                        cache.put(resource, key, entry.getResponse(), generation);
+                        return entry.getResponse();
+                    }
+
+                    if (response.getStatusCode() == HttpStatus.OK) {
+                        cache.put(resource, key, response, generation);
+                    }
+                    return response;
+                });
+    }
+
+    private void invalidate() {
+        for (String dependent : DEPENDENT_RESOURCES.getOrDefault(resource, List.of(resource))) {
+            cache.invalidate(dependent);
+        }
+    }
+
+    private static HttpEntity<?> revalidation(HttpEntity<?> request, @Nullable ServerResponseCache.Entry entry) {
+        if (entry == null || entry.getEtag() == null) {
+            return request;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(request.getHeaders());
+        headers.setIfNoneMatch(entry.getEtag());
+        return new HttpEntity<>(request.getBody(), headers);
+    }
+}
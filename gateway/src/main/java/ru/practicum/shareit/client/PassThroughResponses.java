@@ -0,0 +1,70 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Сборка ответа шлюза из ответа сервера без разбора тела.
+ * Клиенту передаются статус, заголовки и байты тела ответа сервера, в том числе прикладные заголовки
+ * вроде X-Next-Cursor. Заголовки соединения (Transfer-Encoding, Content-Length, Connection, Keep-Alive и другие
+ * hop-by-hop заголовки) не передаются: их выставляет контейнер шлюза для собственного ответа.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+final class PassThroughResponses {
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT),
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+            HttpHeaders.CONNECTION.toLowerCase(Locale.ROOT),
+            "keep-alive",
+            HttpHeaders.PROXY_AUTHENTICATE.toLowerCase(Locale.ROOT),
+            HttpHeaders.PROXY_AUTHORIZATION.toLowerCase(Locale.ROOT),
+            HttpHeaders.TE.toLowerCase(Locale.ROOT),
+            HttpHeaders.TRAILER.toLowerCase(Locale.ROOT),
+            HttpHeaders.UPGRADE.toLowerCase(Locale.ROOT)
+    );
+
+    private PassThroughResponses() {
+    }
+
+    static ResponseEntity<Object> of(int status, HttpHeaders serverHeaders, @Nullable byte[] body) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status).headers(forwardedHeaders(serverHeaders));
+
+        if (body != null && body.length > 0) {
+            return responseBuilder.body(body);
+        }
+
+        return responseBuilder.build();
+    }
+
+    /**
+     * Метод сборки успешного ответа шлюза из разобранного ответа сервера.
+     * Тело сериализуется шлюзом заново, поэтому заголовки соединения сервера к нему не относятся,
+     * а прикладные заголовки, например X-Next-Cursor, передаются клиенту.
+     *
+     * @param response ответ сервера.
+     * @return ответ шлюза с тем же статусом и телом.
+     */
+    static ResponseEntity<Object> decoded(ResponseEntity<Object> response) {
+        return ResponseEntity.status(response.getStatusCodeValue())
+                .headers(forwardedHeaders(response.getHeaders()))
+                .body(response.getBody());
+    }
+
+    private static HttpHeaders forwardedHeaders(HttpHeaders serverHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+
+        serverHeaders.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, values);
+            }
+        });
+
+        return headers;
+    }
+}
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Блокирующая реализация интерфейса {@link ServerExchange} на основе {@link RestTemplate}.
+ * Запрос выполняется при подписке в потоке подписчика.
+ * В режиме прямой передачи тело ответа сервера не разбирается и возвращается клиенту в виде байтов.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@RequiredArgsConstructor
+public class RestTemplateServerExchange implements ServerExchange {
+    private final RestTemplate rest;
+    private final boolean passThrough;
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpEntity<?> request,
+                                                 @Nullable Map<String, Object> parameters) {
+        if (passThrough) {
+            return Mono.fromSupplier(() -> passThrough(method, path, request, parameters));
+        }
+
+        return Mono.fromSupplier(() -> send(method, path, request, parameters));
+    }
+
+    private ResponseEntity<Object> passThrough(HttpMethod method, String path, HttpEntity<?> request,
+                                               @Nullable Map<String, Object> parameters) {
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            shareitServerResponse = rest.exchange(path, method, request, byte[].class,
+                    parameters != null ? parameters : Map.of());
+        } catch (HttpStatusCodeException e) {
+            return PassThroughResponses.of(e.getRawStatusCode(),
+                    e.getResponseHeaders() != null ? e.getResponseHeaders() : HttpHeaders.EMPTY,
+                    e.getResponseBodyAsByteArray());
+        }
+        return PassThroughResponses.of(shareitServerResponse.getStatusCodeValue(),
+                shareitServerResponse.getHeaders(), shareitServerResponse.getBody());
+    }
+
+    private ResponseEntity<Object> send(HttpMethod method, String path, HttpEntity<?> request,
+                                        @Nullable Map<String, Object> parameters) {
+        ResponseEntity<Object> shareitServerResponse;
+        try {
+            if (parameters != null) {
+                shareitServerResponse = rest.exchange(path, method, request, Object.class, parameters);
+            } else {
+                shareitServerResponse = rest.exchange(path, method, request, Object.class);
+            }
+        } catch (HttpStatusCodeException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+        }
+        return prepareGatewayResponse(shareitServerResponse);
+    }
+
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
+        if (response.getStatusCode().is2xxSuccessful()) {
+            return PassThroughResponses.decoded(response);
+        }
+
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+
+        if (response.hasBody()) {
+            return responseBuilder.body(response.getBody());
+        }
+
+        return responseBuilder.build();
+    }
+}
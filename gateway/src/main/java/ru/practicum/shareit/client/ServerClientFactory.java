@@ -0,0 +1,148 @@
+package ru.practicum.shareit.client;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Фабрика транспорта {@link ServerExchange} для клиентов шлюза.
+ * Все клиенты используют общий ограниченный пул соединений с сервером ShareIt,
+ * режим работы и таймауты задаются свойствами {@link ServerClientProperties}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ServerClientProperties.class)
+public class ServerClientFactory implements DisposableBean {
+    private final ServerClientProperties properties;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final WebClient.Builder webClientBuilder;
+    private CloseableHttpClient httpClient;
+    private ConnectionProvider connectionProvider;
+    private HttpClient reactorHttpClient;
+    private ServerResponseCache responseCache;
+
+    public ServerClientFactory(ServerClientProperties properties,
+                               RestTemplateBuilder restTemplateBuilder,
+                               ObjectProvider<WebClient.Builder> webClientBuilder) {
+        this.properties = properties;
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.webClientBuilder = webClientBuilder.getIfAvailable(WebClient::builder);
+
+        if (properties.getMode() == ServerClientProperties.Mode.NON_BLOCKING) {
+            createReactorHttpClient();
+        } else {
+            createHttpClient();
+        }
+
+        if (properties.getCache().isEnabled()) {
+            responseCache = new ServerResponseCache(properties.getCache().getMaxEntries(),
+                    properties.getCache().getTtl(), Clock.systemUTC());
+        }
+        log.info("Клиент сервера ShareIt: режим {}, прямая передача ответов {}, кэш ответов {}, максимум соединений {}",
+                properties.getMode(), properties.isPassThrough(), properties.getCache().isEnabled(),
+                properties.getMaxConnections());
+    }
+
+    /**
+     * Метод создания транспорта для запросов к ресурсу сервера.
+     *
+     * @param serverUrl адрес сервера.
+     * @param resource  путь ресурса сервера, например /items.
+     * @return {@link ServerExchange}
+     */
+    public ServerExchange create(String serverUrl, String resource) {
+        var exchange = createTransport(serverUrl + resource);
+
+        if (responseCache != null) {
+            return new CachingServerExchange(exchange, responseCache, resource);
+        }
+
+        return exchange;
+    }
+
+    private ServerExchange createTransport(String rootUri) {
+        if (properties.getMode() == ServerClientProperties.Mode.NON_BLOCKING) {
+            return new WebClientServerExchange(webClientBuilder.clone()
+                    .uriBuilderFactory(new DefaultUriBuilderFactory(rootUri))
+                    .clientConnector(new ReactorClientHttpConnector(reactorHttpClient))
+                    .codecs(codecs -> codecs.defaultCodecs()
+                            .maxInMemorySize((int) properties.getMaxResponseSize().toBytes()))
+                    .build(), properties.isPassThrough());
+        }
+
+        return new RestTemplateServerExchange(restTemplateBuilder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(rootUri))
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build(), properties.isPassThrough());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+    private void createHttpClient() {
+        var connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(properties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxConnections());
+
+        long maxIdleTime = properties.getMaxIdleTime().toMillis();
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return keepAlive > 0 ? Math.min(keepAlive, maxIdleTime) : maxIdleTime;
+                })
+                .evictIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS)
+                .evictExpiredConnections()
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+                        .setSocketTimeout((int) properties.getResponseTimeout().toMillis())
+                        .setConnectionRequestTimeout((int) properties.getPendingAcquireTimeout().toMillis())
+                        .build())
+                .build();
+    }
+
+    private void createReactorHttpClient() {
+        connectionProvider = ConnectionProvider.builder("shareit-server")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .evictInBackground(properties.getMaxIdleTime())
+                .build();
+
+        reactorHttpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout())
+                .keepAlive(true);
+    }
+}
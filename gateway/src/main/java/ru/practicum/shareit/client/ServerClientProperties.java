@@ -0,0 +1,96 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Настройки HTTP-клиента шлюза для запросов к серверу ShareIt.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.client")
+public class ServerClientProperties {
+    /**
+     * Режим работы клиента.
+     */
+    private Mode mode = Mode.BLOCKING;
+
+    /**
+     * Передавать клиенту байты ответа сервера без разбора и повторной сериализации тела.
+     */
+    private boolean passThrough;
+
+    /**
+     * Максимальное количество соединений в пуле.
+     */
+    private int maxConnections = 200;
+
+    /**
+     * Таймаут установки соединения.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Таймаут ожидания ответа сервера.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Таймаут ожидания свободного соединения из пула.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Время, в течение которого неиспользуемое соединение остаётся открытым (keep-alive).
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Максимальный размер тела ответа в неблокирующем режиме.
+     */
+    private DataSize maxResponseSize = DataSize.ofMegabytes(10);
+
+    /**
+     * Настройки кэша ответов на чтение.
+     */
+    private final Cache cache = new Cache();
+
+    public enum Mode {
+        /**
+         * Запрос выполняется {@link org.springframework.web.client.RestTemplate} в потоке обработки запроса шлюза.
+         */
+        BLOCKING,
+
+        /**
+         * Запрос выполняется {@link org.springframework.web.reactive.function.client.WebClient},
+         * поток обработки запроса шлюза освобождается до получения ответа сервера.
+         */
+        NON_BLOCKING
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        /**
+         * Включить кэш ответов на чтение.
+         */
+        private boolean enabled;
+
+        /**
+         * Максимальное количество записей в кэше.
+         */
+        private int maxEntries = 10_000;
+
+        /**
+         * Время, в течение которого запись возвращается без обращения к серверу.
+         */
+        private Duration ttl = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Транспорт запросов шлюза к серверу ShareIt.
+ * Ответ сервера с любым статусом возвращается шлюзом клиенту без изменений статуса и тела.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public interface ServerExchange {
+    /**
+     * Метод отправки запроса серверу.
+     *
+     * @param method     HTTP метод.
+     * @param path       путь относительно корня клиента, может содержать шаблоны параметров.
+     * @param request    заголовки и тело запроса.
+     * @param parameters значения параметров шаблона пути, может быть null.
+     * @return {@link Mono} с ответом сервера.
+     */
+    Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpEntity<?> request,
+                                          @Nullable Map<String, Object> parameters);
+}
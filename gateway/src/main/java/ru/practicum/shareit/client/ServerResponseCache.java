@@ -0,0 +1,128 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Ограниченный по размеру кэш ответов сервера в памяти шлюза.
+ * Записи вытесняются по давности использования (LRU) и считаются свежими в течение ttl.
+ * Устаревшая запись с ETag остаётся в кэше для повторной проверки на сервере, без ETag удаляется.
+ * Сброс записей ресурса выполняется сменой поколения ресурса: записи прошлого поколения не возвращаются
+ * и не сохраняются, поэтому ответ на чтение, начатое до записи, не попадёт в кэш после неё.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class ServerResponseCache {
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+    private final Map<String, Long> generations = new HashMap<>();
+
+    public ServerResponseCache(int maxEntries, Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Метод получения записи кэша.
+     *
+     * @param resource ресурс сервера, к которому относится запись, например /items.
+     * @param key      ключ записи.
+     * @return свежая запись или устаревшая запись с ETag, иначе null.
+     */
+    public synchronized Entry get(String resource, String key) {
+        var entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.generation != generation(resource) || (!entry.isFresh() && entry.etag == null)) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry;
+    }
+
+    /**
+     * Метод получения текущего поколения ресурса.
+     *
+     * @param resource ресурс сервера.
+     * @return номер поколения.
+     */
+    public synchronized long generation(String resource) {
+        return generations.getOrDefault(resource, 0L);
+    }
+
+    /**
+     * Метод сохранения ответа в кэш, если поколение ресурса не сменилось с начала запроса.
+     *
+     * @param resource   ресурс сервера.
+     * @param key        ключ записи.
+     * @param response   ответ сервера.
+     * @param generation поколение ресурса на момент начала запроса.
+     */
+    public synchronized void put(String resource, String key, ResponseEntity<Object> response, long generation) {
+        if (generation == generation(resource)) {
+            entries.put(key, new Entry(response, response.getHeaders().getETag(), generation, clock.instant()));
+        }
+    }
+
+    /**
+     * Метод сброса всех записей ресурса.
+     *
+     * @param resource ресурс сервера.
+     */
+    public synchronized void invalidate(String resource) {
+        generations.merge(resource, 1L, Long::sum);
+    }
+
+    /**
+     * Метод получения количества записей в кэше.
+     *
+     * @return количество записей.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public final class Entry {
+        private final ResponseEntity<Object> response;
+        private final String etag;
+        private final long generation;
+        private final Instant storedAt;
+
+        private Entry(ResponseEntity<Object> response, String etag, long generation, Instant storedAt) {
+            this.response = response;
+            this.etag = etag;
+            this.generation = generation;
+            this.storedAt = storedAt;
+        }
+
+        public ResponseEntity<Object> getResponse() {
+            return response;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public boolean isFresh() {
+            return storedAt.plus(ttl).isAfter(clock.instant());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Неблокирующая реализация интерфейса {@link ServerExchange} на основе {@link WebClient}.
+ * Ответы сервера с кодом не 2xx возвращаются так же, как в {@link RestTemplateServerExchange}: статус и тело в байтах.
+ * В режиме прямой передачи тело ответа сервера не разбирается и возвращается клиенту в виде байтов.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@RequiredArgsConstructor
+public class WebClientServerExchange implements ServerExchange {
+    private final WebClient webClient;
+    private final boolean passThrough;
+
+    @Override
+    public Mono<ResponseEntity<Object>> exchange(HttpMethod method, String path, HttpEntity<?> request,
+                                                 @Nullable Map<String, Object> parameters) {
+        WebClient.RequestBodySpec spec = webClient
+                .method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> headers.addAll(request.getHeaders()));
+        WebClient.RequestHeadersSpec<?> headersSpec = request.hasBody() ? spec.bodyValue(request.getBody()) : spec;
+
+        if (passThrough) {
+            return headersSpec.exchangeToMono(WebClientServerExchange::passThrough);
+        }
+
+        return headersSpec.exchangeToMono(WebClientServerExchange::prepareGatewayResponse);
+    }
+
+    private static Mono<ResponseEntity<Object>> passThrough(ClientResponse response) {
+        var headers = response.headers().asHttpHeaders();
+
+        return response.bodyToMono(byte[].class)
+                .map(body -> PassThroughResponses.of(response.rawStatusCode(), headers, body))
+                .defaultIfEmpty(PassThroughResponses.of(response.rawStatusCode(), headers, null));
+    }
+
+    private static Mono<ResponseEntity<Object>> prepareGatewayResponse(ClientResponse response) {
+        if (response.statusCode().is2xxSuccessful()) {
+            return response.toEntity(Object.class).map(PassThroughResponses::decoded);
+        }
+
+        return response.bodyToMono(byte[].class)
+                .defaultIfEmpty(new byte[0])
+                .map(body -> ResponseEntity.status(response.rawStatusCode()).<Object>body(body));
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Настройки потоков, в которых шлюз обрабатывает входящие запросы.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.threads")
+public class GatewayThreadsProperties {
+    /**
+     * Режим потоков обработки запросов.
+     */
+    private Mode mode = Mode.PLATFORM;
+
+    public enum Mode {
+        /**
+         * Запросы обрабатываются ограниченным пулом платформенных потоков Tomcat ({@code server.tomcat.threads.max}).
+         */
+        PLATFORM,
+
+        /**
+         * Каждый запрос обрабатывается в отдельном виртуальном потоке, требуется Java 21 и новее.
+         * Поток, ожидающий ответа сервера в блокирующем режиме клиента, не занимает поток операционной системы,
+         * и число одновременных запросов ограничивает только пул соединений {@code shareit-server.client.max-connections}.
+         */
+        VIRTUAL
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Конфигурация обработки запросов шлюза в виртуальных потоках, включается свойством
+ * {@code shareit-gateway.threads.mode=virtual}.
+ * <p>
+ * Пул потоков Tomcat заменяется исполнителем, создающим виртуальный поток на каждый запрос, им же выполняются
+ * асинхронные обработчики Spring MVC. В блокирующем режиме клиента запрос к серверу выполняется в потоке обработки
+ * запроса, поэтому ожидание ответа сервера тоже происходит в виртуальном потоке.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(GatewayThreadsProperties.class)
+@ConditionalOnProperty(prefix = "shareit-gateway.threads", name = "mode", havingValue = "virtual")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+    private final ExecutorService executor = VirtualThreads.newExecutor("gateway-virtual-");
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService virtualThreadExecutor() {
+        log.info("Запросы шлюза обрабатываются в виртуальных потоках");
+        return executor;
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(executor));
+    }
+}
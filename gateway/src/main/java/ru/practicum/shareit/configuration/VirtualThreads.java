@@ -0,0 +1,60 @@
+package ru.practicum.shareit.configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Создание исполнителя на виртуальных потоках.
+ * <p>
+ * Проект собирается под Java 11, поэтому API виртуальных потоков Java 21 вызывается через рефлексию:
+ * сборка не зависит от версии JDK, а на JDK без виртуальных потоков режим не включается.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public final class VirtualThreads {
+    private static final int MIN_JAVA_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Метод проверки, поддерживает ли текущая JDK виртуальные потоки.
+     *
+     * @return {@code true}, если JDK версии 21 и новее.
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= MIN_JAVA_VERSION;
+    }
+
+    /**
+     * Метод создания исполнителя, запускающего каждую задачу в новом виртуальном потоке.
+     *
+     * @param namePrefix префикс имён потоков, к нему добавляется порядковый номер.
+     * @return {@link ExecutorService}
+     * @throws IllegalStateException если JDK не поддерживает виртуальные потоки.
+     */
+    public static ExecutorService newExecutor(String namePrefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException(String.format(
+                    "Виртуальные потоки доступны начиная с Java %d, шлюз запущен на Java %d",
+                    MIN_JAVA_VERSION, Runtime.version().feature()));
+        }
+
+        try {
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            var builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            var factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Не удалось создать исполнитель на виртуальных потоках", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Не удалось создать исполнитель на виртуальных потоках", e);
+        }
+    }
+}
@@ -2,13 +2,12 @@ package ru.practicum.shareit.item.client;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerClientFactory;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 
@@ -24,36 +23,31 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, ServerClientFactory factory) {
+        super(factory.create(serverUrl, API_PREFIX));
     }
 
-    public ResponseEntity<Object> addItem(Long userId, ItemDtoRequest item) {
+    public Mono<ResponseEntity<Object>> addItem(Long userId, ItemDtoRequest item) {
         return post("", userId, item);
     }
 
-    public ResponseEntity<Object> updateItem(Long itemId, Long userId, ItemDtoRequest item) {
-        return patch("/" + itemId, userId, item);
+    public Mono<ResponseEntity<Object>> updateItem(Long itemId, Long userId, ItemDtoRequest item, String ifMatch) {
+        return conditionalPatch("/" + itemId, userId, item, ifMatch);
     }
 
-    public ResponseEntity<Object> getItem(Long itemId, Long userId) {
+    public Mono<ResponseEntity<Object>> getItem(Long itemId, Long userId) {
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> deleteItem(Long itemId, Long userId) {
+    public Mono<ResponseEntity<Object>> deleteItem(Long itemId, Long userId) {
         return delete("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> deleteAllUserItems(Long userId) {
+    public Mono<ResponseEntity<Object>> deleteAllUserItems(Long userId) {
         return delete("", userId);
     }
 
-    public ResponseEntity<Object> getUserItems(Long userId, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> getUserItems(Long userId, Integer from, Integer size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -62,11 +56,11 @@ public class ItemClient extends BaseClient {
         return get("", userId, parameters);
     }
 
-    public ResponseEntity<Object> searchItem(Long userId, String text, Integer from, Integer size) {
+    public Mono<ResponseEntity<Object>> searchItem(Long userId, String text, Integer from, Integer size) {
         if (text.isBlank()) {
-            return ResponseEntity.ok()
+            return Mono.just(ResponseEntity.ok()
                     .contentType(MediaType.APPLICATION_JSON)
-                    .body(List.of());
+                    .body(List.of()));
         }
 
         Map<String, Object> parameters = Map.of(
@@ -78,15 +72,16 @@ public class ItemClient extends BaseClient {
         return get("/search?text={text}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> addComment(Long itemId, Long userId, CommentRequestDto text) {
+    public Mono<ResponseEntity<Object>> addComment(Long itemId, Long userId, CommentRequestDto text) {
         return post(String.format("/%d/comment", itemId), userId, text);
     }
 
-    public ResponseEntity<Object> updateComment(Long commentId, Long userId, CommentRequestDto comment) {
-        return patch("/comment/" + commentId, userId, comment);
+    public Mono<ResponseEntity<Object>> updateComment(Long commentId, Long userId, CommentRequestDto comment,
+                                                      String ifMatch) {
+        return conditionalPatch("/comment/" + commentId, userId, comment, ifMatch);
     }
 
-    public ResponseEntity<Object> deleteComment(Long commentId, Long userId) {
+    public Mono<ResponseEntity<Object>> deleteComment(Long commentId, Long userId) {
         return delete("/comment/" + commentId, userId);
     }
 }
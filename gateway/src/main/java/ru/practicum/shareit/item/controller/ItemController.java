@@ -2,10 +2,12 @@ package ru.practicum.shareit.item.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.Marker;
 import ru.practicum.shareit.item.client.ItemClient;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
@@ -32,7 +34,7 @@ public class ItemController {
 
     @PostMapping
     @Validated(Marker.OnCreate.class)
-    public ResponseEntity<?> addNewItem(
+    public Mono<ResponseEntity<Object>> addNewItem(
             @Valid @RequestBody ItemDtoRequest item,
             @RequestHeader(value = xSharerUserId) Long userId) {
         log.info("POST /items , body = {}, header \"{}\" = {}", item, xSharerUserId, userId);
@@ -41,17 +43,18 @@ public class ItemController {
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<?> updateItem(
+    public Mono<ResponseEntity<Object>> updateItem(
             @RequestBody ItemDtoRequest item,
             @PathVariable Long itemId,
-            @RequestHeader(value = xSharerUserId) Long userId) {
+            @RequestHeader(value = xSharerUserId) Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PATCH /items/{} , body = {}, header \"{}\" = {}", itemId, item, xSharerUserId, userId);
 
-        return itemClient.updateItem(itemId, userId, item);
+        return itemClient.updateItem(itemId, userId, item, ifMatch);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<?> getItemById(
+    public Mono<ResponseEntity<Object>> getItemById(
             @PathVariable Long itemId,
             @RequestHeader(value = xSharerUserId) Long userId, TimeZone timeZone) {
         log.info("GET /items/{} , header \"{}\" = {}", itemId, xSharerUserId, userId);
@@ -60,7 +63,7 @@ public class ItemController {
     }
 
     @DeleteMapping("/{itemId}")
-    public ResponseEntity<Object> deleteItemByItemId(
+    public Mono<ResponseEntity<Object>> deleteItemByItemId(
             @PathVariable Long itemId,
             @RequestHeader(value = xSharerUserId) Long userId) {
         log.info("DELETE /items/{} , header \"{}\" = {}", itemId, xSharerUserId, userId);
@@ -70,14 +73,14 @@ public class ItemController {
     }
 
     @DeleteMapping
-    public ResponseEntity<Object> deleteAllItemByUser(
+    public Mono<ResponseEntity<Object>> deleteAllItemByUser(
             @RequestHeader(value = xSharerUserId) Long userId) {
         log.info("DELETE /items , header \"{}\" = {}", xSharerUserId, userId);
         return itemClient.deleteAllUserItems(userId);
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllItemByUser(
+    public Mono<ResponseEntity<Object>> getAllItemByUser(
             @RequestHeader(value = xSharerUserId) Long userId,
             @RequestParam(required = false, name = "from", defaultValue = "0")
             @Min(value = 0, message = "Параметр from не может быть меньше 0.")
@@ -92,7 +95,7 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<?> searchItemByText(
+    public Mono<ResponseEntity<Object>> searchItemByText(
             @RequestParam String text,
             @RequestParam(required = false, name = "from", defaultValue = "0")
             @Min(value = 0, message = "Параметр from не может быть меньше 0.")
@@ -109,7 +112,7 @@ public class ItemController {
 
     @PostMapping("{itemId}/comment")
     @Validated(Marker.OnCreate.class)
-    public ResponseEntity<?> addComment(
+    public Mono<ResponseEntity<Object>> addComment(
             @PathVariable Long itemId,
             @RequestHeader(value = xSharerUserId) Long userId,
             @RequestBody @Valid CommentRequestDto text) {
@@ -119,17 +122,18 @@ public class ItemController {
     }
 
     @PatchMapping("comment/{commentId}")
-    public ResponseEntity<?> updateComment(
+    public Mono<ResponseEntity<Object>> updateComment(
             @RequestBody @Valid CommentRequestDto comment,
             @RequestHeader(value = xSharerUserId) Long userId,
-            @PathVariable Long commentId) {
+            @PathVariable Long commentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PATCH /items/comment/{} , header \"{}\" = {}", commentId, xSharerUserId, userId);
 
-        return itemClient.updateComment(commentId, userId, comment);
+        return itemClient.updateComment(commentId, userId, comment, ifMatch);
     }
 
     @DeleteMapping("comment/{commentId}")
-    public ResponseEntity<Object> deleteComment(
+    public Mono<ResponseEntity<Object>> deleteComment(
             @PathVariable Long commentId,
             @RequestHeader(value = xSharerUserId) Long userId) {
         log.info("DELETE /items/comment/{} , header \"{}\" = {}", commentId, xSharerUserId, userId);
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.Marker;
 import ru.practicum.shareit.request.client.ItemRequestClient;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
@@ -29,7 +30,7 @@ public class ItemRequestController {
 
     @PostMapping
     @Validated(Marker.OnCreate.class)
-    public ResponseEntity<?> addNewRequest(
+    public Mono<ResponseEntity<Object>> addNewRequest(
             @Valid @RequestBody ItemRequestDtoRequest request,
             @RequestHeader(value = xSharerUserId) Long userId) {
         log.info("POST /requests , body = {} , {} = {}", request, xSharerUserId, userId);
@@ -38,7 +39,7 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public ResponseEntity<?> getUserRequests(
+    public Mono<ResponseEntity<Object>> getUserRequests(
             @RequestHeader(value = xSharerUserId) Long userId) {
         log.info("GET /requests , {} = {}", xSharerUserId, userId);
 
@@ -46,7 +47,7 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<?> getAllRequests(
+    public Mono<ResponseEntity<Object>> getAllRequests(
             @RequestHeader(value = xSharerUserId) Long userId,
             @RequestParam(required = false, name = "from")
             @Min(value = 0, message = "Параметр from не может быть меньше 0.")
@@ -61,7 +62,7 @@ public class ItemRequestController {
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<?> getRequestById(
+    public Mono<ResponseEntity<Object>> getRequestById(
             @RequestHeader(value = xSharerUserId) Long userId,
             @PathVariable Long requestId) {
         log.info("GET /requests/{} ,{} = {}", requestId, xSharerUserId, userId);
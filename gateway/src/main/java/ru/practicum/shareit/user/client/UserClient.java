@@ -2,12 +2,11 @@ package ru.practicum.shareit.user.client;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerClientFactory;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserSort;
 
@@ -22,32 +21,27 @@ public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, ServerClientFactory factory) {
+        super(factory.create(serverUrl, API_PREFIX));
     }
 
-    public ResponseEntity<Object> addUser(UserRequestDto user) {
+    public Mono<ResponseEntity<Object>> addUser(UserRequestDto user) {
         return post("", user);
     }
 
-    public ResponseEntity<Object> updateUser(long userId, UserRequestDto user) {
-        return patch("/" + userId, user);
+    public Mono<ResponseEntity<Object>> updateUser(long userId, UserRequestDto user, String ifMatch) {
+        return conditionalPatch("/" + userId, null, user, ifMatch);
     }
 
-    public ResponseEntity<Object> getUser(long userId) {
+    public Mono<ResponseEntity<Object>> getUser(long userId) {
         return get("/" + userId);
     }
 
-    public ResponseEntity<Object> deleteUser(long userId) {
+    public Mono<ResponseEntity<Object>> deleteUser(long userId) {
         return delete("/" + userId);
     }
 
-    public ResponseEntity<Object> getUsers(int page, int size, UserSort sort) {
+    public Mono<ResponseEntity<Object>> getUsers(int page, int size, UserSort sort) {
         Map<String, Object> parameters = Map.of(
                 "page", page,
                 "size", size,
@@ -2,10 +2,12 @@ package ru.practicum.shareit.user.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.Marker;
 import ru.practicum.shareit.user.client.UserClient;
 import ru.practicum.shareit.user.dto.UserRequestDto;
@@ -29,7 +31,7 @@ public class UserController {
 
     @PostMapping
     @Validated(Marker.OnCreate.class)
-    public ResponseEntity<?> addNewUser(@RequestBody @Valid UserRequestDto user) {
+    public Mono<ResponseEntity<Object>> addNewUser(@RequestBody @Valid UserRequestDto user) {
         log.info("POST /users body = {}", user);
 
         return userClient.addUser(user);
@@ -37,28 +39,31 @@ public class UserController {
 
     @PatchMapping("/{userId}")
     @Validated({Marker.OnUpdate.class})
-    public ResponseEntity<?> updateUser(@RequestBody @Valid UserRequestDto user, @PathVariable long userId) {
+    public Mono<ResponseEntity<Object>> updateUser(
+            @RequestBody @Valid UserRequestDto user,
+            @PathVariable long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PATCH /users/{} body = {}", userId, user);
 
-        return userClient.updateUser(userId, user);
+        return userClient.updateUser(userId, user, ifMatch);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<?> getUser(@PathVariable(required = false) long userId) {
+    public Mono<ResponseEntity<Object>> getUser(@PathVariable(required = false) long userId) {
         log.info("GET /users/{}", userId);
 
         return userClient.getUser(userId);
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<?> deleteUser(@PathVariable long userId) {
+    public Mono<ResponseEntity<Object>> deleteUser(@PathVariable long userId) {
         log.info("DELETE /users/{}", userId);
 
         return userClient.deleteUser(userId);
     }
 
     @GetMapping
-    public ResponseEntity<?> getAllUsers(
+    public Mono<ResponseEntity<Object>> getAllUsers(
             @RequestParam(required = false, name = "page", defaultValue = "1") @Min(1) int page,
             @RequestParam(required = false, name = "size", defaultValue = "10") @Min(1) @Max(100) int size,
             @RequestParam(required = false, name = "sort", defaultValue = "NONE") UserSort sort) {
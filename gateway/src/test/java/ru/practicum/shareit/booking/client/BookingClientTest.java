@@ -3,23 +3,29 @@ package ru.practicum.shareit.booking.client;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
+import ru.practicum.shareit.client.ServerClientFactory;
+import ru.practicum.shareit.booking.dto.BookingBatchMode;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 /**
  * @author Nikolay Radzivon
  * @Date 03.06.2024
  */
+@Import(ServerClientFactory.class)
 @RestClientTest(BookingClient.class)
 class BookingClientTest {
     @Autowired
@@ -55,7 +61,7 @@ class BookingClientTest {
                                 "  }\n" +
                                 "}]", MediaType.APPLICATION_JSON));
 
-        var response = bookingClient.getBookings(1, BookingState.ALL, 0, 2);
+        var response = bookingClient.getBookings(1, BookingState.ALL, 0, 2).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -65,6 +71,30 @@ class BookingClientTest {
                 response.getBody().toString());
     }
 
+    @Test
+    void getBookingsAfterTest() {
+        this.server.expect(requestTo("http://localhost:9090/bookings?state=ALL&size=2&cursor=MTox"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        var response = bookingClient.getBookingsAfter(1, BookingState.ALL, 2, "MTox").block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("[]", response.getBody().toString());
+    }
+
+    @Test
+    void getBookingsOwnerAfterTest() {
+        this.server.expect(requestTo("http://localhost:9090/bookings/owner?state=WAITING&size=5&cursor="))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        var response = bookingClient.getBookingsOwnerAfter(1, BookingState.WAITING, 5, "").block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("[]", response.getBody().toString());
+    }
+
     @Test
     void bookItemTest() {
         this.server.expect(requestTo("http://localhost:9090/bookings"))
@@ -86,7 +116,7 @@ class BookingClientTest {
                 .itemId(2L)
                 .start(LocalDateTime.parse("2024-06-04T08:26:48"))
                 .end(LocalDateTime.parse("2024-06-04T08:26:49"))
-                .build());
+                .build()).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -97,6 +127,32 @@ class BookingClientTest {
                 response.getBody().toString());
     }
 
+    @Test
+    void bookItemsTest() {
+        this.server.expect(requestTo("http://localhost:9090/bookings/batch?mode=BEST_EFFORT"))
+                .andRespond(withStatus(HttpStatus.MULTI_STATUS)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("[{\"index\": 0, \"status\": 201, \"booking\": {\"id\": 9}}," +
+                                " {\"index\": 1, \"status\": 404, \"error\": \"Вещь не найдена\"}]"));
+
+        var response = bookingClient.bookItems(1, List.of(
+                BookingRequestDto.builder()
+                        .itemId(2L)
+                        .start(LocalDateTime.parse("2024-06-04T08:26:48"))
+                        .end(LocalDateTime.parse("2024-06-04T08:26:49"))
+                        .build(),
+                BookingRequestDto.builder()
+                        .itemId(99L)
+                        .start(LocalDateTime.parse("2024-06-04T08:26:48"))
+                        .end(LocalDateTime.parse("2024-06-04T08:26:49"))
+                        .build()), BookingBatchMode.BEST_EFFORT).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals("[{index=0, status=201, booking={id=9}}, {index=1, status=404, error=Вещь не найдена}]",
+                String.valueOf(response.getBody()));
+    }
+
     @Test
     void getBookingTest() {
         this.server.expect(requestTo("http://localhost:9090/bookings/2"))
@@ -114,7 +170,7 @@ class BookingClientTest {
                         "}" +
                         "}", MediaType.APPLICATION_JSON));
 
-        var response = bookingClient.getBooking(4, 2L);
+        var response = bookingClient.getBooking(4, 2L).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -155,7 +211,7 @@ class BookingClientTest {
                         "}\n" +
                         "}]", MediaType.APPLICATION_JSON));
 
-        var response = bookingClient.getBookingsOwner(4, BookingState.ALL, 0, 2);
+        var response = bookingClient.getBookingsOwner(4, BookingState.ALL, 0, 2).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -184,7 +240,7 @@ class BookingClientTest {
                         "  }\n" +
                         "}", MediaType.APPLICATION_JSON));
 
-        var response = bookingClient.confirmationBooking(4, false, 1);
+        var response = bookingClient.confirmationBooking(4, false, 1).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -14,12 +14,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.client.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingBatchMode;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -57,11 +61,11 @@ class BookingControllerTest {
                 .content(s);
 
         Mockito.when(bookingClient.bookItem(Mockito.anyLong(), Mockito.any(BookingRequestDto.class)))
-                .thenReturn(ResponseEntity.status(HttpStatus.CREATED)
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.CREATED)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"WAITING\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}}"));
+                        .body("{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"WAITING\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}}")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isCreated(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().string("{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"WAITING\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}}")
@@ -222,6 +226,88 @@ class BookingControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("POST /bookings/batch передаёт пакет бронирований на сервер")
+    void addNewBookingsTestValid() throws Exception {
+        var s = objectMapper.writeValueAsString(List.of(
+                BookingRequestDto.builder()
+                        .itemId(2L)
+                        .start(LocalDateTime.now().plusDays(1))
+                        .end(LocalDateTime.now().plusDays(2))
+                        .build(),
+                BookingRequestDto.builder()
+                        .itemId(3L)
+                        .start(LocalDateTime.now().plusDays(1))
+                        .end(LocalDateTime.now().plusDays(2))
+                        .build()));
+
+        var request = MockMvcRequestBuilders
+                .post("/bookings/batch")
+                .param("mode", "BEST_EFFORT")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(xSharerUserId, 1)
+                .content(s);
+
+        Mockito.when(bookingClient.bookItems(Mockito.anyLong(), Mockito.anyList(), Mockito.eq(BookingBatchMode.BEST_EFFORT)))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.CREATED)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("[{\"index\": 0, \"status\": 201}, {\"index\": 1, \"status\": 201}]")));
+
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
+                status().isCreated(),
+                content().string("[{\"index\": 0, \"status\": 201}, {\"index\": 1, \"status\": 201}]")
+        );
+
+        Mockito.verify(bookingClient, Mockito.times(1))
+                .bookItems(Mockito.anyLong(), Mockito.anyList(), Mockito.eq(BookingBatchMode.BEST_EFFORT));
+    }
+
+    @Test
+    @DisplayName("POST /bookings/batch не передаёт пакет если одна из записей некорректна")
+    void addNewBookingsTestNotValidEntry() throws Exception {
+        var s = objectMapper.writeValueAsString(List.of(
+                BookingRequestDto.builder()
+                        .itemId(2L)
+                        .start(LocalDateTime.now().plusDays(1))
+                        .end(LocalDateTime.now().plusDays(2))
+                        .build(),
+                BookingRequestDto.builder()
+                        .itemId(3L)
+                        .start(null)
+                        .end(LocalDateTime.now().plusDays(2))
+                        .build()));
+
+        var request = MockMvcRequestBuilders
+                .post("/bookings/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(xSharerUserId, 1)
+                .content(s);
+
+        this.mockMvc.perform(request).andExpectAll(
+                status().isBadRequest(),
+                jsonPath("$.status").value(400),
+                jsonPath("$.error").value("Ошибка ввода данных бронирования: Дата начала бронирования не может быть пустой"),
+                jsonPath("$.path").value("/bookings/batch")
+        );
+
+        Mockito.verify(bookingClient, Mockito.never()).bookItems(Mockito.anyLong(), Mockito.anyList(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("POST /bookings/batch не передаёт пустой пакет")
+    void addNewBookingsTestNotValidEmpty() throws Exception {
+        var request = MockMvcRequestBuilders
+                .post("/bookings/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(xSharerUserId, 1)
+                .content("[]");
+
+        this.mockMvc.perform(request).andExpectAll(
+                status().isBadRequest(),
+                jsonPath("$.error").value("Ошибка ввода данных бронирования: Пакет бронирований не может быть пустым")
+        );
+    }
+
     @Test
     @DisplayName("PATCH /bookings/1?approved=true Подтверждает бронирование")
     void bookingConfirmationTestValidApprovedTrue() throws Exception {
@@ -231,14 +317,14 @@ class BookingControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(bookingClient.confirmationBooking(Mockito.anyLong(), Mockito.anyBoolean(), Mockito.anyLong()))
-                .thenReturn(
+                .thenReturn(Mono.just(
                         ResponseEntity
                                 .status(HttpStatus.OK)
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .body("{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}}"));
+                                .body("{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}}")));
 
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().string("{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}}")
@@ -292,14 +378,14 @@ class BookingControllerTest {
         var start = LocalDateTime.now().plusDays(1);
         var end = LocalDateTime.now().plusDays(2);
         Mockito.when(bookingClient.getBooking(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(
+                .thenReturn(Mono.just(
                         ResponseEntity
                                 .status(HttpStatus.OK)
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .body("{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}}"));
+                                .body("{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}}")));
 
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().string("{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}}")
@@ -338,12 +424,12 @@ class BookingControllerTest {
         var end = LocalDateTime.now().plusDays(2);
 
         Mockito.when(bookingClient.getBookings(Mockito.anyLong(), Mockito.any(BookingState.class), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("[{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}},{\"id\": 10,\"start\": \"2024-06-04T16:04:33\", \"end\": \"2024-06-04T16:04:34\",\"status\": \"WATING\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"car\"}}]"));
+                        .body("[{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}},{\"id\": 10,\"start\": \"2024-06-04T16:04:33\", \"end\": \"2024-06-04T16:04:34\",\"status\": \"WATING\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"car\"}}]")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().string("[{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}},{\"id\": 10,\"start\": \"2024-06-04T16:04:33\", \"end\": \"2024-06-04T16:04:34\",\"status\": \"WATING\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"car\"}}]")
@@ -352,6 +438,55 @@ class BookingControllerTest {
         Mockito.verify(bookingClient, Mockito.times(1)).getBookings(Mockito.anyLong(), Mockito.any(BookingState.class), Mockito.anyInt(), Mockito.anyInt());
     }
 
+    @Test
+    @DisplayName("GET /bookings с параметром cursor запрашивает страницу по позиции")
+    void getBookingByUserTestValidCursor() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/bookings")
+                .header(xSharerUserId, 1)
+                .param("size", "2")
+                .param("cursor", "MTox");
+
+        Mockito.when(bookingClient.getBookingsAfter(1L, BookingState.ALL, 2, "MTox"))
+                .thenReturn(Mono.just(ResponseEntity
+                        .status(HttpStatus.OK)
+                        .header("X-Next-Cursor", "MToy")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("[]")));
+
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
+                status().isOk(),
+                header().string("X-Next-Cursor", "MToy"),
+                content().string("[]")
+        );
+
+        Mockito.verify(bookingClient, Mockito.times(1)).getBookingsAfter(1L, BookingState.ALL, 2, "MTox");
+        Mockito.verify(bookingClient, Mockito.never()).getBookings(Mockito.anyLong(), Mockito.any(BookingState.class), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /bookings/owner с параметром cursor запрашивает страницу по позиции")
+    void getBookingByOwnerTestValidCursor() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/bookings/owner")
+                .header(xSharerUserId, 1)
+                .param("cursor", "");
+
+        Mockito.when(bookingClient.getBookingsOwnerAfter(1L, BookingState.ALL, 10, ""))
+                .thenReturn(Mono.just(ResponseEntity
+                        .status(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("[]")));
+
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
+                status().isOk(),
+                header().doesNotExist("X-Next-Cursor"),
+                content().string("[]")
+        );
+
+        Mockito.verify(bookingClient, Mockito.times(1)).getBookingsOwnerAfter(1L, BookingState.ALL, 10, "");
+    }
+
     @Test
     @DisplayName("GET /bookings не возвращает список бронирований если в параметре state указано не верное значение")
     void getBookingByUserTestNotValidStateASD() throws Exception {
@@ -442,12 +577,12 @@ class BookingControllerTest {
         var end = LocalDateTime.now().plusDays(2);
 
         Mockito.when(bookingClient.getBookingsOwner(Mockito.anyLong(), Mockito.any(BookingState.class), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("[{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}},{\"id\": 10,\"start\": \"2024-06-04T16:04:33\", \"end\": \"2024-06-04T16:04:34\",\"status\": \"WATING\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"car\"}}]"));
+                        .body("[{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}},{\"id\": 10,\"start\": \"2024-06-04T16:04:33\", \"end\": \"2024-06-04T16:04:34\",\"status\": \"WATING\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"car\"}}]")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().string("[{\"id\": 9,\"start\": \"2024-06-03T16:04:33\", \"end\": \"2024-06-03T16:04:34\",\"status\": \"APPROVED\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"bus\"}},{\"id\": 10,\"start\": \"2024-06-04T16:04:33\", \"end\": \"2024-06-04T16:04:34\",\"status\": \"WATING\",\"booker\": {\"id\": 1},\"item\": {\"id\": 2,\"name\": \"car\"}}]")
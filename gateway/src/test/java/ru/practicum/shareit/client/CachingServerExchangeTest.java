@@ -0,0 +1,150 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.http.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class CachingServerExchangeTest {
+    private final Instant now = Instant.parse("2026-10-17T10:00:00Z");
+    private Clock clock;
+    private ServerResponseCache cache;
+    private ServerExchange itemTransport;
+    private ServerExchange bookingTransport;
+    private CachingServerExchange items;
+    private CachingServerExchange bookings;
+
+    @BeforeEach
+    void setUp() {
+        clock = Mockito.mock(Clock.class);
+        Mockito.when(clock.instant()).thenReturn(now);
+        cache = new ServerResponseCache(100, Duration.ofSeconds(10), clock);
+        itemTransport = Mockito.mock(ServerExchange.class);
+        bookingTransport = Mockito.mock(ServerExchange.class);
+        items = new CachingServerExchange(itemTransport, cache, "/items");
+        bookings = new CachingServerExchange(bookingTransport, cache, "/bookings");
+    }
+
+    @Test
+    void exchangeTestReturnsFreshResponseFromCache() {
+        var response = ResponseEntity.ok((Object) Map.of("id", 1));
+        Mockito.when(itemTransport.exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(response));
+
+        var first = items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+        var second = items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+
+        assertSame(response, first);
+        assertSame(response, second);
+        Mockito.verify(itemTransport, Mockito.times(1))
+                .exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void exchangeTestKeyIncludesUser() {
+        Mockito.when(itemTransport.exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity.ok("item")));
+
+        items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+        items.exchange(HttpMethod.GET, "/1", request(2L), null).block();
+
+        Mockito.verify(itemTransport, Mockito.times(2))
+                .exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void exchangeTestDoesNotCacheOtherReads() {
+        Mockito.when(itemTransport.exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity.ok("items")));
+
+        items.exchange(HttpMethod.GET, "/search?text={text}", request(1L), Map.of("text", "дрель")).block();
+        items.exchange(HttpMethod.GET, "/search?text={text}", request(1L), Map.of("text", "дрель")).block();
+
+        Mockito.verify(itemTransport, Mockito.times(2))
+                .exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void exchangeTestDoesNotCacheErrors() {
+        Mockito.when(itemTransport.exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).build()));
+
+        items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+        items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+
+        Mockito.verify(itemTransport, Mockito.times(2))
+                .exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exchangeTestRevalidatesExpiredResponseWithEtag() {
+        var response = ResponseEntity.ok().eTag("\"1\"").body((Object) Map.of("id", 1));
+        Mockito.when(itemTransport.exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(response))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()));
+
+        items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+        Mockito.when(clock.instant()).thenReturn(now.plusSeconds(11));
+        var revalidated = items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+        var cached = items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+
+        assertSame(response, revalidated);
+        assertSame(response, cached);
+        ArgumentCaptor<HttpEntity<?>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        Mockito.verify(itemTransport, Mockito.times(2))
+                .exchange(Mockito.any(), Mockito.any(), requests.capture(), Mockito.any());
+        assertTrue(requests.getAllValues().get(0).getHeaders().getIfNoneMatch().isEmpty());
+        assertEquals("\"1\"", requests.getAllValues().get(1).getHeaders().getIfNoneMatch().get(0));
+        assertEquals("1", requests.getAllValues().get(1).getHeaders().getFirst("X-Sharer-User-Id"));
+    }
+
+    @Test
+    void exchangeTestWriteInvalidatesResource() {
+        Mockito.when(itemTransport.exchange(Mockito.eq(HttpMethod.GET), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity.ok("item")));
+        Mockito.when(itemTransport.exchange(Mockito.eq(HttpMethod.PATCH), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity.ok("updated")));
+
+        items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+        items.exchange(HttpMethod.PATCH, "/1", request(1L), null).block();
+        items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+
+        Mockito.verify(itemTransport, Mockito.times(2))
+                .exchange(Mockito.eq(HttpMethod.GET), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void exchangeTestBookingWriteInvalidatesItems() {
+        Mockito.when(itemTransport.exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity.ok("item")));
+        Mockito.when(bookingTransport.exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity.ok("booking")));
+
+        items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+        bookings.exchange(HttpMethod.PATCH, "/1?approved={approved}", request(1L), Map.of("approved", true)).block();
+        items.exchange(HttpMethod.GET, "/1", request(1L), null).block();
+
+        Mockito.verify(itemTransport, Mockito.times(2))
+                .exchange(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    private static HttpEntity<Object> request(Long userId) {
+        var headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        return new HttpEntity<>(headers);
+    }
+}
@@ -0,0 +1,155 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.*;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class ServerClientFactoryTest {
+    private DisposableServer server;
+    private final List<ServerClientFactory> factories = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/users/1", (request, response) -> response
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .header("X-Next-Cursor", "MToy")
+                                .sendString(Mono.just("{\"id\": 1, \"name\": \"user\"}")))
+                        .get("/users/slow", (request, response) -> response
+                                .sendString(Mono.just("{}").delayElement(Duration.ofSeconds(2))))
+                        .get("/users/2", (request, response) -> response
+                                .status(HttpStatus.NOT_FOUND.value())
+                                .sendString(Mono.just("{\"error\": \"not found\"}"))))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (var factory : factories) {
+            factory.destroy();
+        }
+        server.disposeNow();
+    }
+
+    @Test
+    void createTestBlockingMode() {
+        var exchange = factory(ServerClientProperties.Mode.BLOCKING).create(serverUrl(), "/users");
+
+        assertInstanceOf(RestTemplateServerExchange.class, exchange);
+        assertUserResponses(exchange);
+    }
+
+    @Test
+    void createTestNonBlockingMode() {
+        var exchange = factory(ServerClientProperties.Mode.NON_BLOCKING).create(serverUrl(), "/users");
+
+        assertInstanceOf(WebClientServerExchange.class, exchange);
+        assertUserResponses(exchange);
+    }
+
+    @Test
+    void createTestBlockingModePassThrough() {
+        var properties = properties(ServerClientProperties.Mode.BLOCKING);
+        properties.setPassThrough(true);
+
+        assertPassThroughResponses(factory(properties).create(serverUrl(), "/users"));
+    }
+
+    @Test
+    void createTestNonBlockingModePassThrough() {
+        var properties = properties(ServerClientProperties.Mode.NON_BLOCKING);
+        properties.setPassThrough(true);
+
+        assertPassThroughResponses(factory(properties).create(serverUrl(), "/users"));
+    }
+
+    @Test
+    void createTestNonBlockingModeResponseTimeout() {
+        var properties = properties(ServerClientProperties.Mode.NON_BLOCKING);
+        properties.setResponseTimeout(Duration.ofMillis(200));
+        var exchange = factory(properties).create(serverUrl(), "/users");
+
+        assertThrows(RuntimeException.class,
+                () -> exchange.exchange(HttpMethod.GET, "/slow", HttpEntity.EMPTY, null).block());
+    }
+
+    private void assertUserResponses(ServerExchange exchange) {
+        var found = exchange.exchange(HttpMethod.GET, "/{id}", HttpEntity.EMPTY, Map.of("id", 1)).block();
+
+        assertNotNull(found);
+        assertEquals(HttpStatus.OK, found.getStatusCode());
+        assertEquals("{id=1, name=user}", String.valueOf(found.getBody()));
+        assertEquals(MediaType.APPLICATION_JSON, found.getHeaders().getContentType());
+        assertEquals("MToy", found.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(found.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertFalse(found.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH));
+
+        var notFound = exchange.exchange(HttpMethod.GET, "/2", HttpEntity.EMPTY, null).block();
+
+        assertNotNull(notFound);
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        assertEquals("{\"error\": \"not found\"}", new String((byte[]) notFound.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void assertPassThroughResponses(ServerExchange exchange) {
+        var found = exchange.exchange(HttpMethod.GET, "/{id}", HttpEntity.EMPTY, Map.of("id", 1)).block();
+
+        assertNotNull(found);
+        assertEquals(HttpStatus.OK, found.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, found.getHeaders().getContentType());
+        assertEquals("MToy", found.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(found.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertEquals("{\"id\": 1, \"name\": \"user\"}", new String((byte[]) found.getBody(), StandardCharsets.UTF_8));
+
+        var notFound = exchange.exchange(HttpMethod.GET, "/2", HttpEntity.EMPTY, null).block();
+
+        assertNotNull(notFound);
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        assertEquals("{\"error\": \"not found\"}", new String((byte[]) notFound.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private String serverUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    private ServerClientFactory factory(ServerClientProperties.Mode mode) {
+        return factory(properties(mode));
+    }
+
+    private ServerClientFactory factory(ServerClientProperties properties) {
+        ObjectProvider<WebClient.Builder> webClientBuilder = new StaticListableBeanFactory()
+                .getBeanProvider(WebClient.Builder.class);
+        var factory = new ServerClientFactory(properties, new RestTemplateBuilder(), webClientBuilder);
+        factories.add(factory);
+        return factory;
+    }
+
+    private static ServerClientProperties properties(ServerClientProperties.Mode mode) {
+        var properties = new ServerClientProperties();
+        properties.setMode(mode);
+        properties.setMaxConnections(4);
+        return properties;
+    }
+}
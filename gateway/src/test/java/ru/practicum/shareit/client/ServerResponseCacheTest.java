@@ -0,0 +1,97 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class ServerResponseCacheTest {
+    private final Instant now = Instant.parse("2026-10-17T10:00:00Z");
+    private Clock clock;
+    private ServerResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = Mockito.mock(Clock.class);
+        Mockito.when(clock.instant()).thenReturn(now);
+        cache = new ServerResponseCache(2, Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    void getTestFresh() {
+        var response = ResponseEntity.ok((Object) "item");
+        cache.put("/items", "/items/1|1", response, cache.generation("/items"));
+
+        var entry = cache.get("/items", "/items/1|1");
+
+        assertNotNull(entry);
+        assertTrue(entry.isFresh());
+        assertSame(response, entry.getResponse());
+        assertNull(cache.get("/items", "/items/1|2"));
+    }
+
+    @Test
+    void getTestExpiredWithoutEtag() {
+        cache.put("/items", "/items/1|1", ResponseEntity.ok("item"), cache.generation("/items"));
+        Mockito.when(clock.instant()).thenReturn(now.plusSeconds(11));
+
+        assertNull(cache.get("/items", "/items/1|1"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getTestExpiredWithEtag() {
+        cache.put("/items", "/items/1|1", ResponseEntity.ok().eTag("\"1\"").body("item"), cache.generation("/items"));
+        Mockito.when(clock.instant()).thenReturn(now.plusSeconds(11));
+
+        var entry = cache.get("/items", "/items/1|1");
+
+        assertNotNull(entry);
+        assertFalse(entry.isFresh());
+        assertEquals("\"1\"", entry.getEtag());
+    }
+
+    @Test
+    void putTestEvictsLeastRecentlyUsed() {
+        cache.put("/users", "/users/1|null", ResponseEntity.ok("1"), 0);
+        cache.put("/users", "/users/2|null", ResponseEntity.ok("2"), 0);
+        cache.get("/users", "/users/1|null");
+        cache.put("/users", "/users/3|null", ResponseEntity.ok("3"), 0);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("/users", "/users/1|null"));
+        assertNull(cache.get("/users", "/users/2|null"));
+        assertNotNull(cache.get("/users", "/users/3|null"));
+    }
+
+    @Test
+    void invalidateTest() {
+        cache.put("/items", "/items/1|1", ResponseEntity.ok("item"), cache.generation("/items"));
+        cache.put("/users", "/users/1|null", ResponseEntity.ok("user"), cache.generation("/users"));
+
+        cache.invalidate("/items");
+
+        assertNull(cache.get("/items", "/items/1|1"));
+        assertNotNull(cache.get("/users", "/users/1|null"));
+    }
+
+    @Test
+    void putTestSkipsResponseOfPreviousGeneration() {
+        var generation = cache.generation("/items");
+        cache.invalidate("/items");
+
+        cache.put("/items", "/items/1|1", ResponseEntity.ok("item"), generation);
+
+        assertNull(cache.get("/items", "/items/1|1"));
+    }
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.*;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class WebClientServerExchangeTest {
+    private final AtomicReference<ClientRequest> lastRequest = new AtomicReference<>();
+
+    @Test
+    void exchangeTestSuccess() {
+        var exchange = exchange(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"id\": 1, \"name\": \"user\"}")
+                .build());
+        var headers = new HttpHeaders();
+        headers.set("X-Sharer-User-Id", "1");
+
+        var response = exchange.exchange(HttpMethod.GET, "?from={from}&size={size}",
+                new HttpEntity<>(null, headers), Map.of("from", 0, "size", 10)).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("{id=1, name=user}", String.valueOf(response.getBody()));
+        assertEquals(HttpMethod.GET, lastRequest.get().method());
+        assertEquals("http://localhost:9090/users?from=0&size=10", lastRequest.get().url().toString());
+        assertEquals("1", lastRequest.get().headers().getFirst("X-Sharer-User-Id"));
+    }
+
+    @Test
+    void exchangeTestSuccessForwardsEndToEndHeaders() {
+        var exchange = exchange(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .header("Keep-Alive", "timeout=60")
+                .header("X-Next-Cursor", "MToy")
+                .body("[]")
+                .build());
+
+        var response = exchange.exchange(HttpMethod.GET, "", HttpEntity.EMPTY, null).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("MToy", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertFalse(response.getHeaders().containsKey("Keep-Alive"));
+        assertEquals("[]", String.valueOf(response.getBody()));
+    }
+
+    @Test
+    void exchangeTestErrorStatus() {
+        var exchange = exchange(ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"error\": \"not found\"}")
+                .build());
+
+        var response = exchange.exchange(HttpMethod.DELETE, "/1", HttpEntity.EMPTY, null).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertInstanceOf(byte[].class, response.getBody());
+        assertEquals("{\"error\": \"not found\"}", new String((byte[]) response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exchangeTestErrorStatusWithoutBody() {
+        var exchange = exchange(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+
+        var response = exchange.exchange(HttpMethod.GET, "", HttpEntity.EMPTY, null).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertArrayEquals(new byte[0], (byte[]) response.getBody());
+    }
+
+    @Test
+    void exchangeTestPassThrough() {
+        var exchange = exchange(ClientResponse.create(HttpStatus.CREATED)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.CONNECTION, "keep-alive")
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .header("Keep-Alive", "timeout=60")
+                .header("X-Next-Cursor", "MToy")
+                .body("{\"id\": 1}")
+                .build(), true);
+
+        var response = exchange.exchange(HttpMethod.POST, "", new HttpEntity<>(Map.of("name", "user")), null).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("MToy", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.CONNECTION));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertFalse(response.getHeaders().containsKey("Keep-Alive"));
+        assertEquals("{\"id\": 1}", new String((byte[]) response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exchangeTestPassThroughWithoutBody() {
+        var exchange = exchange(ClientResponse.create(HttpStatus.OK).build(), true);
+
+        var response = exchange.exchange(HttpMethod.DELETE, "/1", HttpEntity.EMPTY, null).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertFalse(response.hasBody());
+    }
+
+    private WebClientServerExchange exchange(ClientResponse response) {
+        return exchange(response, false);
+    }
+
+    private WebClientServerExchange exchange(ClientResponse response, boolean passThrough) {
+        return new WebClientServerExchange(WebClient.builder()
+                .uriBuilderFactory(new DefaultUriBuilderFactory("http://localhost:9090/users"))
+                .exchangeFunction(request -> {
+                    lastRequest.set(request);
+                    return Mono.just(response);
+                })
+                .build(), passThrough);
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Тест выполняется только на JDK с виртуальными потоками.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "shareit-gateway.threads.mode=virtual")
+@EnabledIf("ru.practicum.shareit.configuration.VirtualThreads#isSupported")
+class VirtualThreadConfigTest {
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private ExecutorService virtualThreadExecutor;
+
+    @Test
+    void tomcatTestUsesVirtualThreadExecutor() {
+        var tomcat = ((TomcatWebServer) context.getWebServer()).getTomcat();
+
+        assertSame(virtualThreadExecutor, tomcat.getConnector().getProtocolHandler().getExecutor());
+    }
+}
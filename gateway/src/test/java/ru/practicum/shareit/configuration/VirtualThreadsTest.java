@@ -0,0 +1,38 @@
+package ru.practicum.shareit.configuration;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class VirtualThreadsTest {
+    @Test
+    void newExecutorTestUnsupportedJava() {
+        Assumptions.assumeFalse(VirtualThreads.isSupported());
+
+        var e = assertThrows(IllegalStateException.class, () -> VirtualThreads.newExecutor("test-"));
+
+        assertTrue(e.getMessage().contains(String.valueOf(Runtime.version().feature())));
+    }
+
+    @Test
+    void newExecutorTestRunsTaskInVirtualThread() throws Exception {
+        Assumptions.assumeTrue(VirtualThreads.isSupported());
+        var executor = VirtualThreads.newExecutor("test-");
+
+        try {
+            var thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+            assertTrue(thread.getName().startsWith("test-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -3,9 +3,11 @@ package ru.practicum.shareit.item.client;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
+import ru.practicum.shareit.client.ServerClientFactory;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 
@@ -17,6 +19,7 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
  * @author Nikolay Radzivon
  * @Date 04.06.2024
  */
+@Import(ServerClientFactory.class)
 @RestClientTest(ItemClient.class)
 class ItemClientTest {
     @Autowired
@@ -40,7 +43,7 @@ class ItemClientTest {
                 .name("Дрель")
                 .description("Простая дрель")
                 .available(true)
-                .build());
+                .build()).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -64,7 +67,7 @@ class ItemClientTest {
                 .name("Дрель+")
                 .description("Аккумуляторная дрель")
                 .available(false)
-                .build());
+                .build(), null).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -86,7 +89,7 @@ class ItemClientTest {
                         "\"comments\": []\n" +
                         "}", MediaType.APPLICATION_JSON));
 
-        var response = itemClient.getItem(1L, 1L);
+        var response = itemClient.getItem(1L, 1L).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -101,7 +104,7 @@ class ItemClientTest {
         this.server.expect(requestTo("http://localhost:9090/items/1"))
                 .andRespond(withSuccess());
 
-        var response = itemClient.deleteItem(1L, 1L);
+        var response = itemClient.deleteItem(1L, 1L).block();
 
         assertNotNull(response);
         assertNull(response.getBody());
@@ -113,7 +116,7 @@ class ItemClientTest {
         this.server.expect(requestTo("http://localhost:9090/items"))
                 .andRespond(withSuccess());
 
-        var response = itemClient.deleteAllUserItems(1L);
+        var response = itemClient.deleteAllUserItems(1L).block();
 
         assertNotNull(response);
         assertNull(response.getBody());
@@ -144,7 +147,7 @@ class ItemClientTest {
                         "  }\n" +
                         "]", MediaType.APPLICATION_JSON));
 
-        var response = itemClient.getUserItems(1L, 0, 2);
+        var response = itemClient.getUserItems(1L, 0, 2).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -168,7 +171,7 @@ class ItemClientTest {
                                 "]",
                         MediaType.APPLICATION_JSON));
 
-        var response = itemClient.searchItem(1L, "дрель", 0, 2);
+        var response = itemClient.searchItem(1L, "дрель", 0, 2).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -191,7 +194,7 @@ class ItemClientTest {
 
         var response = itemClient.addComment(1L, 2L, CommentRequestDto.builder()
                 .text("Add comment from user1")
-                .build());
+                .build()).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -214,7 +217,7 @@ class ItemClientTest {
 
         var response = itemClient.updateComment(1L, 2L, CommentRequestDto.builder()
                 .text("updateComment")
-                .build());
+                .build(), null).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -228,7 +231,7 @@ class ItemClientTest {
         this.server.expect(requestTo("http://localhost:9090/items/comment/1"))
                 .andRespond(withSuccess());
 
-        var response = itemClient.deleteComment(1L, 2L);
+        var response = itemClient.deleteComment(1L, 2L).block();
 
         assertNotNull(response);
         assertNull(response.getBody());
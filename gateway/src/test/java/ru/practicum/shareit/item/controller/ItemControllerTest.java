@@ -13,11 +13,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.client.ItemClient;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 
 import java.util.List;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -67,7 +69,7 @@ class ItemControllerTest {
                         "\"available\": true}");
 
         Mockito.when(itemClient.addItem(Mockito.any(), Mockito.any()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.CREATED)
                         .contentType(MediaType.APPLICATION_JSON)
                         .body("{\"id\": 1, " +
@@ -75,9 +77,9 @@ class ItemControllerTest {
                                 " \"description\": \"Простая дрель\"," +
                                 " \"available\": true," +
                                 " \"requestId\": null" +
-                                "}"));
+                                "}")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isCreated(),
                 jsonPath("$.name").value("Дрель"),
                 jsonPath("$.id").value(1),
@@ -156,20 +158,20 @@ class ItemControllerTest {
                         "\"description\": \"testDescription1update\"," +
                         "\"available\": false}");
 
-        Mockito.when(itemClient.updateItem(Mockito.any(), Mockito.any(), Mockito.any()))
-                .thenReturn(ResponseEntity
+        Mockito.when(itemClient.updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("{\"name\": \"testName1update\",\"id\": 1,\"description\": \"testDescription1update\",\"available\": false}"));
+                        .body("{\"name\": \"testName1update\",\"id\": 1,\"description\": \"testDescription1update\",\"available\": false}")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 jsonPath("$.name").value("testName1update"),
                 jsonPath("$.id").value(1),
                 jsonPath("$.description").value("testDescription1update"),
                 jsonPath("$.available").value(false)
         );
-        Mockito.verify(itemClient, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(itemClient, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -198,13 +200,13 @@ class ItemControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemClient.getItem(Mockito.any(), Mockito.any()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
                         .body("{\"name\": \"testName1\",\"id\": 1, \"description\": \"testDescription1\",\"available\": true}")
-                );
+                ));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 jsonPath("$.name").value("testName1"),
                 jsonPath("$.id").value(1),
@@ -235,12 +237,12 @@ class ItemControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemClient.deleteItem(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body(""));
+                        .body("")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON)
         );
@@ -267,12 +269,12 @@ class ItemControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemClient.deleteAllUserItems(Mockito.anyLong()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body(""));
+                        .body("")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON)
         );
@@ -304,12 +306,12 @@ class ItemControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemClient.getUserItems(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("[{\"id\":1,\"name\":\"testName1\",\"description\":\"testDescription1\",\"available\":true,\"lastBooking\":{\"id\":1,\"bookerId\":1},\"nextBooking\":{\"id\":3,\"bookerId\":4},\"comments\":[]},{\"id\":2,\"name\":\"testName2\",\"description\":\"testDescription2\",\"available\":true,\"lastBooking\":{\"id\":null,\"bookerId\":null},\"nextBooking\":null,\"comments\":[]}]"));
+                        .body("[{\"id\":1,\"name\":\"testName1\",\"description\":\"testDescription1\",\"available\":true,\"lastBooking\":{\"id\":1,\"bookerId\":1},\"nextBooking\":{\"id\":3,\"bookerId\":4},\"comments\":[]},{\"id\":2,\"name\":\"testName2\",\"description\":\"testDescription2\",\"available\":true,\"lastBooking\":{\"id\":null,\"bookerId\":null},\"nextBooking\":null,\"comments\":[]}]")));
 
-        mockMvc.perform(request).andExpectAll(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().json("[{\"id\":1,\"name\":\"testName1\",\"description\":\"testDescription1\",\"available\":true,\"lastBooking\":{\"id\":1,\"bookerId\":1},\"nextBooking\":{\"id\":3,\"bookerId\":4},\"comments\":[]},{\"id\":2,\"name\":\"testName2\",\"description\":\"testDescription2\",\"available\":true,\"lastBooking\":{\"id\":null,\"bookerId\":null},\"nextBooking\":null,\"comments\":[]}]")
         );
@@ -392,12 +394,12 @@ class ItemControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemClient.getUserItems(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body(List.of()));
+                        .body(List.of())));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().json("[]")
@@ -414,12 +416,12 @@ class ItemControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemClient.getUserItems(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body(List.of()));
+                        .body(List.of())));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().json("[]")
@@ -437,13 +439,13 @@ class ItemControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemClient.searchItem(Mockito.anyLong(), Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
                         .body("[{\"id\":1,\"name\":\"testName1\",\"description\":\"testDescription1\",\"available\":true}," +
-                                "{\"id\":2,\"name\":\"testName2\",\"description\":\"testDescription2\",\"available\":true}]"));
+                                "{\"id\":2,\"name\":\"testName2\",\"description\":\"testDescription2\",\"available\":true}]")));
 
-        mockMvc.perform(request).andExpectAll(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().json("[{\"id\":1,\"name\":\"testName1\",\"description\":\"testDescription1\",\"available\":true}," +
                         "{\"id\":2,\"name\":\"testName2\",\"description\":\"testDescription2\",\"available\":true}]")
@@ -460,12 +462,12 @@ class ItemControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemClient.searchItem(Mockito.anyLong(), Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("[]"));
+                        .body("[]")));
 
-        mockMvc.perform(request).andExpectAll(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().json("[]")
@@ -551,14 +553,14 @@ class ItemControllerTest {
         Mockito.when(itemClient.addComment(
                         Mockito.anyLong(), Mockito.anyLong(),
                         Mockito.any(CommentRequestDto.class)))
-                .thenReturn(
+                .thenReturn(Mono.just(
                         ResponseEntity
                                 .status(HttpStatus.OK)
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .body("{\"id\": 1,\"text\": \"testComment\",\"authorName\": \"testAuthor\",\"created\": \"2024-05-23T09:59:40\"}"));
+                                .body("{\"id\": 1,\"text\": \"testComment\",\"authorName\": \"testAuthor\",\"created\": \"2024-05-23T09:59:40\"}")));
 
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().json("{\"id\":1,\"text\":\"testComment\",\"authorName\":\"testAuthor\",\"created\":\"2024-05-23T09:59:40\"}")
@@ -624,18 +626,18 @@ class ItemControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"text\":\"UpdateTestComment\"}");
 
-        Mockito.when(itemClient.updateComment(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(CommentRequestDto.class)))
-                .thenReturn(ResponseEntity
+        Mockito.when(itemClient.updateComment(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(CommentRequestDto.class), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("{\"id\":1,\"text\":\"UpdateTestComment\",\"authorName\":\"TestAuthor\",\"created\":\"2024-05-23T09:59:40\"}"));
+                        .body("{\"id\":1,\"text\":\"UpdateTestComment\",\"authorName\":\"TestAuthor\",\"created\":\"2024-05-23T09:59:40\"}")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().json("{\"id\":1,\"text\":\"UpdateTestComment\",\"authorName\":\"TestAuthor\",\"created\":\"2024-05-23T09:59:40\"}")
         );
-        Mockito.verify(itemClient, Mockito.times(1)).updateComment(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(CommentRequestDto.class));
+        Mockito.verify(itemClient, Mockito.times(1)).updateComment(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(CommentRequestDto.class), Mockito.any());
     }
 
     @Test
@@ -661,12 +663,12 @@ class ItemControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemClient.deleteComment(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body(""));
+                        .body("")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON)
         );
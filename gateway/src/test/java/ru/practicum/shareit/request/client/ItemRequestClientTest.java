@@ -3,9 +3,11 @@ package ru.practicum.shareit.request.client;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
+import ru.practicum.shareit.client.ServerClientFactory;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -17,6 +19,7 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
  * @author Nikolay Radzivon
  * @Date 04.06.2024
  */
+@Import(ServerClientFactory.class)
 @RestClientTest(ItemRequestClient.class)
 class ItemRequestClientTest {
     @Autowired
@@ -36,7 +39,7 @@ class ItemRequestClientTest {
 
         var response = itemRequestClient.addItemRequest(1L, ItemRequestDtoRequest.builder()
                 .description("Хотел бы воспользоваться щёткой для обуви")
-                .build());
+                .build()).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -60,7 +63,7 @@ class ItemRequestClientTest {
                                 "]",
                         MediaType.APPLICATION_JSON));
 
-        var response = itemRequestClient.getUserRequests(1L);
+        var response = itemRequestClient.getUserRequests(1L).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -84,7 +87,7 @@ class ItemRequestClientTest {
                                 "]",
                         MediaType.APPLICATION_JSON));
 
-        var response = itemRequestClient.getAllRequests(1L, 0, 1);
+        var response = itemRequestClient.getAllRequests(1L, 0, 1).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -106,7 +109,7 @@ class ItemRequestClientTest {
                                 "}",
                         MediaType.APPLICATION_JSON));
 
-        var response = itemRequestClient.getRequest(1L, 1L);
+        var response = itemRequestClient.getRequest(1L, 1L).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -12,11 +12,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.client.ItemRequestClient;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 
 import java.time.LocalDateTime;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -45,12 +47,12 @@ class ItemRequestControllerTest {
 
         var now = LocalDateTime.now();
         Mockito.when(itemRequestClient.addItemRequest(Mockito.anyLong(), Mockito.any(ItemRequestDtoRequest.class)))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.CREATED)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("{\"id\": 1,\"description\": \"testDescription\", \"created\": \"2024-05-26T19:34:00\"}"));
+                        .body("{\"id\": 1,\"description\": \"testDescription\", \"created\": \"2024-05-26T19:34:00\"}")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isCreated(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 jsonPath("$.id").value(1),
@@ -119,12 +121,12 @@ class ItemRequestControllerTest {
                 .header(xSharerUserId, 1);
 
         Mockito.when(itemRequestClient.getUserRequests(Mockito.anyLong()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("[{\"id\": \"1\", \"description\": \"TestDescription\", \"created\": \"2024-05-29T20:03:20\", \"items\": [{\"id\": 3, \"name\": \"testItem1\", \"description\": \"testDescription1\", \"requestId\": 1, \"available\": true}]}, {\"id\": \"2\", \"description\": \"TestDescription2\", \"created\": \"2024-05-30T20:03:20\", \"items\": [{\"id\": 55, \"name\": \"testItem2\", \"description\": \"testDescription2\", \"requestId\": 1, \"available\": true}]}]"));
+                        .body("[{\"id\": \"1\", \"description\": \"TestDescription\", \"created\": \"2024-05-29T20:03:20\", \"items\": [{\"id\": 3, \"name\": \"testItem1\", \"description\": \"testDescription1\", \"requestId\": 1, \"available\": true}]}, {\"id\": \"2\", \"description\": \"TestDescription2\", \"created\": \"2024-05-30T20:03:20\", \"items\": [{\"id\": 55, \"name\": \"testItem2\", \"description\": \"testDescription2\", \"requestId\": 1, \"available\": true}]}]")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON),
                 jsonPath("$.[0].id").value("1"),
@@ -174,12 +176,12 @@ class ItemRequestControllerTest {
         var now = LocalDateTime.now();
 
         Mockito.when(itemRequestClient.getAllRequests(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("[{\"id\": \"1\", \"description\": \"TestDescription\", \"created\": \"2024-05-29T20:03:20\", \"items\": [{\"id\": 3, \"name\": \"testItem1\", \"description\": \"testDescription1\", \"requestId\": 1, \"available\": true}]}, {\"id\": \"2\", \"description\": \"TestDescription2\", \"created\": \"2024-05-30T20:03:20\", \"items\": [{\"id\": 55, \"name\": \"testItem2\", \"description\": \"testDescription2\", \"requestId\": 1, \"available\": true}]}]"));
+                        .body("[{\"id\": \"1\", \"description\": \"TestDescription\", \"created\": \"2024-05-29T20:03:20\", \"items\": [{\"id\": 3, \"name\": \"testItem1\", \"description\": \"testDescription1\", \"requestId\": 1, \"available\": true}]}, {\"id\": \"2\", \"description\": \"TestDescription2\", \"created\": \"2024-05-30T20:03:20\", \"items\": [{\"id\": 55, \"name\": \"testItem2\", \"description\": \"testDescription2\", \"requestId\": 1, \"available\": true}]}]")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 jsonPath("$.[0].id").value("1"),
                 jsonPath("$.[0].description").value("TestDescription"),
@@ -278,12 +280,12 @@ class ItemRequestControllerTest {
         var now = LocalDateTime.now();
 
         Mockito.when(itemRequestClient.getRequest(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("{\"id\": 1,\"description\": \"testDescription\",\"created\": \"2024-05-29T20:26:00\",\"items\": [{\"id\": 3,\"name\": \"testItem1\",\"description\": \"testDescription1\",\"requestId\": 1,\"available\": true}]}"));
+                        .body("{\"id\": 1,\"description\": \"testDescription\",\"created\": \"2024-05-29T20:26:00\",\"items\": [{\"id\": 3,\"name\": \"testItem1\",\"description\": \"testDescription1\",\"requestId\": 1,\"available\": true}]}")));
 
-        this.mockMvc.perform(request).andExpectAll(
+        this.mockMvc.perform(asyncDispatch(this.mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 jsonPath("$.id").value("1"),
                 jsonPath("$.description").value("testDescription"),
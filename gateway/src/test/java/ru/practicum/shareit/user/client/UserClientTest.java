@@ -3,13 +3,17 @@ package ru.practicum.shareit.user.client;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.client.MockRestServiceServer;
+import ru.practicum.shareit.client.ServerClientFactory;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserSort;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
@@ -17,6 +21,7 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
  * @author Nikolay Radzivon
  * @Date 04.06.2024
  */
+@Import(ServerClientFactory.class)
 @RestClientTest(UserClient.class)
 class UserClientTest {
     @Autowired
@@ -37,7 +42,7 @@ class UserClientTest {
         var response = userClient.addUser(UserRequestDto.builder()
                 .name("user")
                 .email("user@user.com")
-                .build());
+                .build()).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -49,6 +54,7 @@ class UserClientTest {
     @Test
     void updateUserTest() {
         this.server.expect(requestTo("http://localhost:9090/users/1"))
+                .andExpect(header(HttpHeaders.IF_MATCH, "\"v1\""))
                 .andRespond(withSuccess("{\n" +
                         "  \"id\": 1,\n" +
                         "  \"name\": \"UpdateUser\",\n" +
@@ -58,7 +64,7 @@ class UserClientTest {
         var response = userClient.updateUser(1L, UserRequestDto.builder()
                 .name("UpdateUser")
                 .email("UpdateUser@user.com")
-                .build());
+                .build(), "\"v1\"").block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -76,7 +82,7 @@ class UserClientTest {
                         "  \"email\": \"user@user.com\"\n" +
                         "}", MediaType.APPLICATION_JSON));
 
-        var response = userClient.getUser(1L);
+        var response = userClient.getUser(1L).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -90,7 +96,7 @@ class UserClientTest {
         this.server.expect(requestTo("http://localhost:9090/users/1"))
                 .andRespond(withSuccess());
 
-        var response = userClient.deleteUser(1L);
+        var response = userClient.deleteUser(1L).block();
 
         assertNotNull(response);
         assertNull(response.getBody());
@@ -114,7 +120,7 @@ class UserClientTest {
                         "  }\n" +
                         "]", MediaType.APPLICATION_JSON));
 
-        var response = userClient.getUsers(1, 2, UserSort.NONE);
+        var response = userClient.getUsers(1, 2, UserSort.NONE).block();
 
         assertNotNull(response);
         assertNotNull(response.getBody());
@@ -7,16 +7,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.client.UserClient;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserSort;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -42,12 +47,12 @@ class UserControllerTest {
                         "\"email\": \"testEmail1@test.com\"}");
 
         Mockito.when(userClient.addUser(Mockito.any(UserRequestDto.class)))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.CREATED)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("{\"id\": 1,\"name\": \"testUser1\",\"email\": \"testEmail1@test.com\"}"));
+                        .body("{\"id\": 1,\"name\": \"testUser1\",\"email\": \"testEmail1@test.com\"}")));
 
-        mockMvc.perform(request).andExpectAll(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isCreated(),
                 jsonPath("$.id").value(1),
                 jsonPath("$.name").value("testUser1"),
@@ -111,23 +116,25 @@ class UserControllerTest {
     void updateUserTestValid() throws Exception {
         var request = MockMvcRequestBuilders
                 .patch("/users/1")
+                .header(HttpHeaders.IF_MATCH, "\"v1\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"name\": \"testUser1update\",\n" +
                         "\"email\": \"testEmail1update@test.com\"}");
 
-        Mockito.when(userClient.updateUser(Mockito.anyLong(), Mockito.any(UserRequestDto.class)))
-                .thenReturn(ResponseEntity
+        Mockito.when(userClient.updateUser(Mockito.anyLong(), Mockito.any(UserRequestDto.class), Mockito.any()))
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("{\"id\": 1,\"name\": \"testUser1update\",\"email\": \"testEmail1update@test.com\"}"));
+                        .body("{\"id\": 1,\"name\": \"testUser1update\",\"email\": \"testEmail1update@test.com\"}")));
 
-        mockMvc.perform(request).andExpectAll(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 jsonPath("$.id").value(1),
                 jsonPath("$.name").value("testUser1update"),
                 jsonPath("$.email").value("testEmail1update@test.com")
         );
-        Mockito.verify(userClient, Mockito.times(1)).updateUser(Mockito.anyLong(), Mockito.any(UserRequestDto.class));
+        Mockito.verify(userClient, Mockito.times(1)).updateUser(Mockito.anyLong(), Mockito.any(UserRequestDto.class),
+                Mockito.eq("\"v1\""));
     }
 
     @Test
@@ -153,11 +160,11 @@ class UserControllerTest {
                 .get("/users/1");
 
         Mockito.when(userClient.getUser(Mockito.anyLong()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
-                        .body("{\"id\": 1,\"name\": \"testUser1\",\"email\": \"testEmail1@test.com\"}"));
+                        .body("{\"id\": 1,\"name\": \"testUser1\",\"email\": \"testEmail1@test.com\"}")));
 
-        mockMvc.perform(request).andExpectAll(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 jsonPath("$.id").value(1),
                 jsonPath("$.name").value("testUser1"),
@@ -166,18 +173,37 @@ class UserControllerTest {
         Mockito.verify(userClient, Mockito.times(1)).getUser(Mockito.anyLong());
     }
 
+    @Test
+    void getUserTestPassThroughBody() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/users/1");
+        var body = "{\"id\": 1,\"name\": \"testUser1\",\"email\": \"testEmail1@test.com\"}";
+
+        Mockito.when(userClient.getUser(Mockito.anyLong()))
+                .thenReturn(Mono.just(ResponseEntity
+                        .status(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body.getBytes(StandardCharsets.UTF_8))));
+
+        mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())).andExpectAll(
+                status().isOk(),
+                content().contentType(MediaType.APPLICATION_JSON),
+                content().string(body)
+        );
+    }
+
     @Test
     void deleteUserTestValid() throws Exception {
         var request = MockMvcRequestBuilders
                 .delete("/users/1");
 
         Mockito.when(userClient.deleteUser(Mockito.anyLong()))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body(""));
+                        .body("")));
 
-        mockMvc.perform(request).andExpectAll(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().contentType(MediaType.APPLICATION_JSON)
         );
@@ -190,12 +216,12 @@ class UserControllerTest {
                 .get("/users/?");
 
         Mockito.when(userClient.getUsers(Mockito.anyInt(), Mockito.anyInt(), Mockito.any(UserSort.class)))
-                .thenReturn(ResponseEntity
+                .thenReturn(Mono.just(ResponseEntity
                         .status(HttpStatus.OK)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("[{\"id\": 1,\"name\": \"testUser1\",\"email\": \"testEmail1@test.com\"},{\"id\": 2,\"name\": \"testUser2\",\"email\": \"testEmail2@test.com\"}]"));
+                        .body("[{\"id\": 1,\"name\": \"testUser1\",\"email\": \"testEmail1@test.com\"},{\"id\": 2,\"name\": \"testUser2\",\"email\": \"testEmail2@test.com\"}]")));
 
-        mockMvc.perform(request).andExpectAll(
+        mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())).andExpectAll(
                 status().isOk(),
                 content().json("[{\"id\":1,\"name\":\"testUser1\",\"email\":\"testEmail1@test.com\"},{\"id\":2,\"name\":\"testUser2\",\"email\":\"testEmail2@test.com\"}]")
         );
@@ -0,0 +1,223 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Value;
+
+import java.net.http.HttpRequest;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Данные, на которых выполняется нагрузка: владельцы с вещами, бронирующие, запросы и ожидающие
+ * подтверждения бронирования.
+ * <p>
+ * Данные создаются через REST API перед замерами. Каждое бронирование получает собственный интервал времени,
+ * поэтому бронирования не пересекаются и подтверждение не отклоняется проверкой пересечений.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class DataSet {
+    private static final int WINDOW = 64;
+    private static final String[] WORDS = {"дрель", "перфоратор", "велосипед", "палатка", "лестница", "пила",
+            "шуруповёрт", "самокат", "проектор", "котелок"};
+
+    private final long[] ownerIds;
+    private final long[] itemIds;
+    private final long[] itemOwnerIds;
+    private final long[] bookerIds;
+    private final Queue<PendingBooking> pendingBookings = new ConcurrentLinkedQueue<>();
+    private final AtomicLong slot = new AtomicLong();
+    private final LocalDateTime firstSlot = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+
+    private DataSet(long[] ownerIds, long[] itemIds, long[] itemOwnerIds, long[] bookerIds) {
+        this.ownerIds = ownerIds;
+        this.itemIds = itemIds;
+        this.itemOwnerIds = itemOwnerIds;
+        this.bookerIds = bookerIds;
+    }
+
+    /**
+     * Метод заполнения данных через REST API.
+     *
+     * @param api    клиент, через который создаются данные.
+     * @param config параметры нагрузочного теста.
+     * @return {@link DataSet}
+     */
+    public static DataSet seed(ShareItApi api, LoadTestConfig config) {
+        var random = new Random(config.getSeed());
+        var tag = System.currentTimeMillis();
+        var ownerIds = createUsers(api, "owner", tag, config.getOwners());
+        var bookerIds = createUsers(api, "booker", tag, config.getBookers());
+
+        var requests = new ArrayList<HttpRequest>();
+        for (int i = 0; i < config.getRequests(); i++) {
+            var word = WORDS[random.nextInt(WORDS.length)];
+            requests.add(api.post("/requests", bookerIds[i % bookerIds.length],
+                    Map.of("description", "Нужна " + word + " на выходные " + i)));
+        }
+        var requestIds = ids(callAll(api, requests));
+
+        var items = new ArrayList<HttpRequest>();
+        var itemOwnerIds = new long[ownerIds.length * config.getItemsPerOwner()];
+        for (int o = 0; o < ownerIds.length; o++) {
+            for (int i = 0; i < config.getItemsPerOwner(); i++) {
+                var n = o * config.getItemsPerOwner() + i;
+                var word = WORDS[random.nextInt(WORDS.length)];
+                var item = new HashMap<String, Object>();
+                item.put("name", word + " " + n);
+                item.put("description", "Хорошая " + word + ", сдаю в аренду, номер " + n);
+                item.put("available", true);
+
+                if (n < requestIds.length) {
+                    item.put("requestId", requestIds[n]);
+                }
+                itemOwnerIds[n] = ownerIds[o];
+                items.add(api.post("/items", ownerIds[o], item));
+            }
+        }
+        var dataSet = new DataSet(ownerIds, ids(callAll(api, items)), itemOwnerIds, bookerIds);
+
+        var bookings = new ArrayList<HttpRequest>();
+        var bookingOwnerIds = new long[config.getPendingBookings()];
+        for (int i = 0; i < config.getPendingBookings(); i++) {
+            var item = random.nextInt(dataSet.itemIds.length);
+            bookingOwnerIds[i] = dataSet.itemOwnerIds[item];
+            bookings.add(api.post("/bookings", dataSet.randomBooker(random), dataSet.newBooking(item)));
+        }
+        var bookingIds = ids(callAll(api, bookings));
+        for (int i = 0; i < bookingIds.length; i++) {
+            dataSet.addPendingBooking(bookingIds[i], bookingOwnerIds[i]);
+        }
+
+        return dataSet;
+    }
+
+    /**
+     * Метод получения случайного владельца вещей.
+     *
+     * @param random генератор случайных чисел.
+     * @return id владельца.
+     */
+    public long randomOwner(Random random) {
+        return ownerIds[random.nextInt(ownerIds.length)];
+    }
+
+    /**
+     * Метод получения случайного бронирующего пользователя.
+     *
+     * @param random генератор случайных чисел.
+     * @return id бронирующего.
+     */
+    public long randomBooker(Random random) {
+        return bookerIds[random.nextInt(bookerIds.length)];
+    }
+
+    /**
+     * Метод получения индекса случайной вещи.
+     *
+     * @param random генератор случайных чисел.
+     * @return индекс вещи для {@link #itemOwnerId(int)} и {@link #newBooking(int)}.
+     */
+    public int randomItem(Random random) {
+        return random.nextInt(itemIds.length);
+    }
+
+    /**
+     * Метод получения владельца вещи.
+     *
+     * @param item индекс вещи.
+     * @return id владельца.
+     */
+    public long itemOwnerId(int item) {
+        return itemOwnerIds[item];
+    }
+
+    /**
+     * Метод получения случайного слова для поиска.
+     *
+     * @param random генератор случайных чисел.
+     * @return слово, встречающееся в названиях вещей.
+     */
+    public String randomWord(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    /**
+     * Метод создания тела запроса на бронирование вещи в следующем свободном интервале.
+     *
+     * @param item индекс вещи.
+     * @return тело запроса POST /bookings.
+     */
+    public Map<String, Object> newBooking(int item) {
+        var start = firstSlot.plusMinutes(slot.getAndIncrement() * 2);
+        return Map.of("itemId", itemIds[item], "start", start.toString(), "end", start.plusMinutes(1).toString());
+    }
+
+    /**
+     * Метод добавления бронирования, ожидающего подтверждения.
+     *
+     * @param bookingId id бронирования.
+     * @param ownerId   id владельца вещи.
+     */
+    public void addPendingBooking(long bookingId, long ownerId) {
+        pendingBookings.add(new PendingBooking(bookingId, ownerId));
+    }
+
+    /**
+     * Метод получения бронирования для подтверждения.
+     *
+     * @return {@link PendingBooking} или {@code null}, если ожидающих подтверждения бронирований нет.
+     */
+    public PendingBooking pollPendingBooking() {
+        return pendingBookings.poll();
+    }
+
+    private static long[] createUsers(ShareItApi api, String prefix, long tag, int count) {
+        var users = new ArrayList<HttpRequest>();
+
+        for (int i = 0; i < count; i++) {
+            users.add(api.post("/users", null, Map.of("name", prefix + " " + i,
+                    "email", prefix + i + "." + tag + "@load.shareit.ru")));
+        }
+
+        return ids(callAll(api, users));
+    }
+
+    private static List<JsonNode> callAll(ShareItApi api, List<HttpRequest> requests) {
+        var result = new ArrayList<JsonNode>(requests.size());
+
+        for (int from = 0; from < requests.size(); from += WINDOW) {
+            var window = new ArrayList<CompletableFuture<JsonNode>>();
+
+            for (HttpRequest request : requests.subList(from, Math.min(from + WINDOW, requests.size()))) {
+                window.add(api.call(request));
+            }
+            window.forEach(f -> result.add(f.join()));
+        }
+
+        return result;
+    }
+
+    private static long[] ids(List<JsonNode> nodes) {
+        return nodes.stream().mapToLong(n -> n.get("id").asLong()).toArray();
+    }
+
+    /**
+     * Бронирование, ожидающее подтверждения владельцем.
+     */
+    @Value
+    public static class PendingBooking {
+        long bookingId;
+        long ownerId;
+    }
+}
@@ -0,0 +1,158 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Отчёт нагрузочного теста: пропускная способность и задержки p50/p99/p999 по каждой операции и фазе,
+ * а также пиковое число одновременных запросов, потоков и резидентная память нагружаемого процесса.
+ * <p>
+ * Отчёт печатается таблицей и сохраняется в JSON. Если нагрузка подавалась и на шлюз, и на сервер напрямую,
+ * в отчёт добавляется разница задержек - накладные расходы шлюза в каждом режиме потоков.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class LoadReport {
+    private final LoadTestConfig config;
+    private final OffsetDateTime startedAt = OffsetDateTime.now();
+    private final List<Phase> phases = new ArrayList<>();
+
+    public LoadReport(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Метод добавления результатов фазы нагрузки.
+     *
+     * @param name      имя фазы, например gateway или gateway-virtual.
+     * @param target    цель нагрузки.
+     * @param stats     статистика по операциям.
+     * @param resources потребление ресурсов за фазу.
+     */
+    public void add(String name, LoadTestConfig.Target target, Map<Operation, OperationStats> stats,
+                    Map<String, Object> resources) {
+        phases.add(new Phase(name, target, stats, resources));
+    }
+
+    /**
+     * Метод печати отчёта таблицей.
+     *
+     * @param out поток вывода.
+     */
+    public void print(PrintStream out) {
+        out.printf("%-16s %-16s %9s %9s %7s %7s %7s %9s %9s %9s %9s%n", "phase", "operation", "count", "rps",
+                "errors", "dropped", "skipped", "p50 ms", "p99 ms", "p999 ms", "max ms");
+
+        phases.forEach(phase -> phase.stats.forEach((operation, s) ->
+                out.printf("%-16s %-16s %9d %9.1f %7d %7d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                        phase.name, operation.getName(), s.getCount(), throughput(s),
+                        s.getErrors(), s.getDropped(), s.getSkipped(), s.percentileMillis(50),
+                        s.percentileMillis(99), s.percentileMillis(99.9), s.maxMillis())));
+
+        out.println();
+        out.printf("%-16s %s%n", "phase", "resources");
+        phases.forEach(phase -> out.printf("%-16s %s%n", phase.name, phase.resources));
+    }
+
+    /**
+     * Метод сохранения отчёта в JSON.
+     *
+     * @param file путь к файлу.
+     */
+    public void write(Path file) throws IOException {
+        var report = new LinkedHashMap<String, Object>();
+        report.put("startedAt", startedAt.toString());
+        report.put("config", config.describe());
+
+        var results = new ArrayList<Map<String, Object>>();
+        phases.forEach(phase -> phase.stats.forEach((operation, s) -> {
+            var result = new LinkedHashMap<String, Object>();
+            result.put("phase", phase.name);
+            result.put("target", phase.target.name().toLowerCase());
+            result.put("operation", operation.getName());
+            result.put("count", s.getCount());
+            result.put("throughput", throughput(s));
+            result.put("errors", s.getErrors());
+            result.put("errorsByStatus", s.getErrorsByStatus());
+            result.put("dropped", s.getDropped());
+            result.put("skipped", s.getSkipped());
+            result.put("p50Ms", s.percentileMillis(50));
+            result.put("p99Ms", s.percentileMillis(99));
+            result.put("p999Ms", s.percentileMillis(99.9));
+            result.put("maxMs", s.maxMillis());
+            result.put("histogram", s.encodeHistogram());
+            results.add(result);
+        }));
+        report.put("results", results);
+
+        var resources = new LinkedHashMap<String, Object>();
+        phases.forEach(phase -> resources.put(phase.name, phase.resources));
+        report.put("resources", resources);
+
+        var server = phases.stream()
+                .filter(phase -> phase.target == LoadTestConfig.Target.SERVER)
+                .findFirst();
+        if (server.isPresent()) {
+            var overhead = new LinkedHashMap<String, Object>();
+            phases.stream()
+                    .filter(phase -> phase.target == LoadTestConfig.Target.GATEWAY)
+                    .forEach(phase -> overhead.put(phase.name, overhead(phase.stats, server.get().stats)));
+
+            if (!overhead.isEmpty()) {
+                report.put("gatewayOverhead", overhead);
+            }
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private List<Map<String, Object>> overhead(Map<Operation, OperationStats> gateway,
+                                               Map<Operation, OperationStats> server) {
+        var result = new ArrayList<Map<String, Object>>();
+
+        gateway.forEach((operation, g) -> {
+            var s = server.get(operation);
+            var row = new LinkedHashMap<String, Object>();
+            row.put("operation", operation.getName());
+            row.put("p50Ms", g.percentileMillis(50) - s.percentileMillis(50));
+            row.put("p99Ms", g.percentileMillis(99) - s.percentileMillis(99));
+            row.put("p999Ms", g.percentileMillis(99.9) - s.percentileMillis(99.9));
+            result.add(row);
+        });
+
+        return result;
+    }
+
+    private double throughput(OperationStats stats) {
+        return stats.getCount() / (double) config.getDuration().toSeconds();
+    }
+
+    private static class Phase {
+        private final String name;
+        private final LoadTestConfig.Target target;
+        private final Map<Operation, OperationStats> stats;
+        private final Map<String, Object> resources;
+
+        Phase(String name, LoadTestConfig.Target target, Map<Operation, OperationStats> stats,
+              Map<String, Object> resources) {
+            this.name = name;
+            this.target = target;
+            this.stats = stats;
+            this.resources = resources;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Нагрузочный тест ShareIt: запускает сервер и шлюз, заполняет данные и подаёт смесь запросов
+ * на шлюз и/или напрямую на сервер.
+ * <p>
+ * Через шлюз запрос проходит полный путь контроллер шлюза - {@code BaseClient} - сервер, поэтому сравнение
+ * с прямой нагрузкой на сервер показывает накладные расходы шлюза. С параметром {@code gateway.threads=both}
+ * шлюз нагружается дважды - с пулом потоков Tomcat и с виртуальными потоками, и для каждой фазы замеряются пиковые
+ * число одновременных запросов, потоков и резидентная память процесса. Результаты печатаются таблицей и сохраняются
+ * в JSON для сравнения запусков.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class LoadTest {
+    private static final List<String> QUIET_LOGGING = List.of(
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+            "--logging.level.org.springframework.transaction.interceptor=WARN",
+            "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN",
+            "--logging.level.org.springframework.web.client.RestTemplate=WARN",
+            "--logging.level.ru.practicum.shareit=WARN",
+            "--spring.jpa.properties.hibernate.format_sql=false");
+
+    public static void main(String[] args) throws Exception {
+        // соединения закрываются клиентом раньше, чем Tomcat закроет их по простою, иначе запрос уходит в закрытое соединение
+        System.setProperty("jdk.httpclient.keepalive.timeout", "10");
+        var config = LoadTestConfig.parse(args);
+        ServiceProcess server = null;
+        var executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+        try {
+            if (config.isStart()) {
+                server = startServer(config);
+            }
+
+            var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            var objectMapper = new ObjectMapper();
+            var serverApi = new ShareItApi(client, objectMapper, config.getServerUrl());
+            var gatewayApi = new ShareItApi(client, objectMapper, config.getGatewayUrl());
+
+            System.out.println("Заполнение данных...");
+            var dataSet = DataSet.seed(serverApi, config);
+            var runner = new OpenLoopRunner(config, dataSet);
+            var report = new LoadReport(config);
+
+            for (LoadTestConfig.Target target : config.getTargets()) {
+                if (target == LoadTestConfig.Target.SERVER) {
+                    runPhase("server", target, serverApi, server, runner, report, config);
+                    continue;
+                }
+
+                for (String threads : config.getGatewayThreads()) {
+                    var name = "platform".equals(threads) ? "gateway" : "gateway-" + threads;
+                    var gateway = config.isStart() ? startGateway(config, name, threads) : null;
+
+                    try {
+                        runPhase(name, target, gatewayApi, gateway, runner, report, config);
+                    } finally {
+                        if (gateway != null) {
+                            gateway.close();
+                        }
+                    }
+                }
+            }
+
+            report.print(System.out);
+            report.write(config.getOut());
+            System.out.println("Результаты сохранены в " + config.getOut().toAbsolutePath());
+        } finally {
+            executor.shutdownNow();
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private static void runPhase(String name, LoadTestConfig.Target target, ShareItApi api,
+                                 ServiceProcess process, OpenLoopRunner runner, LoadReport report,
+                                 LoadTestConfig config) throws InterruptedException {
+        System.out.printf("Нагрузка на %s (%s): %.0f запросов в секунду, прогрев %d с, замер %d с%n",
+                api.getBaseUrl(), name, config.getRate(), config.getWarmup().toSeconds(),
+                config.getDuration().toSeconds());
+        var sampler = process != null ? ProcessSampler.start(process.pid()) : null;
+        var stats = runner.run(api);
+        var resources = new LinkedHashMap<String, Object>();
+        resources.put("peakInFlight", runner.getPeakInFlight());
+
+        if (sampler != null) {
+            sampler.close();
+            resources.putAll(sampler.describe());
+        }
+        report.add(name, target, stats, resources);
+    }
+
+    private static ServiceProcess startServer(LoadTestConfig config) throws Exception {
+        var logDir = config.getOut().toAbsolutePath().getParent();
+        var serverEnv = new HashMap<String, String>();
+
+        if (config.getDbUrl().isEmpty()) {
+            serverEnv.put("SPRING_PROFILES_ACTIVE", "test");
+        } else {
+            serverEnv.put("SPRING_DATASOURCE_URL", config.getDbUrl());
+            serverEnv.put("POSTGRES_USER", config.getDbUser());
+            serverEnv.put("POSTGRES_PASSWORD", config.getDbPassword());
+        }
+
+        var serverArgs = new ArrayList<String>();
+        serverArgs.add("--server.port=" + config.getServerUrl().getPort());
+        serverArgs.addAll(QUIET_LOGGING);
+        serverArgs.addAll(config.getServerArgs());
+        System.out.println("Запуск сервера " + config.getServerUrl());
+        return ServiceProcess.start("server", config.getServerJar(), serverArgs, serverEnv,
+                config.getServerUrl().resolve("/users"), logDir);
+    }
+
+    private static ServiceProcess startGateway(LoadTestConfig config, String name, String threads) throws Exception {
+        var logDir = config.getOut().toAbsolutePath().getParent();
+        var gatewayArgs = new ArrayList<String>();
+        gatewayArgs.add("--server.port=" + config.getGatewayUrl().getPort());
+        gatewayArgs.add("--shareit-server.url=" + config.getServerUrl());
+        gatewayArgs.add("--shareit-gateway.threads.mode=" + threads);
+        gatewayArgs.addAll(QUIET_LOGGING);
+        gatewayArgs.addAll(config.getGatewayArgs());
+        System.out.printf("Запуск шлюза %s, потоки %s%n", config.getGatewayUrl(), threads);
+        return ServiceProcess.start(name, config.getGatewayJar(), gatewayArgs, new HashMap<>(),
+                config.getGatewayUrl().resolve("/actuator/health"), logDir);
+    }
+}
@@ -0,0 +1,271 @@
+package ru.practicum.shareit.load;
+
+import lombok.Getter;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Параметры нагрузочного теста.
+ * <p>
+ * Параметры передаются аргументами вида {@code ключ=значение}, например
+ * {@code rate=300 duration=60s target=both mix=create-booking:20,search:80}.
+ * Пути к jar-файлам и файлу результата считаются от корня проекта.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+public class LoadTestConfig {
+    private static final String DEFAULT_MIX = "create-booking:20,approve-booking:10,owner-items:30,search:25,request-feed:15";
+
+    /**
+     * Цели нагрузки: gateway, server или both - сначала шлюз, затем сервер напрямую для оценки накладных расходов шлюза.
+     */
+    private final List<Target> targets;
+
+    /**
+     * Запускать ли сервер и шлюз. При {@code false} нагрузка подаётся на уже запущенные {@link #gatewayUrl} и {@link #serverUrl}.
+     */
+    private final boolean start;
+    private final URI gatewayUrl;
+    private final URI serverUrl;
+    private final Path gatewayJar;
+    private final Path serverJar;
+
+    /**
+     * Дополнительные аргументы запуска шлюза, например {@code --shareit-server.client.mode=non_blocking}.
+     */
+    private final List<String> gatewayArgs;
+
+    /**
+     * Режимы потоков шлюза: platform, virtual или both - нагрузка на шлюз подаётся дважды, с пулом потоков Tomcat
+     * и с виртуальными потоками, шлюз перезапускается между фазами. Виртуальные потоки требуют запуска
+     * нагрузочного теста на Java 21 и новее, шлюз запускается той же JDK.
+     */
+    private final List<String> gatewayThreads;
+
+    /**
+     * Дополнительные аргументы запуска сервера.
+     */
+    private final List<String> serverArgs;
+
+    /**
+     * Адрес базы данных сервера. Если не указан, сервер запускается с профилем test на H2 в памяти.
+     */
+    private final String dbUrl;
+    private final String dbUser;
+    private final String dbPassword;
+
+    /**
+     * Суммарная интенсивность поступления запросов в секунду. Запросы отправляются по расписанию
+     * независимо от ответов на предыдущие, интервалы между ними распределены экспоненциально.
+     */
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+
+    /**
+     * Доли операций в смеси нагрузки.
+     */
+    private final Map<Operation, Integer> mix;
+
+    /**
+     * Предельное количество запросов без ответа, при превышении запрос не отправляется и учитывается как сброшенный.
+     */
+    private final int maxInFlight;
+    private final int owners;
+    private final int itemsPerOwner;
+    private final int bookers;
+    private final int requests;
+    private final int pendingBookings;
+    private final long seed;
+    private final Path out;
+
+    private LoadTestConfig(Map<String, String> values) {
+        var parameters = new HashMap<>(values);
+
+        targets = parseTargets(take(parameters, "target", "both"));
+        start = Boolean.parseBoolean(take(parameters, "start", "true"));
+        gatewayUrl = URI.create(take(parameters, "gateway.url", "http://localhost:18080"));
+        serverUrl = URI.create(take(parameters, "server.url", "http://localhost:19090"));
+        gatewayJar = Path.of(take(parameters, "gateway.jar", "gateway/target/shareit-gateway-0.0.1-SNAPSHOT.jar"));
+        serverJar = Path.of(take(parameters, "server.jar", "server/target/shareit-server-0.0.1-SNAPSHOT-exec.jar"));
+        gatewayArgs = split(take(parameters, "gateway.args", ""), " ");
+        gatewayThreads = parseGatewayThreads(take(parameters, "gateway.threads", "platform"));
+        serverArgs = split(take(parameters, "server.args", ""), " ");
+        dbUrl = take(parameters, "db.url", "");
+        dbUser = take(parameters, "db.user", "root");
+        dbPassword = take(parameters, "db.password", "root");
+        rate = Double.parseDouble(take(parameters, "rate", "200"));
+        warmup = parseDuration(take(parameters, "warmup", "10s"));
+        duration = parseDuration(take(parameters, "duration", "30s"));
+        mix = parseMix(take(parameters, "mix", DEFAULT_MIX));
+        maxInFlight = Integer.parseInt(take(parameters, "max-in-flight", "2000"));
+        owners = Integer.parseInt(take(parameters, "owners", "50"));
+        itemsPerOwner = Integer.parseInt(take(parameters, "items-per-owner", "20"));
+        bookers = Integer.parseInt(take(parameters, "bookers", "200"));
+        requests = Integer.parseInt(take(parameters, "requests", "100"));
+        pendingBookings = Integer.parseInt(take(parameters, "pending-bookings", "1000"));
+        seed = Long.parseLong(take(parameters, "seed", "42"));
+        out = Path.of(take(parameters, "out", "load-test/target/load-result-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+
+        if (!parameters.isEmpty()) {
+            throw new IllegalArgumentException("Неизвестные параметры нагрузочного теста: " + parameters.keySet());
+        }
+
+        if (rate <= 0 || owners < 1 || itemsPerOwner < 1 || bookers < 1) {
+            throw new IllegalArgumentException("Параметры rate, owners, items-per-owner и bookers должны быть больше 0");
+        }
+
+        if (start && gatewayThreads.contains("virtual") && Runtime.version().feature() < 21) {
+            throw new IllegalArgumentException(String.format(
+                    "Шлюз с виртуальными потоками запускается на Java 21 и новее, нагрузочный тест запущен на Java %d",
+                    Runtime.version().feature()));
+        }
+
+        if (!start && gatewayThreads.size() > 1) {
+            throw new IllegalArgumentException("Сравнение режимов потоков шлюза требует запуска сервисов, start=true");
+        }
+    }
+
+    /**
+     * Метод разбора аргументов командной строки вида {@code ключ=значение}.
+     *
+     * @param args аргументы командной строки.
+     * @return {@link LoadTestConfig}
+     */
+    public static LoadTestConfig parse(String[] args) {
+        var values = new LinkedHashMap<String, String>();
+
+        for (String arg : args) {
+            var i = arg.indexOf('=');
+
+            if (i < 1) {
+                throw new IllegalArgumentException(String.format("Аргумент %s должен иметь вид ключ=значение", arg));
+            }
+            values.put(arg.substring(0, i), arg.substring(i + 1));
+        }
+
+        return new LoadTestConfig(values);
+    }
+
+    /**
+     * Метод получения параметров в виде, пригодном для записи в файл результата.
+     *
+     * @return {@link Map} параметров.
+     */
+    public Map<String, Object> describe() {
+        var description = new LinkedHashMap<String, Object>();
+        description.put("targets", targets);
+        description.put("gatewayArgs", gatewayArgs);
+        description.put("gatewayThreads", gatewayThreads);
+        description.put("serverArgs", serverArgs);
+        description.put("database", dbUrl.isEmpty() ? "h2" : dbUrl);
+        description.put("rate", rate);
+        description.put("warmupSeconds", warmup.toSeconds());
+        description.put("durationSeconds", duration.toSeconds());
+        description.put("mix", mix.entrySet().stream()
+                .collect(Collectors.toMap(e -> e.getKey().getName(), Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new)));
+        description.put("maxInFlight", maxInFlight);
+        description.put("owners", owners);
+        description.put("itemsPerOwner", itemsPerOwner);
+        description.put("bookers", bookers);
+        description.put("requests", requests);
+        description.put("pendingBookings", pendingBookings);
+        description.put("seed", seed);
+        return description;
+    }
+
+    private static String take(Map<String, String> parameters, String key, String defaultValue) {
+        var value = parameters.remove(key);
+        return value == null ? defaultValue : value;
+    }
+
+    private static List<String> split(String value, String separator) {
+        if (value.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        return Arrays.stream(value.trim().split(separator))
+                .filter(s -> !s.isBlank())
+                .collect(Collectors.toList());
+    }
+
+    private static List<Target> parseTargets(String value) {
+        if ("both".equalsIgnoreCase(value)) {
+            return List.of(Target.GATEWAY, Target.SERVER);
+        }
+
+        return List.of(Target.valueOf(value.toUpperCase()));
+    }
+
+    private static List<String> parseGatewayThreads(String value) {
+        switch (value.toLowerCase()) {
+            case "both":
+                return List.of("platform", "virtual");
+            case "platform":
+            case "virtual":
+                return List.of(value.toLowerCase());
+            default:
+                throw new IllegalArgumentException(String.format(
+                        "Режим потоков шлюза %s должен быть platform, virtual или both", value));
+        }
+    }
+
+    private static Duration parseDuration(String value) {
+        var amount = Long.parseLong(value.substring(0, value.length() - 1));
+
+        switch (value.charAt(value.length() - 1)) {
+            case 's':
+                return Duration.ofSeconds(amount);
+            case 'm':
+                return Duration.ofMinutes(amount);
+            default:
+                throw new IllegalArgumentException(String.format(
+                        "Длительность %s должна быть указана в секундах (30s) или минутах (5m)", value));
+        }
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        var result = new EnumMap<Operation, Integer>(Operation.class);
+
+        for (String part : split(value, ",")) {
+            var pair = part.split(":");
+
+            if (pair.length != 2) {
+                throw new IllegalArgumentException(String.format("Доля операции %s должна иметь вид операция:вес", part));
+            }
+            var weight = Integer.parseInt(pair[1].trim());
+
+            if (weight > 0) {
+                result.put(Operation.fromName(pair[0].trim()), weight);
+            }
+        }
+
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("Смесь нагрузки не содержит ни одной операции");
+        }
+
+        return result;
+    }
+
+    /**
+     * Цель нагрузки.
+     */
+    public enum Target {
+        GATEWAY, SERVER
+    }
+}
@@ -0,0 +1,170 @@
+package ru.practicum.shareit.load;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Генератор нагрузки с открытой моделью поступления запросов.
+ * <p>
+ * Моменты отправки запросов планируются заранее как пуассоновский поток с интенсивностью {@code rate}:
+ * запрос отправляется в свой момент независимо от того, ответил ли сервис на предыдущие.
+ * Операция для каждого запроса выбирается случайно пропорционально весам смеси.
+ * Ответы, запланированные во время прогрева, не попадают в статистику.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class OpenLoopRunner {
+    private static final int PAGE_SIZE = 20;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTestConfig config;
+    private final DataSet dataSet;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    public OpenLoopRunner(LoadTestConfig config, DataSet dataSet) {
+        this.config = config;
+        this.dataSet = dataSet;
+        this.operations = config.getMix().keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+
+        var sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += config.getMix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * Метод выполнения фазы нагрузки на один сервис.
+     *
+     * @param api клиент сервиса.
+     * @return статистика по операциям.
+     */
+    public Map<Operation, OperationStats> run(ShareItApi api) {
+        var stats = new EnumMap<Operation, OperationStats>(Operation.class);
+        for (Operation operation : operations) {
+            stats.put(operation, new OperationStats());
+        }
+
+        var random = new Random(config.getSeed());
+        var inFlight = new AtomicInteger();
+        peakInFlight.set(0);
+        var meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRate();
+        var start = System.nanoTime();
+        var measureFrom = start + config.getWarmup().toNanos();
+        var end = measureFrom + config.getDuration().toNanos();
+        var next = start;
+
+        while (next < end) {
+            var wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            var intended = next;
+            var measured = intended >= measureFrom;
+            next += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+
+            var operation = pick(random);
+            var operationStats = stats.get(operation);
+            var pending = operation == Operation.APPROVE_BOOKING ? dataSet.pollPendingBooking() : null;
+            var item = dataSet.randomItem(random);
+            var request = request(api, operation, pending, item, random);
+
+            if (request == null) {
+                if (measured) {
+                    operationStats.recordSkipped();
+                }
+                continue;
+            }
+
+            if (inFlight.get() >= config.getMaxInFlight()) {
+                if (measured) {
+                    operationStats.recordDropped();
+                }
+                continue;
+            }
+
+            var current = inFlight.incrementAndGet();
+            if (measured) {
+                peakInFlight.accumulateAndGet(current, Math::max);
+            }
+            api.send(request).whenComplete((response, e) -> {
+                var latency = System.nanoTime() - intended;
+                var success = e == null && response.statusCode() / 100 == 2;
+
+                if (success && operation == Operation.CREATE_BOOKING) {
+                    dataSet.addPendingBooking(api.readTree(response.body()).get("id").asLong(), dataSet.itemOwnerId(item));
+                }
+
+                if (measured) {
+                    if (success) {
+                        operationStats.recordSuccess(latency);
+                    } else {
+                        operationStats.recordError(e == null ? response.statusCode() : -1);
+                    }
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+
+        var deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        return stats;
+    }
+
+    /**
+     * Метод получения наибольшего числа запросов без ответа за время замера последней фазы.
+     *
+     * @return пиковое число одновременных запросов.
+     */
+    public int getPeakInFlight() {
+        return peakInFlight.get();
+    }
+
+    private Operation pick(Random random) {
+        var value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+
+        return operations[operations.length - 1];
+    }
+
+    private HttpRequest request(ShareItApi api, Operation operation, DataSet.PendingBooking pending, int item,
+                                Random random) {
+        switch (operation) {
+            case CREATE_BOOKING:
+                return api.post("/bookings", dataSet.randomBooker(random), dataSet.newBooking(item));
+            case APPROVE_BOOKING:
+                return pending == null ? null
+                        : api.patch("/bookings/" + pending.getBookingId() + "?approved=true", pending.getOwnerId());
+            case OWNER_ITEMS:
+                return api.get("/items?from=0&size=" + PAGE_SIZE, dataSet.randomOwner(random));
+            case SEARCH:
+                return api.get("/items/search?from=0&size=" + PAGE_SIZE + "&text="
+                        + URLEncoder.encode(dataSet.randomWord(random), StandardCharsets.UTF_8), dataSet.randomBooker(random));
+            case REQUEST_FEED:
+                return api.get("/requests/all?from=0&size=" + PAGE_SIZE, dataSet.randomBooker(random));
+            default:
+                throw new IllegalArgumentException(String.format("Неизвестная операция %s", operation));
+        }
+    }
+}
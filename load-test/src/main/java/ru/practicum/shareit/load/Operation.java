@@ -0,0 +1,57 @@
+package ru.practicum.shareit.load;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Операции смеси нагрузки.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+    /**
+     * POST /bookings - бронирование вещи.
+     */
+    CREATE_BOOKING("create-booking"),
+
+    /**
+     * PATCH /bookings/{bookingId}?approved=true - подтверждение бронирования владельцем.
+     */
+    APPROVE_BOOKING("approve-booking"),
+
+    /**
+     * GET /items - список вещей владельца с последним и следующим бронированием.
+     */
+    OWNER_ITEMS("owner-items"),
+
+    /**
+     * GET /items/search - поиск вещей по тексту.
+     */
+    SEARCH("search"),
+
+    /**
+     * GET /requests/all - лента запросов других пользователей.
+     */
+    REQUEST_FEED("request-feed");
+
+    private final String name;
+
+    /**
+     * Метод получения операции по имени из параметра mix.
+     *
+     * @param name имя операции.
+     * @return {@link Operation}
+     */
+    public static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.name.equalsIgnoreCase(name)) {
+                return operation;
+            }
+        }
+
+        throw new IllegalArgumentException(String.format("Неизвестная операция %s", name));
+    }
+}
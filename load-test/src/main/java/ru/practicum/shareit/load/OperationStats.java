@@ -0,0 +1,118 @@
+package ru.practicum.shareit.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Статистика одной операции за фазу нагрузки.
+ * <p>
+ * Задержка отсчитывается от запланированного момента отправки запроса, а не от фактического,
+ * поэтому очередь на стороне генератора нагрузки не скрывает медленные ответы (coordinated omission).
+ * Задержки хранятся в микросекундах.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class OperationStats {
+    private final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final Map<Integer, LongAdder> errors = new ConcurrentSkipListMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    /**
+     * Метод учёта успешного ответа.
+     *
+     * @param latencyNanos задержка от запланированного момента отправки в наносекундах.
+     */
+    public void recordSuccess(long latencyNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), histogram.getHighestTrackableValue()));
+    }
+
+    /**
+     * Метод учёта ответа с ошибкой или исключения при отправке.
+     *
+     * @param status статус ответа или {@code -1}, если ответ не получен.
+     */
+    public void recordError(int status) {
+        errors.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Метод учёта запроса, не отправленного из-за превышения предела запросов без ответа.
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Метод учёта запроса, для которого не нашлось данных, например бронирования для подтверждения.
+     */
+    public void recordSkipped() {
+        skipped.increment();
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Метод получения количества ошибок по статусам ответа.
+     *
+     * @return {@link Map} статус - количество, {@code -1} означает, что ответ не получен.
+     */
+    public Map<Integer, Long> getErrorsByStatus() {
+        var result = new TreeMap<Integer, Long>();
+        errors.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * Метод получения процентиля задержки.
+     *
+     * @param percentile процентиль от 0 до 100.
+     * @return задержка в миллисекундах.
+     */
+    public double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+
+    /**
+     * Метод кодирования гистограммы в формате HdrHistogram (сжатие и base64),
+     * такую гистограмму можно восстановить {@link Histogram#decodeFromCompressedByteBuffer} для сравнения запусков.
+     *
+     * @return гистограмма в base64.
+     */
+    public String encodeHistogram() {
+        var copy = histogram.copy();
+        var buffer = ByteBuffer.allocate(copy.getNeededByteBufferCapacity());
+        var length = copy.encodeIntoCompressedByteBuffer(buffer);
+        var bytes = new byte[length];
+        buffer.rewind();
+        buffer.get(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
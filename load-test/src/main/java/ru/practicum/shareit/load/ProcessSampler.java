@@ -0,0 +1,92 @@
+package ru.practicum.shareit.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Замер потребления ресурсов процессом сервиса во время фазы нагрузки: пиковое число потоков операционной системы
+ * и пиковый объём резидентной памяти (RSS). RSS, в отличие от метрик кучи JVM, включает стеки платформенных потоков,
+ * поэтому по нему сравниваются пул потоков Tomcat и виртуальные потоки шлюза.
+ * <p>
+ * Значения читаются из {@code /proc/<pid>/status}, на системах без procfs замер не выполняется.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class ProcessSampler implements AutoCloseable {
+    private static final Duration INTERVAL = Duration.ofMillis(200);
+
+    private final Path status;
+    private final Thread thread;
+    private volatile long peakThreads;
+    private volatile long peakRssKb;
+
+    private ProcessSampler(long pid) {
+        this.status = Path.of("/proc", String.valueOf(pid), "status");
+        this.thread = new Thread(this::sampleLoop, "process-sampler-" + pid);
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Метод запуска замера для процесса.
+     *
+     * @param pid идентификатор процесса.
+     * @return {@link ProcessSampler}
+     */
+    public static ProcessSampler start(long pid) {
+        var sampler = new ProcessSampler(pid);
+        sampler.thread.start();
+        return sampler;
+    }
+
+    /**
+     * Метод получения результатов замера.
+     *
+     * @return пиковое число потоков и RSS в мегабайтах, пустой, если procfs недоступна.
+     */
+    public Map<String, Object> describe() {
+        var result = new LinkedHashMap<String, Object>();
+
+        if (peakThreads > 0) {
+            result.put("peakThreads", peakThreads);
+            result.put("peakRssMb", peakRssKb / 1024);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    private void sampleLoop() {
+        while (!Thread.currentThread().isInterrupted() && Files.isReadable(status)) {
+            try {
+                for (String line : Files.readAllLines(status)) {
+                    if (line.startsWith("Threads:")) {
+                        peakThreads = Math.max(peakThreads, value(line));
+                    } else if (line.startsWith("VmRSS:")) {
+                        peakRssKb = Math.max(peakRssKb, value(line));
+                    }
+                }
+                Thread.sleep(INTERVAL.toMillis());
+            } catch (IOException e) {
+                // процесс завершился
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static long value(String line) {
+        return Long.parseLong(line.replaceAll("\\D", ""));
+    }
+}
@@ -0,0 +1,117 @@
+package ru.practicum.shareit.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сервер или шлюз ShareIt, запущенный отдельным процессом из исполняемого jar.
+ * Вывод процесса пишется в файл рядом с результатами нагрузочного теста.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class ServiceProcess implements AutoCloseable {
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+
+    private final String name;
+    private final Process process;
+    private final Path log;
+
+    private ServiceProcess(String name, Process process, Path log) {
+        this.name = name;
+        this.process = process;
+        this.log = log;
+    }
+
+    /**
+     * Метод запуска процесса и ожидания готовности сервиса принимать запросы.
+     *
+     * @param name   имя сервиса для сообщений и файла вывода.
+     * @param jar    путь к исполняемому jar.
+     * @param args   аргументы приложения.
+     * @param env    переменные окружения.
+     * @param health адрес, который должен ответить успешным статусом после запуска.
+     * @param logDir каталог для файла вывода.
+     * @return {@link ServiceProcess}
+     */
+    public static ServiceProcess start(String name, Path jar, List<String> args, Map<String, String> env, URI health,
+                                       Path logDir) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(String.format(
+                    "Не найден %s, соберите проект командой mvn -DskipTests package", jar.toAbsolutePath()));
+        }
+
+        Files.createDirectories(logDir);
+        var log = logDir.resolve(name + ".log");
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(args);
+
+        var builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        builder.environment().putAll(env);
+
+        var service = new ServiceProcess(name, builder.start(), log);
+        service.awaitReady(health);
+        return service;
+    }
+
+    /**
+     * Метод получения идентификатора процесса.
+     *
+     * @return pid процесса.
+     */
+    public long pid() {
+        return process.pid();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private void awaitReady(URI health) throws InterruptedException {
+        var client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        var deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(String.format("Процесс %s завершился с кодом %d, вывод в %s",
+                        name, process.exitValue(), log.toAbsolutePath()));
+            }
+
+            try {
+                var response = client.send(HttpRequest.newBuilder(health).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+
+                if (response.statusCode() / 100 == 2) {
+                    return;
+                }
+            } catch (IOException e) {
+                // сервис ещё не открыл порт
+            }
+            Thread.sleep(500);
+        }
+
+        process.destroyForcibly();
+        throw new IllegalStateException(String.format("%s не запустился за %d с, вывод в %s",
+                name, START_TIMEOUT.toSeconds(), log.toAbsolutePath()));
+    }
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP клиент ShareIt для нагрузочного теста.
+ * Один и тот же клиент обращается к шлюзу или напрямую к серверу, пути и заголовки у них совпадают.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class ShareItApi {
+    private static final String X_SHARER_USER_ID = "X-Sharer-User-Id";
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI baseUrl;
+
+    public ShareItApi(HttpClient client, ObjectMapper objectMapper, URI baseUrl) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    public URI getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Метод создания GET запроса.
+     *
+     * @param path   путь с параметрами запроса.
+     * @param userId id пользователя для заголовка X-Sharer-User-Id или {@code null}.
+     * @return {@link HttpRequest}
+     */
+    public HttpRequest get(String path, Long userId) {
+        return builder(path, userId).GET().build();
+    }
+
+    /**
+     * Метод создания POST запроса с телом в JSON.
+     *
+     * @param path   путь с параметрами запроса.
+     * @param userId id пользователя для заголовка X-Sharer-User-Id или {@code null}.
+     * @param body   тело запроса.
+     * @return {@link HttpRequest}
+     */
+    public HttpRequest post(String path, Long userId, Object body) {
+        return builder(path, userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build();
+    }
+
+    /**
+     * Метод создания PATCH запроса без тела.
+     *
+     * @param path   путь с параметрами запроса.
+     * @param userId id пользователя для заголовка X-Sharer-User-Id.
+     * @return {@link HttpRequest}
+     */
+    public HttpRequest patch(String path, Long userId) {
+        return builder(path, userId).method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    /**
+     * Метод асинхронной отправки запроса.
+     *
+     * @param request запрос.
+     * @return {@link CompletableFuture} ответа с телом в виде массива байт.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Метод отправки запроса с проверкой успешного статуса ответа, используется при заполнении данных.
+     *
+     * @param request запрос.
+     * @return {@link CompletableFuture} тела ответа в виде {@link JsonNode}.
+     */
+    public CompletableFuture<JsonNode> call(HttpRequest request) {
+        return send(request).thenApply(response -> {
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(String.format("%s %s вернул статус %d: %s", request.method(),
+                        request.uri(), response.statusCode(), new String(response.body())));
+            }
+
+            return readTree(response.body());
+        });
+    }
+
+    /**
+     * Метод разбора тела ответа.
+     *
+     * @param body тело ответа.
+     * @return {@link JsonNode}
+     */
+    public JsonNode readTree(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest.Builder builder(String path, Long userId) {
+        var builder = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json");
+
+        if (userId != null) {
+            builder.header(X_SHARER_USER_ID, String.valueOf(userId));
+        }
+
+        return builder;
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
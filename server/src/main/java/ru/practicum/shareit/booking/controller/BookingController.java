@@ -6,7 +6,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import ru.practicum.shareit.booking.dto.BookingBatchMode;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingsPage;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.booking.service.GetBookingsParams;
@@ -14,6 +17,7 @@ import ru.practicum.shareit.booking.service.GetBookingsParams;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import java.util.List;
 import java.util.TimeZone;
 
 /**
@@ -25,6 +29,11 @@ import java.util.TimeZone;
 @Slf4j
 @Validated
 public class BookingController {
+    /**
+     * Заголовок ответа с позицией для получения следующей страницы.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BookingService bookingService;
     private final String xSharerUserId = "X-Sharer-User-Id";
 
@@ -48,6 +57,30 @@ public class BookingController {
                 .body(bookingService.addNewBooking(booking, userId, timeZone));
     }
 
+    /**
+     * Метод для эндпоинта POST /bookings/batch пакетное создание бронирований одного пользователя.
+     *
+     * @param bookings {@link List} данные бронирований.
+     * @param mode     {@link BookingBatchMode} режим обработки ошибочных записей.
+     * @param userId   {@link Long} идентификационный номер пользователя букера.
+     * @param timeZone {@link TimeZone} часовой пояс пользователя.
+     * @return {@link ResponseEntity} со статусом 201, если созданы все бронирования, иначе 207.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> addNewBookings(
+            @RequestBody List<BookingRequestDto> bookings,
+            @RequestParam(defaultValue = "ALL_OR_NOTHING") BookingBatchMode mode,
+            @RequestHeader(value = xSharerUserId) Long userId,
+            TimeZone timeZone) {
+        log.info("POST /bookings/batch?mode={}, body = {}, header \"{}\" = {}", mode, bookings, xSharerUserId, userId);
+        var results = bookingService.addNewBookings(bookings, userId, mode, timeZone);
+        var allCreated = results.stream().allMatch(r -> r.getBooking() != null);
+
+        return ResponseEntity
+                .status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(results);
+    }
+
     /**
      * Метод для эндпоинта PATCH /bookings/{bookingId} подтверждение бронирования пользователем владельцем вещи.
      *
@@ -75,15 +108,22 @@ public class BookingController {
      *
      * @param bookingId {@link Long} идентификационный номер блокирования.
      * @param userId    {@link Long} идентификационный номер пользователя букера вещи.
-     * @param timeZone  {@link TimeZone} часовой пояс пользователя.
-     * @return {@link ResponseEntity}
+     * @param timeZone   {@link TimeZone} часовой пояс пользователя.
+     * @param webRequest {@link WebRequest} запрос для проверки заголовка If-None-Match.
+     * @return {@link ResponseEntity} или ответ 304, если бронирование не изменилось.
      */
     @GetMapping("/{bookingId}")
     public ResponseEntity<?> getBooking(
             @PathVariable Long bookingId,
             @RequestHeader(value = xSharerUserId) Long userId,
-              TimeZone timeZone) {
+              TimeZone timeZone,
+            WebRequest webRequest) {
         log.info("GET /bookings/{} , header \"{}\" = {}", bookingId, xSharerUserId, userId);
+        var etag = bookingService.getBookingETag(bookingId, userId, timeZone);
+
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -96,6 +136,7 @@ public class BookingController {
      * @param state    {@link BookingState} параметр сортировки.
      * @param userId   {@link Long} идентификационный номер пользователя букера вещей.
      * @param timeZone {@link TimeZone} часовой пояс пользователя.
+     * @param cursor   {@link String} позиция для постраничного вывода без OFFSET, при указании параметр from не используется.
      * @return {@link ResponseEntity}
      */
     @GetMapping
@@ -110,8 +151,10 @@ public class BookingController {
             @RequestParam(required = false, name = "size", defaultValue = "10")
             @Min(value = 1, message = "Параметр size не может быть меньше 0.")
             @Max(value = 100, message = "Параметр size не может быть больше 100.")
-            Integer size) {
-        log.info("GET /bookings?state={}&from={}&size={} , header \"{}\" = {}", state, from, size, xSharerUserId, userId);
+            Integer size,
+            @RequestParam(required = false, name = "cursor") String cursor) {
+        log.info("GET /bookings?state={}&from={}&size={}&cursor={} , header \"{}\" = {}",
+                state, from, size, cursor, xSharerUserId, userId);
 
         var params = GetBookingsParams.builder()
                 .userId(userId)
@@ -119,8 +162,13 @@ public class BookingController {
                 .timeZone(timeZone)
                 .from(from)
                 .size(size)
+                .cursor(cursor)
                 .build();
 
+        if (cursor != null) {
+            return toResponseEntity(bookingService.getBookingsByBookerAfter(params));
+        }
+
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(bookingService.getBookingsByBooker(params));
@@ -132,6 +180,7 @@ public class BookingController {
      * @param state    {@link BookingState} параметр сортировки.
      * @param userId   {@link Long} идентификационный номер пользователя владельца вещей.
      * @param timeZone {@link TimeZone} часовой пояс пользователя.
+     * @param cursor   {@link String} позиция для постраничного вывода без OFFSET, при указании параметр from не используется.
      * @return {@link ResponseEntity}
      */
     @GetMapping("/owner")
@@ -145,8 +194,10 @@ public class BookingController {
             @RequestParam(required = false, name = "size", defaultValue = "10")
             @Min(value = 1, message = "Параметр size не может быть меньше 0.")
             @Max(value = 100, message = "Параметр size не может быть больше 100.")
-            Integer size) {
-        log.info("GET /bookings/owner?state={}&from={}&size={} , header \"{}\" = {}", state, from, size, xSharerUserId, userId);
+            Integer size,
+            @RequestParam(required = false, name = "cursor") String cursor) {
+        log.info("GET /bookings/owner?state={}&from={}&size={}&cursor={} , header \"{}\" = {}",
+                state, from, size, cursor, xSharerUserId, userId);
 
         var params = GetBookingsParams.builder()
                 .userId(userId)
@@ -154,10 +205,25 @@ public class BookingController {
                 .timeZone(timeZone)
                 .from(from)
                 .size(size)
+                .cursor(cursor)
                 .build();
 
+        if (cursor != null) {
+            return toResponseEntity(bookingService.getBookingByOwnerAfter(params));
+        }
+
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(bookingService.getBookingByOwner(params));
     }
+
+    private ResponseEntity<?> toResponseEntity(BookingsPage page) {
+        var builder = ResponseEntity.status(HttpStatus.OK);
+
+        if (page.getNextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+
+        return builder.body(page.getBookings());
+    }
 }
@@ -0,0 +1,39 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Класс {@link BookingBatchResult} результат обработки одной записи пакетного создания бронирований.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingBatchResult {
+    /**
+     * Порядковый номер записи в пакете.
+     */
+    private Integer index;
+
+    /**
+     * Код статуса, с которым запись была бы обработана эндпоинтом POST /bookings.
+     * Для корректной записи, не созданной из-за ошибок в других записях пакета, равен 424.
+     */
+    private Integer status;
+
+    /**
+     * Созданное бронирование или null, если бронирование не создано.
+     */
+    private BookingResponseDto booking;
+
+    /**
+     * Описание ошибки или null, если ошибки нет.
+     */
+    private String error;
+}
@@ -0,0 +1,82 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.exception.BookingServiceException;
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * Класс {@link BookingCursor} позиция в списке бронирований, отсортированном по убыванию (start, id).
+ * Передаётся клиенту в виде непрозрачной строки для получения следующей страницы.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingCursor {
+    /**
+     * Дата и время начала последнего полученного бронирования.
+     */
+    private ZonedDateTime start;
+
+    /**
+     * Идентификационный номер последнего полученного бронирования.
+     */
+    private Long id;
+
+    /**
+     * Метод получения позиции после указанного бронирования.
+     *
+     * @param booking объект класса {@link Booking} последнее бронирование страницы.
+     * @return {@link BookingCursor}
+     */
+    public static BookingCursor of(Booking booking) {
+        return new BookingCursor(booking.getStart(), booking.getId());
+    }
+
+    /**
+     * Метод преобразования строки в позицию.
+     *
+     * @param token строка, полученная клиентом вместе с предыдущей страницей. Пустая строка означает первую страницу.
+     * @return {@link BookingCursor} или null для первой страницы.
+     */
+    public static BookingCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            var start = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]))
+                    .atZone(ZoneId.systemDefault());
+
+            return new BookingCursor(start, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException | ArithmeticException e) {
+            throw new BookingServiceException(String.format("Некорректное значение параметра cursor %s", token));
+        }
+    }
+
+    /**
+     * Метод преобразования позиции в строку для передачи клиенту.
+     *
+     * @return {@link String}
+     */
+    public String encode() {
+        var instant = start.toInstant();
+        var value = instant.getEpochSecond() + ":" + instant.getNano() + ":" + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
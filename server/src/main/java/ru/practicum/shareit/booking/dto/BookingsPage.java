@@ -0,0 +1,30 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Класс {@link BookingsPage} страница бронирований, полученная по позиции {@link BookingCursor}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingsPage {
+    /**
+     * Бронирования страницы.
+     */
+    private List<BookingResponseDto> bookings;
+
+    /**
+     * Позиция для получения следующей страницы или null, если страница последняя.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.booking.dto;
+
+/**
+ * Проекция с идентификаторами предыдущего и следующего бронирования вещи.
+ * Используется для заполнения полей lastBooking и nextBooking класса
+ * {@link ru.practicum.shareit.item.dto.OwnerItemResponseDto} без загрузки всей истории бронирований.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public interface LastNextBooking {
+    /**
+     * Идентификационный номер вещи.
+     */
+    Long getItemId();
+
+    /**
+     * Идентификационный номер предыдущего бронирования.
+     */
+    Long getLastId();
+
+    /**
+     * Идентификационный номер пользователя букера предыдущего бронирования.
+     */
+    Long getLastBookerId();
+
+    /**
+     * Идентификационный номер следующего бронирования.
+     */
+    Long getNextId();
+
+    /**
+     * Идентификационный номер пользователя букера следующего бронирования.
+     */
+    Long getNextBookerId();
+}
@@ -14,6 +14,7 @@ import java.util.TimeZone;
  * Класс {@link BookingMapper} для маппинга объекта класса {@link BookingRequestDto} в объект класса {@link Booking},
  * объект класса {@link Booking} в объект класса {@link BookingResponseDto},
  * объект класса {@link Booking} в объект класса {@link BookingShort},
+ * объект класса {@link LastNextBooking} в объект класса {@link BookingShort},
  * {@link Iterable} {@link Booking} в {@link List} {@link BookingResponseDto}.
  *
  * @author Nikolay Radzivon
@@ -88,4 +89,36 @@ public class BookingMapper {
                 .bookerId(booking.getBooker().getId())
                 .build();
     }
+
+    /**
+     * Метод получения предыдущего бронирования в виде объекта класса {@link BookingShort} из проекции {@link LastNextBooking}.
+     *
+     * @param lastNextBooking объект класса {@link LastNextBooking} предыдущее и следующее бронирование вещи.
+     * @return {@link BookingShort} или null если предыдущего бронирования нет.
+     */
+    public static BookingShort toLastBookingShort(LastNextBooking lastNextBooking) {
+        if (lastNextBooking == null || lastNextBooking.getLastId() == null) {
+            return null;
+        }
+        return BookingShort.builder()
+                .id(lastNextBooking.getLastId())
+                .bookerId(lastNextBooking.getLastBookerId())
+                .build();
+    }
+
+    /**
+     * Метод получения следующего бронирования в виде объекта класса {@link BookingShort} из проекции {@link LastNextBooking}.
+     *
+     * @param lastNextBooking объект класса {@link LastNextBooking} предыдущее и следующее бронирование вещи.
+     * @return {@link BookingShort} или null если следующего бронирования нет.
+     */
+    public static BookingShort toNextBookingShort(LastNextBooking lastNextBooking) {
+        if (lastNextBooking == null || lastNextBooking.getNextId() == null) {
+            return null;
+        }
+        return BookingShort.builder()
+                .id(lastNextBooking.getNextId())
+                .bookerId(lastNextBooking.getNextBookerId())
+                .build();
+    }
 }
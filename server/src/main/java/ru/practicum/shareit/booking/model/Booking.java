@@ -23,10 +23,18 @@ public class Booking {
      * Уникальный идентификационный номер бронирования.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     @Builder.Default
     private Long id = null;
 
+    /**
+     * Версия записи, увеличивается при каждом изменении.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Дата и время начала бронирования.
      */
@@ -1,12 +1,16 @@
 package ru.practicum.shareit.booking.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.LastNextBooking;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +20,8 @@ import java.util.Optional;
  * @author Nikolay Radzivon
  * @Date 02.05.2024
  */
-public interface BookingRepository extends JpaRepository<Booking, Long>, QuerydslPredicateExecutor<Booking> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, QuerydslPredicateExecutor<Booking>,
+        BookingRepositoryCustom {
     /**
      * Метод получения бронирования по его id и id пользователя владельца вещи.
      *
@@ -32,6 +37,50 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, Queryds
     Optional<Booking> findBookingByIdAndUserId(@Param("booking_id") Long id,
                                                @Param("owner_id") Long userId);
 
+    /**
+     * Метод смены статуса бронирования одним условным обновлением. Строка меняется, только если бронирование
+     * относится к вещи указанного владельца и ещё не находится в новом статусе. Версия записи увеличивается.
+     *
+     * @param id      {@link Long} идентификационный номер бронирования.
+     * @param ownerId {@link Long} идентификационный номер пользователя владельца вещи.
+     * @param status  {@link BookingStatus} новый статус бронирования.
+     * @return количество изменённых строк: 1 при успешной смене статуса, иначе 0.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Booking as b " +
+            "set b.status = :status, b.version = b.version + 1 " +
+            "where b.id = :booking_id and b.status <> :status " +
+            "and b.item.id in (select i.id from Item as i where i.owner.id = :owner_id) ")
+    int updateStatusByIdAndOwnerId(@Param("booking_id") Long id,
+                                   @Param("owner_id") Long ownerId,
+                                   @Param("status") BookingStatus status);
+
+    /**
+     * Метод получения статуса бронирования по его id и id пользователя владельца вещи.
+     *
+     * @param id      {@link Long} идентификационный номер бронирования.
+     * @param ownerId {@link Long} идентификационный номер пользователя владельца вещи.
+     * @return {@link Optional} {@link BookingStatus}.
+     */
+    @Query("select b.status " +
+            "from Booking as b " +
+            "where b.id = :booking_id and b.item.owner.id = :owner_id ")
+    Optional<BookingStatus> findStatusByIdAndOwnerId(@Param("booking_id") Long id,
+                                                     @Param("owner_id") Long ownerId);
+
+    /**
+     * Метод получения бронирования по его id вместе с вещью и бронирующим пользователем.
+     *
+     * @param id {@link Long} идентификационный номер бронирования.
+     * @return {@link Optional} {@link Booking}.
+     */
+    @Query("select b " +
+            "from Booking as b " +
+            "join fetch b.item as i " +
+            "join fetch b.booker as bo " +
+            "where b.id = :booking_id ")
+    Optional<Booking> findWithItemAndBookerById(@Param("booking_id") Long id);
+
     /**
      * Метод получения бронирования по его id и id пользователя владельца вещи или пользователя бронирующего вещь.
      *
@@ -79,15 +128,75 @@ public interface BookingRepository extends JpaRepository<Booking, Long>, Queryds
     List<Booking> getBookings(@Param("item_id") Long itemId);
 
     /**
-     * Метод получения списка бронирований для списка id вещей.
+     * Метод получения предыдущего и следующего бронирования для списка id вещей.
+     * Для каждой вещи возвращается не более одной строки, бронирования ранжируются в базе данных оконной функцией,
+     * поэтому объём передаваемых данных не зависит от длины истории бронирований.
+     *
+     * @param itemIds {@link List} {@link Long} список id вещей.
+     * @param now     {@link ZonedDateTime} текущие дата и время.
+     * @return {@link List} {@link LastNextBooking}.
+     */
+    @Query(value = "select r.item_id as itemId, " +
+            "max(case when r.is_next = 0 then r.id end) as lastId, " +
+            "max(case when r.is_next = 0 then r.user_id end) as lastBookerId, " +
+            "max(case when r.is_next = 1 then r.id end) as nextId, " +
+            "max(case when r.is_next = 1 then r.user_id end) as nextBookerId " +
+            "from (select b.id, b.item_id, b.user_id, " +
+            "case when b.start_date > :now then 1 else 0 end as is_next, " +
+            "row_number() over (partition by b.item_id, case when b.start_date > :now then 1 else 0 end " +
+            "order by b.id desc) as rn " +
+            "from bookings as b " +
+            "where b.item_id in (:item_ids)) as r " +
+            "where r.rn = 1 " +
+            "group by r.item_id ", nativeQuery = true)
+    List<LastNextBooking> getLastNextBookings(@Param("item_ids") List<Long> itemIds,
+                                              @Param("now") ZonedDateTime now);
+
+    /**
+     * Метод проверки наличия подтверждённого бронирования вещи, пересекающегося с указанным периодом.
      *
-     * @param itemId {@link List} {@link Long} список id вещей.
+     * @param itemId    {@link Long} идентификационный номер вещи.
+     * @param start     {@link ZonedDateTime} начало периода.
+     * @param end       {@link ZonedDateTime} окончание периода.
+     * @param bookingId {@link Long} идентификационный номер бронирования, которое не учитывается.
+     * @return true если пересекающееся бронирование существует.
+     */
+    @Query("select count(b) > 0 " +
+            "from Booking as b " +
+            "where b.item.id = :item_id and b.status = 'APPROVED' and b.start < :end and b.end > :start " +
+            "and b.id <> :booking_id ")
+    boolean existsApprovedOverlap(@Param("item_id") Long itemId,
+                                  @Param("start") ZonedDateTime start,
+                                  @Param("end") ZonedDateTime end,
+                                  @Param("booking_id") Long bookingId);
+
+    /**
+     * Метод получения подтверждённых бронирований вещей, пересекающихся с указанным периодом.
+     *
+     * @param itemIds {@link Collection} идентификационные номера вещей.
+     * @param start   {@link ZonedDateTime} начало периода.
+     * @param end     {@link ZonedDateTime} окончание периода.
      * @return {@link List} {@link Booking}.
      */
     @Query("select b " +
             "from Booking as b " +
-            "join fetch b.item as i " +
-            "join fetch b.booker as bo " +
-            "where i.id in :item_id ")
-    List<Booking> getBookingsByItems(@Param("item_id") List<Long> itemId);
+            "where b.item.id in :item_ids and b.status = 'APPROVED' and b.start < :end and b.end > :start ")
+    List<Booking> findApprovedOverlaps(@Param("item_ids") Collection<Long> itemIds,
+                                       @Param("start") ZonedDateTime start,
+                                       @Param("end") ZonedDateTime end);
+
+    /**
+     * Метод получения версии бронирования и забронированной вещи для построения ETag.
+     * Версия доступна только владельцу вещи или автору бронирования.
+     *
+     * @param id     {@link Long} идентификационный номер бронирования.
+     * @param userId {@link Long} идентификационный номер пользователя.
+     * @return {@link Optional} версия бронирования.
+     */
+    @Query(value = "select concat_ws(':', b.version, i.version) " +
+            "from bookings as b " +
+            "join items as i on i.id = b.item_id " +
+            "where b.id = :booking_id and (i.user_id = :user_id or b.user_id = :user_id) ", nativeQuery = true)
+    Optional<String> findVersionByIdAndOwnerIdOrBookerId(@Param("booking_id") Long id,
+                                                         @Param("user_id") Long userId);
 }
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.booking.repository;
+
+import com.querydsl.core.types.Predicate;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.model.Booking;
+
+import java.util.List;
+
+/**
+ * Интерфейс {@link BookingRepositoryCustom} дополнительные запросы к бронированиям, реализованные через QueryDSL.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public interface BookingRepositoryCustom {
+    /**
+     * Метод получения бронирований, расположенных после позиции в порядке убывания (start, id).
+     * Выполняет один запрос с ограничением количества строк, без OFFSET и подсчёта общего количества.
+     *
+     * @param predicate {@link Predicate} условие отбора бронирований.
+     * @param cursor    {@link BookingCursor} позиция, null для первой страницы.
+     * @param limit     максимальное количество бронирований.
+     * @return {@link List} {@link Booking}.
+     */
+    List<Booking> findAllAfter(Predicate predicate, BookingCursor cursor, int limit);
+
+    /**
+     * Метод получения страницы бронирований в порядке убывания start вместе с вещами одним запросом.
+     * Общее количество бронирований не подсчитывается.
+     *
+     * @param predicate {@link Predicate} условие отбора бронирований.
+     * @param offset    индекс первого бронирования.
+     * @param limit     максимальное количество бронирований.
+     * @return {@link List} {@link Booking}.
+     */
+    List<Booking> findAllWithItem(Predicate predicate, long offset, int limit);
+}
@@ -0,0 +1,65 @@
+package ru.practicum.shareit.booking.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.QBooking;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+/**
+ * Реализация интерфейса {@link BookingRepositoryCustom}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@RequiredArgsConstructor
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Booking> findAllAfter(Predicate predicate, BookingCursor cursor, int limit) {
+        var booking = QBooking.booking;
+        var where = new BooleanBuilder(predicate);
+
+        if (cursor != null) {
+            where.and(booking.start.lt(cursor.getStart())
+                    .or(booking.start.eq(cursor.getStart()).and(booking.id.lt(cursor.getId()))));
+        }
+
+        return selectWithItem()
+                .where(where)
+                .orderBy(booking.start.desc(), booking.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Booking> findAllWithItem(Predicate predicate, long offset, int limit) {
+        var booking = QBooking.booking;
+
+        return selectWithItem()
+                .where(predicate)
+                .orderBy(booking.start.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * Запрос бронирований с присоединённой вещью: ответ использует название вещи,
+     * а от бронирующего только идентификатор, который доступен без загрузки пользователя.
+     */
+    private JPAQuery<Booking> selectWithItem() {
+        var booking = QBooking.booking;
+
+        return new JPAQueryFactory(entityManager)
+                .selectFrom(booking)
+                .join(booking.item).fetchJoin();
+    }
+}
@@ -1,7 +1,10 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingBatchMode;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingsPage;
 import ru.practicum.shareit.booking.model.BookingState;
 
 import java.util.List;
@@ -25,6 +28,18 @@ public interface BookingService {
      */
     BookingResponseDto addNewBooking(BookingRequestDto booking, Long userId, TimeZone timeZone);
 
+    /**
+     * Метод пакетного добавления бронирований одного пользователя.
+     *
+     * @param bookings объект класса {@link List} данные для бронирований.
+     * @param userId   объект класса {@link Long} идентификационный номер бронирующего пользователя.
+     * @param mode     объект класса {@link BookingBatchMode} режим обработки ошибочных записей.
+     * @param timeZone объект класса {@link TimeZone} часовой пояс бронирующего пользователя.
+     * @return список объектов класса {@link BookingBatchResult} в порядке записей пакета.
+     */
+    List<BookingBatchResult> addNewBookings(List<BookingRequestDto> bookings, Long userId, BookingBatchMode mode,
+                                            TimeZone timeZone);
+
     /**
      * Метод подтверждения или отклонения бронирования, пользователем владельцем вещи.
      *
@@ -46,6 +61,16 @@ public interface BookingService {
      */
     BookingResponseDto getBooking(Long bookingId, Long userId, TimeZone timeZone);
 
+    /**
+     * Метод получения ETag бронирования для указанного пользователя без построения ответа.
+     *
+     * @param bookingId объект класса {@link Long} идентификационный номер бронирования.
+     * @param userId    {@link Long} идентификационный номер пользователя.
+     * @param timeZone  объект класса {@link TimeZone} часовой пояс пользователя.
+     * @return ETag или null, если бронирование пользователю недоступно.
+     */
+    String getBookingETag(Long bookingId, Long userId, TimeZone timeZone);
+
     /**
      * Метод получения списка бронирований для бронирующего.
      *
@@ -61,4 +86,20 @@ public interface BookingService {
      * @return {@link List} объектов класса {@link BookingResponseDto}.
      */
     List<BookingResponseDto> getBookingByOwner(GetBookingsParams params);
+
+    /**
+     * Метод получения страницы бронирований для бронирующего по позиции, без подсчёта общего количества.
+     *
+     * @param params объект класса  {@link GetBookingsParams} параметры запроса, позиция передаётся в поле cursor.
+     * @return объект класса {@link BookingsPage}.
+     */
+    BookingsPage getBookingsByBookerAfter(GetBookingsParams params);
+
+    /**
+     * Метод получения страницы бронирований для владельца вещей по позиции, без подсчёта общего количества.
+     *
+     * @param params объект класса  {@link GetBookingsParams} параметры запроса, позиция передаётся в поле cursor.
+     * @return объект класса {@link BookingsPage}.
+     */
+    BookingsPage getBookingByOwnerAfter(GetBookingsParams params);
 }
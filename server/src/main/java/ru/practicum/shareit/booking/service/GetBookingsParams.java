@@ -52,4 +52,9 @@ public class GetBookingsParams {
     @Min(value = 1, message = "Параметр size не может быть меньше 0.")
     @Max(value = 100, message = "Параметр size не может быть больше 100.")
     private Integer size;
+
+    /**
+     * Позиция, после которой запрашивается страница. Пустая строка означает первую страницу.
+     */
+    private String cursor;
 }
@@ -3,25 +3,40 @@ package ru.practicum.shareit.booking.service.impl;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingBatchMode;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingsPage;
 import ru.practicum.shareit.booking.exception.BookingServiceException;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.*;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.booking.service.GetBookingsParams;
+import ru.practicum.shareit.checker.BookingOverlapChecker;
 import ru.practicum.shareit.checker.ItemChecker;
 import ru.practicum.shareit.checker.UserChecker;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.exception.NotFoundBookingException;
+import ru.practicum.shareit.exception.NotFoundItemException;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.outbox.OutboxEventType;
+import ru.practicum.shareit.outbox.OutboxPublisher;
+import ru.practicum.shareit.user.model.User;
 
 import javax.validation.Valid;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.TimeZone;
 import java.util.stream.Collectors;
@@ -36,9 +51,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class BookingServiceImpl implements BookingService {
+    private static final TimeZone EVENT_TIME_ZONE = TimeZone.getTimeZone("UTC");
+
     private final BookingRepository bookingRepository;
     private final UserChecker userChecker;
     private final ItemChecker itemChecker;
+    private final BookingOverlapChecker bookingOverlapChecker;
+    private final OutboxPublisher outboxPublisher;
 
     /**
      * Метод добавления нового бронирования.
@@ -56,27 +75,106 @@ public class BookingServiceImpl implements BookingService {
                 "Нельзя забронировать вещь с id %d для не существующего пользователя с id %d", itemId, userId));
         var item = itemChecker.checkItem(itemId, String.format(
                 "Нельзя забронировать не существующую вещь с id %d для пользователя с id %d", itemId, userId));
+        var b = toNewBooking(booking, user, userId, item, timeZone);
+        bookingOverlapChecker.checkOverlap(itemId, b.getStart(), b.getEnd(), null, overlapMessage(itemId, userId));
+        var save = bookingRepository.save(b);
+        publish(OutboxEventType.BOOKING_CREATED, save);
+        log.info("Добавлено новое бронирование {} для пользователя с id {} на предмет с id {} ", save, userId, itemId);
 
-        if (!item.getAvailable()) {
-            throw new BookingServiceException(
-                    String.format("Нельзя забронировать не доступную для бронирования вещь с id %d для пользователя с id %d", itemId, userId));
+        return BookingMapper.toBookingResponseDto(save, timeZone);
+    }
+
+    /**
+     * Метод пакетного добавления бронирований одного пользователя.
+     * Пользователь проверяется один раз, вещи загружаются одним запросом, бронирования сохраняются в одной транзакции.
+     * Пересечения с подтверждёнными бронированиями проверяются для всего пакета сразу: вещи блокируются одним
+     * запросом, подтверждённые бронирования загружаются другим.
+     * В режиме {@link BookingBatchMode#ALL_OR_NOTHING} при ошибке хотя бы в одной записи ничего не сохраняется.
+     *
+     * @param bookings объект класса {@link List} данные для бронирований.
+     * @param userId   объект класса {@link Long} идентификационный номер бронирующего пользователя.
+     * @param mode     объект класса {@link BookingBatchMode} режим обработки ошибочных записей.
+     * @param timeZone объект класса {@link TimeZone} часовой пояс бронирующего пользователя.
+     * @return список объектов класса {@link BookingBatchResult} в порядке записей пакета.
+     */
+    @Override
+    @Transactional
+    public List<BookingBatchResult> addNewBookings(List<BookingRequestDto> bookings, Long userId, BookingBatchMode mode,
+                                                   TimeZone timeZone) {
+        var user = userChecker.checkUser(userId, String.format(
+                "Нельзя забронировать вещи для не существующего пользователя с id %d", userId));
+        var items = itemChecker.checkItems(bookings.stream()
+                .map(BookingRequestDto::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        List<BookingBatchResult> results = new ArrayList<>(bookings.size());
+        List<BookingBatchResult> accepted = new ArrayList<>();
+        List<Booking> newBookings = new ArrayList<>();
+        Map<Integer, Booking> candidates = new LinkedHashMap<>();
+
+        for (int i = 0; i < bookings.size(); i++) {
+            var booking = bookings.get(i);
+            var itemId = booking.getItemId();
+            var result = BookingBatchResult.builder().index(i).build();
+            results.add(result);
+
+            try {
+                var item = items.get(itemId);
+
+                if (item == null) {
+                    throw new NotFoundItemException(String.format(
+                            "Нельзя забронировать не существующую вещь с id %d для пользователя с id %d", itemId, userId));
+                }
+
+                candidates.put(i, toNewBooking(booking, user, userId, item, timeZone));
+            } catch (BookingServiceException e) {
+                result.setStatus(HttpStatus.BAD_REQUEST.value());
+                result.setError(e.getMessage());
+            } catch (NotFoundItemException | NotFoundBookingException e) {
+                result.setStatus(HttpStatus.NOT_FOUND.value());
+                result.setError(e.getMessage());
+            }
         }
 
-        if (item.getOwner().getId().equals(userId)) {
-            throw new NotFoundBookingException(String.format(
-                    "Нельзя забронировать вещь c id %d пользователь с id %d является владельцем вещи",
-                    userId, itemId));
+        var overlapping = bookingOverlapChecker.findOverlapping(candidates.values());
+
+        candidates.forEach((index, b) -> {
+            var result = results.get(index);
+
+            if (overlapping.contains(b)) {
+                result.setStatus(HttpStatus.BAD_REQUEST.value());
+                result.setError(overlapMessage(b.getItem().getId(), userId));
+            } else {
+                newBookings.add(b);
+                result.setStatus(HttpStatus.CREATED.value());
+                accepted.add(result);
+            }
+        });
+
+        if (mode == BookingBatchMode.ALL_OR_NOTHING && accepted.size() < bookings.size()) {
+            accepted.forEach(r -> {
+                r.setStatus(HttpStatus.FAILED_DEPENDENCY.value());
+                r.setError("Бронирование не создано из-за ошибок в других записях пакета");
+            });
+            log.info("Пакет из {} бронирований для пользователя с id {} отклонён", bookings.size(), userId);
+            return results;
         }
 
-        var b = BookingMapper.toBooking(booking, user, item, timeZone);
-        var save = bookingRepository.save(b);
-        log.info("Добавлено новое бронирование {} для пользователя с id {} на предмет с id {} ", save, userId, itemId);
+        var saved = bookingRepository.saveAll(newBookings);
 
-        return BookingMapper.toBookingResponseDto(save, timeZone);
+        for (int i = 0; i < saved.size(); i++) {
+            accepted.get(i).setBooking(BookingMapper.toBookingResponseDto(saved.get(i), timeZone));
+            publish(OutboxEventType.BOOKING_CREATED, saved.get(i));
+        }
+
+        log.info("Добавлено {} из {} бронирований пакета для пользователя с id {}", saved.size(), bookings.size(), userId);
+        return results;
     }
 
     /**
      * Метод подтверждения или отклонения бронирования, пользователем владельцем вещи.
+     * Статус меняется одним условным обновлением, результат определяется по числу изменённых строк. Бронирование
+     * для ответа загружается только после успешного обновления, при неудаче причина определяется по его статусу.
      *
      * @param bookingId объект класса {@link Long} идентификационный номер бронирования.
      * @param userId    объект класса {@link Long} идентификационный номер пользователя.
@@ -87,26 +185,62 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional
     public BookingResponseDto bookingConfirmation(Long bookingId, Long userId, Boolean approved, TimeZone timeZone) {
-        Optional<Booking> bookingByIdAndUserId = bookingRepository.findBookingByIdAndUserId(bookingId, userId);
-        Booking booking = bookingByIdAndUserId.orElseThrow(() -> new NotFoundBookingException(
-                String.format("У пользователя с id %d не существует запроса на бронирование с id %d", userId, bookingId)));
-        BookingStatus status = booking.getStatus();
+        var newStatus = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        var overlapMessage = String.format(
+                "Нельзя подтвердить бронирование с id %d, на этот период есть другое подтверждённое бронирование", bookingId);
+        int updated;
 
-        if (approved && status.equals(BookingStatus.APPROVED)) {
-            throw new BookingServiceException(String.format(
-                    "Владелец вещи с id %d уже подтвердил бронирование с id %d", userId, bookingId));
+        try {
+            updated = bookingRepository.updateStatusByIdAndOwnerId(bookingId, userId, newStatus);
+        } catch (DataIntegrityViolationException e) {
+            throw new BookingServiceException(overlapMessage);
         }
 
-        if (!approved && status.equals(BookingStatus.REJECTED)) {
-            throw new BookingServiceException(String.format(
-                    "Владелец вещи с id %d уже отклонил бронирование с id %d", userId, bookingId));
+        if (updated == 0) {
+            throw confirmationFailure(bookingId, userId, approved);
         }
 
-        booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-        Booking save = bookingRepository.save(booking);
+        var booking = bookingRepository.findWithItemAndBookerById(bookingId).orElseThrow(() -> new NotFoundBookingException(
+                String.format("У пользователя с id %d не существует запроса на бронирование с id %d", userId, bookingId)));
 
-        log.info("Пользователь владелец вещи с id {} {} бронирование {}", userId, approved ? "подтвердил" : "отклонил", save);
-        return BookingMapper.toBookingResponseDto(save, timeZone);
+        if (approved) {
+            bookingOverlapChecker.checkOverlap(booking.getItem().getId(), booking.getStart(), booking.getEnd(),
+                    bookingId, overlapMessage);
+        }
+
+        publish(approved ? OutboxEventType.BOOKING_APPROVED : OutboxEventType.BOOKING_REJECTED, booking);
+
+        log.info("Пользователь владелец вещи с id {} {} бронирование {}", userId, approved ? "подтвердил" : "отклонил", booking);
+        return BookingMapper.toBookingResponseDto(booking, timeZone);
+    }
+
+    /**
+     * Метод записи события бронирования в исходящую очередь в текущей транзакции. Даты события в UTC.
+     *
+     * @param type    тип события.
+     * @param booking объект класса {@link Booking} бронирование.
+     */
+    private void publish(OutboxEventType type, Booking booking) {
+        outboxPublisher.publish(type, booking.getId(), BookingMapper.toBookingResponseDto(booking, EVENT_TIME_ZONE));
+    }
+
+    /**
+     * Метод определения причины, по которой условное обновление статуса бронирования не изменило ни одной строки.
+     *
+     * @param bookingId объект класса {@link Long} идентификационный номер бронирования.
+     * @param userId    объект класса {@link Long} идентификационный номер пользователя.
+     * @param approved  объект класса {@link Boolean} подтверждение бронирования.
+     * @return исключение для выброса.
+     */
+    private RuntimeException confirmationFailure(Long bookingId, Long userId, Boolean approved) {
+        if (bookingRepository.findStatusByIdAndOwnerId(bookingId, userId).isEmpty()) {
+            return new NotFoundBookingException(
+                    String.format("У пользователя с id %d не существует запроса на бронирование с id %d", userId, bookingId));
+        }
+
+        return new BookingServiceException(String.format(approved
+                ? "Владелец вещи с id %d уже подтвердил бронирование с id %d"
+                : "Владелец вещи с id %d уже отклонил бронирование с id %d", userId, bookingId));
     }
 
     /**
@@ -128,6 +262,23 @@ public class BookingServiceImpl implements BookingService {
         return BookingMapper.toBookingResponseDto(booking, timeZone);
     }
 
+    /**
+     * Метод получения ETag бронирования для указанного пользователя без построения ответа.
+     * Даты ответа переводятся в часовой пояс пользователя, поэтому ETag зависит от часового пояса.
+     *
+     * @param bookingId объект класса {@link Long} идентификационный номер бронирования.
+     * @param userId    объект класса  {@link Long} идентификационный номер пользователя.
+     * @param timeZone  объект класса {@link TimeZone} часовой пояс пользователя.
+     * @return ETag или null, если бронирование пользователю недоступно.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getBookingETag(Long bookingId, Long userId, TimeZone timeZone) {
+        return bookingRepository.findVersionByIdAndOwnerIdOrBookerId(bookingId, userId)
+                .map(version -> ETags.strong("booking", bookingId, timeZone.getID(), version))
+                .orElse(null);
+    }
+
     /**
      * Метод получения списка бронирований для бронирующего.
      *
@@ -164,15 +315,79 @@ public class BookingServiceImpl implements BookingService {
         return getBookings(params, UserType.OWNER);
     }
 
-    private List<BookingResponseDto> getBookings(GetBookingsParams params, UserType type) {
-        var typedSort = Sort.sort(Booking.class);
-        var descending = typedSort.by(Booking::getStart).descending();
-        BooleanExpression query = null;
+    /**
+     * Метод получения страницы бронирований для бронирующего по позиции.
+     *
+     * @param params объект класса  {@link GetBookingsParams} параметры запроса, позиция передаётся в поле cursor.
+     * @return объект класса {@link BookingsPage}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BookingsPage getBookingsByBookerAfter(@Valid GetBookingsParams params) {
+        var userId = params.getUserId();
+        userChecker.checkUser(userId, String.format(
+                "Нельзя получить список бронирований для не существующего пользователя с id %d", userId));
+        log.info("Получение страницы бронирований для пользователя с id {} и сортировкой {} после позиции {}",
+                userId, params.getState(), params.getCursor());
+
+        return getBookingsAfter(params, UserType.BOOKER);
+    }
+
+    /**
+     * Метод получения страницы бронирований для владельца вещей по позиции.
+     *
+     * @param params объект класса  {@link GetBookingsParams} параметры запроса, позиция передаётся в поле cursor.
+     * @return объект класса {@link BookingsPage}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BookingsPage getBookingByOwnerAfter(@Valid GetBookingsParams params) {
         var userId = params.getUserId();
+        userChecker.checkUser(userId, String.format(
+                "Нельзя получить список забронированных вещей для не существующего пользователя с id %d", userId));
+        log.info("Получение страницы бронирований для пользователя владельца вещей с id {} и сортировкой {} после позиции {}",
+                userId, params.getState(), params.getCursor());
+
+        return getBookingsAfter(params, UserType.OWNER);
+    }
+
+    private List<BookingResponseDto> getBookings(GetBookingsParams params, UserType type) {
         var timeZone = params.getTimeZone();
-        var state = params.getState();
         var size = params.getSize();
         var from = params.getFrom();
+
+        var page = from / size;
+        var all = bookingRepository.findAllWithItem(getPredicate(params, type), (long) page * size, size);
+
+        return all.stream()
+                .map(b -> BookingMapper.toBookingResponseDto(b, timeZone))
+                .collect(Collectors.toList());
+    }
+
+    private BookingsPage getBookingsAfter(GetBookingsParams params, UserType type) {
+        var timeZone = params.getTimeZone();
+        var size = params.getSize();
+        var cursor = BookingCursor.decode(params.getCursor());
+        var bookings = bookingRepository.findAllAfter(getPredicate(params, type), cursor, size + 1);
+        String nextCursor = null;
+
+        if (bookings.size() > size) {
+            bookings = bookings.subList(0, size);
+            nextCursor = BookingCursor.of(bookings.get(size - 1)).encode();
+        }
+
+        return BookingsPage.builder()
+                .bookings(bookings.stream()
+                        .map(b -> BookingMapper.toBookingResponseDto(b, timeZone))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private BooleanExpression getPredicate(GetBookingsParams params, UserType type) {
+        BooleanExpression query = null;
+        var userId = params.getUserId();
+        var state = params.getState();
         var now = ZonedDateTime.now();
 
         switch (type) {
@@ -206,12 +421,29 @@ public class BookingServiceImpl implements BookingService {
                 throw new IllegalStateException("Unexpected value: " + state);
         }
 
-        var page = from / size;
-        var pageable = PageRequest.of(page, size, descending);
-        var all = bookingRepository.findAll(query, pageable);
+        return query;
+    }
 
-        return all.stream()
-                .map(b -> BookingMapper.toBookingResponseDto(b, timeZone))
-                .collect(Collectors.toList());
+    private Booking toNewBooking(BookingRequestDto booking, User user, Long userId, Item item, TimeZone timeZone) {
+        var itemId = item.getId();
+
+        if (!item.getAvailable()) {
+            throw new BookingServiceException(
+                    String.format("Нельзя забронировать не доступную для бронирования вещь с id %d для пользователя с id %d", itemId, userId));
+        }
+
+        if (item.getOwner().getId().equals(userId)) {
+            throw new NotFoundBookingException(String.format(
+                    "Нельзя забронировать вещь c id %d пользователь с id %d является владельцем вещи",
+                    userId, itemId));
+        }
+
+        return BookingMapper.toBooking(booking, user, item, timeZone);
+    }
+
+    private static String overlapMessage(Long itemId, Long userId) {
+        return String.format(
+                "Нельзя забронировать вещь с id %d для пользователя с id %d, на этот период есть подтверждённое бронирование",
+                itemId, userId);
     }
 }
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.checker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.exception.BookingServiceException;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Проверка пересечения бронирования с подтверждёнными бронированиями той же вещи.
+ * Блокирует строку вещи до конца транзакции и проверяет пересечение одним запросом к базе данных
+ * по индексу idx_bookings_item_start, поэтому проверка верна и при нескольких экземплярах сервера.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingOverlapChecker {
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+
+    public void checkOverlap(Long itemId, ZonedDateTime start, ZonedDateTime end, Long bookingId, String message) {
+        itemRepository.lockById(itemId);
+
+        if (bookingRepository.existsApprovedOverlap(itemId, start, end, bookingId != null ? bookingId : 0L)) {
+            throw new BookingServiceException(message);
+        }
+    }
+
+    /**
+     * Метод пакетной проверки новых бронирований. Вещи пакета блокируются одним запросом в порядке id,
+     * подтверждённые бронирования этих вещей за общий период пакета загружаются вторым запросом,
+     * а пересечения проверяются в памяти.
+     *
+     * @param bookings новые бронирования.
+     * @return бронирования из пакета, пересекающиеся с подтверждёнными, множество сравнивает их по ссылке.
+     */
+    public Set<Booking> findOverlapping(Collection<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return Set.of();
+        }
+
+        var itemIds = bookings.stream()
+                .map(b -> b.getItem().getId())
+                .collect(Collectors.toCollection(TreeSet::new));
+        var start = bookings.stream().map(Booking::getStart).min(Comparator.naturalOrder()).orElseThrow();
+        var end = bookings.stream().map(Booking::getEnd).max(Comparator.naturalOrder()).orElseThrow();
+
+        itemRepository.lockAllById(itemIds);
+        List<Booking> approved = bookingRepository.findApprovedOverlaps(itemIds, start, end);
+
+        Set<Booking> overlapping = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (Booking booking : bookings) {
+            if (approved.stream().anyMatch(a -> overlaps(a, booking))) {
+                overlapping.add(booking);
+            }
+        }
+
+        return overlapping;
+    }
+
+    private static boolean overlaps(Booking approved, Booking booking) {
+        return approved.getItem().getId().equals(booking.getItem().getId())
+                && approved.getStart().isBefore(booking.getEnd())
+                && approved.getEnd().isAfter(booking.getStart());
+    }
+}
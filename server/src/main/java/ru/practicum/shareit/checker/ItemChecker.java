@@ -6,6 +6,11 @@ import ru.practicum.shareit.exception.NotFoundItemException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * @author Nikolay Radzivon
  * @Date 23.05.2024
@@ -19,4 +24,9 @@ public class ItemChecker {
         return itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundItemException(message));
     }
+
+    public Map<Long, Item> checkItems(Collection<Long> itemIds) {
+        return itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+    }
 }
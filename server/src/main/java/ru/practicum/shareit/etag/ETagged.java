@@ -0,0 +1,27 @@
+package ru.practicum.shareit.etag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Результат изменения записи вместе с её новым ETag.
+ * ETag строится в транзакции изменения по версии сохранённой записи, поэтому соответствует именно
+ * тому состоянию, которое возвращается в теле ответа.
+ *
+ * @param <T> тип тела ответа.
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@AllArgsConstructor
+public class ETagged<T> {
+    /**
+     * Тело ответа.
+     */
+    private final T body;
+
+    /**
+     * ETag записи после изменения.
+     */
+    private final String etag;
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.etag;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Утилита для построения сильных ETag ответов сервера.
+ * <p>
+ * ETag строится из версий записей, попадающих в ответ, и параметров запроса, влияющих на его тело,
+ * поэтому проверка If-None-Match не требует загрузки сущностей и построения DTO.
+ * Те же ETag проверяются в заголовке If-Match условных обновлений.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class ETags {
+    private ETags() {
+    }
+
+    /**
+     * Метод построения сильного ETag.
+     *
+     * @param parts составные части версии ответа.
+     * @return ETag в кавычках.
+     */
+    public static String strong(Object... parts) {
+        var version = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Метод проверки заголовка If-Match. Заголовок совпадает, если содержит {@code *} или ETag ресурса.
+     * Слабые ETag при сильном сравнении не совпадают.
+     *
+     * @param ifMatch значение заголовка If-Match, список ETag через запятую.
+     * @param etag    текущий ETag ресурса, null если ресурса не существует.
+     * @return true, если условное обновление можно выполнить.
+     */
+    public static boolean matches(String ifMatch, String etag) {
+        if (etag == null) {
+            return false;
+        }
+
+        return Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.exception;
+
+/**
+ * Исключение, выбрасываемое, если ETag из заголовка If-Match не совпадает с текущей версией ресурса.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
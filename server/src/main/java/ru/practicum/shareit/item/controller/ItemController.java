@@ -5,10 +5,12 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 import ru.practicum.shareit.item.service.ItemSearchParams;
@@ -61,12 +63,17 @@ public class ItemController {
             Long itemId,
             @RequestHeader(value = xSharerUserId)
             @Parameter(description = "Идентификационный номер пользователя владельца вещи")
-            Long userId) {
+            Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag вещи для условного обновления")
+            String ifMatch) {
         log.info("PATCH /items/{} , body = {}, header \"{}\" = {}", itemId, item, xSharerUserId, userId);
+        var updated = itemService.updateItem(item, userId, itemId, ifMatch);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(itemService.updateItem(item, userId, itemId));
+                .eTag(updated.getEtag())
+                .body(updated.getBody());
     }
 
     @GetMapping("/{itemId}")
@@ -77,8 +84,14 @@ public class ItemController {
             Long itemId,
             @RequestHeader(value = xSharerUserId, required = false)
             @Parameter(description = "Идентификационный номер пользователя")
-            Long userId) {
+            Long userId,
+            WebRequest webRequest) {
         log.info("GET /items/{} , header \"{}\" = {}", itemId, xSharerUserId, userId);
+        var etag = itemService.getItemETag(itemId, userId);
+
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -126,8 +139,14 @@ public class ItemController {
             @RequestParam(required = false, name = "size", defaultValue = "10")
             @Min(value = 1, message = "Параметр size не может быть меньше 0.")
             @Max(value = 100, message = "Параметр size не может быть больше 100.")
-            Integer size) {
+            Integer size,
+            WebRequest webRequest) {
         log.info("GET /items?from={}&size={} , header \"{}\" = {}", from, size, xSharerUserId, userId);
+        var etag = itemService.getAllItemByUserETag(userId, from, size);
+
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -173,22 +192,27 @@ public class ItemController {
             CommentRequestDto text,
             TimeZone timeZone) {
         log.info("POST /items/{}/comment , header \"{}\" = {}", itemId, xSharerUserId, userId);
+        var added = itemService.addComment(itemId, userId, timeZone, text);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(itemService.addComment(itemId, userId, timeZone, text));
+                .eTag(added.getEtag())
+                .body(added.getBody());
     }
 
     @PatchMapping("comment/{commentId}")
     public ResponseEntity<?> updateComment(
             @RequestBody CommentRequestDto comment,
             @RequestHeader(value = xSharerUserId) Long userId,
-            @PathVariable Long commentId) {
+            @PathVariable Long commentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PATCH /items/comment/{} , header \"{}\" = {}", commentId, xSharerUserId, userId);
+        var updated = itemService.updateComment(comment, userId, commentId, ifMatch);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(itemService.updateComment(comment, userId, commentId));
+                .eTag(updated.getEtag())
+                .body(updated.getBody());
     }
 
     @DeleteMapping("comment/{commentId}")
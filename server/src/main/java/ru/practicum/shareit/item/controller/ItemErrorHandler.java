@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingRequestHeaderException;
@@ -11,6 +12,7 @@ import ru.practicum.shareit.exception.NotFoundBookingException;
 import ru.practicum.shareit.exception.NotFoundCommentException;
 import ru.practicum.shareit.exception.NotFoundItemException;
 import ru.practicum.shareit.exception.NotFoundUserException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
 
 import javax.validation.ConstraintViolationException;
 
@@ -18,7 +20,8 @@ import static ru.practicum.shareit.exception.ErrorResponse.makeErrorResponse;
 
 /**
  * Класс {@link ItemErrorHandler} для обработки исключений {@link NotFoundItemException}, {@link NotFoundUserException},
- * {@link MissingRequestHeaderException}, {@link ConstraintViolationException} в пакете {@link ru.practicum.shareit.item}
+ * {@link MissingRequestHeaderException}, {@link ConstraintViolationException}, {@link PreconditionFailedException},
+ * {@link OptimisticLockingFailureException} в пакете {@link ru.practicum.shareit.item}
  *
  * @author Nikolay Radzivon
  * @Date 19.04.2024
@@ -63,4 +66,18 @@ public class ItemErrorHandler {
         log.warn("Ошибка работы с предметами", e);
         return makeErrorResponse(webRequest, HttpStatus.NOT_FOUND, "Ошибка работы с предметами: ");
     }
+
+    @ExceptionHandler
+    public ResponseEntity<?> handlerPreconditionFailedException(final PreconditionFailedException e,
+                                                                WebRequest webRequest) {
+        log.warn("Версия вещи не совпадает с If-Match", e);
+        return makeErrorResponse(webRequest, HttpStatus.PRECONDITION_FAILED, "Версия вещи не совпадает с If-Match: ");
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<?> handlerOptimisticLockingFailureException(final OptimisticLockingFailureException e,
+                                                                      WebRequest webRequest) {
+        log.warn("Параллельное изменение вещи", e);
+        return makeErrorResponse(webRequest, HttpStatus.CONFLICT, "Параллельное изменение вещи: ");
+    }
 }
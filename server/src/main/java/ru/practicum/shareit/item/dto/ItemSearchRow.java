@@ -0,0 +1,30 @@
+package ru.practicum.shareit.item.dto;
+
+/**
+ * Проекция доступной вещи с полями, которые нужны поисковому индексу в памяти
+ * {@link ru.practicum.shareit.item.search.NGramItemSearcher}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public interface ItemSearchRow {
+    /**
+     * Идентификационный номер вещи.
+     */
+    Long getId();
+
+    /**
+     * Идентификационный номер владельца вещи.
+     */
+    Long getOwnerId();
+
+    /**
+     * Название вещи.
+     */
+    String getName();
+
+    /**
+     * Описание вещи.
+     */
+    String getDescription();
+}
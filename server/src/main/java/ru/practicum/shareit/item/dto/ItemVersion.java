@@ -0,0 +1,20 @@
+package ru.practicum.shareit.item.dto;
+
+/**
+ * Проекция с версией вещи и агрегированной версией связанных с ней записей для построения ETag вещи.
+ * Версия вещи отделена от остальных, чтобы при условном обновлении ETag строился по версии загруженной сущности.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public interface ItemVersion {
+    /**
+     * Версия вещи.
+     */
+    Long getVersion();
+
+    /**
+     * Владелец вещи и агрегированные версии её отзывов и бронирований.
+     */
+    String getRelated();
+}
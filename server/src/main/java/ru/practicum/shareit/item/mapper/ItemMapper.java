@@ -1,6 +1,7 @@
 package ru.practicum.shareit.item.mapper;
 
 import ru.practicum.shareit.item.dto.*;
+import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
@@ -63,11 +64,11 @@ public class ItemMapper {
     }
 
     public static OwnerItemResponseDto toOwnerItemResponseDto(Item item, BookingShort lastBooking,
-                                                              BookingShort nextBooking) {
+                                                              BookingShort nextBooking, List<Comment> comments) {
         return OwnerItemResponseDto.builder()
                 .lastBooking(lastBooking)
                 .nextBooking(nextBooking)
-                .comments(item.getComments() != null ? item.getComments().stream()
+                .comments(comments != null ? comments.stream()
                         .map(CommentMapper::toCommentResponseDto)
                         .collect(Collectors.toList()) : List.of())
                 .id(item.getId())
@@ -25,10 +25,18 @@ public class Comment {
      * Идентификационный номер комментария.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     @Builder.Default
     private Long id = null;
 
+    /**
+     * Версия записи, увеличивается при каждом изменении.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Текст комментария.
      */
@@ -38,7 +46,7 @@ public class Comment {
     /**
      * Предмет которому оставлен комментарий.
      */
-    @ManyToOne(targetEntity = Item.class)
+    @ManyToOne(fetch = FetchType.LAZY, targetEntity = Item.class)
     @JoinColumn(name = "item_id")
     @Builder.Default
     @ToString.Exclude
@@ -26,8 +26,15 @@ public class Item {
      */
     @Builder.Default
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     private Long id = null;
+    /**
+     * Версия записи, увеличивается при каждом изменении.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
     /**
      * Имя вещи.
      */
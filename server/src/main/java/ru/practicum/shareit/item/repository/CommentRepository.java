@@ -1,8 +1,12 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Интерфейс {@link CommentRepository}
  *
@@ -10,4 +14,13 @@ import ru.practicum.shareit.item.model.Comment;
  * @Date 07.05.2024
  */
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * Метод получения комментариев к вещам вместе с авторами одним запросом.
+     *
+     * @param itemIds {@link Collection} идентификационные номера вещей.
+     * @return {@link List} комментариев в порядке их добавления.
+     */
+    @EntityGraph(attributePaths = "author")
+    List<Comment> findAllByItem_IdInOrderByIdAsc(Collection<Long> itemIds);
 }
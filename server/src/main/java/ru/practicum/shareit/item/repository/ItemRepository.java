@@ -3,11 +3,20 @@ package ru.practicum.shareit.item.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.ItemSearchRow;
+import ru.practicum.shareit.item.dto.ItemVersion;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Интерфейс {@link ItemRepository}
  *
@@ -29,6 +38,26 @@ public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredi
             "and i.available = true ")
     Page<Item> searchItem(@Param("text") String text, Pageable pageable);
 
+    /**
+     * Метод полнотекстового поиска вещи по её названию или описанию и вывода постранично.
+     * Работает только на Postgres, результат отсортирован по убыванию ts_rank.
+     *
+     * @param text     текс поиска.
+     * @param pageable страница.
+     * @return {@link Page} {@link Item}.
+     */
+    @Query(value = "select i.* " +
+            "from items as i " +
+            "where i.search_vector @@ plainto_tsquery('simple', :text) " +
+            "and i.is_available = true " +
+            "order by ts_rank(i.search_vector, plainto_tsquery('simple', :text)) desc, i.id ",
+            countQuery = "select count(*) " +
+                    "from items as i " +
+                    "where i.search_vector @@ plainto_tsquery('simple', :text) " +
+                    "and i.is_available = true ",
+            nativeQuery = true)
+    Page<Item> searchItemFullText(@Param("text") String text, Pageable pageable);
+
     /**
      * Метод удаления всех вещей указанного пользователя.
      *
@@ -36,6 +65,22 @@ public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredi
      */
     void deleteAllByOwner_Id(Long ownerId);
 
+    /**
+     * Метод получения порции доступных вещей после указанного id для построения поискового индекса в памяти.
+     * Порции выбираются по возрастанию id, поэтому запрос не зависит от номера порции, не считает общее количество
+     * и не загружает сущности в контекст персистентности.
+     *
+     * @param afterId  id последней вещи предыдущей порции, 0 для первой.
+     * @param pageable размер порции.
+     * @return {@link List} {@link ItemSearchRow}.
+     */
+    @Query("select i.id as id, i.owner.id as ownerId, i.name as name, i.description as description " +
+            "from Item as i " +
+            "where i.available = true " +
+            "and i.id > :after_id " +
+            "order by i.id")
+    List<ItemSearchRow> findSearchRowsAfter(@Param("after_id") Long afterId, Pageable pageable);
+
     /**
      * Метод получения всех вещей указанного пользователя и вывода постранично.
      *
@@ -44,5 +89,72 @@ public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredi
      * @return Страница вещей.
      */
     Page<Item> findAllByOwnerId(Long ownerId, Pageable pageable);
-}
 
+    /**
+     * Метод получения вещи с блокировкой строки до конца транзакции.
+     * Используется для последовательной обработки бронирований одной вещи.
+     *
+     * @param itemId идентификационный номер вещи.
+     * @return {@link Optional} {@link Item}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i " +
+            "from Item as i " +
+            "where i.id = :item_id ")
+    Optional<Item> lockById(@Param("item_id") Long itemId);
+
+    /**
+     * Метод получения вещей с блокировкой строк до конца транзакции. Строки блокируются в порядке id,
+     * поэтому пакеты с пересекающимися вещами не блокируют друг друга взаимно.
+     *
+     * @param itemIds идентификационные номера вещей.
+     * @return {@link List} {@link Item} в порядке id.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i " +
+            "from Item as i " +
+            "where i.id in :item_ids " +
+            "order by i.id ")
+    List<Item> lockAllById(@Param("item_ids") Collection<Long> itemIds);
+
+    /**
+     * Метод получения версии вещи и агрегированной версии связанных записей для построения ETag.
+     * Кроме версии вещи возвращаются владелец, количество, последний id и сумма версий отзывов и их авторов,
+     * а также количество, последний id и сумма версий бронирований и число бронирований,
+     * начавшихся и закончившихся к указанному времени, от которых зависят последнее и следующее бронирование.
+     *
+     * @param itemId идентификационный номер вещи.
+     * @param now    текущие дата и время.
+     * @return {@link Optional} версия вещи, пустой если вещи не существует.
+     */
+    @Query(value = "select i.version as version, concat_ws(':', i.user_id, " +
+            "(select concat_ws('.', count(c.id), coalesce(max(c.id), 0), coalesce(sum(c.version + a.version), 0)) " +
+            "from comments as c join users as a on a.id = c.user_id where c.item_id = i.id), " +
+            "(select concat_ws('.', count(b.id), coalesce(max(b.id), 0), coalesce(sum(b.version), 0), " +
+            "count(case when b.start_date > :now then 1 end), count(case when b.end_date < :now then 1 end)) " +
+            "from bookings as b where b.item_id = i.id)) as related " +
+            "from items as i " +
+            "where i.id = :item_id ", nativeQuery = true)
+    Optional<ItemVersion> findVersionById(@Param("item_id") Long itemId, @Param("now") ZonedDateTime now);
+
+    /**
+     * Метод получения агрегированной версии всех вещей пользователя для построения ETag.
+     * Состав версии такой же, как в {@link #findVersionById(Long, ZonedDateTime)}, но по всем вещам владельца.
+     *
+     * @param ownerId идентификационный номер пользователя владельца вещей.
+     * @param now     текущие дата и время.
+     * @return {@link Optional} версия списка вещей, пустой если пользователя не существует.
+     */
+    @Query(value = "select concat_ws(':', " +
+            "(select concat_ws('.', count(i.id), coalesce(max(i.id), 0), coalesce(sum(i.version), 0)) " +
+            "from items as i where i.user_id = u.id), " +
+            "(select concat_ws('.', count(c.id), coalesce(max(c.id), 0), coalesce(sum(c.version + a.version), 0)) " +
+            "from comments as c join items as i on i.id = c.item_id join users as a on a.id = c.user_id " +
+            "where i.user_id = u.id), " +
+            "(select concat_ws('.', count(b.id), coalesce(max(b.id), 0), coalesce(sum(b.version), 0), " +
+            "count(case when b.start_date > :now then 1 end), count(case when b.end_date < :now then 1 end)) " +
+            "from bookings as b join items as i on i.id = b.item_id where i.user_id = u.id)) " +
+            "from users as u " +
+            "where u.id = :owner_id ", nativeQuery = true)
+    Optional<String> findVersionByOwnerId(@Param("owner_id") Long ownerId, @Param("now") ZonedDateTime now);
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+/**
+ * Реализация интерфейса {@link ItemSearcher} полнотекстовым поиском Postgres.
+ * Использует колонку search_vector с GIN индексом из миграции V1_1__search_and_overlap_constraint.sql и сортирует результат по ts_rank.
+ * Ищет целые слова, а не произвольные подстроки.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item.search.mode", havingValue = "fulltext")
+public class FullTextItemSearcher implements ItemSearcher {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public Page<Item> search(String text, Pageable pageable) {
+        return itemRepository.searchItemFullText(text, pageable);
+    }
+}
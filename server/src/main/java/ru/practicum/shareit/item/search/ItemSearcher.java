@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Item;
+
+/**
+ * Интерфейс {@link ItemSearcher} стратегия поиска доступных вещей по тексту.
+ * Реализация выбирается параметром конфигурации {@code shareit.item.search.mode}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public interface ItemSearcher {
+    /**
+     * Метод поиска доступных вещей по названию или описанию и вывода постранично.
+     *
+     * @param text     текст поиска.
+     * @param pageable страница.
+     * @return {@link Page} {@link Item}.
+     */
+    Page<Item> search(String text, Pageable pageable);
+
+    /**
+     * Метод уведомления о создании или изменении вещи. Вызывается из сервиса вещей.
+     *
+     * @param item сохранённая вещь.
+     */
+    default void onItemSaved(Item item) {
+    }
+
+    /**
+     * Метод уведомления об удалении вещи. Вызывается из сервиса вещей.
+     *
+     * @param itemId идентификационный номер вещи.
+     */
+    default void onItemDeleted(Long itemId) {
+    }
+
+    /**
+     * Метод уведомления об удалении всех вещей пользователя. Вызывается из сервиса вещей и при удалении
+     * пользователя, вещи которого удаляются каскадно.
+     *
+     * @param ownerId идентификационный номер пользователя владельца вещей.
+     */
+    default void onOwnerItemsDeleted(Long ownerId) {
+    }
+}
@@ -0,0 +1,28 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+/**
+ * Реализация интерфейса {@link ItemSearcher} поиском подстроки без учёта регистра.
+ * Используется по умолчанию и работает на любой базе данных.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.item.search.mode", havingValue = "like", matchIfMissing = true)
+public class LikeItemSearcher implements ItemSearcher {
+    private final ItemRepository itemRepository;
+
+    @Override
+    public Page<Item> search(String text, Pageable pageable) {
+        return itemRepository.searchItem(text, pageable);
+    }
+}
@@ -0,0 +1,463 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemSearchRow;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация интерфейса {@link ItemSearcher} на основе триграммного индекса в памяти.
+ * Сохраняет семантику поиска подстроки без учёта регистра: кандидаты находятся пересечением списков вхождений
+ * триграмм запроса, после чего каждый кандидат проверяется точным сравнением.
+ * Индекс строится при старте приложения и обновляется после фиксации транзакций сервисов вещей и пользователей.
+ * Перестроение читает вещи порциями без блокировки и заменяет индекс целиком, поэтому поиск во время него
+ * продолжает работать по прежнему индексу, а изменения, зафиксированные за время чтения, повторяются на новом.
+ * <p>
+ * Режим рассчитан только на один экземпляр сервера: изменения, сделанные другими экземплярами или в обход
+ * сервисов, индекс не видит. Найденные вещи перечитываются из базы, поэтому удалённые или изменённые вещи
+ * не попадают в выдачу, не учитываются в общем количестве и исправляются в индексе. Запросы короче трёх
+ * символов не содержат триграмм и выполняются {@link LikeItemSearcher}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.item.search.mode", havingValue = "ngram")
+public class NGramItemSearcher implements ItemSearcher {
+    private static final int N = 3;
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final long[] NO_MATCHES = new long[0];
+
+    private final ItemRepository itemRepository;
+    private final LikeItemSearcher shortQuerySearcher;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Текущий индекс, после перестроения заменяется новым.
+     */
+    private Index index = new Index();
+
+    /**
+     * Изменения, зафиксированные во время перестроения, null вне перестроения.
+     */
+    private List<Consumer<Index>> pending;
+
+    public NGramItemSearcher(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+        this.shortQuerySearcher = new LikeItemSearcher(itemRepository);
+    }
+
+    /**
+     * Метод полного построения индекса по всем доступным вещам.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        var rebuilt = new Index();
+
+        try {
+            long afterId = 0L;
+            List<ItemSearchRow> rows;
+
+            do {
+                rows = itemRepository.findSearchRowsAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+
+                for (ItemSearchRow row : rows) {
+                    rebuilt.put(row.getId(), row.getOwnerId(), row.getName(), row.getDescription());
+                    afterId = row.getId();
+                }
+            } while (rows.size() == LOAD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(change -> change.accept(rebuilt));
+            pending = null;
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Построен триграммный индекс вещей, проиндексировано {} вещей", rebuilt.docs.size());
+    }
+
+    @Override
+    public Page<Item> search(String text, Pageable pageable) {
+        var query = normalize(text);
+
+        if (query.length() < N) {
+            return shortQuerySearcher.search(text, pageable);
+        }
+
+        int total;
+        List<Long> ids;
+
+        lock.readLock().lock();
+        try {
+            long[] matchIds = index.match(query);
+            Arrays.sort(matchIds);
+
+            int from = (int) Math.min(pageable.getOffset(), matchIds.length);
+            int to = Math.min(from + pageable.getPageSize(), matchIds.length);
+
+            total = matchIds.length;
+            ids = new ArrayList<>(to - from);
+
+            for (int i = from; i < to; i++) {
+                ids.add(matchIds[i]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, Item> items = itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        List<Item> content = new ArrayList<>(ids.size());
+
+        for (Long id : ids) {
+            var item = items.get(id);
+
+            if (item == null) {
+                onItemDeleted(id);
+            } else if (!matches(item, query)) {
+                onItemSaved(item);
+            } else {
+                content.add(item);
+            }
+        }
+
+        return new PageImpl<>(content, pageable, total - (ids.size() - content.size()));
+    }
+
+    @Override
+    public void onItemSaved(Item item) {
+        var itemId = item.getId();
+        var ownerId = item.getOwner() != null ? item.getOwner().getId() : null;
+        var available = Boolean.TRUE.equals(item.getAvailable());
+        var name = item.getName();
+        var description = item.getDescription();
+
+        apply(i -> {
+            if (available) {
+                i.put(itemId, ownerId, name, description);
+            } else {
+                i.remove(itemId);
+            }
+        });
+    }
+
+    @Override
+    public void onItemDeleted(Long itemId) {
+        apply(i -> i.remove(itemId));
+    }
+
+    @Override
+    public void onOwnerItemsDeleted(Long ownerId) {
+        apply(i -> i.removeOwner(ownerId));
+    }
+
+    /**
+     * Метод получения количества занятых ячеек документов, включая освобождённые для повторного использования.
+     *
+     * @return размер массивов документов, который занят индексом.
+     */
+    int slots() {
+        lock.readLock().lock();
+        try {
+            return index.docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Метод применения изменения к индексу после фиксации транзакции. Во время перестроения изменение
+     * запоминается, чтобы повторить его на новом индексе.
+     *
+     * @param change изменение индекса.
+     */
+    private void apply(Consumer<Index> change) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                change.accept(index);
+
+                if (pending != null) {
+                    pending.add(change);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private static int[] intersect(int[] left, Postings right) {
+        int[] result = new int[Math.min(left.length, right.size)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+
+        while (i < left.length && j < right.size) {
+            if (left[i] < right.ids[j]) {
+                i++;
+            } else if (left[i] > right.ids[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
+    private static Set<Long> grams(String name, String description) {
+        Set<Long> grams = new HashSet<>();
+        addGrams(grams, name);
+        addGrams(grams, description);
+        return grams;
+    }
+
+    private static void addGrams(Set<Long> grams, String text) {
+        for (int i = 0; i + N <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+    }
+
+    private static boolean matches(Item item, String query) {
+        return Boolean.TRUE.equals(item.getAvailable())
+                && (normalize(item.getName()).contains(query) || normalize(item.getDescription()).contains(query));
+    }
+
+    private static String normalize(String text) {
+        return text != null ? text.toUpperCase(Locale.ROOT) : "";
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Триграммный индекс. Ячейки удалённых документов переиспользуются новыми документами, поэтому массивы
+     * растут только с количеством одновременно проиндексированных вещей.
+     */
+    private static final class Index {
+        /**
+         * Внутренний номер документа по идентификационному номеру вещи.
+         */
+        private final Map<Long, Integer> docs = new HashMap<>();
+
+        /**
+         * Списки вхождений триграмм, отсортированные по номеру документа.
+         */
+        private final Map<Long, Postings> postings = new HashMap<>();
+
+        private long[] itemIds = new long[16];
+        private long[] ownerIds = new long[16];
+        private String[] names = new String[16];
+        private String[] descriptions = new String[16];
+        private int docCount;
+
+        /**
+         * Стек номеров освобождённых документов.
+         */
+        private int[] freeDocs = new int[16];
+        private int freeCount;
+
+        private void put(Long itemId, Long ownerId, String name, String description) {
+            Integer existing = docs.get(itemId);
+
+            if (existing != null) {
+                removeGrams(existing);
+            } else {
+                existing = allocate();
+                docs.put(itemId, existing);
+                itemIds[existing] = itemId;
+            }
+
+            int doc = existing;
+
+            ownerIds[doc] = ownerId != null ? ownerId : 0L;
+            names[doc] = normalize(name);
+            descriptions[doc] = normalize(description);
+
+            for (long gram : grams(names[doc], descriptions[doc])) {
+                postings.computeIfAbsent(gram, g -> new Postings()).add(doc);
+            }
+        }
+
+        private void remove(Long itemId) {
+            Integer doc = docs.remove(itemId);
+
+            if (doc != null) {
+                removeGrams(doc);
+                names[doc] = null;
+                descriptions[doc] = null;
+
+                if (freeCount == freeDocs.length) {
+                    freeDocs = Arrays.copyOf(freeDocs, freeCount * 2);
+                }
+                freeDocs[freeCount++] = doc;
+            }
+        }
+
+        private void removeOwner(Long ownerId) {
+            for (int doc = 0; doc < docCount; doc++) {
+                if (names[doc] != null && ownerIds[doc] == ownerId) {
+                    remove(itemIds[doc]);
+                }
+            }
+        }
+
+        private int allocate() {
+            if (freeCount > 0) {
+                return freeDocs[--freeCount];
+            }
+
+            int doc = docCount++;
+
+            if (docCount > itemIds.length) {
+                int length = Math.max(docCount, itemIds.length * 2);
+                itemIds = Arrays.copyOf(itemIds, length);
+                ownerIds = Arrays.copyOf(ownerIds, length);
+                names = Arrays.copyOf(names, length);
+                descriptions = Arrays.copyOf(descriptions, length);
+            }
+
+            return doc;
+        }
+
+        private void removeGrams(int doc) {
+            for (long gram : grams(names[doc], descriptions[doc])) {
+                var list = postings.get(gram);
+
+                if (list != null) {
+                    list.remove(doc);
+
+                    if (list.size == 0) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Метод поиска вещей по запросу не короче {@link #N} символов.
+         */
+        private long[] match(String query) {
+            Set<Long> grams = grams(query, "");
+            Postings[] lists = new Postings[grams.size()];
+            int i = 0;
+
+            for (long gram : grams) {
+                var list = postings.get(gram);
+
+                if (list == null) {
+                    return NO_MATCHES;
+                }
+                lists[i++] = list;
+            }
+
+            Arrays.sort(lists, Comparator.comparingInt(l -> l.size));
+            int[] candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+
+            for (int j = 1; j < lists.length && candidates.length > 0; j++) {
+                candidates = intersect(candidates, lists[j]);
+            }
+
+            long[] matchIds = new long[candidates.length];
+            int size = 0;
+
+            for (int doc : candidates) {
+                if (names[doc].contains(query) || descriptions[doc].contains(query)) {
+                    matchIds[size++] = itemIds[doc];
+                }
+            }
+
+            return Arrays.copyOf(matchIds, size);
+        }
+    }
+
+    /**
+     * Отсортированный список номеров документов на примитивном массиве.
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size == 0 || ids[size - 1] < doc) {
+                ensureCapacity();
+                ids[size++] = doc;
+                return;
+            }
+
+            int index = Arrays.binarySearch(ids, 0, size, doc);
+
+            if (index < 0) {
+                index = -index - 1;
+                ensureCapacity();
+                System.arraycopy(ids, index, ids, index + 1, size - index);
+                ids[index] = doc;
+                size++;
+            }
+        }
+
+        private void remove(int doc) {
+            int index = Arrays.binarySearch(ids, 0, size, doc);
+
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item.service;
 
+import ru.practicum.shareit.etag.ETagged;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.model.Item;
 
@@ -25,12 +26,13 @@ public interface ItemService {
     /**
      * Метод обновления вещи.
      *
-     * @param item   объект класса {@link Item}.
-     * @param userId идентификационный номер пользователя владельца вещи.
-     * @param itemId идентификационный номер вещи.
-     * @return объект класса {@link ItemDtoResponse}
+     * @param item    объект класса {@link Item}.
+     * @param userId  идентификационный номер пользователя владельца вещи.
+     * @param itemId  идентификационный номер вещи.
+     * @param ifMatch значение заголовка If-Match, null для безусловного обновления.
+     * @return объект класса {@link ItemDtoResponse} и ETag вещи после обновления.
      */
-    ItemDtoResponse updateItem(ItemDtoRequest item, Long userId, Long itemId);
+    ETagged<ItemDtoResponse> updateItem(ItemDtoRequest item, Long userId, Long itemId, String ifMatch);
 
     /**
      * Метод получения вещи по его id для определённого пользователя.
@@ -41,6 +43,15 @@ public interface ItemService {
      */
     OwnerItemResponseDto getItemByItemId(Long itemId, Long userId);
 
+    /**
+     * Метод получения ETag вещи для определённого пользователя без построения ответа.
+     *
+     * @param itemId идентификационный номер вещи.
+     * @param userId идентификационный номер пользователя.
+     * @return ETag или null, если вещи не существует.
+     */
+    String getItemETag(Long itemId, Long userId);
+
     /**
      * Метод удаления вещи по его id для указанного пользователя.
      *
@@ -57,6 +68,16 @@ public interface ItemService {
      */
     List<OwnerItemResponseDto> getAllItemByUser(Long userId, Integer from, Integer size);
 
+    /**
+     * Метод получения ETag списка всех вещей пользователя без построения ответа.
+     *
+     * @param userId идентификационный номер пользователя владельца вещей.
+     * @param from   индекс страницы.
+     * @param size   количество элементов на странице.
+     * @return ETag или null, если пользователя не существует.
+     */
+    String getAllItemByUserETag(Long userId, Integer from, Integer size);
+
     /**
      * Метод поиска вещей по тексту.
      *
@@ -79,11 +100,20 @@ public interface ItemService {
      * @param userId   идентификационный номер пользователя.
      * @param timeZone часовой пояс пользователя.
      * @param text     текст комментария.
-     * @return {@link CommentResponseDto}
+     * @return {@link CommentResponseDto} и ETag созданного комментария для последующего обновления по If-Match.
      */
-    CommentResponseDto addComment(Long itemId, Long userId, TimeZone timeZone, CommentRequestDto text);
+    ETagged<CommentResponseDto> addComment(Long itemId, Long userId, TimeZone timeZone, CommentRequestDto text);
 
-    CommentResponseDto updateComment(CommentRequestDto comment, Long userId, Long commentId);
+    /**
+     * Метод обновления текста комментария его автором.
+     *
+     * @param comment   новый текст комментария.
+     * @param userId    идентификационный номер автора комментария.
+     * @param commentId идентификационный номер комментария.
+     * @param ifMatch   значение заголовка If-Match, null для безусловного обновления.
+     * @return {@link CommentResponseDto} и ETag комментария после обновления.
+     */
+    ETagged<CommentResponseDto> updateComment(CommentRequestDto comment, Long userId, Long commentId, String ifMatch);
 
     void deleteComment(Long commentId, Long userId);
 }
@@ -7,14 +7,18 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.LastNextBooking;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.checker.ItemChecker;
 import ru.practicum.shareit.checker.UserChecker;
+import ru.practicum.shareit.etag.ETagged;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.exception.NotFoundBookingException;
 import ru.practicum.shareit.exception.NotFoundCommentException;
 import ru.practicum.shareit.exception.NotFoundItemException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.mapper.CommentMapper;
 import ru.practicum.shareit.item.mapper.ItemMapper;
@@ -22,9 +26,13 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearcher;
 import ru.practicum.shareit.item.service.ItemSearchParams;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.outbox.OutboxEventType;
+import ru.practicum.shareit.outbox.OutboxPublisher;
 import ru.practicum.shareit.request.mapper.ItemResponseMapper;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.request.repository.ItemResponseRepository;
 
 import java.time.LocalDateTime;
@@ -46,9 +54,12 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemResponseRepository itemResponseRepository;
+    private final ItemRequestRepository itemRequestRepository;
     private final Sort.TypedSort<Item> typedSort = Sort.sort(Item.class);
     private final ItemChecker itemChecker;
     private final UserChecker userChecker;
+    private final ItemSearcher itemSearcher;
+    private final OutboxPublisher outboxPublisher;
 
     /**
      * Метод добавления новой вещи.
@@ -64,20 +75,26 @@ public class ItemServiceImpl implements ItemService {
                 "Нельзя создать новую вещь для не существующего пользователя с id %d", userId));
         var i = ItemMapper.toItem(item, user);
         var save = itemRepository.save(i);
+        itemSearcher.onItemSaved(save);
         var requestId = item.getRequestId();
 
         if (requestId != null) {
-            var itemResponse = ItemResponseMapper.toItemResponse(i, requestId);
+            var itemResponse = ItemResponseMapper.toItemResponse(i, itemRequestRepository.getReferenceById(requestId));
             var response = itemResponseRepository.save(itemResponse);
+            var itemDtoResponse = ItemMapper.toItemResponseDto(save, requestId);
+            outboxPublisher.publish(OutboxEventType.ITEM_CREATED, save.getId(), itemDtoResponse);
 
             log.info("Создана новая вещь {} для пользователя с id {} и присвоен id {}," +
                             " для запроса с id {} и ответу присвоен id {}",
                     item, userId, save.getId(), requestId, response.getId());
-            return ItemMapper.toItemResponseDto(save, requestId);
+            return itemDtoResponse;
         }
 
+        var itemDtoResponse = ItemMapper.toItemResponseDto(save);
+        outboxPublisher.publish(OutboxEventType.ITEM_CREATED, save.getId(), itemDtoResponse);
+
         log.info("Создана новая вещь {} для пользователя с id {} и присвоен id {}", item, userId, save.getId());
-        return ItemMapper.toItemResponseDto(save);
+        return itemDtoResponse;
     }
 
     /**
@@ -86,11 +103,11 @@ public class ItemServiceImpl implements ItemService {
      * @param item   объект класса {@link ItemDtoRequest}.
      * @param userId идентификационный номер пользователя владельца вещи.
      * @param itemId идентификационный номер вещи.
-     * @return объект класса {@link ItemDtoResponse}
+     * @return объект класса {@link ItemDtoResponse} и ETag вещи после обновления.
      */
     @Override
     @Transactional
-    public ItemDtoResponse updateItem(ItemDtoRequest item, Long userId, Long itemId) {
+    public ETagged<ItemDtoResponse> updateItem(ItemDtoRequest item, Long userId, Long itemId, String ifMatch) {
         userChecker.checkUser(userId, String.format(
                 "Нельзя обновить вещь c id %d для не существующего пользователя с id %d", itemId, userId));
         var i = itemChecker.checkItem(itemId, String.format(
@@ -101,6 +118,16 @@ public class ItemServiceImpl implements ItemService {
                     "Нельзя обновить вещь с id %d пользователь с id %d не является её владельцем", itemId, userId));
         }
 
+        var related = itemRepository.findVersionById(itemId, ZonedDateTime.now())
+                .map(ItemVersion::getRelated)
+                .orElseThrow(() -> new NotFoundItemException(String.format(
+                        "Нельзя обновить не существующую вещь с id %d для пользователя с id %d", itemId, userId)));
+
+        if (ifMatch != null && !ETags.matches(ifMatch, itemETag(itemId, userId, i.getVersion(), related))) {
+            throw new PreconditionFailedException(String.format(
+                    "Нельзя обновить вещь с id %d, она была изменена после получения версии %s", itemId, ifMatch));
+        }
+
         var name = item.getName();
 
         log.info("Обновление вещи c id {} для пользователя с id {}, старые данные новые {} данные {}",
@@ -122,8 +149,12 @@ public class ItemServiceImpl implements ItemService {
         }
 
         var save = itemRepository.save(i);
+        itemRepository.flush();
+        itemSearcher.onItemSaved(save);
+        var itemDtoResponse = ItemMapper.toItemResponseDto(save);
+        outboxPublisher.publish(OutboxEventType.ITEM_UPDATED, itemId, itemDtoResponse);
 
-        return ItemMapper.toItemResponseDto(save);
+        return new ETagged<>(itemDtoResponse, itemETag(itemId, userId, save.getVersion(), related));
     }
 
     /**
@@ -168,7 +199,25 @@ public class ItemServiceImpl implements ItemService {
             }
         }
 
-        return ItemMapper.toOwnerItemResponseDto(i, lastBooking, nextBooking);
+        var comments = commentRepository.findAllByItem_IdInOrderByIdAsc(List.of(itemId));
+
+        return ItemMapper.toOwnerItemResponseDto(i, lastBooking, nextBooking, comments);
+    }
+
+    /**
+     * Метод получения ETag вещи для определённого пользователя без построения ответа.
+     * Владелец видит последнее и следующее бронирование, поэтому ETag зависит от пользователя.
+     *
+     * @param itemId идентификационный номер вещи.
+     * @param userId идентификационный номер пользователя.
+     * @return ETag или null, если вещи не существует.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getItemETag(Long itemId, Long userId) {
+        return itemRepository.findVersionById(itemId, ZonedDateTime.now())
+                .map(version -> itemETag(itemId, userId, version.getVersion(), version.getRelated()))
+                .orElse(null);
     }
 
     /**
@@ -192,6 +241,8 @@ public class ItemServiceImpl implements ItemService {
 
         log.info("Удаление вещи с id {} для пользователя с id {}", itemId, userId);
         itemRepository.deleteById(itemId);
+        itemSearcher.onItemDeleted(itemId);
+        outboxPublisher.publish(OutboxEventType.ITEM_DELETED, itemId, null);
     }
 
     /**
@@ -223,40 +274,42 @@ public class ItemServiceImpl implements ItemService {
 
         List<Long> collect = allByUserId.stream().map(Item::getId).collect(Collectors.toList());
 
-        List<Booking> bookingsByItems = bookingRepository.getBookingsByItems(collect);
-        ZonedDateTime now = ZonedDateTime.now();
+        Map<Long, LastNextBooking> lastNextBookings = bookingRepository
+                .getLastNextBookings(collect, ZonedDateTime.now()).stream()
+                .collect(Collectors.toMap(LastNextBooking::getItemId, b -> b));
+        Map<Long, List<Comment>> comments = commentRepository.findAllByItem_IdInOrderByIdAsc(collect).stream()
+                .collect(Collectors.groupingBy(c -> c.getItem().getId()));
         List<OwnerItemResponseDto> dtoList = new ArrayList<>();
 
         for (Item item : allByUserId) {
-            BookingShort lastBooking = null;
-            BookingShort nextBooking = null;
+            LastNextBooking lastNext = lastNextBookings.get(item.getId());
+            BookingShort lastBooking = BookingMapper.toLastBookingShort(lastNext);
+            BookingShort nextBooking = lastBooking != null ? BookingMapper.toNextBookingShort(lastNext) : null;
 
-            Optional<Booking> last = bookingsByItems.stream()
-                    .filter(b -> b.getItem().getId().equals(item.getId()))
-                    .sorted(Comparator.comparing(Booking::getEnd))
-                    .filter(b -> b.getEnd().isBefore(now) ||
-                            (b.getStart().isBefore(now) && b.getStart().isAfter(now)))
-                    .max(Comparator.comparing(Booking::getId));
-            lastBooking = last.map(BookingMapper::toBookingShort).orElse(null);
-
-            if (lastBooking != null) {
-                Optional<Booking> next = bookingsByItems.stream()
-                        .filter(b -> b.getItem().getId().equals(item.getId()))
-                        .sorted(Comparator.comparing(Booking::getStart))
-                        .filter(b -> b.getStart().isAfter(now))
-                        .max(Comparator.comparing(Booking::getId));
-                nextBooking = next
-                        .map(BookingMapper::toBookingShort)
-                        .orElse(null);
-            }
-
-            OwnerItemResponseDto dto = ItemMapper.toOwnerItemResponseDto(item, lastBooking, nextBooking);
+            OwnerItemResponseDto dto = ItemMapper.toOwnerItemResponseDto(item, lastBooking, nextBooking,
+                    comments.getOrDefault(item.getId(), List.of()));
             dtoList.add(dto);
         }
 
         return dtoList;
     }
 
+    /**
+     * Метод получения ETag списка всех вещей пользователя без построения ответа.
+     *
+     * @param userId идентификационный номер пользователя владельца вещей.
+     * @param from   индекс страницы.
+     * @param size   количество элементов на странице.
+     * @return ETag или null, если пользователя не существует.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getAllItemByUserETag(Long userId, Integer from, Integer size) {
+        return itemRepository.findVersionByOwnerId(userId, ZonedDateTime.now())
+                .map(version -> ETags.strong("items", userId, from, size, version))
+                .orElse(null);
+    }
+
     /**
      * Метод поиска вещей по тексту.
      *
@@ -283,7 +336,7 @@ public class ItemServiceImpl implements ItemService {
 
         var pageable = PageRequest.of(from, size);
 
-        Page<Item> items = itemRepository.searchItem(text, pageable);
+        Page<Item> items = itemSearcher.search(text, pageable);
 
         return items.stream().map(ItemMapper::toItemResponseDto).collect(Collectors.toList());
     }
@@ -301,6 +354,8 @@ public class ItemServiceImpl implements ItemService {
 
         log.info("Удаление всех вещей для пользователя с id {}", userId);
         itemRepository.deleteAllByOwner_Id(userId);
+        itemSearcher.onOwnerItemsDeleted(userId);
+        outboxPublisher.publish(OutboxEventType.OWNER_ITEMS_DELETED, userId, null);
     }
 
     /**
@@ -314,7 +369,7 @@ public class ItemServiceImpl implements ItemService {
      */
     @Override
     @Transactional
-    public CommentResponseDto addComment(Long itemId, Long userId, TimeZone timeZone, CommentRequestDto text) {
+    public ETagged<CommentResponseDto> addComment(Long itemId, Long userId, TimeZone timeZone, CommentRequestDto text) {
         var user = userChecker.checkUser(userId, String.format(
                 "Нельзя оставить комментарий вещи с id %d от не существующего пользователя с id %d", itemId, userId));
         var item = itemChecker.checkItem(itemId, String.format(
@@ -331,13 +386,14 @@ public class ItemServiceImpl implements ItemService {
         Comment comment = CommentMapper.toComment(text, item, user, timeZone);
 
         Comment save = commentRepository.save(comment);
+        commentRepository.flush();
         log.info("Добавлен новый комментарий для предмета с id {} от пользователя с id {} ,{}", itemId, userId, save);
-        return CommentMapper.toCommentResponseDto(save);
+        return new ETagged<>(CommentMapper.toCommentResponseDto(save), commentETag(save.getId(), save.getVersion()));
     }
 
     @Override
     @Transactional
-    public CommentResponseDto updateComment(CommentRequestDto comment, Long userId, Long commentId) {
+    public ETagged<CommentResponseDto> updateComment(CommentRequestDto comment, Long userId, Long commentId, String ifMatch) {
         userChecker.checkUser(userId, String.format(
                 "Нельзя обновить комментарий c id %d для не существующего пользователя с id %d", commentId, userId));
 
@@ -352,11 +408,17 @@ public class ItemServiceImpl implements ItemService {
                     "У пользователя с id %d нет комментария с id %d", userId, commentId));
         }
 
+        if (ifMatch != null && !ETags.matches(ifMatch, commentETag(commentId, c.getVersion()))) {
+            throw new PreconditionFailedException(String.format(
+                    "Нельзя обновить комментарий с id %d, он был изменён после получения версии %s", commentId, ifMatch));
+        }
+
         log.info("Новые данные {} , старые данные {}", comment, c);
         c.setText(comment.getText());
         Comment save = commentRepository.save(c);
+        commentRepository.flush();
 
-        return CommentMapper.toCommentResponseDto(save);
+        return new ETagged<>(CommentMapper.toCommentResponseDto(save), commentETag(commentId, save.getVersion()));
     }
 
     @Override
@@ -376,4 +438,12 @@ public class ItemServiceImpl implements ItemService {
         log.info("Удалён комментарий с id {} для пользователя с id {}", commentId, userId);
         commentRepository.deleteById(commentId);
     }
+
+    private static String itemETag(Long itemId, Long userId, Long version, String related) {
+        return ETags.strong("item", itemId, userId, version, related);
+    }
+
+    private static String commentETag(Long commentId, Long version) {
+        return ETags.strong("comment", commentId, version);
+    }
 }
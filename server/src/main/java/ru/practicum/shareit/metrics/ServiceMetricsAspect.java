@@ -0,0 +1,55 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Аспект, измеряющий время выполнения методов сервисов {@code ItemService}, {@code BookingService},
+ * {@code ItemRequestService} и {@code UserService} таймером {@value #METRIC_NAME}.
+ * <p>
+ * Таймер помечается классом, методом, исходом SUCCESS или ERROR и классом исключения. Аспект выполняется
+ * раньше транзакционного, поэтому время включает открытие и фиксацию транзакции. Вызовы репозиториев
+ * измеряет Spring Boot таймером {@code spring.data.repository.invocations}, гистограммы обоих таймеров
+ * включены в application.properties.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+    public static final String METRIC_NAME = "shareit.service";
+
+    private final MeterRegistry registry;
+
+    @Around("execution(* ru.practicum.shareit..service.*Service.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        var sample = Timer.start(registry);
+        Throwable error = null;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            var signature = joinPoint.getSignature();
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Время выполнения методов сервисов")
+                    .tag("class", signature.getDeclaringType().getSimpleName())
+                    .tag("method", signature.getName())
+                    .tag("outcome", error == null ? "SUCCESS" : "ERROR")
+                    .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                    .register(registry));
+        }
+    }
+}
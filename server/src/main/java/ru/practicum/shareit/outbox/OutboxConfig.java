@@ -0,0 +1,38 @@
+package ru.practicum.shareit.outbox;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.stream.Collectors;
+
+/**
+ * Конфигурация исходящей очереди событий. Диспетчер собирает все бины {@link OutboxSubscriber} и, если
+ * {@code shareit.outbox.dispatcher-enabled=true}, запускает фоновую доставку.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+    @Bean(destroyMethod = "close")
+    public OutboxDispatcher outboxDispatcher(OutboxEventRepository outboxEventRepository,
+                                             ObjectProvider<OutboxSubscriber> subscribers,
+                                             PlatformTransactionManager transactionManager,
+                                             OutboxProperties properties) {
+        var dispatcher = new OutboxDispatcher(outboxEventRepository,
+                subscribers.orderedStream().collect(Collectors.toList()),
+                new TransactionTemplate(transactionManager), properties, Clock.systemUTC());
+
+        if (properties.isDispatcherEnabled()) {
+            dispatcher.start();
+        }
+
+        return dispatcher;
+    }
+}
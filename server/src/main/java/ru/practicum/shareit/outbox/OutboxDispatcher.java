@@ -0,0 +1,150 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Диспетчер исходящей очереди событий.
+ * <p>
+ * Каждый пакет разбирается в отдельной транзакции: строки захватываются {@code SELECT ... FOR UPDATE SKIP LOCKED},
+ * передаются подписчикам и удаляются одним запросом. Другие экземпляры сервера пропускают захваченные строки,
+ * поэтому событие не доставляется параллельно дважды. Если экземпляр упадёт до фиксации, блокировки снимаются
+ * и события будут доставлены снова - доставка выполняется не менее одного раза. Событие, на котором упал подписчик,
+ * остаётся в очереди и откладывается с экспоненциально растущей задержкой.
+ * <p>
+ * Каждое событие передаётся подписчикам в собственной транзакции {@code REQUIRES_NEW}. Подписчик, вызвавший
+ * транзакционный бин с ошибкой, откатывает только свою транзакцию и не помечает транзакцию пакета rollback-only,
+ * поэтому отложенные события сохраняются, а доставленные удаляются.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Slf4j
+public class OutboxDispatcher implements AutoCloseable {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate deliveryTemplate;
+    private final OutboxProperties properties;
+    private final Clock clock;
+    private ScheduledExecutorService executor;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, List<OutboxSubscriber> subscribers,
+                            TransactionTemplate transactionTemplate, OutboxProperties properties, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = List.copyOf(subscribers);
+        this.transactionTemplate = transactionTemplate;
+        this.deliveryTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.deliveryTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Метод запуска фоновой доставки с периодом {@link OutboxProperties#getPollInterval()}.
+     */
+    public void start() {
+        var interval = properties.getPollInterval().toMillis();
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Метод разбора очереди пакетами, пока пакеты захватываются полностью.
+     */
+    public void drain() {
+        try {
+            while (dispatchBatch() >= properties.getBatchSize()) {
+                log.debug("Пакет событий исходящей очереди заполнен, захват следующего");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ошибка разбора исходящей очереди событий", e);
+        }
+    }
+
+    /**
+     * Метод доставки одного пакета событий в отдельной транзакции.
+     *
+     * @return количество захваченных событий, включая отложенные после ошибки.
+     */
+    public int dispatchBatch() {
+        var dispatched = transactionTemplate.execute(status -> {
+            var now = ZonedDateTime.now(clock);
+            var events = properties.isSkipLocked()
+                    ? outboxEventRepository.lockAvailableSkipLocked(now, properties.getBatchSize())
+                    : outboxEventRepository.lockAvailable(now, properties.getBatchSize());
+            List<OutboxEvent> delivered = new ArrayList<>(events.size());
+
+            for (OutboxEvent event : events) {
+                try {
+                    deliver(event);
+                    delivered.add(event);
+                } catch (RuntimeException e) {
+                    postpone(event, now, e);
+                }
+            }
+
+            outboxEventRepository.deleteAllInBatch(delivered);
+            return events.size();
+        });
+
+        return dispatched != null ? dispatched : 0;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(properties.getPollInterval().toMillis() * 5, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Метод вычисления задержки повторной доставки после указанного числа неудачных попыток.
+     *
+     * @param attempts количество неудачных попыток, не меньше 1.
+     * @return задержка, не больше {@link OutboxProperties#getMaxRetryDelay()}.
+     */
+    Duration retryDelay(int attempts) {
+        var delay = properties.getRetryDelay().multipliedBy(1L << Math.min(attempts - 1, 20));
+
+        return delay.compareTo(properties.getMaxRetryDelay()) > 0 ? properties.getMaxRetryDelay() : delay;
+    }
+
+    private void deliver(OutboxEvent event) {
+        deliveryTemplate.executeWithoutResult(status -> {
+            for (OutboxSubscriber subscriber : subscribers) {
+                if (subscriber.supports(event.getType())) {
+                    subscriber.onEvent(event);
+                }
+            }
+        });
+    }
+
+    private void postpone(OutboxEvent event, ZonedDateTime now, RuntimeException e) {
+        var attempts = event.getAttempts() + 1;
+        var message = String.valueOf(e.getMessage());
+
+        event.setAttempts(attempts);
+        event.setAvailableAt(now.plus(retryDelay(attempts)));
+        event.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        log.warn("Ошибка доставки события {}, попытка {}, следующая после {}", event, attempts, event.getAvailableAt(), e);
+    }
+}
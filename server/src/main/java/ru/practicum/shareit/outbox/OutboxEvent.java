@@ -0,0 +1,93 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.ZonedDateTime;
+
+/**
+ * Событие исходящей очереди. Записывается в одной транзакции с изменением, о котором сообщает,
+ * и удаляется после доставки всем подписчикам.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+    /**
+     * Уникальный идентификационный номер события, определяет порядок доставки.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Тип агрегата: booking, item или user.
+     */
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    /**
+     * Идентификационный номер агрегата.
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * Тип события.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private OutboxEventType type;
+
+    /**
+     * Данные события в JSON, может отсутствовать.
+     */
+    @Column(name = "payload")
+    @ToString.Exclude
+    private String payload;
+
+    /**
+     * Дата и время записи события.
+     */
+    @Column(name = "created", nullable = false)
+    private ZonedDateTime created;
+
+    /**
+     * Дата и время, начиная с которых событие можно доставлять. После неудачной доставки сдвигается вперёд.
+     */
+    @Column(name = "available_at", nullable = false)
+    private ZonedDateTime availableAt;
+
+    /**
+     * Количество неудачных попыток доставки.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * Сообщение последней ошибки доставки.
+     */
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OutboxEvent)) return false;
+        return id != null && id.equals(((OutboxEvent) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
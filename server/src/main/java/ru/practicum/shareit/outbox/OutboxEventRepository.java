@@ -0,0 +1,48 @@
+package ru.practicum.shareit.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Интерфейс {@link OutboxEventRepository} репозиторий для модели {@link OutboxEvent}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * Метод захвата пакета событий, готовых к доставке. Строки, заблокированные другими диспетчерами, пропускаются,
+     * поэтому экземпляры сервера разбирают очередь параллельно и не доставляют одно событие дважды.
+     *
+     * @param now   текущие дата и время.
+     * @param limit размер пакета.
+     * @return {@link List} событий в порядке записи, заблокированных до конца транзакции.
+     */
+    @Query(value = "select * " +
+            "from outbox_events " +
+            "where available_at <= :now " +
+            "order by id " +
+            "limit :limit " +
+            "for update skip locked", nativeQuery = true)
+    List<OutboxEvent> lockAvailableSkipLocked(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+
+    /**
+     * Метод захвата пакета событий для баз без {@code SKIP LOCKED}, например H2. Диспетчеры не пропускают
+     * заблокированные строки, а ждут их, поэтому двойной доставки тоже нет, но пакеты разбираются по очереди.
+     *
+     * @param now   текущие дата и время.
+     * @param limit размер пакета.
+     * @return {@link List} событий в порядке записи, заблокированных до конца транзакции.
+     */
+    @Query(value = "select * " +
+            "from outbox_events " +
+            "where available_at <= :now " +
+            "order by id " +
+            "limit :limit " +
+            "for update", nativeQuery = true)
+    List<OutboxEvent> lockAvailable(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+}
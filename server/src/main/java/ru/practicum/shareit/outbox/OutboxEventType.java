@@ -0,0 +1,27 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Типы событий исходящей очереди и агрегаты, к которым они относятся.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    BOOKING_CREATED("booking"),
+    BOOKING_APPROVED("booking"),
+    BOOKING_REJECTED("booking"),
+    ITEM_CREATED("item"),
+    ITEM_UPDATED("item"),
+    ITEM_DELETED("item"),
+    OWNER_ITEMS_DELETED("user");
+
+    /**
+     * Тип агрегата, идентификатор которого хранится в {@link OutboxEvent#getAggregateId()}.
+     */
+    private final String aggregateType;
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки диспетчера исходящей очереди событий.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.outbox")
+public class OutboxProperties {
+    /**
+     * Запускать ли фоновую доставку событий. События записываются в очередь независимо от этой настройки.
+     */
+    private boolean dispatcherEnabled = true;
+
+    /**
+     * Захватывать ли пакет с {@code SKIP LOCKED}. Выключается для баз, которые его не поддерживают.
+     */
+    private boolean skipLocked = true;
+
+    /**
+     * Максимальное количество событий, захватываемых одной транзакцией.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Период опроса очереди, когда предыдущий пакет был неполным.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Задержка первой повторной доставки, каждая следующая удваивается.
+     */
+    private Duration retryDelay = Duration.ofSeconds(5);
+
+    /**
+     * Максимальная задержка повторной доставки.
+     */
+    private Duration maxRetryDelay = Duration.ofMinutes(5);
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Запись событий в исходящую очередь. Событие сохраняется в транзакции вызывающего метода сервиса, поэтому
+ * попадает в очередь тогда и только тогда, когда фиксируется изменение, о котором оно сообщает. Доставка
+ * выполняется {@link OutboxDispatcher} в фоне и не добавляет задержки вызывающему методу.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Метод записи события в очередь. Требует активной транзакции.
+     *
+     * @param type        тип события.
+     * @param aggregateId идентификационный номер агрегата.
+     * @param payload     данные события, сериализуются в JSON, может быть null.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEventType type, Long aggregateId, Object payload) {
+        var now = ZonedDateTime.now();
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(type.getAggregateType())
+                .aggregateId(aggregateId)
+                .type(type)
+                .payload(toJson(payload))
+                .created(now)
+                .availableAt(now)
+                .build());
+    }
+
+    private String toJson(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Нельзя сериализовать данные события " + payload, e);
+        }
+    }
+}
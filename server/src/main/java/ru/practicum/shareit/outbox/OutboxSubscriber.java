@@ -0,0 +1,32 @@
+package ru.practicum.shareit.outbox;
+
+/**
+ * Подписчик событий исходящей очереди. Реализации регистрируются как бины Spring и вызываются диспетчером
+ * в порядке {@link org.springframework.core.annotation.Order}.
+ * <p>
+ * Доставка выполняется не менее одного раза: при ошибке любого подписчика событие будет доставлено повторно
+ * всем подписчикам, поэтому обработка должна быть идемпотентной, например по {@link OutboxEvent#getId()}.
+ * Подписчик вызывается внутри транзакции диспетчера, пока строки пакета заблокированы, поэтому долгую работу
+ * следует передавать в собственный пул.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public interface OutboxSubscriber {
+    /**
+     * Метод проверки, интересен ли подписчику тип события.
+     *
+     * @param type тип события.
+     * @return true, если событие нужно передать в {@link #onEvent(OutboxEvent)}.
+     */
+    default boolean supports(OutboxEventType type) {
+        return true;
+    }
+
+    /**
+     * Метод обработки события. Исключение откладывает событие до следующей попытки.
+     *
+     * @param event событие.
+     */
+    void onEvent(OutboxEvent event);
+}
@@ -0,0 +1,62 @@
+package ru.practicum.shareit.replica;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Время последней записи пользователей. В течение окна после записи чтения пользователя направляются
+ * на основную базу, чтобы отставание реплики не скрыло от него его же изменения.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class ReadYourWritesTracker {
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<Long, Instant> windowEnds = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * Метод записи факта изменения данных пользователем.
+     *
+     * @param userId id пользователя.
+     */
+    public void recordWrite(long userId) {
+        var now = clock.instant();
+
+        if (windowEnds.size() >= CLEANUP_THRESHOLD) {
+            windowEnds.values().removeIf(end -> !end.isAfter(now));
+        }
+        windowEnds.put(userId, now.plus(window));
+    }
+
+    /**
+     * Метод проверки, писал ли пользователь в пределах окна.
+     *
+     * @param userId id пользователя.
+     * @return {@code true}, если чтения пользователя должны идти на основную базу.
+     */
+    public boolean isWithinWindow(long userId) {
+        var end = windowEnds.get(userId);
+
+        if (end == null) {
+            return false;
+        }
+
+        if (!end.isAfter(clock.instant())) {
+            windowEnds.remove(userId, end);
+            return false;
+        }
+
+        return true;
+    }
+}
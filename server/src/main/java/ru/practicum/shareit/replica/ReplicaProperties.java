@@ -0,0 +1,46 @@
+package ru.practicum.shareit.replica;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки маршрутизации транзакций только для чтения на реплики базы данных.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.replica")
+public class ReplicaProperties {
+    /**
+     * Направлять ли транзакции только для чтения на реплики.
+     */
+    private boolean enabled;
+
+    /**
+     * Адреса JDBC реплик. Имя пользователя, пароль и настройки пула берутся из {@code spring.datasource}.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * Сколько времени после записи чтения пользователя идут на основную базу, чтобы он видел свои изменения
+     * несмотря на отставание реплик.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Период проверки доступности реплик.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Таймаут проверки соединения с репликой.
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,82 @@
+package ru.practicum.shareit.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+
+/**
+ * Конфигурация чтения с реплик, включается свойством {@code shareit.replica.enabled=true}.
+ * <p>
+ * Заменяет источник данных Spring Boot на {@link ReplicaRoutingDataSource} поверх пулов Hikari основной базы
+ * и реплик из {@code shareit.replica.urls}. Пулы настраиваются свойствами {@code spring.datasource}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(name = "shareit.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig implements DisposableBean {
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow(), Clock.systemUTC());
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaProperties properties,
+                                 ReadYourWritesTracker tracker, Environment environment) {
+        var replicas = new LinkedHashMap<String, DataSource>();
+
+        for (int i = 0; i < properties.getUrls().size(); i++) {
+            var name = "replica-" + i;
+            replicas.put(name, pool(dataSourceProperties, environment, properties.getUrls().get(i), name));
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(
+                pool(dataSourceProperties, environment, dataSourceProperties.determineUrl(), "primary"),
+                replicas, tracker, properties.getHealthCheckTimeout());
+        routingDataSource.startHealthChecks(properties.getHealthCheckInterval());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReplicaRoutingFilter> replicaRoutingFilter() {
+        var registration = new FilterRegistrationBean<>(new ReplicaRoutingFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    private static HikariDataSource pool(DataSourceProperties dataSourceProperties, Environment environment,
+                                         String url, String name) {
+        var dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("shareit-" + name);
+        return dataSource;
+    }
+}
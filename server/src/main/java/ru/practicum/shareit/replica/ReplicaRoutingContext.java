@@ -0,0 +1,89 @@
+package ru.practicum.shareit.replica;
+
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+
+/**
+ * Контекст маршрутизации текущего HTTP-запроса: пользователь, от имени которого выполняется запрос,
+ * и признак того, что запрос уже писал в основную базу.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public final class ReplicaRoutingContext {
+    static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String USER_ID_VARIABLE = "userId";
+    private static final ThreadLocal<ReplicaRoutingContext> CURRENT = new ThreadLocal<>();
+
+    private final HttpServletRequest request;
+    private boolean wrote;
+
+    private ReplicaRoutingContext(HttpServletRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * Метод открытия контекста для текущего потока.
+     *
+     * @param request HTTP-запрос.
+     * @return {@link ReplicaRoutingContext}
+     */
+    public static ReplicaRoutingContext open(HttpServletRequest request) {
+        var context = new ReplicaRoutingContext(request);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Метод закрытия контекста текущего потока.
+     */
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Метод получения контекста текущего потока.
+     *
+     * @return {@link ReplicaRoutingContext} или null, если поток не обрабатывает HTTP-запрос.
+     */
+    public static ReplicaRoutingContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Метод получения id пользователя из заголовка X-Sharer-User-Id, а если его нет - из переменной пути
+     * {@code userId}, как в {@code /users/{userId}}.
+     *
+     * @return id пользователя или null, если запрос анонимный.
+     */
+    @SuppressWarnings("unchecked")
+    public Long getUserId() {
+        var value = request.getHeader(USER_ID_HEADER);
+
+        if (value == null) {
+            var variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            value = variables == null ? null : variables.get(USER_ID_VARIABLE);
+        }
+
+        try {
+            return value == null ? null : Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    void markWrote() {
+        wrote = true;
+    }
+
+    /**
+     * Метод проверки, открывал ли запрос транзакции на запись.
+     *
+     * @return {@code true}, если запрос писал в основную базу.
+     */
+    public boolean isWrote() {
+        return wrote;
+    }
+}
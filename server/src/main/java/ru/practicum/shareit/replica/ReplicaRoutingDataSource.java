@@ -0,0 +1,212 @@
+package ru.practicum.shareit.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Источник соединений, направляющий транзакции только для чтения на реплики по кругу, а остальные - на основную базу.
+ * <p>
+ * Чтение остаётся на основной базе, если запрос уже писал в неё, если пользователь писал в пределах окна
+ * {@link ReadYourWritesTracker} или если доступных реплик нет. Окно открывается здесь же, при выдаче соединения
+ * транзакции на запись. Недоступная реплика исключается из круга при ошибке
+ * получения соединения и при периодической проверке, и возвращается, когда проверка снова проходит.
+ * <p>
+ * Признак только для чтения выставляется после получения соединения транзакцией, поэтому источник должен
+ * оборачиваться в {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: тогда соединение
+ * запрашивается при первом SQL-запросе, когда признак уже известен.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReadYourWritesTracker tracker, Duration healthCheckTimeout) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(e -> new Replica(e.getKey(), e.getValue()))
+                .collect(Collectors.toUnmodifiableList());
+        this.tracker = tracker;
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Метод запуска периодической проверки доступности реплик.
+     *
+     * @param interval период проверки.
+     */
+    public void startHealthChecks(Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Метод проверки доступности реплик.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+
+            try (var connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+
+            if (healthy && !replica.healthy) {
+                log.info("Реплика {} снова доступна для чтения", replica.name);
+            } else if (!healthy && replica.healthy) {
+                log.warn("Реплика {} не прошла проверку и исключена из чтения", replica.name);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    /**
+     * Метод получения имён доступных реплик.
+     *
+     * @return имена реплик, прошедших последнюю проверку.
+     */
+    public List<String> getHealthyReplicas() {
+        return replicas.stream()
+                .filter(replica -> replica.healthy)
+                .map(replica -> replica.name)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable) {
+                ((AutoCloseable) replica.dataSource).close();
+            }
+        }
+
+        if (primary instanceof AutoCloseable) {
+            ((AutoCloseable) primary).close();
+        }
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        var replica = selectReplica();
+
+        if (replica != null) {
+            try {
+                return source.getConnection(replica.dataSource);
+            } catch (SQLException e) {
+                replica.healthy = false;
+                log.warn("Реплика {} недоступна, чтение направлено на основную базу: {}", replica.name, e.getMessage());
+            }
+        }
+
+        return source.getConnection(primary);
+    }
+
+    private Replica selectReplica() {
+        var context = ReplicaRoutingContext.current();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (context != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                context.markWrote();
+                recordWrite(context.getUserId());
+            }
+            return null;
+        }
+
+        if (context != null) {
+            var userId = context.getUserId();
+
+            if (context.isWrote() || userId != null && tracker.isWithinWindow(userId)) {
+                return null;
+            }
+        }
+
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Окно чтения своих записей открывается, как только транзакция на запись получила соединение, чтобы
+     * параллельные запросы пользователя не читали с реплики ещё до ответа на запрос, и продлевается после
+     * фиксации транзакции, чтобы отсчитываться от момента, когда изменения стали видны на основной базе.
+     */
+    private void recordWrite(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        tracker.recordWrite(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tracker.recordWrite(userId);
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection getConnection(DataSource dataSource) throws SQLException;
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
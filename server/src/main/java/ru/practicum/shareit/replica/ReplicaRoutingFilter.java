@@ -0,0 +1,29 @@
+package ru.practicum.shareit.replica;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Фильтр, открывающий {@link ReplicaRoutingContext} на время HTTP-запроса.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class ReplicaRoutingFilter extends OncePerRequestFilter {
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReplicaRoutingContext.open(request);
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.close();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
@@ -49,8 +50,15 @@ public class ItemRequestController {
 
     @GetMapping
     public ResponseEntity<?> getUserRequests(
-            @RequestHeader(value = xSharerUserId) Long userId) {
+            @RequestHeader(value = xSharerUserId) Long userId,
+            WebRequest webRequest) {
         log.info("GET /requests , {} = {}", xSharerUserId, userId);
+        var etag = itemRequestService.getUserRequestsETag(userId);
+
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(itemRequestService.getUserRequests(userId));
@@ -65,8 +73,14 @@ public class ItemRequestController {
             @RequestParam(required = false, name = "size")
             @Min(value = 1, message = "Параметр size не может быть меньше 0.")
             @Max(value = 100, message = "Параметр size не может быть больше 100.")
-            Integer size) {
+            Integer size,
+            WebRequest webRequest) {
         log.info("GET /requests/all?from={}&size={} ,{} = {}", from, size, xSharerUserId, userId);
+        var etag = itemRequestService.getAllRequestsETag(userId, from, size);
+
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -76,8 +90,14 @@ public class ItemRequestController {
     @GetMapping("/{requestId}")
     public ResponseEntity<?> getRequestById(
             @RequestHeader(value = xSharerUserId) Long userId,
-            @PathVariable Long requestId) {
+            @PathVariable Long requestId,
+            WebRequest webRequest) {
         log.info("GET /requests/{} ,{} = {}", requestId, xSharerUserId, userId);
+        var etag = itemRequestService.getRequestETag(requestId, userId);
+
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -5,13 +5,11 @@ import ru.practicum.shareit.request.dto.ItemRequestDtoCreated;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDtoResponse;
 import ru.practicum.shareit.request.model.ItemRequest;
-import ru.practicum.shareit.request.model.ItemResponse;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.TimeZone;
-import java.util.stream.Collectors;
 
 /**
  * @author Nikolay Radzivon
@@ -35,24 +33,12 @@ public class ItemRequestMapper {
                 .build();
     }
 
-    public static ItemRequestDtoResponse toItemRequestDtoResponse(ItemRequest request) {
+    public static ItemRequestDtoResponse toItemRequestDtoResponse(ItemRequest request, List<ItemFromItemRequest> items) {
         return ItemRequestDtoResponse.builder()
                 .id(request.getId())
                 .created(request.getCreated().toLocalDateTime())
                 .description(request.getDescription())
-                .items(request.getResponses() != null ? toListItemFromItemRequest(request.getResponses()) : null)
+                .items(items)
                 .build();
     }
-
-    private static List<ItemFromItemRequest> toListItemFromItemRequest(List<ItemResponse> responses) {
-        return responses.stream()
-                .map(i -> ItemFromItemRequest.builder()
-                        .requestId(i.getRequest().getId())
-                        .name(i.getItem().getName())
-                        .id(i.getItem().getId())
-                        .available(i.getItem().getAvailable())
-                        .description(i.getItem().getDescription())
-                        .build())
-                .collect(Collectors.toList());
-    }
 }
@@ -10,12 +10,10 @@ import ru.practicum.shareit.request.model.ItemResponse;
  */
 public class ItemResponseMapper {
 
-    public static ItemResponse toItemResponse(Item item, Long requestId) {
+    public static ItemResponse toItemResponse(Item item, ItemRequest request) {
         return ItemResponse.builder()
                 .item(item)
-                .request(ItemRequest.builder()
-                        .id(requestId)
-                        .build())
+                .request(request)
                 .build();
     }
 }
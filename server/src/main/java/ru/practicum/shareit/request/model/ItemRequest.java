@@ -26,9 +26,17 @@ public class ItemRequest {
      * Идентификационный номер запроса.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_seq")
+    @SequenceGenerator(name = "requests_seq", sequenceName = "requests_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * Версия записи, увеличивается при каждом изменении.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * Описание вещи которую хотят забронировать.
      */
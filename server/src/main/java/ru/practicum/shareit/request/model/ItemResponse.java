@@ -24,7 +24,8 @@ public class ItemResponse {
      * Идентификационный номер ответа.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "responses_seq")
+    @SequenceGenerator(name = "responses_seq", sequenceName = "responses_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -4,9 +4,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author Nikolay Radzivon
@@ -17,4 +20,61 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
     List<ItemRequest> findAllByRequestorId(Long requestorId, Sort sort);
 
     Page<ItemRequest> findAllByRequestorIdNot(Long requestorId, Pageable pageable);
+
+    /**
+     * Метод получения агрегированной версии запроса и вещей, предложенных в ответ, для построения ETag.
+     * Версия возвращается только существующему пользователю.
+     *
+     * @param requestId идентификационный номер запроса.
+     * @param userId    идентификационный номер пользователя.
+     * @return {@link Optional} версия запроса.
+     */
+    @Query(value = "select concat_ws(':', r.version, " +
+            "(select concat_ws('.', count(s.id), coalesce(max(s.id), 0), coalesce(sum(i.version), 0)) " +
+            "from responses as s join items as i on i.id = s.item_id where s.request_id = r.id)) " +
+            "from requests as r " +
+            "where r.id = :request_id and exists (select u.id from users as u where u.id = :user_id) ",
+            nativeQuery = true)
+    Optional<String> findVersionById(@Param("request_id") Long requestId, @Param("user_id") Long userId);
+
+    /**
+     * Метод получения агрегированной версии всех запросов пользователя для построения ETag.
+     *
+     * @param requestorId идентификационный номер пользователя автора запросов.
+     * @return {@link Optional} версия списка запросов, пустой если пользователя не существует.
+     */
+    @Query(value = "select concat_ws(':', " +
+            "(select concat_ws('.', count(r.id), coalesce(max(r.id), 0), coalesce(sum(r.version), 0)) " +
+            "from requests as r where r.user_id = u.id), " +
+            "(select concat_ws('.', count(s.id), coalesce(max(s.id), 0), coalesce(sum(i.version), 0)) " +
+            "from responses as s join requests as r on r.id = s.request_id join items as i on i.id = s.item_id " +
+            "where r.user_id = u.id)) " +
+            "from users as u " +
+            "where u.id = :requestor_id ", nativeQuery = true)
+    Optional<String> findVersionByRequestorId(@Param("requestor_id") Long requestorId);
+
+    /**
+     * Метод получения агрегированной версии страницы запросов других пользователей и вещей, предложенных в ответ
+     * на них, для построения ETag списка всех запросов. Агрегируются только строки запрошенной страницы, выбранные
+     * по индексу idx_requests_created в том же порядке, что и сама страница, поэтому стоимость запроса
+     * не зависит от общего числа запросов.
+     *
+     * @param userId идентификационный номер пользователя.
+     * @param limit  размер страницы.
+     * @param offset индекс первого запроса страницы.
+     * @return {@link Optional} версия страницы запросов, пустой если пользователя не существует.
+     */
+    @Query(value = "select concat_ws(':', " +
+            "(select concat_ws('.', count(p.id), coalesce(min(p.id), 0), coalesce(max(p.id), 0), " +
+            "coalesce(sum(p.id), 0), coalesce(sum(p.version), 0)) " +
+            "from (select r.id, r.version from requests as r where r.user_id <> :user_id " +
+            "order by r.created desc limit :limit offset :offset) as p), " +
+            "(select concat_ws('.', count(s.id), coalesce(max(s.id), 0), coalesce(sum(i.version), 0)) " +
+            "from responses as s join items as i on i.id = s.item_id " +
+            "where s.request_id in (select r.id from requests as r where r.user_id <> :user_id " +
+            "order by r.created desc limit :limit offset :offset))) " +
+            "from users as u " +
+            "where u.id = :user_id ", nativeQuery = true)
+    Optional<String> findVersionOfOthersRequests(@Param("user_id") Long userId, @Param("limit") int limit,
+                                                 @Param("offset") long offset);
 }
@@ -1,11 +1,30 @@
 package ru.practicum.shareit.request.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.request.dto.ItemFromItemRequest;
 import ru.practicum.shareit.request.model.ItemResponse;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * @author Nikolay Radzivon
  * @Date 19.05.2024
  */
 public interface ItemResponseRepository extends JpaRepository<ItemResponse, Long> {
+
+    /**
+     * Метод получения вещей, предложенных в ответ на запросы, одним запросом без загрузки сущностей.
+     *
+     * @param requestIds {@link Collection} идентификационные номера запросов.
+     * @return {@link List} вещей в порядке добавления ответов.
+     */
+    @Query("select new ru.practicum.shareit.request.dto.ItemFromItemRequest(" +
+            "i.id, i.name, i.description, r.request.id, i.available) " +
+            "from ItemResponse r join r.item i " +
+            "where r.request.id in :request_ids " +
+            "order by r.id")
+    List<ItemFromItemRequest> findItemsByRequestIds(@Param("request_ids") Collection<Long> requestIds);
 }
@@ -32,6 +32,14 @@ public interface ItemRequestService {
      */
     List<ItemRequestDtoResponse> getUserRequests(Long userId);
 
+    /**
+     * Метод получения ETag списка запросов пользователя без построения ответа.
+     *
+     * @param userId {@link Long} идентификационный номер пользователя.
+     * @return ETag или null, если пользователя не существует.
+     */
+    String getUserRequestsETag(Long userId);
+
     /**
      * Метод получения всех запросов.
      *
@@ -42,6 +50,16 @@ public interface ItemRequestService {
      */
     List<ItemRequestDtoResponse> getAllRequests(Long userId, Integer from, Integer size);
 
+    /**
+     * Метод получения ETag страницы списка всех запросов без построения ответа.
+     *
+     * @param userId {@link Long} идентификационный номер пользователя.
+     * @param from   {@link Integer} индекс первого элемента начиная с 0.
+     * @param size   {@link Integer} количество элементов для отображения.
+     * @return ETag или null, если пользователя не существует или страница не задана.
+     */
+    String getAllRequestsETag(Long userId, Integer from, Integer size);
+
     /**
      * Метод получения запроса по его идентификационному номеру.
      *
@@ -50,4 +68,13 @@ public interface ItemRequestService {
      * @return {@link ItemRequestDtoResponse}
      */
     ItemRequestDtoResponse getRequestById(Long requestId, Long userId);
+
+    /**
+     * Метод получения ETag запроса без построения ответа.
+     *
+     * @param requestId {@link Long} идентификационный номер запроса.
+     * @param userId    {@link Long} идентификационный номер пользователя.
+     * @return ETag или null, если запроса или пользователя не существует.
+     */
+    String getRequestETag(Long requestId, Long userId);
 }
@@ -7,16 +7,20 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.checker.UserChecker;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.exception.NotFoundItemRequestException;
+import ru.practicum.shareit.request.dto.ItemFromItemRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDtoCreated;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDtoResponse;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.ItemResponseRepository;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.stream.Collectors;
 
@@ -29,6 +33,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemResponseRepository itemResponseRepository;
     private final UserChecker userChecker;
     private final Sort.TypedSort<ItemRequest> typedSort = Sort.sort(ItemRequest.class);
 
@@ -69,14 +74,26 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
         var sort = typedSort.by(ItemRequest::getCreated).descending();
         var requests = itemRequestRepository.findAllByRequestorId(userId, sort);
-        var requestsDto = requests.stream()
-                .map(ItemRequestMapper::toItemRequestDtoResponse)
-                .collect(Collectors.toList());
+        var requestsDto = toItemRequestDtoResponses(requests);
 
         log.info("Запрошен список всех запросов для пользователя с id {}", userId);
         return requestsDto;
     }
 
+    /**
+     * Метод получения ETag списка запросов пользователя без построения ответа.
+     *
+     * @param userId {@link Long} идентификационный номер пользователя.
+     * @return ETag или null, если пользователя не существует.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getUserRequestsETag(Long userId) {
+        return itemRequestRepository.findVersionByRequestorId(userId)
+                .map(version -> ETags.strong("requests", userId, version))
+                .orElse(null);
+    }
+
     /**
      * Метод получения всех запросов.
      *
@@ -101,7 +118,30 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         var pageable = PageRequest.of(page, size, sort);
         var requests = itemRequestRepository.findAllByRequestorIdNot(userId, pageable);
 
-        return requests.map(ItemRequestMapper::toItemRequestDtoResponse).stream().collect(Collectors.toList());
+        return toItemRequestDtoResponses(requests.getContent());
+    }
+
+    /**
+     * Метод получения ETag страницы списка всех запросов без построения ответа. Версия строится только
+     * по запросам страницы, выбранной так же, как в {@link #getAllRequests(Long, Integer, Integer)}.
+     *
+     * @param userId {@link Long} идентификационный номер пользователя.
+     * @param from   {@link Integer} индекс первого элемента начиная с 0.
+     * @param size   {@link Integer} количество элементов для отображения.
+     * @return ETag или null, если пользователя не существует или страница не задана.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getAllRequestsETag(Long userId, Integer from, Integer size) {
+        if (from == null || size == null) {
+            return null;
+        }
+
+        var offset = (long) (from / size) * size;
+
+        return itemRequestRepository.findVersionOfOthersRequests(userId, size, offset)
+                .map(version -> ETags.strong("requests/all", userId, from, size, version))
+                .orElse(null);
     }
 
     /**
@@ -122,6 +162,37 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 String.format("Нельзя получить не существующий запрос с id %d пользователем с id %d", requestId, userId)));
         log.info("Запрошен запрос с id {} от пользователя с id {}", requestId, userId);
 
-        return ItemRequestMapper.toItemRequestDtoResponse(itemRequest);
+        return toItemRequestDtoResponses(List.of(itemRequest)).get(0);
+    }
+
+    /**
+     * Метод получения ETag запроса без построения ответа.
+     *
+     * @param requestId {@link Long} идентификационный номер запроса.
+     * @param userId    {@link Long} идентификационный номер пользователя.
+     * @return ETag или null, если запроса или пользователя не существует.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getRequestETag(Long requestId, Long userId) {
+        return itemRequestRepository.findVersionById(requestId, userId)
+                .map(version -> ETags.strong("request", requestId, version))
+                .orElse(null);
+    }
+
+    private List<ItemRequestDtoResponse> toItemRequestDtoResponses(List<ItemRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        var requestIds = requests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ItemFromItemRequest>> items = itemResponseRepository.findItemsByRequestIds(requestIds).stream()
+                .collect(Collectors.groupingBy(ItemFromItemRequest::getRequestId));
+
+        return requests.stream()
+                .map(r -> ItemRequestMapper.toItemRequestDtoResponse(r, items.getOrDefault(r.getId(), List.of())))
+                .collect(Collectors.toList());
     }
 }
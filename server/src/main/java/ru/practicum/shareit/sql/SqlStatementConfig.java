@@ -0,0 +1,55 @@
+package ru.practicum.shareit.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Конфигурация подсчёта SQL-запросов на HTTP-запрос, отключается свойством {@code shareit.sql.tracking=false}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatementProperties.class)
+@ConditionalOnProperty(name = "shareit.sql.tracking", havingValue = "true", matchIfMissing = true)
+public class SqlStatementConfig {
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource((DataSource) bean);
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementStatistics sqlStatementStatistics() {
+        return new SqlStatementStatistics();
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(SqlStatementStatistics statistics,
+                                                                         SqlStatementProperties properties) {
+        var registration = new FilterRegistrationBean<>(new SqlStatementFilter(statistics, properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public SqlStatementsEndpoint sqlStatementsEndpoint(SqlStatementStatistics statistics,
+                                                       SqlStatementProperties properties) {
+        return new SqlStatementsEndpoint(statistics, properties);
+    }
+}
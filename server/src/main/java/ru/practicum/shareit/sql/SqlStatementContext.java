@@ -0,0 +1,68 @@
+package ru.practicum.shareit.sql;
+
+/**
+ * Счётчик SQL-запросов и времени работы с базой текущего потока.
+ * Открывается на время обработки HTTP-запроса, вне его запросы к базе не учитываются.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public final class SqlStatementContext {
+    private static final ThreadLocal<SqlStatementContext> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private SqlStatementContext() {
+    }
+
+    /**
+     * Метод открытия счётчика для текущего потока.
+     *
+     * @return {@link SqlStatementContext}
+     */
+    public static SqlStatementContext open() {
+        var context = new SqlStatementContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Метод закрытия счётчика текущего потока.
+     */
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Метод получения счётчика текущего потока.
+     *
+     * @return {@link SqlStatementContext} или null, если счётчик не открыт.
+     */
+    public static SqlStatementContext current() {
+        return CURRENT.get();
+    }
+
+    void record(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    /**
+     * Метод получения количества выполненных SQL-запросов, пакет JDBC считается одним запросом.
+     *
+     * @return количество запросов.
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * Метод получения суммарного времени выполнения SQL-запросов.
+     *
+     * @return время в наносекундах.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,56 @@
+package ru.practicum.shareit.sql;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Фильтр, считающий SQL-запросы и время работы с базой для каждого HTTP-запроса.
+ * Результат добавляется в {@link SqlStatementStatistics} по методу и шаблону пути эндпоинта,
+ * при превышении бюджета SQL-запросов в лог пишется предупреждение.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+    private final SqlStatementStatistics statistics;
+    private final SqlStatementProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var context = SqlStatementContext.open();
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStatementContext.close();
+
+            var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            var endpoint = request.getMethod() + " " + (pattern == null ? "UNMAPPED" : pattern);
+            var overBudget = context.getStatements() > properties.getStatementBudget();
+
+            if (overBudget) {
+                log.warn("{} {} выполнил {} SQL-запросов при бюджете {}, время работы с базой {} мс",
+                        request.getMethod(), request.getRequestURI(), context.getStatements(),
+                        properties.getStatementBudget(), context.getNanos() / 1_000_000);
+            }
+
+            statistics.record(endpoint, context, overBudget);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
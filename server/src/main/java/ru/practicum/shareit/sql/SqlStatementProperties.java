@@ -0,0 +1,27 @@
+package ru.practicum.shareit.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Настройки подсчёта SQL-запросов на HTTP-запрос.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.sql")
+public class SqlStatementProperties {
+    /**
+     * Считать ли SQL-запросы и время работы с базой для каждого HTTP-запроса.
+     */
+    private boolean tracking = true;
+
+    /**
+     * Бюджет SQL-запросов на один HTTP-запрос, при превышении в лог пишется предупреждение.
+     * Превышение обычно означает N+1 при обходе ленивых связей.
+     */
+    private int statementBudget = 20;
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Накопленная статистика SQL-запросов по эндпоинтам.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class SqlStatementStatistics {
+    private final Map<String, EndpointStatistics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Метод учёта обработанного HTTP-запроса.
+     *
+     * @param endpoint   метод и шаблон пути эндпоинта, например {@code GET /users/{userId}}.
+     * @param context    счётчик SQL-запросов HTTP-запроса.
+     * @param overBudget превышен ли бюджет SQL-запросов.
+     */
+    public void record(String endpoint, SqlStatementContext context, boolean overBudget) {
+        endpoints.computeIfAbsent(endpoint, e -> new EndpointStatistics()).record(context, overBudget);
+    }
+
+    /**
+     * Метод получения статистики по эндпоинтам, отсортированной по эндпоинту.
+     *
+     * @return {@link Map} эндпоинт - показатели.
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        var snapshot = new TreeMap<String, Map<String, Object>>();
+        endpoints.forEach((endpoint, statistics) -> snapshot.put(endpoint, statistics.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Метод сброса статистики.
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static class EndpointStatistics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder overBudget = new LongAdder();
+
+        void record(SqlStatementContext context, boolean exceeded) {
+            requests.increment();
+            statements.add(context.getStatements());
+            maxStatements.accumulate(context.getStatements());
+            nanos.add(context.getNanos());
+            maxNanos.accumulate(context.getNanos());
+
+            if (exceeded) {
+                overBudget.increment();
+            }
+        }
+
+        Map<String, Object> snapshot() {
+            var count = Math.max(requests.sum(), 1);
+
+            var snapshot = new LinkedHashMap<String, Object>();
+            snapshot.put("requests", requests.sum());
+            snapshot.put("statements", statements.sum());
+            snapshot.put("avgStatements", (double) statements.sum() / count);
+            snapshot.put("maxStatements", maxStatements.get());
+            snapshot.put("dbTimeMs", nanos.sum() / 1_000_000.0);
+            snapshot.put("avgDbTimeMs", nanos.sum() / 1_000_000.0 / count);
+            snapshot.put("maxDbTimeMs", maxNanos.get() / 1_000_000.0);
+            snapshot.put("overBudget", overBudget.sum());
+            return snapshot;
+        }
+    }
+}
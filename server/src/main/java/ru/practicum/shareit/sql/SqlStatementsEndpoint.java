@@ -0,0 +1,37 @@
+package ru.practicum.shareit.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Эндпоинт actuator {@code /actuator/sqlstatements} со статистикой SQL-запросов по эндпоинтам:
+ * количество HTTP-запросов, SQL-запросов всего, в среднем и максимум на запрос, время работы с базой
+ * и число запросов сверх бюджета. DELETE сбрасывает статистику.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@Endpoint(id = "sqlstatements")
+@RequiredArgsConstructor
+public class SqlStatementsEndpoint {
+    private final SqlStatementStatistics statistics;
+    private final SqlStatementProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> statements() {
+        var result = new LinkedHashMap<String, Object>();
+        result.put("statementBudget", properties.getStatementBudget());
+        result.put("endpoints", statistics.snapshot());
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
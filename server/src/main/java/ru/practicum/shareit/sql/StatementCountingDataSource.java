@@ -0,0 +1,80 @@
+package ru.practicum.shareit.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Обёртка источника данных, учитывающая выполнение SQL-запросов в {@link SqlStatementContext} текущего потока.
+ * <p>
+ * Соединения и созданные ими {@link Statement} оборачиваются динамическими прокси, которые измеряют вызовы
+ * методов {@code execute*}. Если счётчик в потоке не открыт, вызов передаётся без измерения.
+ * Методы {@code unwrap} и {@code isWrapperFor} передаются исходным объектам, поэтому пул соединений
+ * и драйвер остаются доступны.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static <T> T wrap(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new Handler(target)));
+    }
+
+    private static class Handler implements InvocationHandler {
+        private final Object target;
+
+        Handler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("equals".equals(method.getName()) && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+
+            var context = method.getName().startsWith("execute") ? SqlStatementContext.current() : null;
+            var started = context == null ? 0 : System.nanoTime();
+            Object result;
+
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if (context != null) {
+                    context.record(System.nanoTime() - started);
+                }
+            }
+
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return wrap((Class<Object>) method.getReturnType(), result);
+            }
+
+            return result;
+        }
+    }
+}
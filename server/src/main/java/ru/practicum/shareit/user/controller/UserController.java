@@ -5,10 +5,12 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.model.UserSort;
 import ru.practicum.shareit.user.service.UserService;
@@ -47,19 +49,29 @@ public class UserController {
     public ResponseEntity<?> updateUser(
             @RequestBody @Parameter(description = "Данные пользователя")
             UserRequestDto user,
-            @PathVariable @Parameter(description = "Идентификатор пользователя для обновления") long userId) {
+            @PathVariable @Parameter(description = "Идентификатор пользователя для обновления") long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(description = "ETag пользователя для условного обновления") String ifMatch) {
         log.info("PATCH /users/{} body = {}", userId, user);
+        var updated = userService.updateUser(user, userId, ifMatch);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(userService.updateUser(user, userId));
+                .eTag(updated.getEtag())
+                .body(updated.getBody());
     }
 
     @GetMapping("/{userId}")
     @Operation(summary = "Получение пользователя по id", description = "Позволяет получить пользователя по его id")
     public ResponseEntity<?> getUser(
-            @PathVariable(required = false) @Parameter(description = "Идентификатор пользователя") long userId) {
+            @PathVariable(required = false) @Parameter(description = "Идентификатор пользователя") long userId,
+            WebRequest webRequest) {
         log.info("GET /users/{}", userId);
+        var etag = userService.getUserETag(userId);
+
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.user.controller;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.exception.NotFoundUserException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
 import ru.practicum.shareit.user.exeption.UserRepositoryException;
 
 import javax.validation.ConstraintViolationException;
@@ -16,7 +18,8 @@ import static ru.practicum.shareit.exception.ErrorResponse.*;
 
 /**
  * Класс {@link UserErrorHandler} для обработки исключений {@link UserRepositoryException}, {@link NotFoundUserException},
- * {@link MethodArgumentNotValidException}, {@link ConstraintViolationException} в пакете {@link ru.practicum.shareit.user}
+ * {@link MethodArgumentNotValidException}, {@link ConstraintViolationException}, {@link PreconditionFailedException},
+ * {@link OptimisticLockingFailureException} в пакете {@link ru.practicum.shareit.user}
  *
  * @author Nikolay Radzivon
  * @Date 17.04.2024
@@ -49,4 +52,18 @@ public class UserErrorHandler {
         log.warn("Ошибка работы с пользователями", e);
         return makeErrorResponse(webRequest, HttpStatus.NOT_FOUND, "Ошибка работы с пользователями: ");
     }
+
+    @ExceptionHandler
+    public ResponseEntity<?> handlerPreconditionFailedException(final PreconditionFailedException e,
+                                                                WebRequest webRequest) {
+        log.warn("Версия пользователя не совпадает с If-Match", e);
+        return makeErrorResponse(webRequest, HttpStatus.PRECONDITION_FAILED, "Версия пользователя не совпадает с If-Match: ");
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<?> handlerOptimisticLockingFailureException(final OptimisticLockingFailureException e,
+                                                                      WebRequest webRequest) {
+        log.warn("Параллельное изменение пользователя", e);
+        return makeErrorResponse(webRequest, HttpStatus.CONFLICT, "Параллельное изменение пользователя: ");
+    }
 }
@@ -23,8 +23,15 @@ public class User {
      */
     @Builder.Default
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id = null;
+    /**
+     * Версия записи, увеличивается при каждом изменении.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
     /**
      * Имя пользователя.
      */
@@ -1,12 +1,26 @@
 package ru.practicum.shareit.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.Optional;
+
 /**
  * Интерфейс {@link UserRepository}.
  *
  * @author Nikolay Radzivon.
  */
 public interface UserRepository extends JpaRepository<User, Long> {
-}
\ No newline at end of file
+    /**
+     * Метод получения версии пользователя без загрузки сущности.
+     *
+     * @param userId идентификационный номер пользователя.
+     * @return {@link Optional} версия пользователя.
+     */
+    @Query("select u.version " +
+            "from User as u " +
+            "where u.id = :user_id ")
+    Optional<Long> findVersionById(@Param("user_id") Long userId);
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.user.service;
 
+import ru.practicum.shareit.etag.ETagged;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.model.UserSort;
@@ -23,11 +24,12 @@ public interface UserService {
     /**
      * Метод для обновления данных пользователей по id.
      *
-     * @param user   объект класса {@link UserRequestDto}.
-     * @param userId идентификационный номер пользователя.
-     * @return обновлённый объект класса {@link UserResponseDto}.
+     * @param user    объект класса {@link UserRequestDto}.
+     * @param userId  идентификационный номер пользователя.
+     * @param ifMatch значение заголовка If-Match, null для безусловного обновления.
+     * @return обновлённый объект класса {@link UserResponseDto} и ETag пользователя после обновления.
      */
-    UserResponseDto updateUser(UserRequestDto user, long userId);
+    ETagged<UserResponseDto> updateUser(UserRequestDto user, long userId, String ifMatch);
 
     /**
      * Метод получения пользователя по его id.
@@ -37,6 +39,14 @@ public interface UserService {
      */
     UserResponseDto getUser(long userId);
 
+    /**
+     * Метод получения ETag пользователя без загрузки сущности.
+     *
+     * @param userId идентификационный номер пользователя.
+     * @return ETag или null, если пользователя не существует.
+     */
+    String getUserETag(long userId);
+
     /**
      * Метод удаления пользователя по его id.
      *
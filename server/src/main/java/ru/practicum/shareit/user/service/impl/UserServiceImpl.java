@@ -5,9 +5,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.checker.UserChecker;
+import ru.practicum.shareit.etag.ETagged;
+import ru.practicum.shareit.etag.ETags;
+import ru.practicum.shareit.exception.PreconditionFailedException;
+import ru.practicum.shareit.item.search.ItemSearcher;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.exeption.UserRepositoryException;
@@ -31,6 +36,7 @@ import java.util.stream.Collectors;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserChecker userChecker;
+    private final ItemSearcher itemSearcher;
 
     /**
      * Метод добавления нового пользователя.
@@ -59,14 +65,19 @@ public class UserServiceImpl implements UserService {
      *
      * @param user   объект класса {@link UserRequestDto}.
      * @param userId идентификационный номер пользователя.
-     * @return обновлённый объект класса {@link UserResponseDto}.
+     * @return обновлённый объект класса {@link UserResponseDto} и ETag пользователя после обновления.
      */
     @Override
     @Transactional
-    public UserResponseDto updateUser(UserRequestDto user, long userId) {
+    public ETagged<UserResponseDto> updateUser(UserRequestDto user, long userId, String ifMatch) {
         log.info("Обновление пользователя с id {}", userId);
         var u = userChecker.checkUser(userId, String.format("Нельзя обновить не существующего пользователя с id %d", userId));
 
+        if (ifMatch != null && !ETags.matches(ifMatch, ETags.strong("user", userId, u.getVersion()))) {
+            throw new PreconditionFailedException(String.format(
+                    "Нельзя обновить пользователя с id %d, он был изменён после получения версии %s", userId, ifMatch));
+        }
+
         log.info("Старые данные {} новые данные {}", u, user);
         var email = user.getEmail();
 
@@ -81,8 +92,11 @@ public class UserServiceImpl implements UserService {
         }
         try {
             var save = userRepository.save(u);
+            userRepository.flush();
 
-            return UserMapper.toUserResponseDto(save);
+            return new ETagged<>(UserMapper.toUserResponseDto(save), ETags.strong("user", userId, save.getVersion()));
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
         } catch (Exception e) {
             throw new UserRepositoryException(String.format(
                     "Нельзя обновить пользователя с id %d, Пользователь с email %s уже существует", userId, user.getEmail()));
@@ -104,6 +118,20 @@ public class UserServiceImpl implements UserService {
         return UserMapper.toUserResponseDto(user);
     }
 
+    /**
+     * Метод получения ETag пользователя без загрузки сущности.
+     *
+     * @param userId идентификационный номер пользователя.
+     * @return ETag или null, если пользователя не существует.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getUserETag(long userId) {
+        return userRepository.findVersionById(userId)
+                .map(version -> ETags.strong("user", userId, version))
+                .orElse(null);
+    }
+
     /**
      * Метод удаления пользователя по его id.
      *
@@ -116,6 +144,7 @@ public class UserServiceImpl implements UserService {
         log.info("Удаление пользователя с id {}", userId);
 
         userRepository.deleteById(userId);
+        itemSearcher.onOwnerItemsDeleted(userId);
     }
 
     @Override
@@ -1,40 +1,43 @@
--- Дроп таблиц
-DROP TABLE IF EXISTS comments;
-DROP TABLE IF EXISTS bookings;
-DROP TABLE IF EXISTS responses;
-DROP TABLE IF EXISTS items;
-DROP TABLE IF EXISTS requests;
-DROP TABLE IF EXISTS users;
---
+-- Последовательности id. Шаг совпадает с allocationSize сущностей: Hibernate получает одним обращением
+-- блок из 50 id (оптимизатор pooled), поэтому вставки не ждут сгенерированный ключ и отправляются пакетами
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS requests_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS responses_seq START WITH 1 INCREMENT BY 50;
 
 -- Пользователи
 CREATE TABLE IF NOT EXISTS users (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT NOT NULL,
 name VARCHAR(255) NOT NULL,
 email VARCHAR(255) NOT NULL,
+version BIGINT DEFAULT 0 NOT NULL,
 CONSTRAINT pk_user PRIMARY KEY (id),
 CONSTRAINT UQ_USER_EMAIL UNIQUE (email)
 );
 
 -- Вещи
 CREATE TABLE IF NOT EXISTS items (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT NOT NULL,
 name VARCHAR(255) NOT NULL,
 description VARCHAR(512) NOT NULL,
 is_available BOOLEAN NOT NULL,
 user_id BIGINT,
+version BIGINT DEFAULT 0 NOT NULL,
 CONSTRAINT pk_item PRIMARY KEY (id),
 CONSTRAINT fk_items_to_users FOREIGN KEY(user_id) REFERENCES users (id) ON DELETE CASCADE
 );
 
 -- Бронирование
 CREATE TABLE IF NOT EXISTS bookings (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT NOT NULL,
 start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
 end_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
 item_id BIGINT,
 user_id BIGINT,
 status VARCHAR,
+version BIGINT DEFAULT 0 NOT NULL,
 CONSTRAINT pk_booking PRIMARY KEY (id),
 CONSTRAINT fk_bookings_to_items FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE,
 CONSTRAINT fk_bookings_to_users FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
@@ -42,11 +45,12 @@ CONSTRAINT fk_bookings_to_users FOREIGN KEY (user_id) REFERENCES users (id) ON D
 
 -- Комментарии
 CREATE TABLE IF NOT EXISTS comments (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT NOT NULL,
 text VARCHAR(512) NOT NULL,
 item_id BIGINT,
 user_id BIGINT,
 created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+version BIGINT DEFAULT 0 NOT NULL,
 CONSTRAINT pk_comment PRIMARY KEY (id),
 CONSTRAINT fk_comments_to_items FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE,
 CONSTRAINT fk_comments_to_users FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
@@ -54,17 +58,18 @@ CONSTRAINT fk_comments_to_users FOREIGN KEY (user_id) REFERENCES users (id) ON D
 
 --Запросы
 CREATE TABLE IF NOT EXISTS requests (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT NOT NULL,
 description VARCHAR(512) NOT NULL,
 user_id BIGINT,
 created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+version BIGINT DEFAULT 0 NOT NULL,
 CONSTRAINT pk_request PRIMARY KEY (id),
 CONSTRAINT fk_requests_to_users FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
 );
 
 --Ответы
 CREATE TABLE IF NOT EXISTS responses (
-id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+id BIGINT NOT NULL,
 request_id BIGINT,
 item_id BIGINT,
 CONSTRAINT pk_response PRIMARY KEY (id),
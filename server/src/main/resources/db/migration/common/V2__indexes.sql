@@ -0,0 +1,26 @@
+-- Индексы под запросы репозиториев. Внешние ключи сами индексов не создают.
+
+-- Бронирования вещи и вещей владельца: getBookings, getBookingsByItems, getLastNextBookings,
+-- findAllByItem_IdAndStatus, existsApprovedOverlap, версии для ETag
+CREATE INDEX IF NOT EXISTS idx_bookings_item_start ON bookings (item_id, start_date);
+
+-- Бронирования пользователя по убыванию начала с курсором (start_date, id)
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start ON bookings (user_id, start_date DESC, id DESC);
+
+-- Вещи владельца: findAllByOwnerId, бронирования и отзывы вещей владельца
+CREATE INDEX IF NOT EXISTS idx_items_owner ON items (user_id, id);
+
+-- Отзывы вещей по порядку id: findAllByItem_IdInOrderByIdAsc
+CREATE INDEX IF NOT EXISTS idx_comments_item ON comments (item_id, id);
+
+-- Отзывы автора, нужен для каскадного удаления пользователя
+CREATE INDEX IF NOT EXISTS idx_comments_author ON comments (user_id);
+
+-- Запросы пользователя по убыванию даты: findAllByRequestorId
+CREATE INDEX IF NOT EXISTS idx_requests_requestor_created ON requests (user_id, created DESC);
+
+-- Лента чужих запросов по убыванию даты: findAllByRequestorIdNot
+CREATE INDEX IF NOT EXISTS idx_requests_created ON requests (created DESC);
+
+-- Ответы с вещью, нужен для каскадного удаления вещи. Поиск по request_id покрывает uq_response
+CREATE INDEX IF NOT EXISTS idx_responses_item ON responses (item_id);
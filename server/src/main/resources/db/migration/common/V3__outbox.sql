@@ -0,0 +1,18 @@
+-- Исходящая очередь событий: строки пишутся в транзакции изменения и удаляются диспетчером после доставки
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+id BIGINT NOT NULL,
+aggregate_type VARCHAR(32) NOT NULL,
+aggregate_id BIGINT NOT NULL,
+event_type VARCHAR(32) NOT NULL,
+payload VARCHAR,
+created TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+available_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+attempts INT DEFAULT 0 NOT NULL,
+last_error VARCHAR(1000),
+CONSTRAINT pk_outbox_event PRIMARY KEY (id)
+);
+
+-- Выборка готовых к доставке событий: available_at <= now() order by id
+CREATE INDEX IF NOT EXISTS idx_outbox_events_available ON outbox_events (available_at, id);
@@ -0,0 +1,148 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Проверка, что ключевые запросы репозиториев используют индексы из миграции V2__indexes.sql.
+ * Запросы повторяют SQL, который строят {@code BookingRepository}, {@code ItemRepository},
+ * {@code CommentRepository} и {@code ItemRequestRepository}. На PostgreSQL последовательное сканирование
+ * отключается, иначе на пустых таблицах планировщик всегда выбирает его, и проверяется имя индекса в плане.
+ * H2 сам создаёт индексы для внешних ключей и там, где у составного индекса миграции тот же первый столбец,
+ * выбирает их: сортировку по убывающим столбцам индекса H2 не использует. Поэтому на H2 для каждого запроса
+ * проверяется индекс, который выбирает H2, - индекс миграции, где H2 его выбирает, иначе индекс внешнего ключа
+ * по тому же столбцу, а наличие индексов миграции проверяется по метаданным базы.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@DataJpaTest
+class QueryPlanTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean postgres;
+
+    @BeforeEach
+    void setUp() {
+        var database = jdbcTemplate.execute((Connection c) -> c.getMetaData().getDatabaseProductName());
+        postgres = "PostgreSQL".equals(database);
+
+        if (postgres) {
+            jdbcTemplate.execute("set enable_seqscan = off");
+        }
+    }
+
+    @Test
+    void migrationTestCreatesIndexes() {
+        var indexes = new HashSet<String>();
+        indexes.addAll(indexesOf("bookings"));
+        indexes.addAll(indexesOf("items"));
+        indexes.addAll(indexesOf("comments"));
+        indexes.addAll(indexesOf("requests"));
+        indexes.addAll(indexesOf("responses"));
+
+        Assertions.assertTrue(indexes.containsAll(List.of("idx_bookings_item_start", "idx_bookings_booker_start",
+                        "idx_items_owner", "idx_comments_item", "idx_comments_author", "idx_requests_requestor_created",
+                        "idx_requests_created", "idx_responses_item")),
+                () -> "Не все индексы миграции созданы: " + indexes);
+    }
+
+    @Test
+    void bookingsByItemTestUsesItemIndex() {
+        assertUsesIndex("select b.* from bookings as b where b.item_id = 1", "idx_bookings_item_start",
+                "fk_bookings_to_items_index");
+    }
+
+    @Test
+    void lastNextBookingsTestUsesItemIndex() {
+        assertUsesIndex("select b.id, b.item_id, row_number() over (partition by b.item_id order by b.id desc) as rn " +
+                "from bookings as b where b.item_id in (1, 2, 3)", "idx_bookings_item_start",
+                "fk_bookings_to_items_index");
+    }
+
+    @Test
+    void approvedOverlapTestUsesItemIndex() {
+        assertUsesIndex("select count(b.id) from bookings as b where b.item_id = 1 and b.status = 'APPROVED' " +
+                "and b.start_date < current_timestamp and b.end_date > current_timestamp and b.id <> 1",
+                "idx_bookings_item_start", "idx_bookings_item_start");
+    }
+
+    @Test
+    void bookingsByBookerTestUsesBookerIndex() {
+        assertUsesIndex("select b.* from bookings as b where b.user_id = 1 " +
+                "order by b.start_date desc, b.id desc limit 20", "idx_bookings_booker_start",
+                "fk_bookings_to_users_index");
+    }
+
+    @Test
+    void bookingsByOwnerTestUsesOwnerAndItemIndexes() {
+        var sql = "select b.* from bookings as b join items as i on i.id = b.item_id where i.user_id = 1 " +
+                "order by b.start_date desc limit 20";
+
+        assertUsesIndex(sql, "idx_items_owner", "fk_items_to_users_index");
+        assertUsesIndex(sql, "idx_bookings_item_start", "fk_bookings_to_items_index");
+    }
+
+    @Test
+    void itemsByOwnerTestUsesOwnerIndex() {
+        assertUsesIndex("select i.* from items as i where i.user_id = 1 order by i.id limit 20", "idx_items_owner",
+                "fk_items_to_users_index");
+    }
+
+    @Test
+    void commentsByItemsTestUsesItemIndex() {
+        assertUsesIndex("select c.* from comments as c where c.item_id in (1, 2, 3) order by c.id",
+                "idx_comments_item", "fk_comments_to_items_index");
+    }
+
+    @Test
+    void requestsByRequestorTestUsesRequestorIndex() {
+        assertUsesIndex("select r.* from requests as r where r.user_id = 1 order by r.created desc",
+                "idx_requests_requestor_created", "fk_requests_to_users_index");
+    }
+
+    @Test
+    void responsesByRequestsTestUsesUniqueIndex() {
+        assertUsesIndex("select s.* from responses as s where s.request_id in (1, 2, 3)", "uq_response",
+                "uq_response");
+    }
+
+    private void assertUsesIndex(String sql, String postgresIndex, String h2Index) {
+        var plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class))
+                .toLowerCase(Locale.ROOT);
+        var index = postgres ? postgresIndex : h2Index;
+
+        Assertions.assertTrue(plan.contains(index), () -> "План запроса не использует " + index + ":\n" + plan);
+        Assertions.assertFalse(plan.contains("tablescan"), () -> "Полное сканирование таблицы:\n" + plan);
+    }
+
+    private Set<String> indexesOf(String table) {
+        return jdbcTemplate.execute((Connection c) -> {
+            var indexes = new HashSet<String>();
+            var name = c.getMetaData().storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+
+            try (ResultSet rs = c.getMetaData().getIndexInfo(null, null, name, false, false)) {
+                while (rs.next()) {
+                    var index = rs.getString("INDEX_NAME");
+
+                    if (index != null) {
+                        indexes.add(index.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return indexes;
+        });
+    }
+}
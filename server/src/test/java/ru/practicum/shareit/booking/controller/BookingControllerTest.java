@@ -13,8 +13,11 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import ru.practicum.shareit.booking.dto.BookerDto;
+import ru.practicum.shareit.booking.dto.BookingBatchMode;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.BookingsPage;
 import ru.practicum.shareit.booking.dto.ItemBookingDto;
 import ru.practicum.shareit.booking.exception.BookingServiceException;
 import ru.practicum.shareit.booking.model.BookingStatus;
@@ -245,6 +248,74 @@ class BookingControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("POST /bookings/batch создаёт все бронирования пакета")
+    void addNewBookingsTestAllCreated() throws Exception {
+        var start = LocalDateTime.now().plusDays(1);
+        var end = LocalDateTime.now().plusDays(2);
+        var s = objectMapper.writeValueAsString(List.of(
+                BookingRequestDto.builder().itemId(1L).start(start).end(end).build(),
+                BookingRequestDto.builder().itemId(2L).start(start).end(end).build()));
+
+        var request = MockMvcRequestBuilders
+                .post("/bookings/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(xSharerUserId, 1)
+                .content(s);
+
+        Mockito.when(bookingService.addNewBookings(Mockito.anyList(), Mockito.anyLong(),
+                        Mockito.eq(BookingBatchMode.ALL_OR_NOTHING), Mockito.any(TimeZone.class)))
+                .thenReturn(List.of(
+                        BookingBatchResult.builder().index(0).status(201)
+                                .booking(BookingResponseDto.builder().id(1L).status(BookingStatus.WAITING).build())
+                                .build(),
+                        BookingBatchResult.builder().index(1).status(201)
+                                .booking(BookingResponseDto.builder().id(2L).status(BookingStatus.WAITING).build())
+                                .build()));
+
+        this.mockMvc.perform(request).andExpectAll(
+                status().isCreated(),
+                jsonPath("$.length()").value(2),
+                jsonPath("$[0].booking.id").value(1),
+                jsonPath("$[1].booking.id").value(2),
+                jsonPath("$[1].status").value(201)
+        );
+    }
+
+    @Test
+    @DisplayName("POST /bookings/batch возвращает 207 если часть бронирований пакета не создана")
+    void addNewBookingsTestPartiallyCreated() throws Exception {
+        var start = LocalDateTime.now().plusDays(1);
+        var end = LocalDateTime.now().plusDays(2);
+        var s = objectMapper.writeValueAsString(List.of(
+                BookingRequestDto.builder().itemId(1L).start(start).end(end).build(),
+                BookingRequestDto.builder().itemId(99L).start(start).end(end).build()));
+
+        var request = MockMvcRequestBuilders
+                .post("/bookings/batch?mode=BEST_EFFORT")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(xSharerUserId, 1)
+                .content(s);
+
+        Mockito.when(bookingService.addNewBookings(Mockito.anyList(), Mockito.anyLong(),
+                        Mockito.eq(BookingBatchMode.BEST_EFFORT), Mockito.any(TimeZone.class)))
+                .thenReturn(List.of(
+                        BookingBatchResult.builder().index(0).status(201)
+                                .booking(BookingResponseDto.builder().id(1L).status(BookingStatus.WAITING).build())
+                                .build(),
+                        BookingBatchResult.builder().index(1).status(404)
+                                .error("Нельзя забронировать не существующую вещь с id 99 для пользователя с id 1")
+                                .build()));
+
+        this.mockMvc.perform(request).andExpectAll(
+                status().isMultiStatus(),
+                jsonPath("$[0].booking.id").value(1),
+                jsonPath("$[1].status").value(404),
+                jsonPath("$[1].booking").doesNotExist(),
+                jsonPath("$[1].error").value("Нельзя забронировать не существующую вещь с id 99 для пользователя с id 1")
+        );
+    }
+
     @Test
     @DisplayName("PATCH /bookings/1?approved=true Подтверждает бронирование")
     void bookingConfirmationTestValidApprovedTrue() throws Exception {
@@ -833,4 +904,84 @@ class BookingControllerTest {
                 jsonPath("$.path").value("/bookings/owner")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /bookings с параметром cursor возвращает страницу и позицию следующей страницы")
+    void getBookingByUserTestValidCursor() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/bookings")
+                .header(xSharerUserId, 1)
+                .param("state", "ALL")
+                .param("size", "1")
+                .param("cursor", "");
+
+        Mockito.when(bookingService.getBookingsByBookerAfter(Mockito.any(GetBookingsParams.class)))
+                .thenReturn(BookingsPage.builder()
+                        .bookings(List.of(BookingResponseDto.builder()
+                                .id(1L)
+                                .booker(BookerDto.builder()
+                                        .id(1L)
+                                        .build())
+                                .status(BookingStatus.APPROVED)
+                                .item(ItemBookingDto.builder()
+                                        .id(4L)
+                                        .name("TestItem1")
+                                        .build())
+                                .start(LocalDateTime.now())
+                                .end(LocalDateTime.now().plusDays(1))
+                                .build()))
+                        .nextCursor("nextCursor")
+                        .build());
+
+        this.mockMvc.perform(request).andExpectAll(
+                status().isOk(),
+                header().string(BookingController.NEXT_CURSOR_HEADER, "nextCursor"),
+                jsonPath("$.length()").value(1),
+                jsonPath("$.[0].id").value(1)
+        );
+
+        Mockito.verify(bookingService, Mockito.times(1)).getBookingsByBookerAfter(Mockito.any(GetBookingsParams.class));
+        Mockito.verify(bookingService, Mockito.never()).getBookingsByBooker(Mockito.any(GetBookingsParams.class));
+    }
+
+    @Test
+    @DisplayName("GET /bookings/owner с параметром cursor на последней странице не возвращает позицию")
+    void getBookingByOwnerTestValidCursorLastPage() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/bookings/owner")
+                .header(xSharerUserId, 1)
+                .param("cursor", "cursor");
+
+        Mockito.when(bookingService.getBookingByOwnerAfter(Mockito.any(GetBookingsParams.class)))
+                .thenReturn(BookingsPage.builder()
+                        .bookings(List.of())
+                        .build());
+
+        this.mockMvc.perform(request).andExpectAll(
+                status().isOk(),
+                header().doesNotExist(BookingController.NEXT_CURSOR_HEADER),
+                jsonPath("$.length()").value(0)
+        );
+
+        Mockito.verify(bookingService, Mockito.times(1)).getBookingByOwnerAfter(Mockito.any(GetBookingsParams.class));
+    }
+
+    @Test
+    @DisplayName("GET /bookings/1 возвращает 304 без построения ответа, если ETag совпадает с If-None-Match")
+    void getBookingTestNotModified() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/bookings/1")
+                .header(xSharerUserId, 1)
+                .header("If-None-Match", "\"v1\"");
+
+        Mockito.when(bookingService.getBookingETag(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(TimeZone.class)))
+                .thenReturn("\"v1\"");
+
+        this.mockMvc.perform(request).andExpectAll(
+                status().isNotModified(),
+                header().string("ETag", "\"v1\"")
+        );
+
+        Mockito.verify(bookingService, Mockito.never()).getBooking(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(TimeZone.class));
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.booking.dto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.booking.exception.BookingServiceException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class BookingCursorTest {
+    @Test
+    void encodeDecodeTest() {
+        var start = ZonedDateTime.of(2024, 6, 5, 8, 1, 34, 123456000, ZoneId.systemDefault());
+        var cursor = new BookingCursor(start, 15L);
+
+        var decoded = BookingCursor.decode(cursor.encode());
+
+        Assertions.assertEquals(15L, decoded.getId());
+        Assertions.assertEquals(start.toInstant(), decoded.getStart().toInstant());
+    }
+
+    @Test
+    void decodeTestBlank() {
+        Assertions.assertNull(BookingCursor.decode(null));
+        Assertions.assertNull(BookingCursor.decode(""));
+    }
+
+    @Test
+    void decodeTestNotValid() {
+        Throwable throwable = Assertions.assertThrows(BookingServiceException.class, () -> BookingCursor.decode("MTox"));
+
+        Assertions.assertEquals("Некорректное значение параметра cursor MTox", throwable.getMessage());
+    }
+
+    @Test
+    void decodeTestNotValidEpoch() {
+        var token = encode(Long.MAX_VALUE + ":0:1");
+
+        Throwable throwable = Assertions.assertThrows(BookingServiceException.class, () -> BookingCursor.decode(token));
+
+        Assertions.assertEquals("Некорректное значение параметра cursor " + token, throwable.getMessage());
+        Assertions.assertThrows(BookingServiceException.class,
+                () -> BookingCursor.decode(encode("31556889864403200:0:1")));
+        Assertions.assertThrows(BookingServiceException.class,
+                () -> BookingCursor.decode(encode(Long.MAX_VALUE + ":1000000000:1")));
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
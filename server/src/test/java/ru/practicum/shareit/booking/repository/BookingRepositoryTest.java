@@ -5,14 +5,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.model.QBooking;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 /**
@@ -92,6 +95,37 @@ class BookingRepositoryTest {
         Assertions.assertEquals(b.getBooker(), booking.getBooker());
     }
 
+    @Test
+    public void updateStatusByIdAndOwnerIdTest() {
+        var booking = createBooking(booker, item, BookingStatus.WAITING, ZonedDateTime.now(),
+                ZonedDateTime.now().plusDays(1));
+        var ownerId = item.getOwner().getId();
+
+        Assertions.assertEquals(0, bookingRepository.updateStatusByIdAndOwnerId(booking.getId(), booker.getId(),
+                BookingStatus.APPROVED));
+        Assertions.assertEquals(1, bookingRepository.updateStatusByIdAndOwnerId(booking.getId(), ownerId,
+                BookingStatus.APPROVED));
+        Assertions.assertEquals(0, bookingRepository.updateStatusByIdAndOwnerId(booking.getId(), ownerId,
+                BookingStatus.APPROVED));
+
+        var b = bookingRepository.findWithItemAndBookerById(booking.getId()).get();
+
+        Assertions.assertEquals(BookingStatus.APPROVED, b.getStatus());
+        Assertions.assertEquals(booking.getVersion() + 1, b.getVersion());
+        Assertions.assertEquals(item.getId(), b.getItem().getId());
+        Assertions.assertEquals(booker.getId(), b.getBooker().getId());
+    }
+
+    @Test
+    public void findStatusByIdAndOwnerIdTest() {
+        var booking = createBooking(booker, item, BookingStatus.REJECTED, ZonedDateTime.now(),
+                ZonedDateTime.now().plusDays(1));
+
+        Assertions.assertEquals(BookingStatus.REJECTED,
+                bookingRepository.findStatusByIdAndOwnerId(booking.getId(), item.getOwner().getId()).get());
+        Assertions.assertTrue(bookingRepository.findStatusByIdAndOwnerId(booking.getId(), booker.getId()).isEmpty());
+    }
+
     @Test
     public void findBookingByIdAndOwnerIdOrBookerIdTest() {
         var booking = createBooking(booker, item, BookingStatus.APPROVED, ZonedDateTime.now(),
@@ -162,45 +196,110 @@ class BookingRepositoryTest {
     }
 
     @Test
-    public void getBookingsByItemsTest() {
-        var booking = createBooking(booker, item, BookingStatus.APPROVED,
-                ZonedDateTime.now().minusDays(4), ZonedDateTime.now().minusDays(3));
-        var booking1 = createBooking(booker,
-                createItem("testItem2", "testDescription2", true, createUser("testOwner2",
-                        "testOwner2@email.com")),
-                BookingStatus.APPROVED, ZonedDateTime.now().minusDays(4), ZonedDateTime.now().minusDays(3));
-        var booking2 = createBooking(booker,
-                createItem("testItem3", "testDescription3", true, createUser("testOwner3",
-                        "testOwner3@email.com")),
-                BookingStatus.APPROVED, ZonedDateTime.now().minusDays(2), ZonedDateTime.now().minusDays(1));
-
-        var result = bookingRepository.getBookingsByItems(List.of(booking.getItem().getId(),
-                booking1.getItem().getId(), booking2.getItem().getId()));
+    public void getLastNextBookingsTest() {
+        var booker2 = createUser("testBooker2", "testBooker2@email.com");
+        for (int i = 10; i > 1; i--) {
+            createBooking(booker, item, BookingStatus.APPROVED,
+                    ZonedDateTime.now().minusDays(i), ZonedDateTime.now().minusDays(i - 1));
+        }
+        var last = createBooking(booker2, item, BookingStatus.APPROVED,
+                ZonedDateTime.now().minusHours(2), ZonedDateTime.now().minusHours(1));
+        createBooking(booker2, item, BookingStatus.WAITING,
+                ZonedDateTime.now().plusDays(1), ZonedDateTime.now().plusDays(2));
+        var next = createBooking(booker, item, BookingStatus.WAITING,
+                ZonedDateTime.now().plusDays(3), ZonedDateTime.now().plusDays(4));
+        var item2 = createItem("testItem2", "testDescription2", true, item.getOwner());
+        var item3 = createItem("testItem3", "testDescription3", true, item.getOwner());
+        var last2 = createBooking(booker, item2, BookingStatus.APPROVED,
+                ZonedDateTime.now().minusDays(2), ZonedDateTime.now().minusDays(1));
 
-        Assertions.assertEquals(3, result.size());
+        var result = bookingRepository.getLastNextBookings(List.of(item.getId(), item2.getId(), item3.getId()),
+                ZonedDateTime.now());
 
-        Assertions.assertEquals(booking, result.get(0));
-        Assertions.assertEquals(booking.getId(), result.get(0).getId());
-        Assertions.assertEquals(booking.getItem(), result.get(0).getItem());
-        Assertions.assertEquals(booking.getStart(), result.get(0).getStart());
-        Assertions.assertEquals(booking.getEnd(), result.get(0).getEnd());
-        Assertions.assertEquals(booking.getStatus(), result.get(0).getStatus());
-        Assertions.assertEquals(booking.getBooker(), result.get(0).getBooker());
+        Assertions.assertEquals(2, result.size());
+
+        var first = result.stream().filter(b -> b.getItemId().equals(item.getId())).findFirst().orElseThrow();
+        Assertions.assertEquals(last.getId(), first.getLastId());
+        Assertions.assertEquals(booker2.getId(), first.getLastBookerId());
+        Assertions.assertEquals(next.getId(), first.getNextId());
+        Assertions.assertEquals(booker.getId(), first.getNextBookerId());
+
+        var second = result.stream().filter(b -> b.getItemId().equals(item2.getId())).findFirst().orElseThrow();
+        Assertions.assertEquals(last2.getId(), second.getLastId());
+        Assertions.assertEquals(booker.getId(), second.getLastBookerId());
+        Assertions.assertNull(second.getNextId());
+        Assertions.assertNull(second.getNextBookerId());
+    }
+
+    @Test
+    public void findAllAfterTest() {
+        var start = ZonedDateTime.now().minusDays(10).truncatedTo(ChronoUnit.SECONDS);
+        var b1 = createBooking(booker, item, BookingStatus.APPROVED, start, start.plusDays(1));
+        var b2 = createBooking(booker, item, BookingStatus.APPROVED, start.plusDays(2), start.plusDays(3));
+        var b3 = createBooking(booker, item, BookingStatus.APPROVED, start.plusDays(2), start.plusDays(4));
+        var b4 = createBooking(booker, item, BookingStatus.APPROVED, start.plusDays(5), start.plusDays(6));
+        var predicate = QBooking.booking.booker.id.eq(booker.getId());
+
+        var first = bookingRepository.findAllAfter(predicate, null, 2);
+        Assertions.assertEquals(List.of(b4, b3), first);
+
+        var second = bookingRepository.findAllAfter(predicate, BookingCursor.of(first.get(1)), 2);
+        Assertions.assertEquals(List.of(b2, b1), second);
+
+        var third = bookingRepository.findAllAfter(predicate, BookingCursor.of(second.get(1)), 2);
+        Assertions.assertTrue(third.isEmpty());
+    }
+
+    @Test
+    public void existsApprovedOverlapTest() {
+        var start = ZonedDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        var approved = createBooking(booker, item, BookingStatus.APPROVED, start, start.plusDays(2));
+        createBooking(booker, item, BookingStatus.WAITING, start.plusDays(3), start.plusDays(4));
+
+        Assertions.assertTrue(bookingRepository.existsApprovedOverlap(item.getId(),
+                start.plusDays(1), start.plusDays(3), 0L));
+        Assertions.assertFalse(bookingRepository.existsApprovedOverlap(item.getId(),
+                start.plusDays(1), start.plusDays(3), approved.getId()));
+        Assertions.assertFalse(bookingRepository.existsApprovedOverlap(item.getId(),
+                start.plusDays(2), start.plusDays(5), 0L));
+    }
+
+    @Test
+    public void findAllWithItemTest() {
+        var start = ZonedDateTime.now().minusDays(10).truncatedTo(ChronoUnit.SECONDS);
+        var b1 = createBooking(booker, item, BookingStatus.APPROVED, start, start.plusDays(1));
+        var b2 = createBooking(booker, item, BookingStatus.WAITING, start.plusDays(2), start.plusDays(3));
+        var b3 = createBooking(booker, item, BookingStatus.APPROVED, start.plusDays(4), start.plusDays(5));
+        createBooking(createUser("testBooker2", "testBooker2@email.com"), item, BookingStatus.APPROVED,
+                start.plusDays(6), start.plusDays(7));
+        var predicate = QBooking.booking.booker.id.eq(booker.getId());
+
+        Assertions.assertEquals(List.of(b3, b2), bookingRepository.findAllWithItem(predicate, 0, 2));
+        Assertions.assertEquals(List.of(b1), bookingRepository.findAllWithItem(predicate, 2, 2));
+        Assertions.assertEquals(List.of(b3), bookingRepository.findAllWithItem(
+                predicate.and(QBooking.booking.item.owner.id.eq(item.getOwner().getId()))
+                        .and(QBooking.booking.status.eq(BookingStatus.APPROVED)), 0, 1));
+    }
+
+    @Test
+    public void findVersionByIdAndOwnerIdOrBookerIdTest() {
+        var booking = createBooking(booker, item, BookingStatus.WAITING, ZonedDateTime.now(),
+                ZonedDateTime.now().plusDays(1));
+        var stranger = createUser("testStranger", "testStranger@email.com");
+
+        var byOwner = bookingRepository.findVersionByIdAndOwnerIdOrBookerId(booking.getId(), item.getOwner().getId());
+        var byBooker = bookingRepository.findVersionByIdAndOwnerIdOrBookerId(booking.getId(), booker.getId());
+        var byStranger = bookingRepository.findVersionByIdAndOwnerIdOrBookerId(booking.getId(), stranger.getId());
+
+        Assertions.assertTrue(byOwner.isPresent());
+        Assertions.assertEquals(byOwner, byBooker);
+        Assertions.assertTrue(byStranger.isEmpty());
+
+        booking.setStatus(BookingStatus.APPROVED);
+        bookingRepository.saveAndFlush(booking);
+
+        var approved = bookingRepository.findVersionByIdAndOwnerIdOrBookerId(booking.getId(), booker.getId());
 
-        Assertions.assertEquals(booking1, result.get(1));
-        Assertions.assertEquals(booking1.getId(), result.get(1).getId());
-        Assertions.assertEquals(booking1.getItem(), result.get(1).getItem());
-        Assertions.assertEquals(booking1.getStart(), result.get(1).getStart());
-        Assertions.assertEquals(booking1.getEnd(), result.get(1).getEnd());
-        Assertions.assertEquals(booking1.getStatus(), result.get(1).getStatus());
-        Assertions.assertEquals(booking1.getBooker(), result.get(1).getBooker());
-
-        Assertions.assertEquals(booking2, result.get(2));
-        Assertions.assertEquals(booking2.getId(), result.get(2).getId());
-        Assertions.assertEquals(booking2.getItem(), result.get(2).getItem());
-        Assertions.assertEquals(booking2.getStart(), result.get(2).getStart());
-        Assertions.assertEquals(booking2.getEnd(), result.get(2).getEnd());
-        Assertions.assertEquals(booking2.getStatus(), result.get(2).getStatus());
-        Assertions.assertEquals(booking2.getBooker(), result.get(2).getBooker());
+        Assertions.assertNotEquals(byBooker, approved);
     }
-}
\ No newline at end of file
+}
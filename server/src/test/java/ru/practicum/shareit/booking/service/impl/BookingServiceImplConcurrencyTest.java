@@ -0,0 +1,192 @@
+package ru.practicum.shareit.booking.service.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.exception.BookingServiceException;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Проверка отсутствия пересечений подтверждённых бронирований при параллельных запросах.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest
+class BookingServiceImplConcurrencyTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private User owner;
+
+    private Item item;
+
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        item = itemRepository.save(Item.builder()
+                .owner(owner)
+                .name("testItem")
+                .description("testDescription")
+                .available(true)
+                .build());
+        start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    void bookingConfirmationTestOnlyOneOverlappingApproved() throws Exception {
+        List<Long> bookingIds = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            bookingIds.add(bookingService.addNewBooking(BookingRequestDto.builder()
+                    .itemId(item.getId())
+                    .start(start.plusHours(i))
+                    .end(start.plusDays(1).plusHours(i))
+                    .build(), createUser().getId(), TimeZone.getDefault()).getId());
+        }
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+
+        for (Long bookingId : bookingIds) {
+            tasks.add(() -> bookingService.bookingConfirmation(bookingId, owner.getId(), true, TimeZone.getDefault()));
+        }
+
+        var approved = runConcurrently(tasks);
+
+        Assertions.assertEquals(1, approved);
+        Assertions.assertEquals(1, bookingRepository.findAll().stream()
+                .filter(booking -> booking.getItem().getId().equals(item.getId()))
+                .filter(booking -> booking.getStatus() == BookingStatus.APPROVED)
+                .count());
+    }
+
+    @Test
+    void bookingConfirmationTestSameBookingConfirmedOnce() throws Exception {
+        var bookingId = bookingService.addNewBooking(BookingRequestDto.builder()
+                .itemId(item.getId())
+                .start(start)
+                .end(start.plusDays(1))
+                .build(), createUser().getId(), TimeZone.getDefault()).getId();
+        var version = bookingRepository.findById(bookingId).orElseThrow().getVersion();
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> bookingService.bookingConfirmation(bookingId, owner.getId(), true, TimeZone.getDefault()));
+        }
+
+        Assertions.assertEquals(1, runConcurrently(tasks));
+
+        var booking = bookingRepository.findById(bookingId).orElseThrow();
+
+        Assertions.assertEquals(BookingStatus.APPROVED, booking.getStatus());
+        Assertions.assertEquals(version + 1, booking.getVersion());
+    }
+
+    @Test
+    void addNewBookingTestOverlappingApprovedRejected() throws Exception {
+        var first = bookingService.addNewBooking(BookingRequestDto.builder()
+                .itemId(item.getId())
+                .start(start)
+                .end(start.plusDays(2))
+                .build(), createUser().getId(), TimeZone.getDefault());
+        bookingService.bookingConfirmation(first.getId(), owner.getId(), true, TimeZone.getDefault());
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            var bookerId = createUser().getId();
+            var offset = i;
+
+            tasks.add(() -> bookingService.addNewBooking(BookingRequestDto.builder()
+                    .itemId(item.getId())
+                    .start(start.plusHours(offset))
+                    .end(start.plusDays(1).plusHours(offset))
+                    .build(), bookerId, TimeZone.getDefault()));
+        }
+
+        Assertions.assertEquals(0, runConcurrently(tasks));
+
+        var after = bookingService.addNewBooking(BookingRequestDto.builder()
+                .itemId(item.getId())
+                .start(start.plusDays(2))
+                .end(start.plusDays(3))
+                .build(), createUser().getId(), TimeZone.getDefault());
+        Assertions.assertEquals(BookingStatus.WAITING, after.getStatus());
+    }
+
+    private int runConcurrently(List<Callable<Object>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+
+        try {
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    latch.await();
+                    return task.call();
+                }));
+            }
+            latch.countDown();
+
+            int succeeded = 0;
+
+            for (Future<Object> future : futures) {
+                try {
+                    future.get();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    Assertions.assertInstanceOf(BookingServiceException.class, e.getCause());
+                }
+            }
+
+            return succeeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User createUser() {
+        var name = UUID.randomUUID().toString();
+
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(name + "@email.com")
+                .build());
+    }
+}
@@ -0,0 +1,185 @@
+package ru.practicum.shareit.booking.service.impl;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingBatchMode;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.service.GetBookingsParams;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * Проверка, что страница бронирований загружается одним SQL-запросом независимо от её размера,
+ * массовая вставка бронирований отправляется пакетами, а пакет бронирований проверяется на пересечения
+ * без запросов для каждой записи.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest
+class BookingServiceImplQueryCountTest {
+    private static final int BOOKINGS = 100;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User owner;
+
+    private User booker;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        owner = createUser();
+        booker = createUser();
+
+        for (int i = 0; i < BOOKINGS; i++) {
+            var item = itemRepository.save(Item.builder()
+                    .owner(owner)
+                    .name("item" + i)
+                    .description("description")
+                    .available(true)
+                    .build());
+            bookingRepository.save(Booking.builder()
+                    .item(item)
+                    .booker(booker)
+                    .status(BookingStatus.WAITING)
+                    .start(ZonedDateTime.now().plusDays(1 + i))
+                    .end(ZonedDateTime.now().plusDays(2 + i))
+                    .build());
+        }
+    }
+
+    @Test
+    void getBookingsByBookerTestOneQueryPerPage() {
+        var userQueries = countUserCheck(booker);
+
+        statistics.clear();
+        var bookings = bookingService.getBookingsByBooker(params(booker));
+        var count = statistics.getPrepareStatementCount();
+
+        Assertions.assertEquals(BOOKINGS, bookings.size());
+        Assertions.assertEquals("item" + (BOOKINGS - 1), bookings.get(0).getItem().getName());
+        Assertions.assertEquals(booker.getId(), bookings.get(0).getBooker().getId());
+        Assertions.assertEquals(userQueries + 1, count);
+    }
+
+    @Test
+    void getBookingByOwnerTestOneQueryPerPage() {
+        var userQueries = countUserCheck(owner);
+
+        statistics.clear();
+        var bookings = bookingService.getBookingByOwner(params(owner));
+        var count = statistics.getPrepareStatementCount();
+
+        Assertions.assertEquals(BOOKINGS, bookings.size());
+        Assertions.assertEquals("item0", bookings.get(BOOKINGS - 1).getItem().getName());
+        Assertions.assertEquals(userQueries + 1, count);
+    }
+
+    @Test
+    void saveAllTestBatchesInserts() {
+        var item = itemRepository.findAll().get(0);
+        var bookings = new ArrayList<Booking>();
+
+        for (int i = 0; i < BOOKINGS; i++) {
+            bookings.add(Booking.builder()
+                    .item(item)
+                    .booker(booker)
+                    .start(ZonedDateTime.now().plusYears(1).plusDays(i))
+                    .end(ZonedDateTime.now().plusYears(1).plusDays(i).plusHours(1))
+                    .build());
+        }
+
+        statistics.clear();
+        bookingRepository.saveAll(bookings);
+
+        Assertions.assertEquals(BOOKINGS, statistics.getEntityInsertCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 4,
+                "вставки должны уходить пакетами, а id браться блоками последовательности: "
+                        + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void addNewBookingsTestOverlapCheckedOncePerBatch() {
+        var now = LocalDateTime.now().plusYears(2);
+        var items = itemRepository.findAll();
+        var bookings = new ArrayList<BookingRequestDto>();
+
+        for (int i = 0; i < BOOKINGS; i++) {
+            bookings.add(BookingRequestDto.builder()
+                    .itemId(items.get(i).getId())
+                    .start(now.plusDays(i))
+                    .end(now.plusDays(i).plusHours(1))
+                    .build());
+        }
+
+        statistics.clear();
+        var results = bookingService.addNewBookings(bookings, booker.getId(), BookingBatchMode.ALL_OR_NOTHING,
+                TimeZone.getDefault());
+
+        Assertions.assertTrue(results.stream().allMatch(r -> r.getStatus() == 201));
+        Assertions.assertTrue(statistics.getPrepareStatementCount() < BOOKINGS,
+                "блокировка вещей и проверка пересечений не должны выполняться для каждой записи пакета: "
+                        + statistics.getPrepareStatementCount());
+    }
+
+    private long countUserCheck(User user) {
+        statistics.clear();
+        userRepository.findById(user.getId());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private GetBookingsParams params(User user) {
+        return GetBookingsParams.builder()
+                .userId(user.getId())
+                .state(BookingState.ALL)
+                .from(0)
+                .size(BOOKINGS)
+                .timeZone(TimeZone.getDefault())
+                .build();
+    }
+
+    private User createUser() {
+        var name = UUID.randomUUID().toString();
+
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(name + "@email.com")
+                .build());
+    }
+}
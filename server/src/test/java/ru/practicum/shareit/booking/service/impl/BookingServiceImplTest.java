@@ -5,8 +5,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+import ru.practicum.shareit.booking.dto.BookingBatchMode;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.exception.BookingServiceException;
@@ -16,18 +17,24 @@ import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.booking.service.GetBookingsParams;
+import ru.practicum.shareit.checker.BookingOverlapChecker;
 import ru.practicum.shareit.checker.ItemChecker;
 import ru.practicum.shareit.checker.UserChecker;
 import ru.practicum.shareit.exception.NotFoundBookingException;
 import ru.practicum.shareit.exception.NotFoundItemException;
 import ru.practicum.shareit.exception.NotFoundUserException;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.outbox.OutboxEventType;
+import ru.practicum.shareit.outbox.OutboxPublisher;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TimeZone;
 
 /**
@@ -45,6 +52,10 @@ class BookingServiceImplTest {
 
     private ItemChecker itemChecker;
 
+    private BookingOverlapChecker bookingOverlapChecker;
+
+    private OutboxPublisher outboxPublisher;
+
     private User user;
 
     @BeforeEach
@@ -52,8 +63,11 @@ class BookingServiceImplTest {
         bookingRepository = Mockito.mock(BookingRepository.class);
         userChecker = Mockito.mock(UserChecker.class);
         itemChecker = Mockito.mock(ItemChecker.class);
+        bookingOverlapChecker = Mockito.mock(BookingOverlapChecker.class);
+        outboxPublisher = Mockito.mock(OutboxPublisher.class);
 
-        bookingService = new BookingServiceImpl(bookingRepository, userChecker, itemChecker);
+        bookingService = new BookingServiceImpl(bookingRepository, userChecker, itemChecker, bookingOverlapChecker,
+                outboxPublisher);
 
         user = User.builder()
                 .id(1L)
@@ -221,29 +235,107 @@ class BookingServiceImplTest {
     }
 
     @Test
-    void bookingConfirmationTestAPPROWED() {
-        Mockito.when(bookingRepository.findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(Optional.ofNullable(Booking.builder()
-                        .id(1L)
-                        .status(BookingStatus.WAITING)
-                        .item(Item.builder()
-                                .id(1L)
-                                .owner(user)
-                                .name("TestItem")
-                                .available(Boolean.TRUE)
-                                .description("testDescription")
-                                .build())
-                        .booker(User.builder()
-                                .id(3L)
-                                .name("testBooker")
-                                .email("testBookerEmail@mail.com")
-                                .build())
-                        .end(ZonedDateTime.now().minusHours(2))
-                        .start(ZonedDateTime.now().minusDays(1))
-                        .build()));
+    void addNewBookingsTestBestEffort() {
+        var booker = User.builder()
+                .id(3L)
+                .name("testBooker")
+                .email("testBookerEmail@mail.com")
+                .build();
+        Mockito.when(userChecker.checkUser(Mockito.anyLong(), Mockito.anyString()))
+                .thenReturn(booker);
+        Mockito.when(itemChecker.checkItems(Mockito.anyCollection()))
+                .thenReturn(Map.of(
+                        1L, Item.builder().id(1L).owner(user).name("TestItem").available(Boolean.TRUE).build(),
+                        2L, Item.builder().id(2L).owner(user).name("TestItem2").available(Boolean.FALSE).build()));
+        Mockito.when(bookingRepository.saveAll(Mockito.anyList()))
+                .thenAnswer(invocation -> {
+                    List<Booking> bookings = invocation.getArgument(0);
+                    bookings.forEach(b -> b.setId(10L + b.getItem().getId()));
+                    return bookings;
+                });
 
-        Mockito.when(bookingRepository.save(Mockito.any(Booking.class)))
-                .thenReturn(Booking.builder()
+        LocalDateTime now = LocalDateTime.now();
+        var results = bookingService.addNewBookings(List.of(
+                BookingRequestDto.builder().itemId(1L).start(now.plusDays(1)).end(now.plusDays(2)).build(),
+                BookingRequestDto.builder().itemId(2L).start(now.plusDays(1)).end(now.plusDays(2)).build(),
+                BookingRequestDto.builder().itemId(5L).start(now.plusDays(1)).end(now.plusDays(2)).build()
+        ), 3L, BookingBatchMode.BEST_EFFORT, TimeZone.getDefault());
+
+        Assertions.assertEquals(3, results.size());
+        Assertions.assertEquals(201, results.get(0).getStatus());
+        Assertions.assertEquals(11L, results.get(0).getBooking().getId());
+        Assertions.assertEquals(BookingStatus.WAITING, results.get(0).getBooking().getStatus());
+        Assertions.assertEquals(400, results.get(1).getStatus());
+        Assertions.assertNull(results.get(1).getBooking());
+        Assertions.assertEquals("Нельзя забронировать не доступную для бронирования вещь с id 2 для пользователя с id 3",
+                results.get(1).getError());
+        Assertions.assertEquals(404, results.get(2).getStatus());
+        Assertions.assertEquals("Нельзя забронировать не существующую вещь с id 5 для пользователя с id 3",
+                results.get(2).getError());
+
+        Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
+        Mockito.verify(itemChecker, Mockito.times(1)).checkItems(Mockito.anyCollection());
+        Mockito.verify(itemChecker, Mockito.never()).checkItem(Mockito.anyLong(), Mockito.anyString());
+        Mockito.verify(bookingRepository, Mockito.times(1)).saveAll(Mockito.anyList());
+        Mockito.verify(bookingOverlapChecker, Mockito.times(1)).findOverlapping(Mockito.anyCollection());
+        Mockito.verify(bookingOverlapChecker, Mockito.never()).checkOverlap(Mockito.anyLong(),
+                Mockito.any(ZonedDateTime.class), Mockito.any(ZonedDateTime.class), Mockito.any(), Mockito.anyString());
+    }
+
+    @Test
+    void addNewBookingsTestOverlap() {
+        Mockito.when(userChecker.checkUser(Mockito.anyLong(), Mockito.anyString()))
+                .thenReturn(User.builder().id(3L).build());
+        Mockito.when(itemChecker.checkItems(Mockito.anyCollection()))
+                .thenReturn(Map.of(1L, Item.builder().id(1L).owner(user).available(Boolean.TRUE).build()));
+        Mockito.when(bookingOverlapChecker.findOverlapping(Mockito.anyCollection()))
+                .thenAnswer(invocation -> {
+                    List<Booking> candidates = List.copyOf(invocation.<Collection<Booking>>getArgument(0));
+                    return Set.of(candidates.get(1));
+                });
+        Mockito.when(bookingRepository.saveAll(Mockito.anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        LocalDateTime now = LocalDateTime.now();
+        var results = bookingService.addNewBookings(List.of(
+                BookingRequestDto.builder().itemId(1L).start(now.plusDays(1)).end(now.plusDays(2)).build(),
+                BookingRequestDto.builder().itemId(1L).start(now.plusDays(5)).end(now.plusDays(6)).build()
+        ), 3L, BookingBatchMode.BEST_EFFORT, TimeZone.getDefault());
+
+        Assertions.assertEquals(201, results.get(0).getStatus());
+        Assertions.assertEquals(400, results.get(1).getStatus());
+        Assertions.assertEquals("Нельзя забронировать вещь с id 1 для пользователя с id 3, на этот период есть " +
+                "подтверждённое бронирование", results.get(1).getError());
+        Mockito.verify(bookingRepository, Mockito.times(1)).saveAll(Mockito.argThat(list -> ((List<Booking>) list).size() == 1));
+    }
+
+    @Test
+    void addNewBookingsTestAllOrNothing() {
+        Mockito.when(userChecker.checkUser(Mockito.anyLong(), Mockito.anyString()))
+                .thenReturn(User.builder().id(3L).build());
+        Mockito.when(itemChecker.checkItems(Mockito.anyCollection()))
+                .thenReturn(Map.of(1L, Item.builder().id(1L).owner(user).available(Boolean.TRUE).build()));
+
+        LocalDateTime now = LocalDateTime.now();
+        var results = bookingService.addNewBookings(List.of(
+                BookingRequestDto.builder().itemId(1L).start(now.plusDays(1)).end(now.plusDays(2)).build(),
+                BookingRequestDto.builder().itemId(5L).start(now.plusDays(1)).end(now.plusDays(2)).build()
+        ), 3L, BookingBatchMode.ALL_OR_NOTHING, TimeZone.getDefault());
+
+        Assertions.assertEquals(424, results.get(0).getStatus());
+        Assertions.assertNull(results.get(0).getBooking());
+        Assertions.assertNotNull(results.get(0).getError());
+        Assertions.assertEquals(404, results.get(1).getStatus());
+
+        Mockito.verify(bookingRepository, Mockito.never()).saveAll(Mockito.anyList());
+    }
+
+    @Test
+    void bookingConfirmationTestAPPROWED() {
+        Mockito.when(bookingRepository.updateStatusByIdAndOwnerId(1L, 1L, BookingStatus.APPROVED))
+                .thenReturn(1);
+        Mockito.when(bookingRepository.findWithItemAndBookerById(1L))
+                .thenReturn(Optional.of(Booking.builder()
                         .id(1L)
                         .status(BookingStatus.APPROVED)
                         .item(Item.builder()
@@ -260,7 +352,7 @@ class BookingServiceImplTest {
                                 .build())
                         .end(ZonedDateTime.now().minusHours(2))
                         .start(ZonedDateTime.now().minusDays(1))
-                        .build());
+                        .build()));
 
         var bookingResponseDto = bookingService.bookingConfirmation(1L, 1L, true, TimeZone.getDefault());
 
@@ -271,16 +363,36 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingResponseDto.getStatus(), BookingStatus.APPROVED);
         Assertions.assertEquals(bookingResponseDto.getBooker().getId(), 3);
 
-        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong());
-        Mockito.verify(bookingRepository, Mockito.times(1)).save(Mockito.any(Booking.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).updateStatusByIdAndOwnerId(1L, 1L, BookingStatus.APPROVED);
+        Mockito.verify(bookingRepository, Mockito.never()).save(Mockito.any(Booking.class));
+        Mockito.verify(bookingRepository, Mockito.never()).findStatusByIdAndOwnerId(Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verify(bookingOverlapChecker, Mockito.times(1)).checkOverlap(Mockito.eq(1L),
+                Mockito.any(ZonedDateTime.class), Mockito.any(ZonedDateTime.class), Mockito.eq(1L), Mockito.anyString());
+        Mockito.verify(outboxPublisher, Mockito.times(1)).publish(Mockito.eq(OutboxEventType.BOOKING_APPROVED),
+                Mockito.eq(1L), Mockito.any(BookingResponseDto.class));
     }
 
     @Test
-    void bookingConfirmationTestREJECTED() {
-        Mockito.when(bookingRepository.findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(Optional.ofNullable(Booking.builder()
+    void bookingConfirmationTestNotValidOverlap() {
+        Mockito.when(bookingRepository.updateStatusByIdAndOwnerId(1L, 1L, BookingStatus.APPROVED))
+                .thenThrow(new DataIntegrityViolationException("ex_bookings_approved_overlap"));
+
+        Throwable throwable = Assertions.assertThrows(BookingServiceException.class,
+                () -> bookingService.bookingConfirmation(1L, 1L, true, TimeZone.getDefault()));
+        Assertions.assertEquals("Нельзя подтвердить бронирование с id 1, на этот период есть другое подтверждённое бронирование",
+                throwable.getMessage());
+
+        Mockito.verify(bookingRepository, Mockito.never()).findWithItemAndBookerById(Mockito.anyLong());
+    }
+
+    @Test
+    void bookingConfirmationTestNotValidOverlapInIndex() {
+        Mockito.when(bookingRepository.updateStatusByIdAndOwnerId(1L, 1L, BookingStatus.APPROVED))
+                .thenReturn(1);
+        Mockito.when(bookingRepository.findWithItemAndBookerById(1L))
+                .thenReturn(Optional.of(Booking.builder()
                         .id(1L)
-                        .status(BookingStatus.WAITING)
+                        .status(BookingStatus.APPROVED)
                         .item(Item.builder()
                                 .id(1L)
                                 .owner(user)
@@ -296,9 +408,22 @@ class BookingServiceImplTest {
                         .end(ZonedDateTime.now().minusHours(2))
                         .start(ZonedDateTime.now().minusDays(1))
                         .build()));
+        Mockito.doThrow(new BookingServiceException("overlap"))
+                .when(bookingOverlapChecker).checkOverlap(Mockito.eq(1L), Mockito.any(ZonedDateTime.class),
+                        Mockito.any(ZonedDateTime.class), Mockito.eq(1L), Mockito.anyString());
 
-        Mockito.when(bookingRepository.save(Mockito.any(Booking.class)))
-                .thenReturn(Booking.builder()
+        Assertions.assertThrows(BookingServiceException.class,
+                () -> bookingService.bookingConfirmation(1L, 1L, true, TimeZone.getDefault()));
+
+        Mockito.verify(outboxPublisher, Mockito.never()).publish(Mockito.any(), Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    void bookingConfirmationTestREJECTED() {
+        Mockito.when(bookingRepository.updateStatusByIdAndOwnerId(1L, 1L, BookingStatus.REJECTED))
+                .thenReturn(1);
+        Mockito.when(bookingRepository.findWithItemAndBookerById(1L))
+                .thenReturn(Optional.of(Booking.builder()
                         .id(1L)
                         .status(BookingStatus.REJECTED)
                         .item(Item.builder()
@@ -315,7 +440,7 @@ class BookingServiceImplTest {
                                 .build())
                         .end(ZonedDateTime.now().minusHours(2))
                         .start(ZonedDateTime.now().minusDays(1))
-                        .build());
+                        .build()));
 
         var bookingResponseDto = bookingService.bookingConfirmation(1L, 1L, false, TimeZone.getDefault());
 
@@ -326,46 +451,36 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingResponseDto.getStatus(), BookingStatus.REJECTED);
         Assertions.assertEquals(bookingResponseDto.getBooker().getId(), 3);
 
-        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong());
-        Mockito.verify(bookingRepository, Mockito.times(1)).save(Mockito.any(Booking.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).updateStatusByIdAndOwnerId(1L, 1L, BookingStatus.REJECTED);
+        Mockito.verify(bookingOverlapChecker, Mockito.never()).checkOverlap(Mockito.anyLong(),
+                Mockito.any(ZonedDateTime.class), Mockito.any(ZonedDateTime.class), Mockito.anyLong(), Mockito.anyString());
+        Mockito.verify(outboxPublisher, Mockito.times(1)).publish(Mockito.eq(OutboxEventType.BOOKING_REJECTED),
+                Mockito.eq(1L), Mockito.any(BookingResponseDto.class));
     }
 
     @Test
     void bookingConfirmationTestBookingNotFound() {
-        Mockito.when(bookingRepository.findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong()))
+        Mockito.when(bookingRepository.updateStatusByIdAndOwnerId(1L, 1L, BookingStatus.APPROVED))
+                .thenReturn(0);
+        Mockito.when(bookingRepository.findStatusByIdAndOwnerId(1L, 1L))
                 .thenReturn(Optional.empty());
 
         Throwable throwable = Assertions.assertThrows(NotFoundBookingException.class,
                 () -> bookingService.bookingConfirmation(1L, 1L, true, TimeZone.getDefault()));
 
         Assertions.assertNotNull(throwable);
-        Assertions.assertNotNull(throwable.getMessage(), "У пользователя с id 1 не существует запроса на бронирование с id 1");
+        Assertions.assertEquals("У пользователя с id 1 не существует запроса на бронирование с id 1", throwable.getMessage());
 
-        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verify(bookingRepository, Mockito.never()).findWithItemAndBookerById(Mockito.anyLong());
     }
 
 
     @Test
     void bookingConfirmationTestBookingApproved() {
-        Mockito.when(bookingRepository.findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(Optional.ofNullable(Booking.builder()
-                        .id(1L)
-                        .status(BookingStatus.APPROVED)
-                        .item(Item.builder()
-                                .id(1L)
-                                .owner(user)
-                                .name("TestItem")
-                                .available(Boolean.TRUE)
-                                .description("testDescription")
-                                .build())
-                        .booker(User.builder()
-                                .id(3L)
-                                .name("testBooker")
-                                .email("testBookerEmail@mail.com")
-                                .build())
-                        .end(ZonedDateTime.now().minusHours(2))
-                        .start(ZonedDateTime.now().minusDays(1))
-                        .build()));
+        Mockito.when(bookingRepository.updateStatusByIdAndOwnerId(1L, 1L, BookingStatus.APPROVED))
+                .thenReturn(0);
+        Mockito.when(bookingRepository.findStatusByIdAndOwnerId(1L, 1L))
+                .thenReturn(Optional.of(BookingStatus.APPROVED));
 
         Throwable throwable = Assertions.assertThrows(BookingServiceException.class,
                 () -> bookingService.bookingConfirmation(1L, 1L, true, TimeZone.getDefault()));
@@ -373,30 +488,15 @@ class BookingServiceImplTest {
         Assertions.assertNotNull(throwable);
         Assertions.assertEquals(throwable.getMessage(), "Владелец вещи с id 1 уже подтвердил бронирование с id 1");
 
-        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verify(bookingRepository, Mockito.never()).findWithItemAndBookerById(Mockito.anyLong());
     }
 
     @Test
     void bookingConfirmationTestBookingRejected() {
-        Mockito.when(bookingRepository.findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(Optional.ofNullable(Booking.builder()
-                        .id(1L)
-                        .status(BookingStatus.REJECTED)
-                        .item(Item.builder()
-                                .id(1L)
-                                .owner(user)
-                                .name("TestItem")
-                                .available(Boolean.TRUE)
-                                .description("testDescription")
-                                .build())
-                        .booker(User.builder()
-                                .id(3L)
-                                .name("testBooker")
-                                .email("testBookerEmail@mail.com")
-                                .build())
-                        .end(ZonedDateTime.now().minusHours(2))
-                        .start(ZonedDateTime.now().minusDays(1))
-                        .build()));
+        Mockito.when(bookingRepository.updateStatusByIdAndOwnerId(1L, 1L, BookingStatus.REJECTED))
+                .thenReturn(0);
+        Mockito.when(bookingRepository.findStatusByIdAndOwnerId(1L, 1L))
+                .thenReturn(Optional.of(BookingStatus.REJECTED));
 
         Throwable throwable = Assertions.assertThrows(BookingServiceException.class,
                 () -> bookingService.bookingConfirmation(1L, 1L, false, TimeZone.getDefault()));
@@ -404,7 +504,7 @@ class BookingServiceImplTest {
         Assertions.assertNotNull(throwable);
         Assertions.assertEquals(throwable.getMessage(), "Владелец вещи с id 1 уже отклонил бронирование с id 1");
 
-        Mockito.verify(bookingRepository, Mockito.times(1)).findBookingByIdAndUserId(Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verify(bookingRepository, Mockito.never()).findWithItemAndBookerById(Mockito.anyLong());
     }
 
     @Test
@@ -495,8 +595,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingsByBooker(GetBookingsParams.builder()
                 .userId(1L)
@@ -510,7 +610,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -521,8 +621,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingsByBooker(GetBookingsParams.builder()
                 .userId(1L)
@@ -536,7 +636,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -547,8 +647,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingsByBooker(GetBookingsParams.builder()
                 .userId(1L)
@@ -562,7 +662,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -573,8 +673,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingsByBooker(GetBookingsParams.builder()
                 .userId(1L)
@@ -588,7 +688,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -599,8 +699,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingsByBooker(GetBookingsParams.builder()
                 .userId(1L)
@@ -614,7 +714,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -625,8 +725,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingsByBooker(GetBookingsParams.builder()
                 .userId(1L)
@@ -640,7 +740,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -674,8 +774,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingByOwner(GetBookingsParams.builder()
                 .userId(1L)
@@ -689,7 +789,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -700,8 +800,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingByOwner(GetBookingsParams.builder()
                 .userId(1L)
@@ -715,7 +815,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -726,8 +826,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingByOwner(GetBookingsParams.builder()
                 .userId(1L)
@@ -741,7 +841,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -752,8 +852,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingByOwner(GetBookingsParams.builder()
                 .userId(1L)
@@ -767,7 +867,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -778,8 +878,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingByOwner(GetBookingsParams.builder()
                 .userId(1L)
@@ -793,7 +893,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -804,8 +904,8 @@ class BookingServiceImplTest {
                         .name("testBooker")
                         .email("testBookerEmail@mail.com")
                         .build());
-        Mockito.when(bookingRepository.findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class)))
-                .thenReturn(Page.empty());
+        Mockito.when(bookingRepository.findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of());
 
         List<BookingResponseDto> bookingsByBooker = bookingService.getBookingByOwner(GetBookingsParams.builder()
                 .userId(1L)
@@ -819,7 +919,7 @@ class BookingServiceImplTest {
         Assertions.assertEquals(bookingsByBooker.size(), 0);
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
-        Mockito.verify(bookingRepository, Mockito.times(1)).findAll(Mockito.any(BooleanExpression.class), Mockito.any(PageRequest.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -840,4 +940,67 @@ class BookingServiceImplTest {
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getBookingsByBookerAfterTestValid() {
+        var item = Item.builder()
+                .id(2L)
+                .name("testItem")
+                .build();
+        var start = ZonedDateTime.now();
+        var bookings = List.of(
+                Booking.builder().id(3L).start(start).end(start.plusDays(1)).item(item).booker(user).build(),
+                Booking.builder().id(2L).start(start.minusDays(1)).end(start).item(item).booker(user).build(),
+                Booking.builder().id(1L).start(start.minusDays(2)).end(start).item(item).booker(user).build());
+        Mockito.when(bookingRepository.findAllAfter(Mockito.any(BooleanExpression.class), Mockito.isNull(), Mockito.eq(3)))
+                .thenReturn(bookings);
+
+        var page = bookingService.getBookingsByBookerAfter(GetBookingsParams.builder()
+                .userId(1L)
+                .size(2)
+                .cursor("")
+                .state(BookingState.ALL)
+                .timeZone(TimeZone.getDefault())
+                .build());
+
+        Assertions.assertEquals(2, page.getBookings().size());
+        Assertions.assertEquals(3L, page.getBookings().get(0).getId());
+        Assertions.assertEquals(2L, page.getBookings().get(1).getId());
+        Assertions.assertEquals(BookingCursor.of(bookings.get(1)).encode(), page.getNextCursor());
+
+        Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
+        Mockito.verify(bookingRepository, Mockito.never()).findAllWithItem(Mockito.any(BooleanExpression.class), Mockito.anyLong(), Mockito.anyInt());
+    }
+
+    @Test
+    void getBookingByOwnerAfterTestLastPage() {
+        var cursor = new BookingCursor(ZonedDateTime.now(), 5L);
+        Mockito.when(bookingRepository.findAllAfter(Mockito.any(BooleanExpression.class), Mockito.eq(cursor), Mockito.eq(3)))
+                .thenReturn(List.of());
+
+        var page = bookingService.getBookingByOwnerAfter(GetBookingsParams.builder()
+                .userId(1L)
+                .size(2)
+                .cursor(cursor.encode())
+                .state(BookingState.WAITING)
+                .timeZone(TimeZone.getDefault())
+                .build());
+
+        Assertions.assertEquals(List.of(), page.getBookings());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getBookingsByBookerAfterTestNotValidCursor() {
+        Throwable throwable = Assertions.assertThrows(BookingServiceException.class, () -> bookingService.getBookingsByBookerAfter(GetBookingsParams.builder()
+                .userId(1L)
+                .size(2)
+                .cursor("not-a-cursor")
+                .state(BookingState.ALL)
+                .timeZone(TimeZone.getDefault())
+                .build()));
+
+        Assertions.assertEquals("Некорректное значение параметра cursor not-a-cursor", throwable.getMessage());
+        Mockito.verify(bookingRepository, Mockito.never()).findAllAfter(Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+}
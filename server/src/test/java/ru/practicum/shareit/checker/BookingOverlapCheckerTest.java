@@ -0,0 +1,95 @@
+package ru.practicum.shareit.checker;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.practicum.shareit.booking.exception.BookingServiceException;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class BookingOverlapCheckerTest {
+    private BookingOverlapChecker bookingOverlapChecker;
+    private ItemRepository itemRepository;
+    private BookingRepository bookingRepository;
+    private ZonedDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = Mockito.mock(ItemRepository.class);
+        bookingRepository = Mockito.mock(BookingRepository.class);
+        bookingOverlapChecker = new BookingOverlapChecker(itemRepository, bookingRepository);
+        now = ZonedDateTime.now();
+    }
+
+    @Test
+    void checkOverlapTestNoOverlap() {
+        bookingOverlapChecker.checkOverlap(1L, now.plusDays(2), now.plusDays(3), null, "Message");
+
+        var inOrder = Mockito.inOrder(itemRepository, bookingRepository);
+        inOrder.verify(itemRepository, Mockito.times(1)).lockById(1L);
+        inOrder.verify(bookingRepository, Mockito.times(1))
+                .existsApprovedOverlap(1L, now.plusDays(2), now.plusDays(3), 0L);
+    }
+
+    @Test
+    void checkOverlapTestOverlap() {
+        Mockito.when(bookingRepository.existsApprovedOverlap(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.eq(0L)))
+                .thenReturn(true);
+
+        Throwable throwable = Assertions.assertThrows(BookingServiceException.class,
+                () -> bookingOverlapChecker.checkOverlap(1L, now.plusDays(2), now.plusDays(4), null, "Message"));
+        Assertions.assertEquals("Message", throwable.getMessage());
+    }
+
+    @Test
+    void checkOverlapTestExcludeBooking() {
+        bookingOverlapChecker.checkOverlap(1L, now.plusDays(1), now.plusDays(3), 1L, "Message");
+
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .existsApprovedOverlap(Mockito.eq(1L), Mockito.any(), Mockito.any(), Mockito.eq(1L));
+    }
+
+    @Test
+    void findOverlappingTestLocksItemsOnceInIdOrder() {
+        var first = booking(2L, now.plusDays(1), now.plusDays(3));
+        var second = booking(1L, now.plusDays(5), now.plusDays(6));
+        var third = booking(1L, now.plusDays(2), now.plusDays(3));
+        Mockito.when(bookingRepository.findApprovedOverlaps(Mockito.anyCollection(), Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(booking(1L, now.plusDays(1), now.plusDays(4))));
+
+        var overlapping = bookingOverlapChecker.findOverlapping(List.of(first, second, third));
+
+        Assertions.assertEquals(1, overlapping.size());
+        Assertions.assertTrue(overlapping.contains(third));
+        Mockito.verify(itemRepository, Mockito.times(1)).lockAllById(new TreeSet<>(List.of(1L, 2L)));
+        Mockito.verify(bookingRepository, Mockito.times(1))
+                .findApprovedOverlaps(new TreeSet<>(List.of(1L, 2L)), now.plusDays(1), now.plusDays(6));
+        Mockito.verify(itemRepository, Mockito.never()).lockById(Mockito.anyLong());
+    }
+
+    @Test
+    void findOverlappingTestEmpty() {
+        Assertions.assertTrue(bookingOverlapChecker.findOverlapping(List.of()).isEmpty());
+
+        Mockito.verifyNoInteractions(itemRepository, bookingRepository);
+    }
+
+    private Booking booking(Long itemId, ZonedDateTime start, ZonedDateTime end) {
+        return Booking.builder()
+                .item(Item.builder().id(itemId).build())
+                .start(start)
+                .end(end)
+                .build();
+    }
+}
@@ -5,8 +5,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import ru.practicum.shareit.exception.NotFoundItemException;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,4 +38,15 @@ class ItemCheckerTest {
         Mockito.verify(itemRepository, Mockito.times(1))
                 .findById(Mockito.anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkItems() {
+        Mockito.when(itemRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(Item.builder().id(1L).build()));
+
+        var items = itemChecker.checkItems(List.of(1L, 2L));
+        Assertions.assertEquals(1, items.size());
+        Assertions.assertEquals(1L, items.get(1L).getId());
+        Assertions.assertNull(items.get(2L));
+    }
+}
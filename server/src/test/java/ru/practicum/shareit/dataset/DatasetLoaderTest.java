@@ -0,0 +1,76 @@
+package ru.practicum.shareit.dataset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.ItemResponseRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@DataJpaTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatasetLoaderTest {
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    BookingRepository bookingRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    ItemResponseRepository itemResponseRepository;
+
+    @AfterEach
+    void tearDown() {
+        new DatasetLoader(dataSource).clean();
+    }
+
+    @Test
+    void loadTest() {
+        var spec = DatasetSpec.small();
+        var generator = new DatasetGenerator(spec, LocalDateTime.now());
+        var summary = new DatasetLoader(dataSource).load(generator);
+
+        Assertions.assertFalse(summary.isCopy());
+        Assertions.assertEquals(spec.getUsers(), userRepository.count());
+        Assertions.assertEquals(spec.getItems(), itemRepository.count());
+        Assertions.assertEquals(spec.getBookings(), bookingRepository.count());
+        Assertions.assertEquals(spec.getComments(), commentRepository.count());
+        Assertions.assertEquals(spec.getRequests(), itemRequestRepository.count());
+        Assertions.assertEquals(summary.getRows().get(Table.RESPONSES), itemResponseRepository.count());
+        Assertions.assertEquals(generator.itemCount(1),
+                itemRepository.findAllByOwnerId(1L, PageRequest.of(0, 10)).getTotalElements());
+
+        var user = userRepository.save(User.builder().name("new").email("new@email.com").build());
+        Assertions.assertEquals(spec.getUsers() + 1L, user.getId());
+    }
+}
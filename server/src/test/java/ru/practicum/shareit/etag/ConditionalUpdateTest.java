@@ -0,0 +1,197 @@
+package ru.practicum.shareit.etag;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Проверка условных обновлений по If-Match и защиты от потерянных обновлений версией записи.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalUpdateTest {
+    private static final String X_SHARER_USER_ID = "X-Sharer-User-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void updateUserTestIfMatch() throws Exception {
+        var userId = createUser().getId();
+        var etag = mockMvc.perform(get("/users/{userId}", userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        var updatedETag = mockMvc.perform(patch("/users/{userId}", userId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"first\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assertions.assertNotNull(updatedETag);
+        Assertions.assertNotEquals(etag, updatedETag);
+        Assertions.assertEquals(updatedETag, mockMvc.perform(get("/users/{userId}", userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+
+        mockMvc.perform(patch("/users/{userId}", userId)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"second\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/users/{userId}", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("first"));
+    }
+
+    @Test
+    void updateItemTestETagMatchesNextGet() throws Exception {
+        var owner = createUser();
+        var itemId = itemRepository.save(Item.builder()
+                .owner(owner)
+                .name("conditionalItem")
+                .description("conditionalDescription")
+                .available(true)
+                .build()).getId();
+        var etag = getItemETag(itemId, owner.getId());
+
+        var updatedETag = mockMvc.perform(patch("/items/{itemId}", itemId)
+                        .header(X_SHARER_USER_ID, owner.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"first\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assertions.assertNotNull(updatedETag);
+        Assertions.assertNotEquals(etag, updatedETag);
+        Assertions.assertEquals(updatedETag, getItemETag(itemId, owner.getId()));
+
+        mockMvc.perform(patch("/items/{itemId}", itemId)
+                        .header(X_SHARER_USER_ID, owner.getId())
+                        .header(HttpHeaders.IF_MATCH, updatedETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"second\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateCommentTestIfMatchFromAddComment() throws Exception {
+        var owner = createUser();
+        var booker = createUser();
+        var item = itemRepository.save(Item.builder()
+                .owner(owner)
+                .name("commentedItem")
+                .description("commentedDescription")
+                .available(true)
+                .build());
+        bookingRepository.save(Booking.builder()
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .start(ZonedDateTime.now().minusDays(2))
+                .end(ZonedDateTime.now().minusDays(1))
+                .build());
+
+        var added = mockMvc.perform(post("/items/{itemId}/comment", item.getId())
+                        .header(X_SHARER_USER_ID, booker.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\": \"first\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        long commentId = ((Number) JsonPath.read(added.getContentAsString(), "$.id")).longValue();
+        var etag = added.getHeader(HttpHeaders.ETAG);
+
+        Assertions.assertNotNull(etag);
+
+        mockMvc.perform(patch("/items/comment/{commentId}", commentId)
+                        .header(X_SHARER_USER_ID, booker.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\": \"second\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/items/comment/{commentId}", commentId)
+                        .header(X_SHARER_USER_ID, booker.getId())
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"text\": \"third\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateUserTestConcurrentUpdateRejected() {
+        var userId = createUser().getId();
+        var outer = new TransactionTemplate(transactionManager);
+        var inner = new TransactionTemplate(transactionManager);
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Assertions.assertThrows(OptimisticLockingFailureException.class, () -> outer.executeWithoutResult(status -> {
+            var stale = userRepository.findById(userId).orElseThrow();
+
+            inner.executeWithoutResult(s -> userRepository.findById(userId).orElseThrow().setName("concurrent"));
+            stale.setName("stale");
+        }));
+
+        Assertions.assertEquals("concurrent", userRepository.findById(userId).orElseThrow().getName());
+    }
+
+    private String getItemETag(Long itemId, Long userId) throws Exception {
+        return mockMvc.perform(get("/items/{itemId}", itemId)
+                        .header(X_SHARER_USER_ID, userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private User createUser() {
+        var name = UUID.randomUUID().toString();
+
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(name + "@email.com")
+                .build());
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.etag;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class ETagsTest {
+    @Test
+    void strongTest() {
+        Assertions.assertEquals(ETags.strong("user", 1L, 2L), ETags.strong("user", 1L, 2L));
+        Assertions.assertNotEquals(ETags.strong("user", 1L, 2L), ETags.strong("user", 1L, 3L));
+        Assertions.assertTrue(ETags.strong("user", 1L).startsWith("\""));
+    }
+
+    @Test
+    void matchesTest() {
+        var etag = ETags.strong("user", 1L, 2L);
+
+        Assertions.assertTrue(ETags.matches(etag, etag));
+        Assertions.assertTrue(ETags.matches("*", etag));
+        Assertions.assertTrue(ETags.matches("\"other\", " + etag, etag));
+        Assertions.assertFalse(ETags.matches("\"other\"", etag));
+        Assertions.assertFalse(ETags.matches("W/" + etag, etag));
+        Assertions.assertFalse(ETags.matches("*", null));
+    }
+}
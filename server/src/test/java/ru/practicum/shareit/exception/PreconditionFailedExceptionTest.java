@@ -0,0 +1,18 @@
+package ru.practicum.shareit.exception;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class PreconditionFailedExceptionTest {
+    @Test
+    void createPreconditionFailedException() {
+        var test = new PreconditionFailedException("Message");
+
+        Assertions.assertEquals(PreconditionFailedException.class, test.getClass());
+        Assertions.assertEquals("Message", test.getMessage());
+    }
+}
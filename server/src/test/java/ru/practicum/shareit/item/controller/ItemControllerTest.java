@@ -11,6 +11,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import ru.practicum.shareit.etag.ETagged;
 import ru.practicum.shareit.exception.NotFoundBookingException;
 import ru.practicum.shareit.exception.NotFoundCommentException;
 import ru.practicum.shareit.exception.NotFoundItemException;
@@ -119,17 +120,19 @@ class ItemControllerTest {
                         "\"description\": \"testDescription1update\"," +
                         "\"available\": false}");
 
-        Mockito.when(itemService.updateItem(Mockito.any(), Mockito.any(), Mockito.any()))
-                .thenReturn(new ItemDtoResponse(1L, "testName1update", "testDescription1update", false, null));
+        Mockito.when(itemService.updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(new ETagged<>(new ItemDtoResponse(1L, "testName1update", "testDescription1update", false, null),
+                        "\"v2\""));
 
         this.mockMvc.perform(request).andExpectAll(
                 status().isOk(),
+                header().string("ETag", "\"v2\""),
                 jsonPath("$.name").value("testName1update"),
                 jsonPath("$.id").value(1),
                 jsonPath("$.description").value("testDescription1update"),
                 jsonPath("$.available").value(false)
         );
-        Mockito.verify(itemService, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(itemService, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -163,7 +166,7 @@ class ItemControllerTest {
                         "\"description\": \"testDescription1update\"," +
                         "\"available\": false}");
 
-        Mockito.when(itemService.updateItem(Mockito.any(), Mockito.any(), Mockito.any()))
+        Mockito.when(itemService.updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
                 .thenThrow(new NotFoundItemException("Нельзя обновить не существующую вещь с id 10 для пользователя с id 1"));
 
         this.mockMvc.perform(request).andExpectAll(
@@ -173,7 +176,7 @@ class ItemControllerTest {
                 jsonPath("$.error").value("Ошибка работы с предметами: Нельзя обновить не существующую вещь с id 10 для пользователя с id 1"),
                 jsonPath("$.path").value("/items/10")
         );
-        Mockito.verify(itemService, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(itemService, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -187,7 +190,7 @@ class ItemControllerTest {
                         "\"description\": \"testDescription1update\"," +
                         "\"available\": false}");
 
-        Mockito.when(itemService.updateItem(Mockito.any(), Mockito.any(), Mockito.any()))
+        Mockito.when(itemService.updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
                 .thenThrow(new NotFoundUserException("Нельзя обновить вещь c id 1 для не существующего пользователя с id 10"));
 
         this.mockMvc.perform(request).andExpectAll(
@@ -197,7 +200,7 @@ class ItemControllerTest {
                 jsonPath("$.error").value("Ошибка работы с предметами: Нельзя обновить вещь c id 1 для не существующего пользователя с id 10"),
                 jsonPath("$.path").value("/items/1")
         );
-        Mockito.verify(itemService, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(itemService, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -211,7 +214,7 @@ class ItemControllerTest {
                         "\"description\": \"testDescription1update\"," +
                         "\"available\": false}");
 
-        Mockito.when(itemService.updateItem(Mockito.any(), Mockito.any(), Mockito.any()))
+        Mockito.when(itemService.updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
                 .thenThrow(new NotFoundItemException("Нельзя обновить вещь с id 1 пользователь с id 10 не является её владельцем"));
 
         this.mockMvc.perform(request).andExpectAll(
@@ -221,7 +224,7 @@ class ItemControllerTest {
                 jsonPath("$.error").value("Ошибка работы с предметами: Нельзя обновить вещь с id 1 пользователь с id 10 не является её владельцем"),
                 jsonPath("$.path").value("/items/1")
         );
-        Mockito.verify(itemService, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(itemService, Mockito.times(1)).updateItem(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     @Test
@@ -562,15 +565,16 @@ class ItemControllerTest {
         Mockito.when(itemService.addComment(
                         Mockito.anyLong(), Mockito.anyLong(),
                         Mockito.any(TimeZone.class), Mockito.any(CommentRequestDto.class)))
-                .thenReturn(CommentResponseDto.builder()
+                .thenReturn(new ETagged<>(CommentResponseDto.builder()
                         .id(1L)
                         .text("testComment")
                         .authorName("testAuthor")
                         .created(LocalDateTime.parse("2024-05-23T09:59:40"))
-                        .build());
+                        .build(), "\"v1\""));
 
         this.mockMvc.perform(request).andExpectAll(
                 status().isOk(),
+                header().string("ETag", "\"v1\""),
                 content().contentType(MediaType.APPLICATION_JSON),
                 content().json("{\"id\":1,\"text\":\"testComment\",\"authorName\":\"testAuthor\",\"created\":\"2024-05-23T09:59:40\"}")
         );
@@ -658,19 +662,20 @@ class ItemControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"text\":\"UpdateTestComment\"}");
 
-        Mockito.when(itemService.updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong()))
-                .thenReturn(CommentResponseDto.builder()
+        Mockito.when(itemService.updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong(), Mockito.any()))
+                .thenReturn(new ETagged<>(CommentResponseDto.builder()
                         .text("UpdateTestComment")
                         .id(1L)
                         .authorName("TestAuthor")
                         .created(LocalDateTime.parse("2024-05-23T09:59:40"))
-                        .build());
+                        .build(), "\"v2\""));
 
         this.mockMvc.perform(request).andExpectAll(
                 status().isOk(),
+                header().string("ETag", "\"v2\""),
                 content().json("{\"id\":1,\"text\":\"UpdateTestComment\",\"authorName\":\"TestAuthor\",\"created\":\"2024-05-23T09:59:40\"}")
         );
-        Mockito.verify(itemService, Mockito.times(1)).updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verify(itemService, Mockito.times(1)).updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong(), Mockito.any());
     }
 
     @Test
@@ -682,7 +687,7 @@ class ItemControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"text\":\"UpdateTestComment\"}");
 
-        Mockito.when(itemService.updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong()))
+        Mockito.when(itemService.updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong(), Mockito.any()))
                 .thenThrow(new NotFoundUserException("Нельзя обновить комментарий c id 1 для не существующего пользователя с id 1"));
 
         this.mockMvc.perform(request).andExpectAll(
@@ -692,7 +697,7 @@ class ItemControllerTest {
                 jsonPath("$.error").value("Ошибка работы с предметами: Нельзя обновить комментарий c id 1 для не существующего пользователя с id 1"),
                 jsonPath("$.path").value("/items/comment/1")
         );
-        Mockito.verify(itemService, Mockito.times(1)).updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verify(itemService, Mockito.times(1)).updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong(), Mockito.any());
     }
 
 
@@ -705,7 +710,7 @@ class ItemControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"text\":\"UpdateTestComment\"}");
 
-        Mockito.when(itemService.updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong()))
+        Mockito.when(itemService.updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong(), Mockito.any()))
                 .thenThrow(new NotFoundCommentException("Нельзя обновить не существующий комментарий с id 1 для пользователя с id 1"));
 
         this.mockMvc.perform(request).andExpectAll(
@@ -715,7 +720,7 @@ class ItemControllerTest {
                 jsonPath("$.error").value("Ошибка работы с комментариями: Нельзя обновить не существующий комментарий с id 1 для пользователя с id 1"),
                 jsonPath("$.path").value("/items/comment/1")
         );
-        Mockito.verify(itemService, Mockito.times(1)).updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verify(itemService, Mockito.times(1)).updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong(), Mockito.any());
     }
 
     @Test
@@ -727,7 +732,7 @@ class ItemControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"text\":\"UpdateTestComment\"}");
 
-        Mockito.when(itemService.updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong()))
+        Mockito.when(itemService.updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong(), Mockito.any()))
                 .thenThrow(new NotFoundCommentException("У пользователя с id 1 нет комментария с id 1"));
 
         this.mockMvc.perform(request).andExpectAll(
@@ -737,7 +742,7 @@ class ItemControllerTest {
                 jsonPath("$.error").value("Ошибка работы с комментариями: У пользователя с id 1 нет комментария с id 1"),
                 jsonPath("$.path").value("/items/comment/1")
         );
-        Mockito.verify(itemService, Mockito.times(1)).updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verify(itemService, Mockito.times(1)).updateComment(Mockito.any(CommentRequestDto.class), Mockito.anyLong(), Mockito.anyLong(), Mockito.any());
     }
 
     @Test
@@ -793,4 +798,36 @@ class ItemControllerTest {
 
         Mockito.verify(itemService, Mockito.times(1)).deleteComment(Mockito.anyLong(), Mockito.anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /items/1 возвращает 304 без построения ответа, если ETag совпадает с If-None-Match")
+    void getItemByIdTestNotModified() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/items/1")
+                .header(xSharerUserId, 1)
+                .header("If-None-Match", "\"v1\"");
+
+        Mockito.when(itemService.getItemETag(Mockito.anyLong(), Mockito.anyLong())).thenReturn("\"v1\"");
+
+        mockMvc.perform(request).andExpectAll(
+                status().isNotModified(),
+                header().string("ETag", "\"v1\"")
+        );
+        Mockito.verify(itemService, Mockito.never()).getItemByItemId(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("GET /items возвращает 304 без построения ответа, если ETag совпадает с If-None-Match")
+    void getAllItemByUserTestNotModified() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/items?from=0&size=10")
+                .header(xSharerUserId, 1)
+                .header("If-None-Match", "\"v1\"");
+
+        Mockito.when(itemService.getAllItemByUserETag(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn("\"v1\"");
+
+        mockMvc.perform(request).andExpect(status().isNotModified());
+        Mockito.verify(itemService, Mockito.never()).getAllItemByUser(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+}
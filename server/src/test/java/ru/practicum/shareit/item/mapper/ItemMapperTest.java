@@ -96,7 +96,7 @@ class ItemMapperTest {
                 .bookerId(21L)
                 .build();
 
-        var test = ItemMapper.toOwnerItemResponseDto(item, lastBooking, nextBooking);
+        var test = ItemMapper.toOwnerItemResponseDto(item, lastBooking, nextBooking, List.of());
 
         Assertions.assertNotNull(test);
         Assertions.assertEquals("testDescription", test.getDescription());
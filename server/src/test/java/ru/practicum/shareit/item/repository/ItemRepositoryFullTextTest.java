@@ -0,0 +1,106 @@
+package ru.practicum.shareit.item.repository;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.FullTextItemSearcher;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Проверка полнотекстового поиска {@link ItemRepository#searchItemFullText} и {@link FullTextItemSearcher}
+ * на PostgreSQL. Тест запускается, когда
+ * адрес базы задан переменной окружения {@code SHAREIT_TEST_POSTGRES_URL}, например
+ * {@code jdbc:postgresql://localhost:6541/shareit} из docker-compose.yaml. Схему создают миграции Flyway, включая
+ * колонку search_vector из db/migration/postgresql, а данные теста откатываются после каждого метода.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.driverClassName=org.postgresql.Driver",
+        "spring.datasource.url=${SHAREIT_TEST_POSTGRES_URL}",
+        "spring.datasource.username=${POSTGRES_USER:root}",
+        "spring.datasource.password=${POSTGRES_PASSWORD:root}",
+        "spring.flyway.locations=classpath:db/migration/common,classpath:db/migration/postgresql"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "SHAREIT_TEST_POSTGRES_URL", matches = ".+")
+class ItemRepositoryFullTextTest {
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+
+    private String word;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("fullTextOwner")
+                .email("fullTextOwner" + System.nanoTime() + "@email.com")
+                .build());
+        word = "дрель" + System.nanoTime();
+    }
+
+    @Test
+    void searchItemFullTextTestRankedByRelevance() {
+        var weak = createItem("Инструмент", word, true);
+        var strong = createItem(word + " ударная", word + ", " + word + " с кейсом", true);
+
+        var result = itemRepository.searchItemFullText(word, PageRequest.of(0, 10));
+
+        Assertions.assertEquals(2, result.getTotalElements());
+        Assertions.assertEquals(List.of(strong.getId(), weak.getId()), ids(result.getContent()));
+    }
+
+    @Test
+    void searchItemFullTextTestWholeWordsOfAvailableItems() {
+        var match = createItem(word.toUpperCase(), "описание", true);
+        createItem(word + "ы", "другое слово", true);
+        createItem("Недоступная", word, false);
+
+        var result = itemRepository.searchItemFullText(word, PageRequest.of(0, 10));
+
+        Assertions.assertEquals(List.of(match.getId()), ids(result.getContent()));
+    }
+
+    @Test
+    void searchItemFullTextTestPage() {
+        createItem(word + " первая", word + " " + word, true);
+        createItem(word + " вторая", "описание", true);
+        createItem(word + " третья", "описание", true);
+
+        var result = new FullTextItemSearcher(itemRepository).search(word, PageRequest.of(1, 2));
+
+        Assertions.assertEquals(3, result.getTotalElements());
+        Assertions.assertEquals(2, result.getTotalPages());
+        Assertions.assertEquals(1, result.getContent().size());
+    }
+
+    private Item createItem(String name, String description, boolean available) {
+        return itemRepository.saveAndFlush(Item.builder()
+                .owner(owner)
+                .name(name)
+                .description(description)
+                .available(available)
+                .build());
+    }
+
+    private static List<Long> ids(List<Item> items) {
+        return items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -7,11 +7,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemSearchRow;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * @author Nikolay Radzivon
@@ -25,6 +32,9 @@ class ItemRepositoryTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    BookingRepository bookingRepository;
+
     private Item item;
 
     private User owner;
@@ -109,6 +119,24 @@ class ItemRepositoryTest {
         Assertions.assertNull(content2.get(0).getComments());
     }
 
+    @Test
+    void findSearchRowsAfterTest() {
+        var item2 = createItem("honda", "CaRDescription", Boolean.TRUE, owner);
+        createItem("hidden", "hiddenDescription", Boolean.FALSE, owner);
+        var item4 = createItem("bike", "bikeDescription", Boolean.TRUE, owner);
+
+        var first = itemRepository.findSearchRowsAfter(0L, PageRequest.of(0, 2));
+        var second = itemRepository.findSearchRowsAfter(first.get(1).getId(), PageRequest.of(0, 2));
+
+        Assertions.assertEquals(List.of(item.getId(), item2.getId()),
+                first.stream().map(ItemSearchRow::getId).collect(Collectors.toList()));
+        Assertions.assertEquals(owner.getId(), first.get(0).getOwnerId());
+        Assertions.assertEquals("testItem", first.get(0).getName());
+        Assertions.assertEquals("testDescription", first.get(0).getDescription());
+        Assertions.assertEquals(List.of(item4.getId()),
+                second.stream().map(ItemSearchRow::getId).collect(Collectors.toList()));
+    }
+
     @Test
     void deleteAllByOwner_IdTest() {
         var item1 = createItem("Дрель", "Описание дрели", Boolean.TRUE, owner);
@@ -149,4 +177,53 @@ class ItemRepositoryTest {
         Assertions.assertEquals(content.get(1), item1);
         Assertions.assertEquals(content.get(2), item2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findVersionByIdTest() {
+        var now = ZonedDateTime.now();
+        var version = version(item.getId(), now);
+
+        Assertions.assertTrue(version.isPresent());
+        Assertions.assertEquals(version, version(item.getId(), now));
+        Assertions.assertTrue(version(-1L, now).isEmpty());
+
+        item.setName("updatedItem");
+        itemRepository.saveAndFlush(item);
+
+        var updated = version(item.getId(), now);
+
+        Assertions.assertNotEquals(version, updated);
+
+        var booker = createUser("testBooker", "testBooker@email.com");
+        bookingRepository.saveAndFlush(Booking.builder()
+                .item(item)
+                .booker(booker)
+                .start(now.plusDays(1))
+                .end(now.plusDays(2))
+                .status(BookingStatus.WAITING)
+                .build());
+
+        var booked = version(item.getId(), now);
+
+        Assertions.assertNotEquals(updated, booked);
+        Assertions.assertNotEquals(booked, version(item.getId(), now.plusDays(3)));
+    }
+
+    @Test
+    void findVersionByOwnerIdTest() {
+        var now = ZonedDateTime.now();
+        var version = itemRepository.findVersionByOwnerId(owner.getId(), now);
+
+        Assertions.assertTrue(version.isPresent());
+        Assertions.assertTrue(itemRepository.findVersionByOwnerId(-1L, now).isEmpty());
+
+        createItem("testItem2", "testDescription2", true, owner);
+
+        Assertions.assertNotEquals(version, itemRepository.findVersionByOwnerId(owner.getId(), now));
+    }
+
+    private Optional<String> version(Long itemId, ZonedDateTime now) {
+        return itemRepository.findVersionById(itemId, now)
+                .map(version -> version.getVersion() + ":" + version.getRelated());
+    }
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@DataJpaTest
+class LikeItemSearcherTest {
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ItemSearcher itemSearcher;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        itemSearcher = new LikeItemSearcher(itemRepository);
+        owner = userRepository.save(User.builder()
+                .name("testOwner")
+                .email("testOwner@email.com")
+                .build());
+    }
+
+    @Test
+    void searchTestSubstringOfNameOrDescriptionIgnoringCase() {
+        var byName = createItem("Дрель ударная", "инструмент", true);
+        var byDescription = createItem("Перфоратор", "Почти ДРЕЛЬ", true);
+        createItem("Шуруповёрт", "инструмент", true);
+
+        var result = itemSearcher.search("дрель", PageRequest.of(0, 10));
+
+        Assertions.assertEquals(2, result.getTotalElements());
+        Assertions.assertEquals(Set.of(byName.getId(), byDescription.getId()), Set.copyOf(ids(result.getContent())));
+    }
+
+    @Test
+    void searchTestOnlyAvailableItems() {
+        var available = createItem("Дрель", "доступная", true);
+        createItem("Дрель", "недоступная", false);
+
+        var result = itemSearcher.search("дрель", PageRequest.of(0, 10));
+
+        Assertions.assertEquals(List.of(available.getId()), ids(result.getContent()));
+    }
+
+    @Test
+    void searchTestPage() {
+        createItem("Дрель первая", "инструмент", true);
+        createItem("Дрель вторая", "инструмент", true);
+        createItem("Дрель третья", "инструмент", true);
+
+        var result = itemSearcher.search("дрель", PageRequest.of(1, 2));
+
+        Assertions.assertEquals(3, result.getTotalElements());
+        Assertions.assertEquals(2, result.getTotalPages());
+        Assertions.assertEquals(1, result.getContent().size());
+    }
+
+    private Item createItem(String name, String description, boolean available) {
+        return itemRepository.save(Item.builder()
+                .owner(owner)
+                .name(name)
+                .description(description)
+                .available(available)
+                .build());
+    }
+
+    private static List<Long> ids(List<Item> items) {
+        return items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,215 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.practicum.shareit.item.dto.ItemSearchRow;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class NGramItemSearcherTest {
+    private ItemRepository itemRepository;
+    private NGramItemSearcher itemSearcher;
+    private final Map<Long, Item> storage = new HashMap<>();
+    private final User owner = User.builder().id(1L).name("testOwner").email("testOwner@email.com").build();
+    private final User owner2 = User.builder().id(2L).name("testOwner2").email("testOwner2@email.com").build();
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = Mockito.mock(ItemRepository.class);
+        itemSearcher = new NGramItemSearcher(itemRepository);
+
+        createItem(1L, "Дрель-РТФ", "Ударная дрель", true, owner);
+        createItem(2L, "Отвёртка", "Аккумуляторная отвёртка", true, owner);
+        createItem(3L, "Пила", "Дрель не входит в комплект", false, owner2);
+        createItem(4L, "Перфоратор", "Лучше любой дрели", true, owner2);
+
+        Mockito.when(itemRepository.findSearchRowsAfter(Mockito.anyLong(), Mockito.any(Pageable.class)))
+                .thenAnswer(invocation -> rowsAfter(invocation.getArgument(0), invocation.getArgument(1)));
+        Mockito.when(itemRepository.findAllById(Mockito.anyIterable()))
+                .thenAnswer(invocation -> {
+                    List<Item> result = new ArrayList<>();
+                    Iterable<Long> ids = invocation.getArgument(0);
+                    ids.forEach(id -> {
+                        if (storage.containsKey(id)) {
+                            result.add(storage.get(id));
+                        }
+                    });
+                    return result;
+                });
+
+        itemSearcher.rebuild();
+    }
+
+    private Item createItem(Long id, String name, String description, Boolean available, User owner) {
+        var item = Item.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .available(available)
+                .owner(owner)
+                .build();
+        storage.put(id, item);
+        return item;
+    }
+
+    private List<ItemSearchRow> rowsAfter(long afterId, Pageable pageable) {
+        return storage.values().stream()
+                .filter(item -> item.getAvailable() && item.getId() > afterId)
+                .sorted(Comparator.comparing(Item::getId))
+                .limit(pageable.getPageSize())
+                .map(item -> projectionFactory.createProjection(ItemSearchRow.class, Map.of(
+                        "id", item.getId(),
+                        "ownerId", item.getOwner().getId(),
+                        "name", item.getName(),
+                        "description", item.getDescription())))
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> search(String text) {
+        return itemSearcher.search(text, PageRequest.of(0, 10)).stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void searchTestSubstringIgnoreCase() {
+        Assertions.assertEquals(List.of(1L), search("ртф"));
+        Assertions.assertEquals(List.of(1L, 4L), search("ДРЕЛ"));
+        Assertions.assertEquals(List.of(2L), search("аккум"));
+        Assertions.assertEquals(List.of(), search("молоток"));
+    }
+
+    @Test
+    void searchTestShortTextDelegatedToLike() {
+        var page = new PageImpl<>(List.of(storage.get(1L)), PageRequest.of(0, 10), 1);
+        Mockito.when(itemRepository.searchItem("тф", PageRequest.of(0, 10)))
+                .thenReturn(page);
+
+        Assertions.assertEquals(page, itemSearcher.search("тф", PageRequest.of(0, 10)));
+        Mockito.verify(itemRepository, Mockito.never()).findAllById(Mockito.anyIterable());
+    }
+
+    @Test
+    void searchTestStaleItemsExcludedFromTotal() {
+        storage.remove(1L);
+        createItem(4L, "Перфоратор", "Без упоминаний", true, owner2);
+        createItem(5L, "Дрель", "Новая", true, owner);
+        itemSearcher.onItemSaved(storage.get(5L));
+
+        var page = itemSearcher.search("дрел", PageRequest.of(0, 10));
+
+        Assertions.assertEquals(1, page.getTotalElements());
+        Assertions.assertEquals(List.of(5L), page.getContent().stream()
+                .map(Item::getId)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(5L), search("дрел"));
+        Assertions.assertEquals(List.of(), search("ртф"));
+    }
+
+    @Test
+    void searchTestPage() {
+        var page = itemSearcher.search("дрел", PageRequest.of(1, 1));
+
+        Assertions.assertEquals(2, page.getTotalElements());
+        Assertions.assertEquals(1, page.getContent().size());
+        Assertions.assertEquals(4L, page.getContent().get(0).getId());
+    }
+
+    @Test
+    void onItemSavedTest() {
+        itemSearcher.onItemSaved(createItem(5L, "Молоток", "Стальной", true, owner));
+        Assertions.assertEquals(List.of(5L), search("молот"));
+
+        itemSearcher.onItemSaved(createItem(1L, "Дрель", "Ударная", true, owner));
+        Assertions.assertEquals(List.of(), search("ртф"));
+        Assertions.assertEquals(List.of(1L, 4L), search("дрел"));
+
+        itemSearcher.onItemSaved(createItem(3L, "Пила", "Дрель не входит в комплект", true, owner2));
+        Assertions.assertEquals(List.of(1L, 3L, 4L), search("дрел"));
+
+        itemSearcher.onItemSaved(createItem(4L, "Перфоратор", "Лучше любой дрели", false, owner2));
+        Assertions.assertEquals(List.of(1L, 3L), search("дрел"));
+    }
+
+    @Test
+    void onItemDeletedTest() {
+        itemSearcher.onItemDeleted(1L);
+
+        Assertions.assertEquals(List.of(), search("ртф"));
+        Assertions.assertEquals(List.of(4L), search("дрел"));
+    }
+
+    @Test
+    void onOwnerItemsDeletedTest() {
+        itemSearcher.onOwnerItemsDeleted(1L);
+
+        Assertions.assertEquals(List.of(4L), search("дрел"));
+        Assertions.assertEquals(List.of(), search("аккум"));
+    }
+
+    @Test
+    void onItemDeletedTestReusesSlot() {
+        var slots = itemSearcher.slots();
+
+        for (long id = 10; id < 20; id++) {
+            itemSearcher.onItemDeleted(1L);
+            itemSearcher.onItemSaved(createItem(id, "Молоток" + id, "Стальной", true, owner));
+            itemSearcher.onItemDeleted(id);
+            itemSearcher.onItemSaved(createItem(1L, "Дрель-РТФ", "Ударная дрель", true, owner));
+        }
+
+        Assertions.assertEquals(slots, itemSearcher.slots());
+        Assertions.assertEquals(List.of(), search("молот"));
+        Assertions.assertEquals(List.of(1L, 4L), search("дрел"));
+    }
+
+    @Test
+    void rebuildTestKeepsChangesCommittedDuringLoad() {
+        Mockito.when(itemRepository.findSearchRowsAfter(Mockito.anyLong(), Mockito.any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    var rows = rowsAfter(invocation.getArgument(0), invocation.getArgument(1));
+                    itemSearcher.onItemDeleted(1L);
+                    itemSearcher.onItemSaved(createItem(5L, "Молоток", "Стальной", true, owner));
+                    return rows;
+                });
+
+        itemSearcher.rebuild();
+
+        Assertions.assertEquals(List.of(4L), search("дрел"));
+        Assertions.assertEquals(List.of(5L), search("молот"));
+    }
+
+    @Test
+    void rebuildTestPagesByKey() {
+        for (long id = 10; id < 2510; id++) {
+            createItem(id, "Молоток" + id, "Стальной", true, owner);
+        }
+
+        itemSearcher.rebuild();
+
+        Assertions.assertEquals(2500, itemSearcher.search("молот", PageRequest.of(0, 10)).getTotalElements());
+        Mockito.verify(itemRepository, Mockito.times(1)).findSearchRowsAfter(Mockito.eq(1006L), Mockito.any(Pageable.class));
+        Mockito.verify(itemRepository, Mockito.times(1)).findSearchRowsAfter(Mockito.eq(2006L), Mockito.any(Pageable.class));
+        Mockito.verify(itemRepository, Mockito.never()).findAll(Mockito.any(Pageable.class));
+    }
+}
@@ -0,0 +1,146 @@
+package ru.practicum.shareit.item.service.impl;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.CommentResponseDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Проверка, что количество SQL-запросов при получении вещей не зависит от количества вещей и комментариев.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest
+class ItemServiceImplQueryCountTest {
+    private static final int ITEMS = 10;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User owner;
+
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        owner = createUser();
+        items = new ArrayList<>();
+
+        for (int i = 0; i < ITEMS; i++) {
+            var item = itemRepository.save(Item.builder()
+                    .owner(owner)
+                    .name("item" + i)
+                    .description("description" + i)
+                    .available(true)
+                    .build());
+            items.add(item);
+
+            for (int j = 0; j <= i; j++) {
+                var author = createUser();
+                bookingRepository.save(Booking.builder()
+                        .item(item)
+                        .booker(createUser())
+                        .status(BookingStatus.APPROVED)
+                        .start(ZonedDateTime.now().minusDays(2 + j))
+                        .end(ZonedDateTime.now().minusDays(1 + j))
+                        .build());
+                commentRepository.save(Comment.builder()
+                        .item(item)
+                        .author(author)
+                        .text("comment" + j)
+                        .created(ZonedDateTime.now())
+                        .build());
+            }
+        }
+    }
+
+    @Test
+    void getAllItemByUserTestQueryCountDoesNotDependOnPageSize() {
+        statistics.clear();
+        var small = itemService.getAllItemByUser(owner.getId(), 0, 2);
+        var smallCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        var large = itemService.getAllItemByUser(owner.getId(), 0, ITEMS);
+        var largeCount = statistics.getPrepareStatementCount();
+
+        Assertions.assertEquals(2, small.size());
+        Assertions.assertEquals(ITEMS, large.size());
+        Assertions.assertEquals(smallCount, largeCount);
+
+        for (int i = 0; i < ITEMS; i++) {
+            var comments = large.get(i).getComments();
+            Assertions.assertEquals(i + 1, comments.size());
+            Assertions.assertTrue(comments.stream().allMatch(c -> c.getAuthorName() != null));
+            Assertions.assertEquals(List.of("comment0"), comments.stream()
+                    .limit(1)
+                    .map(CommentResponseDto::getText)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void getItemByItemIdTestQueryCountDoesNotDependOnComments() {
+        statistics.clear();
+        var first = itemService.getItemByItemId(items.get(0).getId(), owner.getId());
+        var firstCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        var last = itemService.getItemByItemId(items.get(ITEMS - 1).getId(), owner.getId());
+        var lastCount = statistics.getPrepareStatementCount();
+
+        Assertions.assertEquals(1, first.getComments().size());
+        Assertions.assertEquals(ITEMS, last.getComments().size());
+        Assertions.assertEquals(firstCount, lastCount);
+    }
+
+    private User createUser() {
+        var name = UUID.randomUUID().toString();
+
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(name + "@email.com")
+                .build());
+    }
+}
@@ -6,32 +6,43 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.practicum.shareit.booking.dto.LastNextBooking;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.checker.ItemChecker;
 import ru.practicum.shareit.checker.UserChecker;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.exception.NotFoundBookingException;
 import ru.practicum.shareit.exception.NotFoundCommentException;
 import ru.practicum.shareit.exception.NotFoundItemException;
 import ru.practicum.shareit.exception.NotFoundUserException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.CommentResponseDto;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 import ru.practicum.shareit.item.dto.ItemDtoResponse;
+import ru.practicum.shareit.item.dto.ItemVersion;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.LikeItemSearcher;
 import ru.practicum.shareit.item.service.ItemSearchParams;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.outbox.OutboxEventType;
+import ru.practicum.shareit.outbox.OutboxPublisher;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.model.ItemResponse;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.request.repository.ItemResponseRepository;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
 
@@ -45,10 +56,13 @@ class ItemServiceImplTest {
     private BookingRepository bookingRepository;
     private CommentRepository commentRepository;
     private ItemResponseRepository itemResponseRepository;
+    private ItemRequestRepository itemRequestRepository;
     private ItemChecker itemChecker;
     private UserChecker userChecker;
+    private OutboxPublisher outboxPublisher;
     private User owner;
     private Item item;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
     @BeforeEach
     void setUp() {
@@ -56,9 +70,13 @@ class ItemServiceImplTest {
         bookingRepository = Mockito.mock(BookingRepository.class);
         commentRepository = Mockito.mock(CommentRepository.class);
         itemResponseRepository = Mockito.mock(ItemResponseRepository.class);
+        itemRequestRepository = Mockito.mock(ItemRequestRepository.class);
         itemChecker = Mockito.mock(ItemChecker.class);
         userChecker = Mockito.mock(UserChecker.class);
-        itemService = new ItemServiceImpl(itemRepository, bookingRepository, commentRepository, itemResponseRepository, itemChecker, userChecker);
+        outboxPublisher = Mockito.mock(OutboxPublisher.class);
+        itemService = new ItemServiceImpl(itemRepository, bookingRepository, commentRepository, itemResponseRepository,
+                itemRequestRepository, itemChecker, userChecker,
+                new LikeItemSearcher(itemRepository), outboxPublisher);
 
         owner = User.builder()
                 .id(3L)
@@ -97,6 +115,7 @@ class ItemServiceImplTest {
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(itemRepository, Mockito.times(1)).save(Mockito.any(Item.class));
+        Mockito.verify(outboxPublisher, Mockito.times(1)).publish(OutboxEventType.ITEM_CREATED, 1L, itemDtoResponse);
     }
 
     @Test
@@ -161,19 +180,25 @@ class ItemServiceImplTest {
     void updateItemTestValid() {
         Mockito.when(itemChecker.checkItem(Mockito.anyLong(), Mockito.anyString()))
                 .thenReturn(item);
+        Mockito.when(itemRepository.findVersionById(Mockito.eq(1L), Mockito.any(ZonedDateTime.class)))
+                .thenReturn(Optional.of(itemVersion(0L, "3")));
 
         Mockito.when(itemRepository.save(Mockito.any(Item.class)))
                 .thenReturn(item.toBuilder()
                         .name("updateTestItem")
                         .description("updateTestItemDescription")
                         .available(false)
+                        .version(1L)
                         .build());
 
-        var itemDtoResponse = itemService.updateItem(ItemDtoRequest.builder()
+        var updated = itemService.updateItem(ItemDtoRequest.builder()
                 .name("updateTestItem")
                 .description("updateTestItemDescription")
                 .available(false)
-                .build(), 3L, 1L);
+                .build(), 3L, 1L, null);
+        var itemDtoResponse = updated.getBody();
+
+        Assertions.assertEquals(ETags.strong("item", 1L, 3L, 1L, "3"), updated.getEtag());
 
         Assertions.assertNotNull(itemDtoResponse);
         Assertions.assertEquals("updateTestItemDescription", itemDtoResponse.getDescription());
@@ -184,6 +209,40 @@ class ItemServiceImplTest {
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(itemRepository, Mockito.times(1)).save(Mockito.any(Item.class));
         Mockito.verify(itemChecker, Mockito.times(1)).checkItem(Mockito.anyLong(), Mockito.anyString());
+        Mockito.verify(itemRepository, Mockito.times(1)).flush();
+    }
+
+    @Test
+    void updateItemTestIfMatch() {
+        Mockito.when(itemChecker.checkItem(Mockito.anyLong(), Mockito.anyString()))
+                .thenReturn(item.toBuilder()
+                        .version(0L)
+                        .build());
+        Mockito.when(itemRepository.findVersionById(Mockito.eq(1L), Mockito.any(ZonedDateTime.class)))
+                .thenReturn(Optional.of(itemVersion(0L, "3")));
+        Mockito.when(itemRepository.save(Mockito.any(Item.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        var updated = itemService.updateItem(ItemDtoRequest.builder()
+                .name("updateTestItem")
+                .build(), 3L, 1L, ETags.strong("item", 1L, 3L, 0L, "3"));
+
+        Assertions.assertEquals("updateTestItem", updated.getBody().getName());
+        Mockito.verify(itemRepository, Mockito.times(1)).save(Mockito.any(Item.class));
+    }
+
+    @Test
+    void updateItemTestNotValidIfMatch() {
+        Mockito.when(itemChecker.checkItem(Mockito.anyLong(), Mockito.anyString()))
+                .thenReturn(item);
+        Mockito.when(itemRepository.findVersionById(Mockito.eq(1L), Mockito.any(ZonedDateTime.class)))
+                .thenReturn(Optional.of(itemVersion(1L, "3")));
+
+        Assertions.assertThrows(PreconditionFailedException.class, () -> itemService.updateItem(ItemDtoRequest.builder()
+                .name("updateTestItem")
+                .build(), 3L, 1L, ETags.strong("item", 1L, 3L, 0L, "3")));
+
+        Mockito.verify(itemRepository, Mockito.never()).save(Mockito.any(Item.class));
     }
 
     @Test
@@ -195,7 +254,7 @@ class ItemServiceImplTest {
                 .name("updateTestItem")
                 .description("updateTestItemDescription")
                 .available(false)
-                .build(), 3L, 1L));
+                .build(), 3L, 1L, null));
 
         Assertions.assertNotNull(throwable.getMessage());
         Assertions.assertEquals("Нельзя обновить не существующую вещь с id 1 для пользователя с id 3", throwable.getMessage());
@@ -213,7 +272,7 @@ class ItemServiceImplTest {
                 .name("updateTestItem")
                 .description("updateTestItemDescription")
                 .available(false)
-                .build(), 3L, 1L));
+                .build(), 3L, 1L, null));
 
         Assertions.assertNotNull(throwable.getMessage());
         Assertions.assertEquals("Нельзя обновить вещь c id 1 для не существующего пользователя с id 3", throwable.getMessage());
@@ -234,7 +293,7 @@ class ItemServiceImplTest {
                 .name("updateTestItem")
                 .description("updateTestItemDescription")
                 .available(false)
-                .build(), 3L, 1L));
+                .build(), 3L, 1L, null));
 
         Assertions.assertNotNull(throwable.getMessage());
         Assertions.assertEquals("Нельзя обновить вещь с id 1 пользователь с id 3 не является её владельцем", throwable.getMessage());
@@ -332,6 +391,7 @@ class ItemServiceImplTest {
         Mockito.verify(itemChecker, Mockito.times(1)).checkItem(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(itemRepository, Mockito.times(1)).deleteById(Mockito.anyLong());
+        Mockito.verify(outboxPublisher, Mockito.times(1)).publish(OutboxEventType.ITEM_DELETED, 1L, null);
     }
 
     @Test
@@ -398,6 +458,8 @@ class ItemServiceImplTest {
                                 .name("testName2")
                                 .build()
                 )));
+        Mockito.when(bookingRepository.getLastNextBookings(Mockito.anyList(), Mockito.any(ZonedDateTime.class)))
+                .thenReturn(List.of(lastNextBooking(1L, 5L, 1L, 6L, 2L)));
 
         var allItemByUser = itemService.getAllItemByUser(3L, 0, 2);
 
@@ -408,15 +470,51 @@ class ItemServiceImplTest {
         Assertions.assertEquals("testDescription1", allItemByUser.get(0).getDescription());
         Assertions.assertEquals(true, allItemByUser.get(0).getAvailable());
         Assertions.assertEquals("testName1", allItemByUser.get(0).getName());
+        Assertions.assertEquals(5, allItemByUser.get(0).getLastBooking().getId());
+        Assertions.assertEquals(1, allItemByUser.get(0).getLastBooking().getBookerId());
+        Assertions.assertEquals(6, allItemByUser.get(0).getNextBooking().getId());
+        Assertions.assertEquals(2, allItemByUser.get(0).getNextBooking().getBookerId());
 
         Assertions.assertEquals(2, allItemByUser.get(1).getId());
         Assertions.assertEquals("testDescription2", allItemByUser.get(1).getDescription());
         Assertions.assertEquals(true, allItemByUser.get(1).getAvailable());
         Assertions.assertEquals("testName2", allItemByUser.get(1).getName());
+        Assertions.assertNull(allItemByUser.get(1).getLastBooking());
+        Assertions.assertNull(allItemByUser.get(1).getNextBooking());
 
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(itemRepository, Mockito.times(1)).findAllByOwnerId(Mockito.anyLong(), Mockito.any(Pageable.class));
+        Mockito.verify(bookingRepository, Mockito.times(1)).getLastNextBookings(Mockito.anyList(), Mockito.any(ZonedDateTime.class));
+    }
+
+    private LastNextBooking lastNextBooking(Long itemId, Long lastId, Long lastBookerId, Long nextId, Long nextBookerId) {
+        return new LastNextBooking() {
+            @Override
+            public Long getItemId() {
+                return itemId;
+            }
+
+            @Override
+            public Long getLastId() {
+                return lastId;
+            }
+
+            @Override
+            public Long getLastBookerId() {
+                return lastBookerId;
+            }
+
+            @Override
+            public Long getNextId() {
+                return nextId;
+            }
+
+            @Override
+            public Long getNextBookerId() {
+                return nextBookerId;
+            }
+        };
     }
 
     @Test
@@ -565,11 +663,15 @@ class ItemServiceImplTest {
                                 .email("testEmail2@email.com")
                                 .build())
                         .id(1L)
+                        .version(0L)
                         .build());
 
-        CommentResponseDto testComment = itemService.addComment(1L, 2L, TimeZone.getDefault(), CommentRequestDto.builder()
+        var added = itemService.addComment(1L, 2L, TimeZone.getDefault(), CommentRequestDto.builder()
                 .text("testComment")
                 .build());
+        CommentResponseDto testComment = added.getBody();
+
+        Assertions.assertEquals(ETags.strong("comment", 1L, 0L), added.getEtag());
 
         Assertions.assertNotNull(testComment);
         Assertions.assertEquals("testName2", testComment.getAuthorName());
@@ -580,6 +682,7 @@ class ItemServiceImplTest {
         Mockito.verify(itemChecker, Mockito.times(1)).checkItem(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(commentRepository, Mockito.times(1)).save(Mockito.any(Comment.class));
+        Mockito.verify(commentRepository, Mockito.times(1)).flush();
         Mockito.verify(bookingRepository, Mockito.times(1)).findByItem_IdAndBooker_Id(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(ZonedDateTime.class));
     }
 
@@ -668,11 +771,15 @@ class ItemServiceImplTest {
                                 .email("testEmail2@email.com")
                                 .build())
                         .id(1L)
+                        .version(1L)
                         .build());
 
-        CommentResponseDto testComment = itemService.updateComment(CommentRequestDto.builder()
+        var updated = itemService.updateComment(CommentRequestDto.builder()
                 .text("UpdateTestComment")
-                .build(), 2L, 1L);
+                .build(), 2L, 1L, null);
+        CommentResponseDto testComment = updated.getBody();
+
+        Assertions.assertEquals(ETags.strong("comment", 1L, 1L), updated.getEtag());
 
         Assertions.assertNotNull(testComment);
         Assertions.assertEquals("UpdateTestComment", testComment.getText());
@@ -683,6 +790,30 @@ class ItemServiceImplTest {
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(commentRepository, Mockito.times(1)).findById(Mockito.anyLong());
         Mockito.verify(commentRepository, Mockito.times(1)).save(Mockito.any(Comment.class));
+        Mockito.verify(commentRepository, Mockito.times(1)).flush();
+    }
+
+    @Test
+    void updateCommentTestNotValidIfMatch() {
+        Mockito.when(commentRepository.findById(Mockito.anyLong()))
+                .thenReturn(Optional.of(Comment.builder()
+                        .item(item)
+                        .text("testComment")
+                        .created(ZonedDateTime.now())
+                        .author(User.builder()
+                                .id(2L)
+                                .name("testName2")
+                                .email("testEmail2@email.com")
+                                .build())
+                        .id(1L)
+                        .version(2L)
+                        .build()));
+
+        Assertions.assertThrows(PreconditionFailedException.class, () -> itemService.updateComment(CommentRequestDto.builder()
+                .text("UpdateTestComment")
+                .build(), 2L, 1L, ETags.strong("comment", 1L, 1L)));
+
+        Mockito.verify(commentRepository, Mockito.never()).save(Mockito.any(Comment.class));
     }
 
     @Test
@@ -692,7 +823,7 @@ class ItemServiceImplTest {
 
         Throwable throwable = Assertions.assertThrows(NotFoundUserException.class, () -> itemService.updateComment(CommentRequestDto.builder()
                 .text("UpdateTestComment")
-                .build(), 2L, 1L));
+                .build(), 2L, 1L, null));
 
         Assertions.assertNotNull(throwable);
         Assertions.assertNotNull(throwable.getMessage());
@@ -720,7 +851,7 @@ class ItemServiceImplTest {
 
         Throwable throwable = Assertions.assertThrows(NotFoundCommentException.class, () -> itemService.updateComment(CommentRequestDto.builder()
                 .text("UpdateTestComment")
-                .build(), 1L, 1L));
+                .build(), 1L, 1L, null));
 
         Assertions.assertNotNull(throwable);
         Assertions.assertNotNull(throwable.getMessage());
@@ -738,7 +869,7 @@ class ItemServiceImplTest {
 
         Throwable throwable = Assertions.assertThrows(NotFoundCommentException.class, () -> itemService.updateComment(CommentRequestDto.builder()
                 .text("UpdateTestComment")
-                .build(), 2L, 1L));
+                .build(), 2L, 1L, null));
 
         Assertions.assertNotNull(throwable);
         Assertions.assertNotNull(throwable.getMessage());
@@ -825,4 +956,8 @@ class ItemServiceImplTest {
         Mockito.verify(commentRepository, Mockito.times(1)).findById(Mockito.anyLong());
         Mockito.verify(commentRepository, Mockito.times(0)).deleteById(Mockito.anyLong());
     }
-}
\ No newline at end of file
+
+    private ItemVersion itemVersion(Long version, String related) {
+        return projectionFactory.createProjection(ItemVersion.class, Map.of("version", version, "related", related));
+    }
+}
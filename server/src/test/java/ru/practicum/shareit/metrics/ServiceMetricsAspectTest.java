@@ -0,0 +1,74 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.exception.NotFoundUserException;
+import ru.practicum.shareit.user.dto.UserRequestDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Тест поднимает отдельный контекст с экспортом метрик, поэтому использует свою базу: иначе его вставки
+ * расходовали бы id последовательностей, блоки которых уже закэшированы контекстами других тестов.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metrics")
+@AutoConfigureMetrics
+@AutoConfigureMockMvc
+class ServiceMetricsAspectTest {
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void serviceTimerTest() throws Exception {
+        var name = UUID.randomUUID().toString();
+        var user = userService.addNewUser(UserRequestDto.builder().name(name).email(name + "@email.com").build());
+        userService.getUser(user.getId());
+        Assertions.assertThrows(NotFoundUserException.class, () -> userService.getUser(-1L));
+
+        var success = registry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("class", "UserServiceImpl")
+                .tag("method", "getUser")
+                .tag("outcome", "SUCCESS")
+                .timer();
+        var error = registry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("method", "getUser")
+                .tag("outcome", "ERROR")
+                .tag("exception", "NotFoundUserException")
+                .timer();
+
+        Assertions.assertEquals(1, success.count());
+        Assertions.assertEquals(1, error.count());
+        Assertions.assertTrue(success.totalTime(TimeUnit.NANOSECONDS) > 0);
+        Assertions.assertFalse(registry.get("spring.data.repository.invocations")
+                .tag("repository", "UserRepository")
+                .timers().isEmpty());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "shareit_service_seconds_bucket{application=\"shareit-server\",class=\"UserServiceImpl\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")));
+    }
+}
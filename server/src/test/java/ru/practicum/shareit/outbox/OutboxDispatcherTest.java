@@ -0,0 +1,263 @@
+package ru.practicum.shareit.outbox;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.dto.ItemDtoRequest;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Проверка записи событий в транзакции сервиса и их доставки диспетчером. Фоновая доставка в тестах выключена,
+ * пакеты разбираются вызовом {@link OutboxDispatcher#dispatchBatch()}.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest
+class OutboxDispatcherTest {
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAllInBatch();
+        subscriber.events.clear();
+        subscriber.failing = false;
+        subscriber.failingInTransaction = null;
+    }
+
+    @Test
+    void dispatchBatchTestDeliversEventWrittenByService() {
+        var owner = userRepository.save(User.builder()
+                .name("owner")
+                .email(UUID.randomUUID() + "@email.com")
+                .build());
+        var item = itemService.addNewItem(ItemDtoRequest.builder()
+                .name("outboxItem")
+                .description("outboxDescription")
+                .available(true)
+                .build(), owner.getId());
+
+        var stored = outboxEventRepository.findAll();
+
+        Assertions.assertEquals(1, stored.size());
+        Assertions.assertEquals(OutboxEventType.ITEM_CREATED, stored.get(0).getType());
+        Assertions.assertEquals("item", stored.get(0).getAggregateType());
+        Assertions.assertEquals(item.getId(), stored.get(0).getAggregateId());
+        Assertions.assertTrue(stored.get(0).getPayload().contains("\"name\":\"outboxItem\""));
+
+        Assertions.assertEquals(1, outboxDispatcher.dispatchBatch());
+
+        Assertions.assertEquals(List.of(stored.get(0).getId()), subscriber.eventIds());
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void publishTestRolledBackWithTransaction() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxPublisher.publish(OutboxEventType.ITEM_DELETED, 1L, null);
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void publishTestNotValidWithoutTransaction() {
+        Assertions.assertThrows(IllegalTransactionStateException.class,
+                () -> outboxPublisher.publish(OutboxEventType.ITEM_DELETED, 1L, null));
+    }
+
+    @Test
+    void dispatchBatchTestFailedEventPostponed() {
+        publish(1);
+        subscriber.failing = true;
+
+        Assertions.assertEquals(1, outboxDispatcher.dispatchBatch());
+
+        var postponed = outboxEventRepository.findAll();
+        Assertions.assertEquals(1, postponed.size());
+        Assertions.assertEquals(1, postponed.get(0).getAttempts());
+        Assertions.assertEquals("subscriber failed", postponed.get(0).getLastError());
+        Assertions.assertTrue(postponed.get(0).getAvailableAt().isAfter(ZonedDateTime.now()));
+
+        subscriber.failing = false;
+
+        Assertions.assertEquals(0, outboxDispatcher.dispatchBatch());
+        Assertions.assertEquals(1, outboxEventRepository.count());
+    }
+
+    @Test
+    void dispatchBatchTestTransactionalSubscriberFailurePostponed() {
+        var published = publish(3);
+        subscriber.failingInTransaction = published.get(1);
+
+        Assertions.assertEquals(3, outboxDispatcher.dispatchBatch());
+
+        var postponed = outboxEventRepository.findAll();
+        Assertions.assertEquals(1, postponed.size());
+        Assertions.assertEquals(published.get(1), postponed.get(0).getId());
+        Assertions.assertEquals(1, postponed.get(0).getAttempts());
+        Assertions.assertEquals("transactional subscriber failed", postponed.get(0).getLastError());
+        Assertions.assertTrue(postponed.get(0).getAvailableAt().isAfter(ZonedDateTime.now()));
+        Assertions.assertEquals(List.of(published.get(0), published.get(2)), subscriber.eventIds());
+    }
+
+    @Test
+    void dispatchBatchTestConcurrentDispatchersDeliverOnce() throws Exception {
+        var expected = publish(120);
+        var properties = new OutboxProperties();
+        properties.setSkipLocked(false);
+        properties.setBatchSize(10);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            var dispatcher = new OutboxDispatcher(outboxEventRepository, List.of(subscriber),
+                    new TransactionTemplate(transactionManager), properties, Clock.systemUTC());
+            tasks.add(() -> {
+                latch.await();
+                while (outboxEventRepository.count() > 0) {
+                    dispatcher.drain();
+                }
+                return null;
+            });
+        }
+
+        var executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            latch.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(expected, subscriber.eventIds().stream().sorted().collect(Collectors.toList()));
+        Assertions.assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void retryDelayTest() {
+        var properties = new OutboxProperties();
+        properties.setRetryDelay(Duration.ofSeconds(5));
+        properties.setMaxRetryDelay(Duration.ofMinutes(1));
+        var dispatcher = new OutboxDispatcher(outboxEventRepository, List.of(),
+                new TransactionTemplate(transactionManager), properties, Clock.systemUTC());
+
+        Assertions.assertEquals(Duration.ofSeconds(5), dispatcher.retryDelay(1));
+        Assertions.assertEquals(Duration.ofSeconds(20), dispatcher.retryDelay(3));
+        Assertions.assertEquals(Duration.ofMinutes(1), dispatcher.retryDelay(5));
+        Assertions.assertEquals(Duration.ofMinutes(1), dispatcher.retryDelay(100));
+    }
+
+    private List<Long> publish(int count) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (long i = 1; i <= count; i++) {
+                outboxPublisher.publish(OutboxEventType.BOOKING_CREATED, i, null);
+            }
+        });
+
+        return outboxEventRepository.findAll().stream()
+                .map(OutboxEvent::getId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    static class RecordingSubscriber implements OutboxSubscriber {
+        private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+        private final TransactionalHandler handler;
+        private volatile boolean failing;
+        private volatile Long failingInTransaction;
+
+        RecordingSubscriber(TransactionalHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void onEvent(OutboxEvent event) {
+            if (failing) {
+                throw new IllegalStateException("subscriber failed");
+            }
+            if (event.getId().equals(failingInTransaction)) {
+                handler.fail();
+            }
+            events.add(event);
+        }
+
+        List<Long> eventIds() {
+            return events.stream()
+                    .map(OutboxEvent::getId)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Транзакционный бин подписчика: ошибка в нём помечает текущую транзакцию rollback-only.
+     */
+    static class TransactionalHandler {
+        @Transactional
+        public void fail() {
+            throw new IllegalStateException("transactional subscriber failed");
+        }
+    }
+
+    @TestConfiguration
+    static class SubscriberConfig {
+        @Bean
+        TransactionalHandler transactionalHandler() {
+            return new TransactionalHandler();
+        }
+
+        @Bean
+        RecordingSubscriber recordingSubscriber(TransactionalHandler transactionalHandler) {
+            return new RecordingSubscriber(transactionalHandler);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.replica;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class ReadYourWritesTrackerTest {
+    private final Instant now = Instant.parse("2026-10-17T10:00:00Z");
+    private Clock clock;
+    private ReadYourWritesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = Mockito.mock(Clock.class);
+        Mockito.when(clock.instant()).thenReturn(now);
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock);
+    }
+
+    @Test
+    void isWithinWindowTest() {
+        Assertions.assertFalse(tracker.isWithinWindow(1L));
+
+        tracker.recordWrite(1L);
+
+        Assertions.assertTrue(tracker.isWithinWindow(1L));
+        Assertions.assertFalse(tracker.isWithinWindow(2L));
+    }
+
+    @Test
+    void isWithinWindowTestExpired() {
+        tracker.recordWrite(1L);
+        Mockito.when(clock.instant()).thenReturn(now.plusSeconds(5));
+
+        Assertions.assertFalse(tracker.isWithinWindow(1L));
+    }
+
+    @Test
+    void recordWriteTestExtendsWindow() {
+        tracker.recordWrite(1L);
+        Mockito.when(clock.instant()).thenReturn(now.plusSeconds(4));
+        tracker.recordWrite(1L);
+        Mockito.when(clock.instant()).thenReturn(now.plusSeconds(8));
+
+        Assertions.assertTrue(tracker.isWithinWindow(1L));
+    }
+}
@@ -0,0 +1,155 @@
+package ru.practicum.shareit.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+class ReplicaRoutingDataSourceTest {
+    private final Connection primaryConnection = Mockito.mock(Connection.class);
+    private final Connection replica0Connection = Mockito.mock(Connection.class);
+    private final Connection replica1Connection = Mockito.mock(Connection.class);
+    private DataSource replica0;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var primary = Mockito.mock(DataSource.class);
+        replica0 = Mockito.mock(DataSource.class);
+        var replica1 = Mockito.mock(DataSource.class);
+        Mockito.when(primary.getConnection()).thenReturn(primaryConnection);
+        Mockito.when(replica0.getConnection()).thenReturn(replica0Connection);
+        Mockito.when(replica1.getConnection()).thenReturn(replica1Connection);
+
+        var replicas = new LinkedHashMap<String, DataSource>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), Clock.systemUTC());
+        dataSource = new ReplicaRoutingDataSource(primary, replicas, tracker, Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ReplicaRoutingContext.close();
+    }
+
+    @Test
+    void getConnectionTestOutsideReadOnlyTransaction() throws SQLException {
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnectionTestReadOnlyRoundRobin() throws SQLException {
+        readOnlyTransaction();
+
+        Assertions.assertSame(replica0Connection, dataSource.getConnection());
+        Assertions.assertSame(replica1Connection, dataSource.getConnection());
+        Assertions.assertSame(replica0Connection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnectionTestReadAfterWriteInSameRequest() throws SQLException {
+        var context = ReplicaRoutingContext.open(new MockHttpServletRequest());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+        Assertions.assertTrue(context.isWrote());
+
+        readOnlyTransaction();
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnectionTestUserWithinReadYourWritesWindow() throws SQLException {
+        var request = new MockHttpServletRequest();
+        request.addHeader(ReplicaRoutingContext.USER_ID_HEADER, "1");
+        ReplicaRoutingContext.open(request);
+        readOnlyTransaction();
+
+        Assertions.assertSame(replica0Connection, dataSource.getConnection());
+
+        tracker.recordWrite(1L);
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnectionTestWriteOpensReadYourWritesWindow() throws SQLException {
+        var request = new MockHttpServletRequest();
+        request.addHeader(ReplicaRoutingContext.USER_ID_HEADER, "1");
+        ReplicaRoutingContext.open(request);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+        Assertions.assertTrue(tracker.isWithinWindow(1L));
+        Assertions.assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+    }
+
+    @Test
+    void getConnectionTestUnavailableReplica() throws SQLException {
+        Mockito.when(replica0.getConnection()).thenThrow(new SQLException("connection refused"));
+        readOnlyTransaction();
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+        Assertions.assertEquals(List.of("replica-1"), dataSource.getHealthyReplicas());
+        Assertions.assertSame(replica1Connection, dataSource.getConnection());
+        Assertions.assertSame(replica1Connection, dataSource.getConnection());
+    }
+
+    @Test
+    void checkHealthTestExcludesAndRestoresReplica() throws SQLException {
+        Mockito.when(replica0Connection.isValid(1)).thenReturn(false);
+        Mockito.when(replica1Connection.isValid(1)).thenReturn(true);
+
+        dataSource.checkHealth();
+
+        Assertions.assertEquals(List.of("replica-1"), dataSource.getHealthyReplicas());
+
+        Mockito.when(replica0Connection.isValid(1)).thenReturn(true);
+        dataSource.checkHealth();
+
+        Assertions.assertEquals(List.of("replica-0", "replica-1"), dataSource.getHealthyReplicas());
+    }
+
+    @Test
+    void getConnectionTestNoHealthyReplicas() throws SQLException {
+        Mockito.when(replica0Connection.isValid(1)).thenReturn(false);
+        Mockito.when(replica1Connection.isValid(1)).thenReturn(false);
+        dataSource.checkHealth();
+        readOnlyTransaction();
+
+        Assertions.assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    private static void readOnlyTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+}
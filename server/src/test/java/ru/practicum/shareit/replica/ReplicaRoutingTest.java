@@ -0,0 +1,78 @@
+package ru.practicum.shareit.replica;
+
+import com.jayway.jsonpath.JsonPath;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Две базы H2 в памяти играют роли основной базы и реплики. Репликации между ними нет, поэтому по содержимому
+ * ответа видно, из какой базы прочитаны данные.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary",
+        "shareit.replica.enabled=true",
+        "shareit.replica.urls=" + ReplicaRoutingTest.REPLICA_URL,
+        "shareit.replica.read-your-writes-window=1m"})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+    private static final DriverManagerDataSource REPLICA = new DriverManagerDataSource(REPLICA_URL, "test", "test");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    static void createReplicaSchema() {
+        Flyway.configure()
+                .dataSource(REPLICA)
+                .locations("classpath:db/migration/common")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void readOnlyTransactionsTestReadFromReplica() throws Exception {
+        var created = mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"primary\", \"email\": \"replica@email.com\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        long userId = ((Number) JsonPath.read(created.getResponse().getContentAsString(), "$.id")).longValue();
+
+        mockMvc.perform(get("/users/{userId}", userId))
+                .andExpect(status().isNotFound());
+
+        new JdbcTemplate(REPLICA).update("insert into users (id, name, email) values (?, 'replica', 'replica@email.com')",
+                userId);
+
+        mockMvc.perform(get("/users/{userId}", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("replica"));
+
+        mockMvc.perform(patch("/users/{userId}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"updated\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/{userId}", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("updated"));
+    }
+}
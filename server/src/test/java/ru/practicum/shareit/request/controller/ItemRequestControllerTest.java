@@ -496,4 +496,55 @@ class ItemRequestControllerTest {
                 jsonPath("$.path").value("/requests/1")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /requests возвращает 304 без построения ответа, если ETag совпадает с If-None-Match")
+    void getUserRequestsTestNotModified() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/requests")
+                .header(xSharerUserId, 1)
+                .header("If-None-Match", "\"v1\"");
+
+        Mockito.when(itemRequestService.getUserRequestsETag(Mockito.anyLong())).thenReturn("\"v1\"");
+
+        mockMvc.perform(request).andExpect(status().isNotModified());
+        Mockito.verify(itemRequestService, Mockito.never()).getUserRequests(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /requests/all возвращает 304 без построения ответа, если ETag совпадает с If-None-Match")
+    void getAllRequestsTestNotModified() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/requests/all")
+                .header(xSharerUserId, 1)
+                .param("from", "0")
+                .param("size", "10")
+                .header("If-None-Match", "\"v1\"");
+
+        Mockito.when(itemRequestService.getAllRequestsETag(1L, 0, 10)).thenReturn("\"v1\"");
+
+        mockMvc.perform(request).andExpectAll(
+                status().isNotModified(),
+                header().string("ETag", "\"v1\"")
+        );
+        Mockito.verify(itemRequestService, Mockito.never())
+                .getAllRequests(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /requests/1 возвращает 304 без построения ответа, если ETag совпадает с If-None-Match")
+    void getRequestByIdTestNotModified() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/requests/1")
+                .header(xSharerUserId, 1)
+                .header("If-None-Match", "\"v1\"");
+
+        Mockito.when(itemRequestService.getRequestETag(Mockito.anyLong(), Mockito.anyLong())).thenReturn("\"v1\"");
+
+        mockMvc.perform(request).andExpectAll(
+                status().isNotModified(),
+                header().string("ETag", "\"v1\"")
+        );
+        Mockito.verify(itemRequestService, Mockito.never()).getRequestById(Mockito.anyLong(), Mockito.anyLong());
+    }
+}
@@ -2,10 +2,9 @@ package ru.practicum.shareit.request.mapper;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemFromItemRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 import ru.practicum.shareit.request.model.ItemRequest;
-import ru.practicum.shareit.request.model.ItemResponse;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
@@ -72,24 +71,16 @@ class ItemRequestMapperTest {
                         .email("testUser@email.com")
                         .build())
                 .description("testDescription")
-                .responses(List.of(ItemResponse.builder()
-                        .id(23L)
-                        .item(Item.builder()
-                                .id(13L)
-                                .owner(User.builder()
-                                        .id(3L)
-                                        .name("testUser3")
-                                        .email("testUser3@email.com")
-                                        .build())
-                                .name("testItem")
-                                .description("testDescription")
-                                .available(true)
-                                .build())
-                        .request(ItemRequest.builder().id(1L).build())
-                        .build()))
                 .build();
+        var items = List.of(ItemFromItemRequest.builder()
+                .id(13L)
+                .requestId(1L)
+                .name("testItem")
+                .description("testDescription")
+                .available(true)
+                .build());
 
-        var test = ItemRequestMapper.toItemRequestDtoResponse(request);
+        var test = ItemRequestMapper.toItemRequestDtoResponse(request, items);
 
         Assertions.assertNotNull(test);
         Assertions.assertEquals(LocalDateTime.of(2024, 3, 13, 13, 23, 0), test.getCreated());
@@ -3,6 +3,7 @@ package ru.practicum.shareit.request.mapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
 
 /**
@@ -25,7 +26,7 @@ class ItemResponseMapperTest {
                         .build())
                 .build();
 
-        var test = ItemResponseMapper.toItemResponse(item, 28L);
+        var test = ItemResponseMapper.toItemResponse(item, ItemRequest.builder().id(28L).build());
 
         Assertions.assertNotNull(test);
         Assertions.assertNull(test.getId());
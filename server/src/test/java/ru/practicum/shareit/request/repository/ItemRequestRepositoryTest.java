@@ -0,0 +1,170 @@
+package ru.practicum.shareit.request.repository;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.mapper.ItemResponseMapper;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemResponse;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@DataJpaTest
+class ItemRequestRepositoryTest {
+    @Autowired
+    ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    ItemResponseRepository itemResponseRepository;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private User requestor;
+
+    private User owner;
+
+    private ItemRequest request;
+
+    @BeforeEach
+    void setUp() {
+        this.requestor = userRepository.save(User.builder()
+                .name("testRequestor")
+                .email("testRequestor@email.com")
+                .build());
+        this.owner = userRepository.save(User.builder()
+                .name("testOwner")
+                .email("testOwner@email.com")
+                .build());
+        this.request = itemRequestRepository.save(ItemRequest.builder()
+                .requestor(requestor)
+                .description("testDescription")
+                .created(ZonedDateTime.now())
+                .build());
+    }
+
+    @Test
+    void findVersionByIdTest() {
+        var version = itemRequestRepository.findVersionById(request.getId(), owner.getId());
+
+        Assertions.assertTrue(version.isPresent());
+        Assertions.assertTrue(itemRequestRepository.findVersionById(request.getId(), -1L).isEmpty());
+        Assertions.assertTrue(itemRequestRepository.findVersionById(-1L, owner.getId()).isEmpty());
+
+        var item = addResponse();
+        var answered = itemRequestRepository.findVersionById(request.getId(), owner.getId());
+
+        Assertions.assertNotEquals(version, answered);
+
+        item.setAvailable(false);
+        itemRepository.saveAndFlush(item);
+
+        Assertions.assertNotEquals(answered, itemRequestRepository.findVersionById(request.getId(), owner.getId()));
+    }
+
+    @Test
+    void findVersionByRequestorIdTest() {
+        var version = itemRequestRepository.findVersionByRequestorId(requestor.getId());
+
+        Assertions.assertTrue(version.isPresent());
+        Assertions.assertTrue(itemRequestRepository.findVersionByRequestorId(-1L).isEmpty());
+
+        addResponse();
+
+        Assertions.assertNotEquals(version, itemRequestRepository.findVersionByRequestorId(requestor.getId()));
+    }
+
+    @Test
+    void findVersionOfOthersRequestsTest() {
+        var version = itemRequestRepository.findVersionOfOthersRequests(owner.getId(), 10, 0);
+
+        Assertions.assertTrue(version.isPresent());
+        Assertions.assertTrue(itemRequestRepository.findVersionOfOthersRequests(-1L, 10, 0).isEmpty());
+
+        var item = addResponse();
+        var answered = itemRequestRepository.findVersionOfOthersRequests(owner.getId(), 10, 0);
+
+        Assertions.assertNotEquals(version, answered);
+
+        item.setAvailable(false);
+        itemRepository.saveAndFlush(item);
+
+        Assertions.assertNotEquals(answered, itemRequestRepository.findVersionOfOthersRequests(owner.getId(), 10, 0));
+
+        var own = itemRequestRepository.findVersionOfOthersRequests(requestor.getId(), 10, 0);
+        itemRequestRepository.saveAndFlush(ItemRequest.builder()
+                .description("ownRequest")
+                .requestor(requestor)
+                .created(ZonedDateTime.now())
+                .build());
+
+        Assertions.assertEquals(own, itemRequestRepository.findVersionOfOthersRequests(requestor.getId(), 10, 0));
+    }
+
+    @Test
+    void findVersionOfOthersRequestsTestOnlyRequestedPage() {
+        var firstPage = itemRequestRepository.findVersionOfOthersRequests(owner.getId(), 1, 0);
+        var secondPage = itemRequestRepository.findVersionOfOthersRequests(owner.getId(), 1, 1);
+
+        itemRequestRepository.saveAndFlush(ItemRequest.builder()
+                .description("olderRequest")
+                .requestor(requestor)
+                .created(request.getCreated().minusDays(1))
+                .build());
+
+        Assertions.assertEquals(firstPage, itemRequestRepository.findVersionOfOthersRequests(owner.getId(), 1, 0));
+        Assertions.assertNotEquals(secondPage, itemRequestRepository.findVersionOfOthersRequests(owner.getId(), 1, 1));
+
+        itemRequestRepository.saveAndFlush(ItemRequest.builder()
+                .description("newerRequest")
+                .requestor(requestor)
+                .created(request.getCreated().plusDays(1))
+                .build());
+
+        Assertions.assertNotEquals(firstPage, itemRequestRepository.findVersionOfOthersRequests(owner.getId(), 1, 0));
+    }
+
+    @Test
+    void saveResponseByRequestReferenceTest() {
+        var item = itemRepository.save(Item.builder()
+                .owner(owner)
+                .name("testItem")
+                .description("testItemDescription")
+                .available(true)
+                .build());
+        var response = itemResponseRepository.saveAndFlush(ItemResponseMapper.toItemResponse(item,
+                itemRequestRepository.getReferenceById(request.getId())));
+
+        Assertions.assertNotNull(response.getId());
+        Assertions.assertEquals(1, itemResponseRepository.findItemsByRequestIds(List.of(request.getId())).size());
+    }
+
+    private Item addResponse() {
+        var item = itemRepository.save(Item.builder()
+                .owner(owner)
+                .name("testItem")
+                .description("testItemDescription")
+                .available(true)
+                .build());
+        itemResponseRepository.saveAndFlush(ItemResponse.builder()
+                .request(request)
+                .item(item)
+                .build());
+
+        return item;
+    }
+}
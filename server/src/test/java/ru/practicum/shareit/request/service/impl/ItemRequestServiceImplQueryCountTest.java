@@ -0,0 +1,156 @@
+package ru.practicum.shareit.request.service.impl;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemRequestDtoResponse;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.ItemResponse;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.ItemResponseRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Проверка, что количество SQL-запросов при получении запросов не зависит от количества запросов и ответов.
+ *
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest
+class ItemRequestServiceImplQueryCountTest {
+    private static final int REQUESTS = 10;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private ItemResponseRepository itemResponseRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User requestor;
+
+    private User reader;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        requestor = createUser();
+        reader = createUser();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            var request = itemRequestRepository.save(ItemRequest.builder()
+                    .requestor(requestor)
+                    .description("request" + i)
+                    .created(ZonedDateTime.now().minusMinutes(i))
+                    .build());
+
+            for (int j = 0; j <= i; j++) {
+                var item = itemRepository.save(Item.builder()
+                        .owner(createUser())
+                        .name("item" + i + "_" + j)
+                        .description("description")
+                        .available(true)
+                        .build());
+                itemResponseRepository.save(ItemResponse.builder()
+                        .request(request)
+                        .item(item)
+                        .build());
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemResponseRepository.deleteAll();
+        itemRequestRepository.deleteAll();
+    }
+
+    @Test
+    void getAllRequestsTestQueryCountDoesNotDependOnPageSize() {
+        statistics.clear();
+        var small = itemRequestService.getAllRequests(reader.getId(), 0, 2);
+        var smallCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        var large = itemRequestService.getAllRequests(reader.getId(), 0, REQUESTS);
+        var largeCount = statistics.getPrepareStatementCount();
+
+        Assertions.assertEquals(2, small.size());
+        Assertions.assertEquals(REQUESTS, large.size());
+        Assertions.assertEquals(smallCount, largeCount);
+        assertItems(large);
+    }
+
+    @Test
+    void getUserRequestsTestQueryCountDoesNotDependOnResponses() {
+        statistics.clear();
+        var requests = itemRequestService.getUserRequests(requestor.getId());
+        var count = statistics.getPrepareStatementCount();
+
+        assertItems(requests);
+        Assertions.assertTrue(count <= 3, "Выполнено запросов: " + count);
+    }
+
+    @Test
+    void getRequestByIdTestQueryCountDoesNotDependOnResponses() {
+        var requests = itemRequestService.getUserRequests(requestor.getId());
+
+        statistics.clear();
+        var first = itemRequestService.getRequestById(requests.get(0).getId(), reader.getId());
+        var firstCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        var last = itemRequestService.getRequestById(requests.get(REQUESTS - 1).getId(), reader.getId());
+        var lastCount = statistics.getPrepareStatementCount();
+
+        Assertions.assertEquals(1, first.getItems().size());
+        Assertions.assertEquals(REQUESTS, last.getItems().size());
+        Assertions.assertEquals(firstCount, lastCount);
+    }
+
+    private void assertItems(List<ItemRequestDtoResponse> requests) {
+        for (int i = 0; i < requests.size(); i++) {
+            var items = requests.get(i).getItems();
+            Assertions.assertEquals(i + 1, items.size());
+            Assertions.assertEquals("item" + i + "_0", items.get(0).getName());
+            Assertions.assertEquals(requests.get(i).getId(), items.get(0).getRequestId());
+        }
+    }
+
+    private User createUser() {
+        var name = UUID.randomUUID().toString();
+
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(name + "@email.com")
+                .build());
+    }
+}
@@ -8,13 +8,16 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.checker.UserChecker;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.exception.NotFoundItemRequestException;
 import ru.practicum.shareit.exception.NotFoundUserException;
+import ru.practicum.shareit.request.dto.ItemFromItemRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDtoCreated;
 import ru.practicum.shareit.request.dto.ItemRequestDtoRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDtoResponse;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.ItemResponseRepository;
 import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.user.model.User;
 
@@ -32,12 +35,14 @@ class ItemRequestServiceImplTest {
     private ItemRequestService itemRequestService;
     private UserChecker userChecker;
     private ItemRequestRepository itemRequestRepository;
+    private ItemResponseRepository itemResponseRepository;
 
     @BeforeEach
     void setUp() {
         userChecker = Mockito.mock(UserChecker.class);
         itemRequestRepository = Mockito.mock(ItemRequestRepository.class);
-        itemRequestService = new ItemRequestServiceImpl(itemRequestRepository, userChecker);
+        itemResponseRepository = Mockito.mock(ItemResponseRepository.class);
+        itemRequestService = new ItemRequestServiceImpl(itemRequestRepository, itemResponseRepository, userChecker);
     }
 
     @Test
@@ -91,6 +96,35 @@ class ItemRequestServiceImplTest {
         Mockito.verify(itemRequestRepository, Mockito.times(0)).save(Mockito.any(ItemRequest.class));
     }
 
+    @Test
+    void getUserRequestsTestWithItems() {
+        Mockito.when(itemRequestRepository.findAllByRequestorId(Mockito.anyLong(), Mockito.any(Sort.class)))
+                .thenReturn(List.of(
+                        ItemRequest.builder()
+                                .id(1L)
+                                .description("testDescription1")
+                                .created(ZonedDateTime.now())
+                                .build(),
+                        ItemRequest.builder()
+                                .id(2L)
+                                .description("testDescription2")
+                                .created(ZonedDateTime.now())
+                                .build()));
+        Mockito.when(itemResponseRepository.findItemsByRequestIds(List.of(1L, 2L)))
+                .thenReturn(List.of(
+                        new ItemFromItemRequest(5L, "item5", "description5", 2L, true),
+                        new ItemFromItemRequest(6L, "item6", "description6", 2L, false)));
+
+        List<ItemRequestDtoResponse> userRequests = itemRequestService.getUserRequests(1L);
+
+        Assertions.assertEquals(List.of(), userRequests.get(0).getItems());
+        Assertions.assertEquals(2, userRequests.get(1).getItems().size());
+        Assertions.assertEquals(5L, userRequests.get(1).getItems().get(0).getId());
+        Assertions.assertEquals(6L, userRequests.get(1).getItems().get(1).getId());
+
+        Mockito.verify(itemResponseRepository, Mockito.times(1)).findItemsByRequestIds(Mockito.anyCollection());
+    }
+
     @Test
     void getUserRequestsValid() {
         Mockito.when(itemRequestRepository.findAllByRequestorId(Mockito.anyLong(), Mockito.any(Sort.class)))
@@ -122,12 +156,12 @@ class ItemRequestServiceImplTest {
         Assertions.assertNotNull(userRequests);
         Assertions.assertEquals(2, userRequests.size());
         Assertions.assertEquals(1, userRequests.get(0).getId());
-        Assertions.assertNull(userRequests.get(0).getItems());
+        Assertions.assertEquals(List.of(), userRequests.get(0).getItems());
         Assertions.assertEquals("testDescription1", userRequests.get(0).getDescription());
         Assertions.assertEquals(ZonedDateTime.of(2024, 5, 20, 10, 10, 15, 0, ZoneId.systemDefault()).toLocalDateTime(), userRequests.get(0).getCreated());
-        Assertions.assertNull(userRequests.get(1).getItems());
+        Assertions.assertEquals(List.of(), userRequests.get(1).getItems());
         Assertions.assertEquals(ZonedDateTime.of(2024, 5, 15, 10, 10, 15, 0, ZoneId.systemDefault()).toLocalDateTime(), userRequests.get(1).getCreated());
-        Assertions.assertNull(userRequests.get(1).getItems());
+        Assertions.assertEquals(List.of(), userRequests.get(1).getItems());
         Assertions.assertEquals("testDescription2", userRequests.get(1).getDescription());
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
@@ -180,12 +214,12 @@ class ItemRequestServiceImplTest {
         Assertions.assertNotNull(allRequests);
         Assertions.assertEquals(2, allRequests.size());
         Assertions.assertEquals(1, allRequests.get(0).getId());
-        Assertions.assertNull(allRequests.get(0).getItems());
+        Assertions.assertEquals(List.of(), allRequests.get(0).getItems());
         Assertions.assertEquals("testDescription1", allRequests.get(0).getDescription());
         Assertions.assertEquals(ZonedDateTime.of(2024, 5, 20, 10, 10, 15, 0, ZoneId.systemDefault()).toLocalDateTime(), allRequests.get(0).getCreated());
-        Assertions.assertNull(allRequests.get(1).getItems());
+        Assertions.assertEquals(List.of(), allRequests.get(1).getItems());
         Assertions.assertEquals(ZonedDateTime.of(2024, 5, 15, 10, 10, 15, 0, ZoneId.systemDefault()).toLocalDateTime(), allRequests.get(1).getCreated());
-        Assertions.assertNull(allRequests.get(1).getItems());
+        Assertions.assertEquals(List.of(), allRequests.get(1).getItems());
         Assertions.assertEquals("testDescription2", allRequests.get(1).getDescription());
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
@@ -229,6 +263,19 @@ class ItemRequestServiceImplTest {
         Mockito.verify(itemRequestRepository, Mockito.times(0)).findAllByRequestorIdNot(Mockito.anyLong(), Mockito.any(Pageable.class));
     }
 
+    @Test
+    void getAllRequestsETagTestPageOffset() {
+        Mockito.when(itemRequestRepository.findVersionOfOthersRequests(1L, 2, 4L))
+                .thenReturn(Optional.of("2.3.4.7.0:0.0.0"));
+
+        Assertions.assertEquals(ETags.strong("requests/all", 1L, 5, 2, "2.3.4.7.0:0.0.0"),
+                itemRequestService.getAllRequestsETag(1L, 5, 2));
+        Assertions.assertNull(itemRequestService.getAllRequestsETag(1L, null, 2));
+
+        Mockito.verify(itemRequestRepository, Mockito.times(1))
+                .findVersionOfOthersRequests(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyLong());
+    }
+
     @Test
     void getRequestByIdTestValid() {
         Mockito.when(itemRequestRepository.findById(Mockito.anyLong()))
@@ -249,7 +296,7 @@ class ItemRequestServiceImplTest {
         Assertions.assertEquals(1, requestById.getId());
         Assertions.assertEquals("testDescription1", requestById.getDescription());
         Assertions.assertEquals(ZonedDateTime.of(2024, 5, 20, 10, 10, 15, 0, ZoneId.systemDefault()).toLocalDateTime(), requestById.getCreated());
-        Assertions.assertNull(requestById.getItems());
+        Assertions.assertEquals(List.of(), requestById.getItems());
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(itemRequestRepository, Mockito.times(1)).findById(Mockito.anyLong());
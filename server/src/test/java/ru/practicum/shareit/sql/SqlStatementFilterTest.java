@@ -0,0 +1,72 @@
+package ru.practicum.shareit.sql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @author Nikolay Radzivon
+ * @Date 17.10.2026
+ */
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:sqlstatements", "shareit.sql.statement-budget=1"})
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class SqlStatementFilterTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void countStatementsPerEndpointTest(CapturedOutput output) throws Exception {
+        Assertions.assertTrue(dataSource.isWrapperFor(HikariDataSource.class));
+        mockMvc.perform(delete("/actuator/sqlstatements"));
+
+        mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"sql\", \"email\": \"sql@email.com\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/users/1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/users/1"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/sqlstatements"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statementBudget").value(1))
+                .andExpect(jsonPath("$.endpoints['GET /users/{userId}'].requests").value(2))
+                .andExpect(jsonPath("$.endpoints['GET /users/{userId}'].maxStatements").value(2))
+                .andExpect(jsonPath("$.endpoints['GET /users/{userId}'].overBudget").value(2))
+                .andExpect(jsonPath("$.endpoints['POST /users'].requests").value(1))
+                .andExpect(jsonPath("$.endpoints['POST /users'].statements").value(2))
+                .andExpect(jsonPath("$.endpoints['POST /users'].overBudget").value(1));
+
+        Assertions.assertEquals(1, warnings(output, "POST /users "));
+        Assertions.assertEquals(2, warnings(output, "GET /users/1 "));
+        Assertions.assertEquals(0, warnings(output, "GET /actuator"));
+    }
+
+    private static long warnings(CapturedOutput output, String request) {
+        return output.getOut().lines()
+                .filter(line -> line.contains("WARN") && line.contains(SqlStatementFilter.class.getSimpleName()))
+                .filter(line -> line.contains(": " + request))
+                .count();
+    }
+}
@@ -7,14 +7,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import ru.practicum.shareit.etag.ETagged;
 import ru.practicum.shareit.exception.NotFoundUserException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.exeption.UserRepositoryException;
+import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.model.UserSort;
 import ru.practicum.shareit.user.service.UserService;
 
@@ -88,16 +93,17 @@ class UserControllerTest {
                 .content("{\"name\": \"testUser1update\",\n" +
                         "\"email\": \"testEmail1update@test.com\"}");
 
-        Mockito.when(userService.updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong()))
-                .thenReturn(new UserResponseDto(1L, "testUser1update", "testEmail1update@test.com"));
+        Mockito.when(userService.updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong(), Mockito.any()))
+                .thenReturn(new ETagged<>(new UserResponseDto(1L, "testUser1update", "testEmail1update@test.com"), "\"v2\""));
 
         mockMvc.perform(request).andExpectAll(
                 status().isOk(),
+                header().string(HttpHeaders.ETAG, "\"v2\""),
                 jsonPath("$.id").value(1),
                 jsonPath("$.name").value("testUser1update"),
                 jsonPath("$.email").value("testEmail1update@test.com")
         );
-        Mockito.verify(userService, Mockito.times(1)).updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong());
+        Mockito.verify(userService, Mockito.times(1)).updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong(), Mockito.any());
     }
 
     @Test
@@ -109,7 +115,7 @@ class UserControllerTest {
                 .content("{\"name\": \"testUser1update\",\n" +
                         "\"email\": \"testEmail1update@test.com\"}");
 
-        Mockito.when(userService.updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong()))
+        Mockito.when(userService.updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong(), Mockito.any()))
                 .thenThrow(new NotFoundUserException("Нельзя обновить не существующего пользователя с id 1"));
 
         mockMvc.perform(request).andExpectAll(
@@ -119,7 +125,7 @@ class UserControllerTest {
                 jsonPath("$.error").value("Ошибка работы с пользователями: Нельзя обновить не существующего пользователя с id 1"),
                 jsonPath("$.path").value("/users/1")
         );
-        Mockito.verify(userService, Mockito.times(1)).updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong());
+        Mockito.verify(userService, Mockito.times(1)).updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong(), Mockito.any());
     }
 
     @Test
@@ -131,7 +137,7 @@ class UserControllerTest {
                 .content("{\"name\": \"testUser1\",\n" +
                         "\"email\": \"testEmail1@test.com\"}");
 
-        Mockito.when(userService.updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong()))
+        Mockito.when(userService.updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong(), Mockito.any()))
                 .thenThrow(new UserRepositoryException("Нельзя обновить пользователя с id 1, пользователь с email testEmail1@test.com уже существует"));
 
         mockMvc.perform(request).andExpectAll(
@@ -141,7 +147,66 @@ class UserControllerTest {
                 jsonPath("$.error").value("Ошибка работы с пользователями: Нельзя обновить пользователя с id 1, пользователь с email testEmail1@test.com уже существует"),
                 jsonPath("$.path").value("/users/1")
         );
-        Mockito.verify(userService, Mockito.times(1)).updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong());
+        Mockito.verify(userService, Mockito.times(1)).updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("PATCH /users/1 с If-Match передаёт версию в сервис и возвращает новый ETag")
+    void updateUser_Valid_IfMatch() throws Exception {
+        var request = MockMvcRequestBuilders
+                .patch("/users/1")
+                .header(HttpHeaders.IF_MATCH, "\"v1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"testUser1update\"}");
+
+        Mockito.when(userService.updateUser(Mockito.any(UserRequestDto.class), Mockito.eq(1L), Mockito.eq("\"v1\"")))
+                .thenReturn(new ETagged<>(new UserResponseDto(1L, "testUser1update", "testEmail1@test.com"), "\"v2\""));
+
+        mockMvc.perform(request).andExpectAll(
+                status().isOk(),
+                header().string(HttpHeaders.ETAG, "\"v2\""),
+                jsonPath("$.name").value("testUser1update")
+        );
+        Mockito.verify(userService, Mockito.times(1)).updateUser(Mockito.any(UserRequestDto.class), Mockito.eq(1L),
+                Mockito.eq("\"v1\""));
+    }
+
+    @Test
+    @DisplayName("PATCH /users/1 с устаревшим If-Match возвращает 412")
+    void updateUser_NotValid_PreconditionFailed() throws Exception {
+        var request = MockMvcRequestBuilders
+                .patch("/users/1")
+                .header(HttpHeaders.IF_MATCH, "\"v1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"testUser1update\"}");
+
+        Mockito.when(userService.updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong(), Mockito.any()))
+                .thenThrow(new PreconditionFailedException("stale"));
+
+        mockMvc.perform(request).andExpectAll(
+                status().isPreconditionFailed(),
+                jsonPath("$.status").value(412),
+                jsonPath("$.path").value("/users/1")
+        );
+        Mockito.verify(userService, Mockito.never()).getUserETag(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("PATCH /users/1 при параллельном изменении возвращает 409")
+    void updateUser_NotValid_OptimisticLockingFailure() throws Exception {
+        var request = MockMvcRequestBuilders
+                .patch("/users/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"testUser1update\"}");
+
+        Mockito.when(userService.updateUser(Mockito.any(UserRequestDto.class), Mockito.anyLong(), Mockito.any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(User.class, 1L));
+
+        mockMvc.perform(request).andExpectAll(
+                status().isConflict(),
+                jsonPath("$.status").value(409),
+                jsonPath("$.path").value("/users/1")
+        );
     }
 
     @Test
@@ -246,4 +311,38 @@ class UserControllerTest {
         );
         Mockito.verify(userService, Mockito.times(1)).getAllUsers(Mockito.anyInt(), Mockito.anyInt(), Mockito.any(UserSort.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /users/1 возвращает ETag пользователя")
+    void getUserTestETag() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/users/1");
+
+        Mockito.when(userService.getUserETag(Mockito.anyLong())).thenReturn("\"v1\"");
+        Mockito.when(userService.getUser(Mockito.anyLong()))
+                .thenReturn(new UserResponseDto(1L, "testUser1", "testEmail1@test.com"));
+
+        mockMvc.perform(request).andExpectAll(
+                status().isOk(),
+                header().string("ETag", "\"v1\""),
+                jsonPath("$.id").value(1)
+        );
+    }
+
+    @Test
+    @DisplayName("GET /users/1 возвращает 304 без построения ответа, если ETag совпадает с If-None-Match")
+    void getUserTestNotModified() throws Exception {
+        var request = MockMvcRequestBuilders
+                .get("/users/1")
+                .header("If-None-Match", "\"v1\"");
+
+        Mockito.when(userService.getUserETag(Mockito.anyLong())).thenReturn("\"v1\"");
+
+        mockMvc.perform(request).andExpectAll(
+                status().isNotModified(),
+                header().string("ETag", "\"v1\""),
+                content().string("")
+        );
+        Mockito.verify(userService, Mockito.never()).getUser(Mockito.anyLong());
+    }
+}
@@ -7,7 +7,10 @@ import org.mockito.Mockito;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.checker.UserChecker;
+import ru.practicum.shareit.etag.ETags;
 import ru.practicum.shareit.exception.NotFoundUserException;
+import ru.practicum.shareit.exception.PreconditionFailedException;
+import ru.practicum.shareit.item.search.ItemSearcher;
 import ru.practicum.shareit.user.dto.UserRequestDto;
 import ru.practicum.shareit.user.dto.UserResponseDto;
 import ru.practicum.shareit.user.exeption.UserRepositoryException;
@@ -17,6 +20,7 @@ import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author Nikolay Radzivon
@@ -27,13 +31,15 @@ class UserServiceImplTest {
 
     private UserRepository userRepository;
     private UserChecker userChecker;
+    private ItemSearcher itemSearcher;
 
     @BeforeEach
     void setUp() {
         userRepository = Mockito.mock(UserRepository.class);
         userChecker = Mockito.mock(UserChecker.class);
+        itemSearcher = Mockito.mock(ItemSearcher.class);
 
-        userService = new UserServiceImpl(userRepository, userChecker);
+        userService = new UserServiceImpl(userRepository, userChecker, itemSearcher);
     }
 
     @Test
@@ -89,12 +95,16 @@ class UserServiceImplTest {
                         .id(1L)
                         .name("UpdateTestUser")
                         .email("UpdateTestUser@email.com")
+                        .version(1L)
                         .build());
 
-        UserResponseDto testUser = userService.updateUser(UserRequestDto.builder()
+        var updated = userService.updateUser(UserRequestDto.builder()
                 .name("UpdateTestUser")
                 .email("UpdateTestUser@email.com")
-                .build(), 1);
+                .build(), 1, null);
+        UserResponseDto testUser = updated.getBody();
+
+        Assertions.assertEquals(ETags.strong("user", 1L, 1L), updated.getEtag());
 
         Assertions.assertNotNull(testUser);
         Assertions.assertEquals("UpdateTestUser", testUser.getName());
@@ -103,6 +113,44 @@ class UserServiceImplTest {
 
         Mockito.verify(userChecker, Mockito.times(1)).checkUser(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(userRepository, Mockito.times(1)).save(Mockito.any(User.class));
+        Mockito.verify(userRepository, Mockito.times(1)).flush();
+    }
+
+    @Test
+    void updateUserTestIfMatch() {
+        Mockito.when(userChecker.checkUser(Mockito.anyLong(), Mockito.anyString()))
+                .thenReturn(User.builder()
+                        .id(1L)
+                        .version(3L)
+                        .name("testUser")
+                        .email("testUser@email.com")
+                        .build());
+        Mockito.when(userRepository.save(Mockito.any(User.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        var testUser = userService.updateUser(UserRequestDto.builder()
+                .name("UpdateTestUser")
+                .build(), 1, "\"other\", " + ETags.strong("user", 1L, 3L));
+
+        Assertions.assertEquals("UpdateTestUser", testUser.getBody().getName());
+        Mockito.verify(userRepository, Mockito.times(1)).save(Mockito.any(User.class));
+    }
+
+    @Test
+    void updateUserTestNotValidIfMatch() {
+        Mockito.when(userChecker.checkUser(Mockito.anyLong(), Mockito.anyString()))
+                .thenReturn(User.builder()
+                        .id(1L)
+                        .version(4L)
+                        .name("testUser")
+                        .email("testUser@email.com")
+                        .build());
+
+        Assertions.assertThrows(PreconditionFailedException.class, () -> userService.updateUser(UserRequestDto.builder()
+                .name("UpdateTestUser")
+                .build(), 1, ETags.strong("user", 1L, 3L)));
+
+        Mockito.verify(userRepository, Mockito.never()).save(Mockito.any(User.class));
     }
 
     @Test
@@ -113,7 +161,7 @@ class UserServiceImplTest {
         Throwable throwable = Assertions.assertThrows(NotFoundUserException.class, () -> userService.updateUser(UserRequestDto.builder()
                 .name("testUser")
                 .email("testUser@email.com")
-                .build(), 1));
+                .build(), 1, null));
 
         Assertions.assertNotNull(throwable);
         Assertions.assertNotNull(throwable.getMessage());
@@ -138,7 +186,7 @@ class UserServiceImplTest {
         Throwable throwable = Assertions.assertThrows(UserRepositoryException.class, () -> userService.updateUser(UserRequestDto.builder()
                 .name("testUser")
                 .email("testUser@email.com")
-                .build(), 1));
+                .build(), 1, null));
 
         Assertions.assertNotNull(throwable);
         Assertions.assertNotNull(throwable.getMessage());
@@ -189,6 +237,7 @@ class UserServiceImplTest {
                 .checkUser(Mockito.anyLong(), Mockito.anyString());
         Mockito.verify(userRepository, Mockito.times(1))
                 .deleteById(Mockito.anyLong());
+        Mockito.verify(itemSearcher, Mockito.times(1)).onOwnerItemsDeleted(1L);
     }
 
     @Test
@@ -550,4 +599,17 @@ class UserServiceImplTest {
 
         Mockito.verify(userRepository, Mockito.times(1)).findAll(Mockito.any(Pageable.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUserETagTest() {
+        Mockito.when(userRepository.findVersionById(1L)).thenReturn(Optional.of(0L), Optional.of(1L));
+        Mockito.when(userRepository.findVersionById(2L)).thenReturn(Optional.empty());
+
+        var etag = userService.getUserETag(1L);
+
+        Assertions.assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        Assertions.assertNotEquals(etag, userService.getUserETag(1L));
+        Assertions.assertNull(userService.getUserETag(2L));
+        Mockito.verify(userChecker, Mockito.never()).checkUser(Mockito.anyLong(), Mockito.anyString());
+    }
+}